@@ -23,7 +23,8 @@ import io.swagger.v3.oas.annotations.parameters.RequestBody;
  *       these advanced options are ignored.
  *   <li>Progress information (see {@link #trackProgress()}) is stored in {@link
  *       stirling.software.common.service.TaskManager TaskManager} and can be polled via <code>
- *       GET /api/v1/general/job/{id}</code>.
+ *       GET /api/v1/general/job/{id}</code>, or pushed as Server-Sent Events by <code>
+ *       GET /api/v1/general/job/{id}/events</code>.
  * </ul>
  *
  * <p>Unless stated otherwise an attribute only affects <em>async</em> execution.
@@ -274,7 +274,8 @@ public class AutoJobAspect {
                         // Store the fileId for later reference
                         pdfFile.setFileId(fileId);
 
-                        // Replace the original MultipartFile with our persistent copy
+                        // Replace the original MultipartFile with our persistent copy; it reads
+                        // from disk on demand, so a queued job keeps none of the upload on heap
                         MultipartFile persistentFile = fileStorage.retrieveFile(fileId);
                         pdfFile.setFileInput(persistentFile);
 
@@ -13,6 +13,8 @@ import java.util.Set;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.context.annotation.Configuration;
 
+import jakarta.annotation.PreDestroy;
+
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
@@ -22,6 +24,7 @@ import stirling.software.common.model.ApplicationProperties.CustomPaths.Operatio
 import stirling.software.common.model.ApplicationProperties.CustomPaths.Pipeline;
 import stirling.software.common.model.ApplicationProperties.System;
 import stirling.software.common.util.ProcessExecutor;
+import stirling.software.common.util.PythonWorkerPool;
 import stirling.software.common.util.UnoServerPool;
 
 @Slf4j
@@ -138,6 +141,21 @@ public class RuntimePathConfig {
         }
         this.unoServerEndpoints = buildUnoServerEndpoints(processExecutor, libreOfficeLimit);
         ProcessExecutor.setUnoServerPool(new UnoServerPool(this.unoServerEndpoints));
+
+        if (processExecutor == null || processExecutor.isPersistentPythonWorker()) {
+            int pythonLimit =
+                    processExecutor != null && processExecutor.getSessionLimit() != null
+                            ? processExecutor.getSessionLimit().getPythonOpenCvSessionLimit()
+                            : 1;
+            ProcessExecutor.setPythonWorkerPool(new PythonWorkerPool(pythonLimit));
+        } else {
+            ProcessExecutor.setPythonWorkerPool(null);
+        }
+    }
+
+    @PreDestroy
+    public void shutdownPythonWorkers() {
+        ProcessExecutor.setPythonWorkerPool(null);
     }
 
     private String resolvePath(String defaultPath, String customPath) {
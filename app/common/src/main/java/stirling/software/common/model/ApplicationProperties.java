@@ -197,6 +197,7 @@ public class ApplicationProperties {
         private Cache cache = new Cache();
         private FontNormalization fontNormalization = new FontNormalization();
         private CffConverter cffConverter = new CffConverter();
+        private FontCache fontCache = new FontCache();
         private Type3 type3 = new Type3();
         private String fallbackFont = "classpath:/static/fonts/NotoSans-Regular.ttf";
 
@@ -220,6 +221,13 @@ public class ApplicationProperties {
             private String fontforgeCommand = "fontforge";
         }
 
+        @Data
+        public static class FontCache {
+            private boolean enabled = true;
+            private String directory;
+            private long maxBytes = 256L * 1024 * 1024;
+        }
+
         @Data
         public static class Type3 {
             private Library library = new Library();
@@ -619,6 +627,16 @@ public class ApplicationProperties {
         // 'https://app.example.com'). If not set, falls back to backendUrl.
         private boolean enableMobileScanner = false; // Enable mobile phone QR code upload feature
         private MobileScannerSettings mobileScannerSettings = new MobileScannerSettings();
+        private PdfInfoCache pdfInfoCache = new PdfInfoCache();
+
+        @Data
+        public static class PdfInfoCache {
+            private boolean enabled = true;
+            private long maxBytes = 32L * 1024 * 1024; // In-memory budget for cached reports
+            private boolean diskEnabled = false; // Also keep reports on disk across restarts
+            private String directory; // Defaults to configs/cache/pdf-info
+            private long diskMaxBytes = 256L * 1024 * 1024;
+        }
 
         @Data
         public static class MobileScannerSettings {
@@ -1087,6 +1105,7 @@ public class ApplicationProperties {
         private TimeoutMinutes timeoutMinutes = new TimeoutMinutes();
         private boolean autoUnoServer = true;
         private List<UnoServerEndpoint> unoServerEndpoints = new ArrayList<>();
+        private boolean persistentPythonWorker = true;
 
         @Data
         public static class UnoServerEndpoint {
@@ -24,14 +24,19 @@ import org.apache.pdfbox.io.RandomAccessReadBufferedFile;
 import org.apache.pdfbox.io.RandomAccessStreamCache.StreamCacheCreateFunction;
 import org.apache.pdfbox.io.ScratchFile;
 import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDDocumentInformation;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
 import lombok.extern.slf4j.Slf4j;
 
+import stirling.software.common.model.PdfMetadata;
 import stirling.software.common.model.api.PDFFile;
 import stirling.software.common.util.ExceptionUtils;
+import stirling.software.common.util.PathMultipartFile;
+import stirling.software.common.util.PdfInspector;
+import stirling.software.common.util.PdfPageRangeWriter;
 import stirling.software.common.util.TempFileManager;
 
 @Component
@@ -224,9 +229,13 @@ public class CustomPDFDocumentFactory {
     /**
      * Loads a {@link MultipartFile}. Small uploads (<= {@link #SMALL_FILE_THRESHOLD}) are read
      * directly into a byte array, bypassing the InputStream → temp-file round-trip and saving one
-     * disk write + read cycle on the hot path.
+     * disk write + read cycle on the hot path. A {@link PathMultipartFile} is loaded from its file
+     * in place.
      */
     public PDDocument load(MultipartFile pdfFile, boolean readOnly) throws IOException {
+        if (pdfFile instanceof PathMultipartFile pathFile) {
+            return load(pathFile.getPath(), readOnly);
+        }
         long size = pdfFile.getSize();
         if (size > 0 && size <= SMALL_FILE_THRESHOLD) {
             return load(pdfFile.getBytes(), readOnly);
@@ -243,6 +252,74 @@ public class CustomPDFDocumentFactory {
         return streamToTemp(fileInput.getInputStream(), password, readOnly);
     }
 
+    /**
+     * Opens an upload for reading document-level facts only (page count, version, Info dictionary,
+     * encryption, page boxes). Small uploads are inspected from memory; larger ones are copied to a
+     * managed temp file that is memory-mapped and deleted when the inspector closes, unless they
+     * are already on disk.
+     */
+    public PdfInspector inspect(MultipartFile file) throws IOException {
+        if (file == null) throw ExceptionUtils.createNullArgumentException("MultipartFile");
+        long size = file.getSize();
+        if (size > 0 && size <= SMALL_FILE_THRESHOLD) {
+            return PdfInspector.open(file.getBytes());
+        }
+        if (file instanceof PathMultipartFile pathFile) {
+            return PdfInspector.open(pathFile.getPath());
+        }
+        Path tempFile = createTempFilePath("pdf-inspect-");
+        try (InputStream input = file.getInputStream()) {
+            Files.copy(input, tempFile, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        return PdfInspector.openAndDelete(tempFile);
+    }
+
+    /**
+     * Opens an upload for page-range extraction. Outputs get the Info dictionary {@link
+     * #createNewDocumentBasedOnOldDocument(PDDocument)} would give them. Small uploads are read
+     * from memory; larger ones are copied to a managed temp file that is memory-mapped and deleted
+     * when the writer closes, unless they are already on disk. Returns null for encrypted
+     * documents, which have to be loaded and decrypted instead.
+     */
+    public PdfPageRangeWriter openPageRangeWriter(MultipartFile file) throws IOException {
+        if (file == null) throw ExceptionUtils.createNullArgumentException("MultipartFile");
+        PdfPageRangeWriter writer;
+        long size = file.getSize();
+        if (size > 0 && size <= SMALL_FILE_THRESHOLD) {
+            writer = PdfPageRangeWriter.open(file.getBytes());
+        } else if (file instanceof PathMultipartFile pathFile) {
+            writer = PdfPageRangeWriter.open(pathFile.getPath());
+        } else {
+            Path tempFile = createTempFilePath("pdf-pages-");
+            try (InputStream input = file.getInputStream()) {
+                Files.copy(input, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                Files.deleteIfExists(tempFile);
+                throw e;
+            }
+            writer = PdfPageRangeWriter.openAndDelete(tempFile);
+        }
+        if (writer.isEncrypted()) {
+            writer.close();
+            return null;
+        }
+        try (PDDocument scratch = new PDDocument(IOUtils.createMemoryOnlyStreamCache())) {
+            scratch.setDocumentInformation(writer.getDocumentInformation());
+            PdfMetadata metadata = pdfMetadataService.extractMetadataFromPdf(scratch);
+            PDDocumentInformation info = new PDDocumentInformation();
+            scratch.setDocumentInformation(info);
+            pdfMetadataService.setMetadataToPdf(scratch, metadata, true);
+            writer.setOutputInformation(info);
+        } catch (IOException | RuntimeException e) {
+            writer.close();
+            throw e;
+        }
+        return writer;
+    }
+
     /**
      * Returns the {@link StreamCacheCreateFunction} appropriate for a document of the given byte
      * size given the current heap state. Captures a fresh {@link MemorySnapshot} on each call.
@@ -17,6 +17,8 @@ import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBo
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import stirling.software.common.util.PathMultipartFile;
+
 /**
  * Service for storing and retrieving files with unique file IDs. Used by the AutoJobPostMapping
  * system to handle file references.
@@ -32,8 +34,6 @@ public class FileStorage {
     @Value("${stirling.tempDir:/tmp/stirling-files}")
     private String tempDirPath;
 
-    private final FileOrUploadService fileOrUploadService;
-
     /**
      * Store a file and return its unique ID
      *
@@ -78,10 +78,11 @@ public class FileStorage {
     }
 
     /**
-     * Retrieve a file by its ID as a MultipartFile
+     * Retrieve a file by its ID as a MultipartFile. The returned file reads from storage on demand,
+     * so holding on to it (e.g. while a job waits in the queue) costs no heap.
      *
      * @param fileId The ID of the file to retrieve
-     * @return The file as a MultipartFile
+     * @return The file as a disk-backed MultipartFile
      * @throws IOException If the file doesn't exist or can't be read
      */
     public MultipartFile retrieveFile(String fileId) throws IOException {
@@ -91,8 +92,7 @@ public class FileStorage {
             throw new IOException("File not found with ID: " + fileId);
         }
 
-        byte[] fileData = Files.readAllBytes(filePath);
-        return fileOrUploadService.toMockMultipartFile(fileId, fileData);
+        return new PathMultipartFile(fileId, filePath);
     }
 
     /**
@@ -112,6 +112,24 @@ public class FileStorage {
         return Files.readAllBytes(filePath);
     }
 
+    /**
+     * Retrieve the location of a file by its ID, for callers that serve or read it from disk
+     * themselves. The file stays owned by the storage.
+     *
+     * @param fileId The ID of the file to retrieve
+     * @return The path of the stored file
+     * @throws IOException If the file doesn't exist
+     */
+    public Path retrievePath(String fileId) throws IOException {
+        Path filePath = getFilePath(fileId);
+
+        if (!Files.exists(filePath)) {
+            throw new IOException("File not found with ID: " + fileId);
+        }
+
+        return filePath;
+    }
+
     /**
      * Retrieve a file by its ID as a streaming InputStream. The caller is responsible for closing
      * the returned stream.
@@ -146,6 +164,25 @@ public class FileStorage {
         return new StoredFile(fileId, size);
     }
 
+    /**
+     * Move an existing file into storage and return its unique ID and size. The source file is
+     * gone afterwards; moving within one file system does not copy any data.
+     *
+     * @param source The file to move
+     * @param originalName The original name of the file (unused, kept for API symmetry)
+     * @return A {@link StoredFile} containing the file ID and the file size
+     * @throws IOException If the file cannot be moved
+     */
+    public StoredFile storePath(Path source, String originalName) throws IOException {
+        String fileId = generateFileId();
+        Path filePath = getFilePath(fileId);
+        Files.createDirectories(filePath.getParent());
+        Files.move(source, filePath);
+        long size = Files.size(filePath);
+        log.debug("Stored file {} with ID: {}", source, fileId);
+        return new StoredFile(fileId, size);
+    }
+
     public String storeFromStreamingBody(StreamingResponseBody body, String originalName)
             throws IOException {
         String fileId = generateFileId();
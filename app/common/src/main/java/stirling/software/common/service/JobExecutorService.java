@@ -24,6 +24,7 @@ import lombok.extern.slf4j.Slf4j;
 
 import stirling.software.common.model.job.JobResponse;
 import stirling.software.common.util.ExecutorFactory;
+import stirling.software.common.util.MultiFileResponseBody;
 import stirling.software.common.util.RegexPatternUtils;
 
 /** Service for executing jobs asynchronously or synchronously */
@@ -244,8 +245,14 @@ public class JobExecutorService {
                 Object result = executeWithTimeout(() -> work.get(), timeoutToUse);
 
                 // If the result is already a ResponseEntity, return it directly
-                if (result instanceof ResponseEntity) {
-                    return (ResponseEntity<?>) result;
+                if (result instanceof ResponseEntity<?> response) {
+                    if (response.getBody() instanceof MultiFileResponseBody multiFileBody
+                            && request != null
+                            && MultiFileResponseBody.acceptsMultipartMixed(
+                                    request.getHeader(HttpHeaders.ACCEPT))) {
+                        return multiFileBody.toMultipartResponse();
+                    }
+                    return response;
                 }
 
                 // Process different result types
@@ -312,6 +319,12 @@ public class JobExecutorService {
                     String fileId = fileStorage.storeBytes((byte[]) body, filename);
                     taskManager.setFileResult(jobId, fileId, filename, contentType);
                     log.debug("Stored ResponseEntity<byte[]> result with fileId: {}", fileId);
+                } else if (body instanceof MultiFileResponseBody multiFileBody) {
+                    // Register the files directly instead of zipping and extracting them again
+                    taskManager.setMultipleFileResults(jobId, multiFileBody);
+                    log.debug(
+                            "Stored {} files of a multi-file result",
+                            multiFileBody.getParts().size());
                 } else if (body instanceof StreamingResponseBody streamingBody) {
                     String filename = extractResponseFilename(response);
                     String contentType = extractResponseContentType(response);
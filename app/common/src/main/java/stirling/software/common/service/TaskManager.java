@@ -9,10 +9,14 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
@@ -29,6 +33,7 @@ import lombok.extern.slf4j.Slf4j;
 import stirling.software.common.model.job.JobResult;
 import stirling.software.common.model.job.JobStats;
 import stirling.software.common.model.job.ResultFile;
+import stirling.software.common.util.MultiFileResponseBody;
 
 /** Manages async tasks and their results */
 @Service
@@ -36,6 +41,17 @@ import stirling.software.common.model.job.ResultFile;
 public class TaskManager {
     private final Map<String, JobResult> jobResults = new ConcurrentHashMap<>();
 
+    /** Index of all result files by file ID, so downloads don't have to scan every job. */
+    private final Map<String, IndexedFile> resultFilesById = new ConcurrentHashMap<>();
+
+    /**
+     * Completed jobs in the order they completed, which is the order they expire in. A job that
+     * completes again is queued again; entries whose job has since been replaced are skipped.
+     */
+    private final Queue<Completion> completions = new ConcurrentLinkedQueue<>();
+
+    private final Map<String, Set<JobListener>> jobListeners = new ConcurrentHashMap<>();
+
     @Value("${stirling.jobResultExpiryMinutes:30}")
     private int jobResultExpiryMinutes = 30;
 
@@ -60,13 +76,26 @@ public class TaskManager {
                 jobResultExpiryMinutes);
     }
 
+    /**
+     * Receives the progress of the jobs it was added for. Called on the thread that updates the
+     * job, so implementations must not block.
+     */
+    public interface JobListener {
+        void onNote(String jobId, String note);
+
+        void onComplete(String jobId, JobResult result);
+    }
+
     /**
      * Create a new task with the given job ID
      *
      * @param jobId The job ID
      */
     public void createTask(String jobId) {
-        jobResults.put(jobId, JobResult.createNew(jobId));
+        JobResult previous = jobResults.put(jobId, JobResult.createNew(jobId));
+        if (previous != null) {
+            unindexFiles(jobId, previous);
+        }
         log.debug("Created task with job ID: {}", jobId);
     }
 
@@ -79,6 +108,7 @@ public class TaskManager {
     public void setResult(String jobId, Object result) {
         JobResult jobResult = getOrCreateJobResult(jobId);
         jobResult.completeWithResult(result);
+        completed(jobId, jobResult);
         log.debug("Set result for job ID: {}", jobId);
     }
 
@@ -93,6 +123,7 @@ public class TaskManager {
     public void setFileResult(
             String jobId, String fileId, String originalFileName, String contentType) {
         JobResult jobResult = getOrCreateJobResult(jobId);
+        unindexFiles(jobId, jobResult);
 
         // Check if this is a ZIP file that should be extracted
         if (isZipFile(contentType, originalFileName)) {
@@ -101,6 +132,7 @@ public class TaskManager {
                         extractZipToIndividualFiles(fileId, originalFileName);
                 if (!extractedFiles.isEmpty()) {
                     jobResult.completeWithFiles(extractedFiles);
+                    completedWithFiles(jobId, jobResult);
                     log.debug(
                             "Set multiple file results for job ID: {} with {} files extracted from"
                                     + " ZIP",
@@ -127,6 +159,7 @@ public class TaskManager {
                     "Failed to get file size for job {}: {}. Using size 0.", jobId, e.getMessage());
             jobResult.completeWithSingleFile(fileId, originalFileName, contentType, 0);
         }
+        completedWithFiles(jobId, jobResult);
     }
 
     /**
@@ -137,13 +170,50 @@ public class TaskManager {
      */
     public void setMultipleFileResults(String jobId, List<ResultFile> resultFiles) {
         JobResult jobResult = getOrCreateJobResult(jobId);
+        unindexFiles(jobId, jobResult);
         jobResult.completeWithFiles(resultFiles);
+        completedWithFiles(jobId, jobResult);
         log.debug(
                 "Set multiple file results for job ID: {} with {} files",
                 jobId,
                 resultFiles.size());
     }
 
+    /**
+     * Set the result of a task as the files of a multi-file response. The files are moved into
+     * storage one by one, so no ZIP has to be built and extracted again.
+     *
+     * @param jobId The job ID
+     * @param result The multi-file response; its temp files are consumed
+     * @throws IOException If a file cannot be stored; files stored so far are deleted
+     */
+    public void setMultipleFileResults(String jobId, MultiFileResponseBody result)
+            throws IOException {
+        List<ResultFile> resultFiles = new ArrayList<>(result.getParts().size());
+        try {
+            for (MultiFileResponseBody.Part part : result.getParts()) {
+                FileStorage.StoredFile stored =
+                        fileStorage.storePath(part.file().getPath(), part.fileName());
+                resultFiles.add(
+                        ResultFile.builder()
+                                .fileId(stored.fileId())
+                                .fileName(part.fileName())
+                                .contentType(part.contentType())
+                                .fileSize(stored.size())
+                                .build());
+            }
+        } catch (IOException | RuntimeException e) {
+            for (ResultFile resultFile : resultFiles) {
+                fileStorage.deleteFile(resultFile.getFileId());
+            }
+            throw e;
+        } finally {
+            // Deletes the files that were not moved
+            result.close();
+        }
+        setMultipleFileResults(jobId, resultFiles);
+    }
+
     /**
      * Set an error for a task
      *
@@ -153,6 +223,7 @@ public class TaskManager {
     public void setError(String jobId, String error) {
         JobResult jobResult = getOrCreateJobResult(jobId);
         jobResult.failWithError(error);
+        completed(jobId, jobResult);
         log.debug("Set error for job ID: {}: {}", jobId, error);
     }
 
@@ -168,6 +239,7 @@ public class TaskManager {
                 && jobResult.getError() == null) {
             // If no result or error has been set, mark it as complete with an empty result
             jobResult.completeWithResult("Task completed successfully");
+            completed(jobId, jobResult);
         }
         log.debug("Marked job ID: {} as complete", jobId);
     }
@@ -206,12 +278,45 @@ public class TaskManager {
         if (jobResult != null) {
             jobResult.addNote(note);
             log.debug("Added note to job ID: {}: {}", jobId, note);
+            notifyListeners(jobId, listener -> listener.onNote(jobId, note));
             return true;
         }
         log.warn("Attempted to add note to non-existent job ID: {}", jobId);
         return false;
     }
 
+    /**
+     * Start sending the notes and the completion of a job to a listener.
+     *
+     * @param jobId The job ID
+     * @param listener The listener to add
+     */
+    public void addJobListener(String jobId, JobListener listener) {
+        jobListeners.compute(
+                jobId,
+                (id, listeners) -> {
+                    Set<JobListener> result =
+                            listeners != null ? listeners : ConcurrentHashMap.newKeySet();
+                    result.add(listener);
+                    return result;
+                });
+    }
+
+    /**
+     * Stop sending the updates of a job to a listener.
+     *
+     * @param jobId The job ID
+     * @param listener The listener to remove
+     */
+    public void removeJobListener(String jobId, JobListener listener) {
+        jobListeners.computeIfPresent(
+                jobId,
+                (id, listeners) -> {
+                    listeners.remove(listener);
+                    return listeners.isEmpty() ? null : listeners;
+                });
+    }
+
     /**
      * Get statistics about all jobs in the system
      *
@@ -295,26 +400,38 @@ public class TaskManager {
         return jobResults.computeIfAbsent(jobId, JobResult::createNew);
     }
 
-    /** Clean up old completed job results */
-    public void cleanupOldJobs() {
+    /**
+     * Clean up old completed job results. Jobs are visited in the order they completed, so only the
+     * expired ones and the first one that has not expired yet are looked at.
+     */
+    public synchronized void cleanupOldJobs() {
         LocalDateTime expiryThreshold =
                 LocalDateTime.now().minus(jobResultExpiryMinutes, ChronoUnit.MINUTES);
         int removedCount = 0;
 
         try {
-            for (Map.Entry<String, JobResult> entry : jobResults.entrySet()) {
-                JobResult result = entry.getValue();
+            Completion completion;
+            while ((completion = completions.peek()) != null) {
+                JobResult result = completion.result();
+                if (jobResults.get(completion.jobId()) != result) {
+                    // The job was removed or replaced since it completed
+                    completions.poll();
+                    continue;
+                }
 
                 // Remove completed jobs that are older than the expiry threshold
-                if (result.isComplete()
-                        && result.getCompletedAt() != null
-                        && result.getCompletedAt().isBefore(expiryThreshold)) {
+                if (!result.isComplete()
+                        || result.getCompletedAt() == null
+                        || !result.getCompletedAt().isBefore(expiryThreshold)) {
+                    break;
+                }
+                completions.poll();
 
+                // Remove the job result
+                if (jobResults.remove(completion.jobId(), result)) {
                     // Clean up file results
-                    cleanupJobFiles(result, entry.getKey());
-
-                    // Remove the job result
-                    jobResults.remove(entry.getKey());
+                    cleanupJobFiles(result, completion.jobId());
+                    unindexFiles(completion.jobId(), result);
                     removedCount++;
                 }
             }
@@ -443,18 +560,10 @@ public class TaskManager {
         }
     }
 
-    /** Find the ResultFile metadata for a given file ID by searching through all job results */
+    /** Find the ResultFile metadata for a given file ID */
     public ResultFile findResultFileByFileId(String fileId) {
-        for (JobResult jobResult : jobResults.values()) {
-            if (jobResult.hasFiles()) {
-                for (ResultFile resultFile : jobResult.getAllResultFiles()) {
-                    if (fileId.equals(resultFile.getFileId())) {
-                        return resultFile;
-                    }
-                }
-            }
-        }
-        return null;
+        IndexedFile indexed = resultFilesById.get(fileId);
+        return indexed != null ? indexed.resultFile() : null;
     }
 
     /**
@@ -464,16 +573,55 @@ public class TaskManager {
      * @return scoped job key if found, otherwise null
      */
     public String findJobKeyByFileId(String fileId) {
-        for (Map.Entry<String, JobResult> entry : jobResults.entrySet()) {
-            JobResult jobResult = entry.getValue();
-            if (jobResult.hasFiles()) {
-                for (ResultFile resultFile : jobResult.getAllResultFiles()) {
-                    if (fileId.equals(resultFile.getFileId())) {
-                        return entry.getKey();
-                    }
-                }
+        IndexedFile indexed = resultFilesById.get(fileId);
+        return indexed != null ? indexed.jobKey() : null;
+    }
+
+    /** Queues a job that just completed for expiry and tells its listeners. */
+    private void completed(String jobId, JobResult jobResult) {
+        completions.add(new Completion(jobId, jobResult));
+        notifyListeners(jobId, listener -> listener.onComplete(jobId, jobResult));
+    }
+
+    private void notifyListeners(String jobId, Consumer<JobListener> event) {
+        Set<JobListener> listeners = jobListeners.get(jobId);
+        if (listeners == null) {
+            return;
+        }
+        for (JobListener listener : listeners) {
+            try {
+                event.accept(listener);
+            } catch (RuntimeException e) {
+                log.warn("Job listener failed for job {}: {}", jobId, e.getMessage());
+            }
+        }
+    }
+
+    /** Queues a job that just completed with files for expiry and indexes its files. */
+    private void completedWithFiles(String jobId, JobResult jobResult) {
+        for (ResultFile resultFile : jobResult.getAllResultFiles()) {
+            if (resultFile.getFileId() != null) {
+                resultFilesById.put(resultFile.getFileId(), new IndexedFile(jobId, resultFile));
             }
         }
-        return null;
+        completed(jobId, jobResult);
     }
+
+    /** Drops the files of a job from the index, unless another job has claimed them since. */
+    private void unindexFiles(String jobId, JobResult jobResult) {
+        if (!jobResult.hasFiles()) {
+            return;
+        }
+        for (ResultFile resultFile : jobResult.getAllResultFiles()) {
+            if (resultFile.getFileId() != null) {
+                resultFilesById.computeIfPresent(
+                        resultFile.getFileId(),
+                        (fileId, indexed) -> jobId.equals(indexed.jobKey()) ? null : indexed);
+            }
+        }
+    }
+
+    private record IndexedFile(String jobKey, ResultFile resultFile) {}
+
+    private record Completion(String jobId, JobResult result) {}
 }
@@ -0,0 +1,221 @@
+package stirling.software.common.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Directory of byte entries bounded by their total size, which evicts least recently used entries.
+ * File modification times carry the LRU order across restarts. Entries are written to a temporary
+ * file and moved into place, so a reader never sees a partial entry.
+ *
+ * <p>Keys are used as file names and should be hex digests; entries are spread over subdirectories
+ * named after the first two characters of their key.
+ */
+@Slf4j
+public class BoundedFileStore {
+
+    private final Path directory;
+    private final String suffix;
+    private final long maxBytes;
+    private final String name;
+
+    // Access ordered index of key to entry size, guarded by this
+    private final LinkedHashMap<String, Long> index = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * Opens the store in {@code directory}, creating it if needed, and indexes the entries a
+     * previous run left there. Files without {@code suffix} are removed. {@code name} identifies
+     * the store in log messages.
+     *
+     * @throws IOException if the directory cannot be created
+     */
+    public BoundedFileStore(Path directory, String suffix, long maxBytes, String name)
+            throws IOException {
+        this.directory = directory;
+        this.suffix = suffix;
+        this.maxBytes = maxBytes;
+        this.name = name;
+        Files.createDirectories(directory);
+        loadIndex();
+    }
+
+    /** Returns the entry and marks it recently used, or null if it is missing or unreadable. */
+    public byte[] get(String key) {
+        synchronized (this) {
+            if (index.get(key) == null) {
+                return null;
+            }
+        }
+        Path file = entryPath(key);
+        try {
+            byte[] data = Files.readAllBytes(file);
+            try {
+                Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            } catch (IOException e) {
+                log.debug("Failed to touch {} entry {}: {}", name, key, e.getMessage());
+            }
+            return data;
+        } catch (IOException e) {
+            log.debug("Dropping unreadable {} entry {}: {}", name, key, e.getMessage());
+            synchronized (this) {
+                Long size = index.remove(key);
+                if (size != null) {
+                    totalBytes -= size;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Stores an entry and evicts least recently used ones beyond the size bound. Entries larger
+     * than the bound are not stored.
+     *
+     * @return false if the entry was not stored
+     */
+    public boolean put(String key, byte[] data) {
+        if (data.length > maxBytes) {
+            return false;
+        }
+        Path file = entryPath(key);
+        try {
+            Files.createDirectories(file.getParent());
+            Path tmp = Files.createTempFile(file.getParent(), key, ".tmp");
+            try {
+                Files.write(tmp, data);
+                try {
+                    Files.move(
+                            tmp,
+                            file,
+                            StandardCopyOption.REPLACE_EXISTING,
+                            StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        } catch (IOException e) {
+            log.warn("Failed to store {} entry: {}", name, e.getMessage());
+            return false;
+        }
+        List<String> evicted;
+        synchronized (this) {
+            Long previous = index.put(key, (long) data.length);
+            totalBytes += data.length - (previous != null ? previous : 0L);
+            evicted = evictOverBudget(key);
+        }
+        deleteEntries(evicted);
+        return true;
+    }
+
+    public synchronized long getSizeBytes() {
+        return totalBytes;
+    }
+
+    public synchronized int getEntryCount() {
+        return index.size();
+    }
+
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+
+    private void loadIndex() {
+        List<Path> files = new ArrayList<>();
+        try (Stream<Path> walk = Files.walk(directory, 2)) {
+            walk.filter(Files::isRegularFile).forEach(files::add);
+        } catch (IOException e) {
+            log.warn("Failed to scan {} at {}: {}", name, directory, e.getMessage());
+        }
+        Map<Path, Long> modified = new LinkedHashMap<>();
+        for (Path file : files) {
+            try {
+                if (!file.getFileName().toString().endsWith(suffix)) {
+                    // Temporary file of a write that did not complete
+                    Files.deleteIfExists(file);
+                    continue;
+                }
+                modified.put(file, Files.getLastModifiedTime(file).toMillis());
+            } catch (IOException e) {
+                log.debug("Skipping {} file {}: {}", name, file, e.getMessage());
+            }
+        }
+        List<String> evicted;
+        synchronized (this) {
+            modified.entrySet().stream()
+                    .sorted(Map.Entry.comparingByValue(Comparator.naturalOrder()))
+                    .forEach(
+                            entry -> {
+                                Path file = entry.getKey();
+                                String fileName = file.getFileName().toString();
+                                String key =
+                                        fileName.substring(0, fileName.length() - suffix.length());
+                                try {
+                                    long size = Files.size(file);
+                                    index.put(key, size);
+                                    totalBytes += size;
+                                } catch (IOException e) {
+                                    log.debug("Skipping {} file {}", name, file);
+                                }
+                            });
+            evicted = evictOverBudget(null);
+        }
+        deleteEntries(evicted);
+        log.info(
+                "{} at {} loaded with {} entries ({} bytes)",
+                name,
+                directory,
+                getEntryCount(),
+                getSizeBytes());
+    }
+
+    // Must be called while holding the monitor
+    private List<String> evictOverBudget(String keep) {
+        List<String> evicted = new ArrayList<>();
+        Iterator<Map.Entry<String, Long>> it = index.entrySet().iterator();
+        while (totalBytes > maxBytes && it.hasNext()) {
+            Map.Entry<String, Long> eldest = it.next();
+            if (eldest.getKey().equals(keep)) {
+                continue;
+            }
+            it.remove();
+            totalBytes -= eldest.getValue();
+            evicted.add(eldest.getKey());
+        }
+        evictions.addAndGet(evicted.size());
+        return evicted;
+    }
+
+    private void deleteEntries(List<String> keys) {
+        for (String key : keys) {
+            try {
+                Files.deleteIfExists(entryPath(key));
+            } catch (IOException e) {
+                log.debug("Failed to delete {} entry {}: {}", name, key, e.getMessage());
+            }
+        }
+    }
+
+    private Path entryPath(String key) {
+        return directory.resolve(key.substring(0, 2) + File.separator + key + suffix);
+    }
+}
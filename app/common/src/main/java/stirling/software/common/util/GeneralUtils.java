@@ -44,7 +44,8 @@ public class GeneralUtils {
     private static final BigDecimal KIB = BigDecimal.valueOf(1024L);
     private static final BigDecimal LONG_MAX_DECIMAL = BigDecimal.valueOf(Long.MAX_VALUE);
 
-    private final Set<String> DEFAULT_VALID_SCRIPTS = Set.of("png_to_webp.py", "split_photos.py");
+    private final Set<String> DEFAULT_VALID_SCRIPTS =
+            Set.of("png_to_webp.py", "split_photos.py", "python_worker.py");
     private final Set<String> DEFAULT_VALID_PIPELINE =
             Set.of(
                     "OCR images.json",
@@ -1021,7 +1022,8 @@ public class GeneralUtils {
 
         if (!DEFAULT_VALID_SCRIPTS.contains(scriptName)) {
             throw new IllegalArgumentException(
-                    "scriptName must be either 'png_to_webp.py' or 'split_photos.py'");
+                    "scriptName must be one of 'png_to_webp.py', 'split_photos.py' or"
+                            + " 'python_worker.py'");
         }
 
         Path scriptsDir = Paths.get(InstallationPathConfig.getScriptsPath(), PYTHON_SCRIPTS_DIR);
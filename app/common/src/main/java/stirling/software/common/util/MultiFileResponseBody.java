@@ -0,0 +1,260 @@
+package stirling.software.common.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Response body of an endpoint that produces several files. Each file stays a separate managed temp
+ * file until the response is written, so the result can be delivered without ever deflating and
+ * re-inflating it:
+ *
+ * <ul>
+ *   <li>written as a response body it streams a ZIP with STORED entries built on the fly, which is
+ *       what clients of the multi-file endpoints have always received;
+ *   <li>{@link #toMultipartResponse()} streams the files as {@code multipart/mixed} parts instead,
+ *       for clients that ask for it;
+ *   <li>async jobs hand the files to {@code TaskManager} directly instead of unzipping a ZIP.
+ * </ul>
+ *
+ * Whichever way the body is consumed, the temp files are deleted afterwards.
+ */
+public class MultiFileResponseBody implements StreamingResponseBody, AutoCloseable {
+
+    private static final byte[] CRLF = {'\r', '\n'};
+
+    // Records ZipOutputStream writes for a STORED entry with size and CRC known up front
+    private static final int ZIP_LOCAL_HEADER_SIZE = 30;
+    private static final int ZIP_CENTRAL_HEADER_SIZE = 46;
+    private static final int ZIP_END_RECORD_SIZE = 22;
+    // Sizes, offsets and entry counts from here on need ZIP64 records
+    private static final long ZIP64_MIN_SIZE = 0xFFFFFFFFL;
+    private static final int ZIP64_MIN_ENTRIES = 0xFFFF;
+
+    /** One file of the result. */
+    public record Part(String fileName, String contentType, TempFile file) {}
+
+    private final List<Part> parts;
+    private final String zipName;
+
+    public MultiFileResponseBody(List<Part> parts, String zipName) {
+        this.parts = List.copyOf(parts);
+        this.zipName = zipName;
+    }
+
+    public List<Part> getParts() {
+        return parts;
+    }
+
+    /** File name of the ZIP the parts are delivered as. */
+    public String getZipName() {
+        return zipName;
+    }
+
+    /** Builds parts of one content type from files named in the same order. */
+    public static List<Part> parts(
+            List<String> fileNames, String contentType, List<TempFile> files) {
+        List<Part> parts = new ArrayList<>(files.size());
+        for (int i = 0; i < files.size(); i++) {
+            parts.add(new Part(fileNames.get(i), contentType, files.get(i)));
+        }
+        return parts;
+    }
+
+    /** Whether an {@code Accept} header explicitly asks for {@code multipart/mixed}. */
+    public static boolean acceptsMultipartMixed(String acceptHeader) {
+        if (acceptHeader == null || acceptHeader.isBlank()) {
+            return false;
+        }
+        try {
+            return MediaType.parseMediaTypes(acceptHeader).stream()
+                    .anyMatch(
+                            type ->
+                                    "multipart".equalsIgnoreCase(type.getType())
+                                            && "mixed".equalsIgnoreCase(type.getSubtype()));
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+    }
+
+    /** Streams the parts as a ZIP with STORED entries, then deletes them. */
+    @Override
+    public void writeTo(OutputStream outputStream) throws IOException {
+        try {
+            writeStoredZip(
+                    parts.stream().map(Part::fileName).toList(),
+                    parts.stream().map(part -> part.file().getPath()).toList(),
+                    outputStream);
+        } finally {
+            close();
+        }
+    }
+
+    /**
+     * Streams {@code files} to {@code outputStream} as a ZIP with STORED entries named {@code
+     * fileNames}, in that order, and closes the stream. The files themselves are left in place.
+     */
+    public static void writeStoredZip(
+            List<String> fileNames, List<Path> files, OutputStream outputStream)
+            throws IOException {
+        try (ZipOutputStream zipOut = new ZipOutputStream(outputStream)) {
+            for (int i = 0; i < files.size(); i++) {
+                Path file = files.get(i);
+                long size = Files.size(file);
+                ZipEntry entry = new ZipEntry(fileNames.get(i));
+                entry.setMethod(ZipEntry.STORED);
+                entry.setSize(size);
+                entry.setCompressedSize(size);
+                entry.setCrc(crc(file));
+                zipOut.putNextEntry(entry);
+                Files.copy(file, zipOut);
+                zipOut.closeEntry();
+            }
+        }
+    }
+
+    /**
+     * Length of the ZIP {@link #writeStoredZip} writes for files of {@code sizes} named {@code
+     * fileNames}, or -1 if it needs ZIP64 records.
+     */
+    static long storedZipLength(List<String> fileNames, List<Long> sizes) {
+        if (sizes.size() >= ZIP64_MIN_ENTRIES) {
+            return -1;
+        }
+        long entries = 0;
+        long centralDirectory = 0;
+        for (int i = 0; i < sizes.size(); i++) {
+            long size = sizes.get(i);
+            if (size >= ZIP64_MIN_SIZE || entries >= ZIP64_MIN_SIZE) {
+                return -1;
+            }
+            int nameLength = fileNames.get(i).getBytes(StandardCharsets.UTF_8).length;
+            entries += ZIP_LOCAL_HEADER_SIZE + nameLength + size;
+            centralDirectory += ZIP_CENTRAL_HEADER_SIZE + nameLength;
+        }
+        if (entries >= ZIP64_MIN_SIZE || centralDirectory >= ZIP64_MIN_SIZE) {
+            return -1;
+        }
+        return entries + centralDirectory + ZIP_END_RECORD_SIZE;
+    }
+
+    /**
+     * Response streaming the parts as a ZIP named {@link #getZipName()}. Entries are STORED and the
+     * part sizes are known, so the length is set as well unless the ZIP needs ZIP64 records.
+     */
+    public ResponseEntity<StreamingResponseBody> toZipResponse() throws IOException {
+        List<Long> sizes = new ArrayList<>(parts.size());
+        for (Part part : parts) {
+            sizes.add(Files.size(part.file().getPath()));
+        }
+        long length = storedZipLength(parts.stream().map(Part::fileName).toList(), sizes);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
+        headers.setContentDispositionFormData("attachment", encode(zipName));
+        if (length >= 0) {
+            headers.setContentLength(length);
+        }
+        return new ResponseEntity<>(this, headers, HttpStatus.OK);
+    }
+
+    /**
+     * Response streaming the parts as {@code multipart/mixed}, each with its own {@code
+     * Content-Type}, {@code Content-Disposition} and {@code Content-Length}. The total length is
+     * known up front, so it is set as well.
+     */
+    public ResponseEntity<StreamingResponseBody> toMultipartResponse() throws IOException {
+        String boundary = "stirling-" + UUID.randomUUID();
+        List<byte[]> partHeaders = new ArrayList<>(parts.size());
+        long length = 0;
+        for (Part part : parts) {
+            long size = Files.size(part.file().getPath());
+            String header =
+                    "--"
+                            + boundary
+                            + "\r\n"
+                            + HttpHeaders.CONTENT_TYPE
+                            + ": "
+                            + part.contentType()
+                            + "\r\n"
+                            + HttpHeaders.CONTENT_DISPOSITION
+                            + ": "
+                            + ContentDisposition.attachment()
+                                    .filename(part.fileName(), StandardCharsets.UTF_8)
+                                    .build()
+                            + "\r\n"
+                            + HttpHeaders.CONTENT_LENGTH
+                            + ": "
+                            + size
+                            + "\r\n\r\n";
+            byte[] headerBytes = header.getBytes(StandardCharsets.ISO_8859_1);
+            partHeaders.add(headerBytes);
+            length += headerBytes.length + size + CRLF.length;
+        }
+        byte[] closing = ("--" + boundary + "--\r\n").getBytes(StandardCharsets.ISO_8859_1);
+        length += closing.length;
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(
+                new MediaType(MediaType.MULTIPART_MIXED, Map.of("boundary", boundary)));
+        headers.setContentLength(length);
+        StreamingResponseBody body =
+                out -> {
+                    try (out) {
+                        for (int i = 0; i < parts.size(); i++) {
+                            out.write(partHeaders.get(i));
+                            Files.copy(parts.get(i).file().getPath(), out);
+                            out.write(CRLF);
+                        }
+                        out.write(closing);
+                        out.flush();
+                    } finally {
+                        close();
+                    }
+                };
+        return new ResponseEntity<>(body, headers, HttpStatus.OK);
+    }
+
+    /** Deletes the temp files of all parts. */
+    @Override
+    public void close() {
+        for (Part part : parts) {
+            part.file().close();
+        }
+    }
+
+    private static long crc(Path file) throws IOException {
+        CRC32 crc = new CRC32();
+        try (InputStream in = new CheckedInputStream(Files.newInputStream(file), crc)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return crc.getValue();
+    }
+
+    private static String encode(String name) {
+        return RegexPatternUtils.getInstance()
+                .getPlusSignPattern()
+                .matcher(URLEncoder.encode(name, StandardCharsets.UTF_8))
+                .replaceAll("%20");
+    }
+}
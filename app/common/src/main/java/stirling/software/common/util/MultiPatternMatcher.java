@@ -0,0 +1,389 @@
+package stirling.software.common.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Matches a whole list of search terms against a text in a single pass.
+ *
+ * <p>Literal terms are compiled into an Aho-Corasick automaton, so the cost of a scan is linear in
+ * the text length no matter how many literals there are. Regular-expression terms are compiled
+ * once through {@link RegexPatternUtils}; {@link #containsMatch(CharSequence)} tests them with a
+ * single combined alternation, while {@link #findAll(CharSequence)} still runs them individually
+ * because an alternation would hide matches that overlap a match of an earlier alternative.
+ *
+ * <p>Build one instance per request and reuse it for every page. Instances are immutable and safe
+ * to share between threads.
+ *
+ * <p>Whole-word semantics mirror the regexes previously built by the redaction code: terms longer
+ * than one character are wrapped in {@code \b}, single characters must not touch a word character,
+ * and single digits additionally must not be part of a decimal number such as {@code 1.5}.
+ */
+@Slf4j
+public final class MultiPatternMatcher {
+
+    /** A single match; {@code patternIndex} refers to the position in {@link #getTerms()}. */
+    public record Match(int start, int end, int patternIndex) {}
+
+    private static final Comparator<Match> MATCH_ORDER =
+            Comparator.comparingInt(Match::start).thenComparingInt(Match::patternIndex);
+
+    private final List<String> terms;
+    private final boolean caseInsensitive;
+    private final boolean wholeWord;
+    private final AhoCorasick literals;
+    private final List<Pattern> regexes;
+    private final List<Integer> regexTermIndices;
+    private final Pattern combinedRegex;
+
+    private MultiPatternMatcher(
+            List<String> terms,
+            boolean caseInsensitive,
+            boolean wholeWord,
+            AhoCorasick literals,
+            List<Pattern> regexes,
+            List<Integer> regexTermIndices,
+            Pattern combinedRegex) {
+        this.terms = terms;
+        this.caseInsensitive = caseInsensitive;
+        this.wholeWord = wholeWord;
+        this.literals = literals;
+        this.regexes = regexes;
+        this.regexTermIndices = regexTermIndices;
+        this.combinedRegex = combinedRegex;
+    }
+
+    /**
+     * Compiles a matcher for {@code searchTerms}. Terms are trimmed, blank and duplicate terms are
+     * dropped, and invalid regular expressions are skipped with a warning.
+     *
+     * @param useRegex whether the terms are regular expressions rather than literal text
+     * @param wholeWord whether matches must stand on word boundaries
+     * @param caseInsensitive whether matching ignores (Unicode) case
+     */
+    public static MultiPatternMatcher compile(
+            Collection<String> searchTerms,
+            boolean useRegex,
+            boolean wholeWord,
+            boolean caseInsensitive) {
+        Map<String, Boolean> unique = new LinkedHashMap<>();
+        if (searchTerms != null) {
+            for (String term : searchTerms) {
+                if (term != null && !term.trim().isEmpty()) {
+                    unique.putIfAbsent(term.trim(), Boolean.TRUE);
+                }
+            }
+        }
+        List<String> terms = List.copyOf(unique.keySet());
+
+        if (!useRegex) {
+            AhoCorasick automaton = new AhoCorasick(terms, caseInsensitive);
+            return new MultiPatternMatcher(
+                    terms, caseInsensitive, wholeWord, automaton, List.of(), List.of(), null);
+        }
+
+        RegexPatternUtils patternUtils = RegexPatternUtils.getInstance();
+        List<Pattern> regexes = new ArrayList<>();
+        List<Integer> regexTermIndices = new ArrayList<>();
+        List<String> validSources = new ArrayList<>();
+        for (int i = 0; i < terms.size(); i++) {
+            String term = terms.get(i);
+            String source = wholeWord ? applyWordBoundaries(term, term) : term;
+            try {
+                regexes.add(patternUtils.createSearchPattern(source, caseInsensitive));
+                regexTermIndices.add(i);
+                validSources.add(source);
+            } catch (RuntimeException e) {
+                log.warn("Skipping invalid search pattern '{}': {}", term, e.getMessage());
+            }
+        }
+        Pattern combined = null;
+        if (!validSources.isEmpty()) {
+            StringBuilder alternation = new StringBuilder();
+            for (String source : validSources) {
+                if (!alternation.isEmpty()) {
+                    alternation.append('|');
+                }
+                alternation.append("(?:").append(source).append(')');
+            }
+            try {
+                combined =
+                        patternUtils.createSearchPattern(alternation.toString(), caseInsensitive);
+            } catch (RuntimeException e) {
+                log.debug("Could not combine search patterns: {}", e.getMessage());
+            }
+        }
+        return new MultiPatternMatcher(
+                terms,
+                caseInsensitive,
+                wholeWord,
+                null,
+                List.copyOf(regexes),
+                List.copyOf(regexTermIndices),
+                combined);
+    }
+
+    /** Case-sensitive literal matcher for a single phrase. */
+    public static MultiPatternMatcher literal(String phrase) {
+        return compile(phrase == null ? List.of() : List.of(phrase), false, false, false);
+    }
+
+    public List<String> getTerms() {
+        return terms;
+    }
+
+    public boolean isEmpty() {
+        return terms.isEmpty();
+    }
+
+    /**
+     * Returns every match of every term, ordered by start offset. For each individual term the
+     * matches are non-overlapping, exactly as repeated {@link Matcher#find()} would report them;
+     * matches of different terms may overlap.
+     */
+    public List<Match> findAll(CharSequence text) {
+        if (text == null || text.isEmpty() || terms.isEmpty()) {
+            return List.of();
+        }
+        List<Match> matches = new ArrayList<>();
+        if (literals != null) {
+            int[] lastEnd = new int[terms.size()];
+            List<Match> candidates = literals.search(text);
+            candidates.sort(MATCH_ORDER);
+            for (Match candidate : candidates) {
+                if (candidate.start() < lastEnd[candidate.patternIndex()]) {
+                    continue;
+                }
+                if (wholeWord
+                        && !isWholeWord(
+                                text,
+                                candidate.start(),
+                                candidate.end(),
+                                terms.get(candidate.patternIndex()))) {
+                    continue;
+                }
+                lastEnd[candidate.patternIndex()] = candidate.end();
+                matches.add(candidate);
+            }
+            return matches;
+        }
+        for (int i = 0; i < regexes.size(); i++) {
+            Matcher matcher = regexes.get(i).matcher(text);
+            int termIndex = regexTermIndices.get(i);
+            while (matcher.find()) {
+                if (matcher.end() > matcher.start()) {
+                    matches.add(new Match(matcher.start(), matcher.end(), termIndex));
+                }
+            }
+        }
+        matches.sort(MATCH_ORDER);
+        return matches;
+    }
+
+    /** Returns true as soon as any term matches anywhere in {@code text}. */
+    public boolean containsMatch(CharSequence text) {
+        if (text == null || text.isEmpty() || terms.isEmpty()) {
+            return false;
+        }
+        if (literals != null) {
+            if (!wholeWord) {
+                return literals.containsAny(text);
+            }
+            return !findAll(text).isEmpty();
+        }
+        if (combinedRegex != null) {
+            return combinedRegex.matcher(text).find();
+        }
+        for (Pattern regex : regexes) {
+            if (regex.matcher(text).find()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return "MultiPatternMatcher[terms="
+                + terms.size()
+                + ", regex="
+                + (literals == null)
+                + ", wholeWord="
+                + wholeWord
+                + ", caseInsensitive="
+                + caseInsensitive
+                + "]";
+    }
+
+    /** Wraps a pattern with the word-boundary rules used for whole-word search. */
+    static String applyWordBoundaries(String originalTerm, String patternString) {
+        if (originalTerm.length() == 1 && Character.isDigit(originalTerm.charAt(0))) {
+            return "(?<![\\w])(?<!\\d[\\.,])" + patternString + "(?![\\w])(?![\\.,]\\d)";
+        } else if (originalTerm.length() == 1) {
+            return "(?<![\\w])" + patternString + "(?![\\w])";
+        }
+        return "\\b" + patternString + "\\b";
+    }
+
+    private static boolean isWholeWord(CharSequence text, int start, int end, String term) {
+        if (term.length() == 1) {
+            if (isWordChar(text, start - 1) || isWordChar(text, end)) {
+                return false;
+            }
+            if (Character.isDigit(term.charAt(0))) {
+                boolean decimalBefore =
+                        start >= 2
+                                && isSeparator(text.charAt(start - 1))
+                                && Character.isDigit(text.charAt(start - 2));
+                boolean decimalAfter =
+                        end + 1 < text.length()
+                                && isSeparator(text.charAt(end))
+                                && Character.isDigit(text.charAt(end + 1));
+                return !decimalBefore && !decimalAfter;
+            }
+            return true;
+        }
+        return isBoundary(text, start) && isBoundary(text, end);
+    }
+
+    private static boolean isSeparator(char c) {
+        return c == '.' || c == ',';
+    }
+
+    private static boolean isBoundary(CharSequence text, int index) {
+        return isWordChar(text, index - 1) != isWordChar(text, index);
+    }
+
+    /** Same character class as {@code \w} without {@code UNICODE_CHARACTER_CLASS}. */
+    private static boolean isWordChar(CharSequence text, int index) {
+        if (index < 0 || index >= text.length()) {
+            return false;
+        }
+        char c = text.charAt(index);
+        return (c >= 'a' && c <= 'z')
+                || (c >= 'A' && c <= 'Z')
+                || (c >= '0' && c <= '9')
+                || c == '_';
+    }
+
+    /** Aho-Corasick automaton over UTF-16 code units. */
+    private static final class AhoCorasick {
+        private final List<Map<Character, Integer>> children = new ArrayList<>();
+        private final List<Integer> terminalPattern = new ArrayList<>();
+        private final int[] patternLengths;
+        private final boolean caseInsensitive;
+        private int[] fail;
+        private int[] outputLink;
+
+        AhoCorasick(List<String> terms, boolean caseInsensitive) {
+            this.caseInsensitive = caseInsensitive;
+            this.patternLengths = new int[terms.size()];
+            newNode();
+            for (int i = 0; i < terms.size(); i++) {
+                addTerm(terms.get(i), i);
+            }
+            buildFailureLinks();
+        }
+
+        private int newNode() {
+            children.add(new HashMap<>());
+            terminalPattern.add(-1);
+            return children.size() - 1;
+        }
+
+        private char fold(char c) {
+            return caseInsensitive ? Character.toLowerCase(Character.toUpperCase(c)) : c;
+        }
+
+        private void addTerm(String term, int patternIndex) {
+            patternLengths[patternIndex] = term.length();
+            int state = 0;
+            for (int i = 0; i < term.length(); i++) {
+                char c = fold(term.charAt(i));
+                Integer next = children.get(state).get(c);
+                if (next == null) {
+                    next = newNode();
+                    children.get(state).put(c, next);
+                }
+                state = next;
+            }
+            if (terminalPattern.get(state) < 0) {
+                terminalPattern.set(state, patternIndex);
+            }
+        }
+
+        private void buildFailureLinks() {
+            int size = children.size();
+            fail = new int[size];
+            outputLink = new int[size];
+            Queue<Integer> queue = new ArrayDeque<>();
+            for (int child : children.get(0).values()) {
+                queue.add(child);
+            }
+            while (!queue.isEmpty()) {
+                int state = queue.poll();
+                for (Map.Entry<Character, Integer> edge : children.get(state).entrySet()) {
+                    char c = edge.getKey();
+                    int child = edge.getValue();
+                    int fallback = fail[state];
+                    while (fallback != 0 && !children.get(fallback).containsKey(c)) {
+                        fallback = fail[fallback];
+                    }
+                    Integer target = children.get(fallback).get(c);
+                    fail[child] = target != null && target != child ? target : 0;
+                    int failState = fail[child];
+                    outputLink[child] =
+                            terminalPattern.get(failState) >= 0
+                                    ? failState
+                                    : outputLink[failState];
+                    queue.add(child);
+                }
+            }
+        }
+
+        private int step(int state, char c) {
+            while (state != 0 && !children.get(state).containsKey(c)) {
+                state = fail[state];
+            }
+            return children.get(state).getOrDefault(c, 0);
+        }
+
+        List<Match> search(CharSequence text) {
+            List<Match> matches = new ArrayList<>();
+            int state = 0;
+            for (int i = 0; i < text.length(); i++) {
+                state = step(state, fold(text.charAt(i)));
+                int output = terminalPattern.get(state) >= 0 ? state : outputLink[state];
+                while (output != 0) {
+                    int patternIndex = terminalPattern.get(output);
+                    int end = i + 1;
+                    matches.add(new Match(end - patternLengths[patternIndex], end, patternIndex));
+                    output = outputLink[output];
+                }
+            }
+            return matches;
+        }
+
+        boolean containsAny(CharSequence text) {
+            int state = 0;
+            for (int i = 0; i < text.length(); i++) {
+                state = step(state, fold(text.charAt(i)));
+                if (terminalPattern.get(state) >= 0 || outputLink[state] != 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
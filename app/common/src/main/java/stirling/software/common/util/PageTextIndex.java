@@ -0,0 +1,359 @@
+package stirling.software.common.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.apache.pdfbox.text.TextPosition;
+import org.springframework.web.multipart.MultipartFile;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Lazily built per-page text of a PDF together with the bounds of every extracted character, so
+ * text based operations (filters, redaction, document info) strip each page at most once.
+ *
+ * <p>{@link #of(PDDocument)} returns an index that lives as long as the document. If the document
+ * was bound to a content hash with {@link #bind}, the index is instead shared by every document
+ * with the same content, e.g. the same upload passing through several pipeline steps or a repeated
+ * request, and kept in a size-bounded LRU.
+ *
+ * <p>Pages are extracted by {@link PageTextStripper}: words are separated by {@code " "}, lines by
+ * {@code "\n"}, and no paragraph or page markers are emitted.
+ */
+@Slf4j
+public final class PageTextIndex {
+
+    /** Approximate heap budget for indexes shared by content hash. */
+    static final long MAX_SHARED_BYTES = 64L * 1024 * 1024;
+
+    private static final String CONTENT_HASH_ALGORITHM = "SHA-256";
+
+    // All static maps are guarded by the class lock
+    private static final Map<PDDocument, String> CONTENT_KEYS = new WeakHashMap<>();
+    private static final Map<PDDocument, PageTextIndex> DOCUMENT_INDEXES = new WeakHashMap<>();
+    private static final LinkedHashMap<String, PageTextIndex> SHARED_INDEXES =
+            new LinkedHashMap<>(16, 0.75f, true);
+    private static long sharedBytes;
+
+    private final String contentKey;
+    private final AtomicReferenceArray<PageText> pages;
+    private final AtomicLong estimatedBytes = new AtomicLong();
+
+    private PageTextIndex(String contentKey, int pageCount) {
+        this.contentKey = contentKey;
+        this.pages = new AtomicReferenceArray<>(Math.max(0, pageCount));
+    }
+
+    /** Content hash of an upload, suitable for {@link #bind}. */
+    public static String contentKey(MultipartFile file) throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            return ChecksumUtils.checksum(in, CONTENT_HASH_ALGORITHM);
+        }
+    }
+
+    /**
+     * Declares that {@code document} was loaded from content with the given hash, so its page text
+     * can be shared with other documents of the same content. Only bind documents that have not
+     * been modified since loading.
+     */
+    public static synchronized void bind(PDDocument document, String contentKey) {
+        if (document == null || contentKey == null) {
+            return;
+        }
+        CONTENT_KEYS.put(document, contentKey);
+        PageTextIndex existing = DOCUMENT_INDEXES.get(document);
+        if (existing != null && !contentKey.equals(existing.contentKey)) {
+            DOCUMENT_INDEXES.remove(document);
+        }
+    }
+
+    /** Content hash previously bound to {@code document}, or null. */
+    public static synchronized String getContentKey(PDDocument document) {
+        return CONTENT_KEYS.get(document);
+    }
+
+    /** Returns the page text index for {@code document}, creating an empty one if needed. */
+    public static synchronized PageTextIndex of(PDDocument document) {
+        PageTextIndex index = DOCUMENT_INDEXES.get(document);
+        if (index != null) {
+            return index;
+        }
+        int pageCount = document.getNumberOfPages();
+        String contentKey = CONTENT_KEYS.get(document);
+        if (contentKey != null) {
+            index = SHARED_INDEXES.get(contentKey);
+            if (index == null || index.getPageCount() != pageCount) {
+                index = new PageTextIndex(contentKey, pageCount);
+                PageTextIndex replaced = SHARED_INDEXES.put(contentKey, index);
+                if (replaced != null) {
+                    sharedBytes -= replaced.estimatedBytes.get();
+                }
+            }
+        } else {
+            index = new PageTextIndex(null, pageCount);
+        }
+        DOCUMENT_INDEXES.put(document, index);
+        return index;
+    }
+
+    /** Drops all shared indexes. */
+    public static synchronized void clearSharedIndexes() {
+        SHARED_INDEXES.clear();
+        sharedBytes = 0;
+    }
+
+    static synchronized long getSharedBytes() {
+        return sharedBytes;
+    }
+
+    static synchronized int getSharedIndexCount() {
+        return SHARED_INDEXES.size();
+    }
+
+    public int getPageCount() {
+        return pages.length();
+    }
+
+    /** True once every page has been extracted. */
+    public boolean isComplete() {
+        for (int i = 0; i < pages.length(); i++) {
+            if (pages.get(i) == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the text of the zero-based page {@code pageIndex} of {@code document}, which must be
+     * the document (or a document with the same content) this index was obtained for.
+     */
+    public String getPageText(PDDocument document, int pageIndex) throws IOException {
+        return getPage(document, pageIndex).text();
+    }
+
+    /** Returns the text and character bounds of the zero-based page {@code pageIndex}. */
+    public PageText getPage(PDDocument document, int pageIndex) throws IOException {
+        PageText page = pages.get(pageIndex);
+        if (page == null) {
+            extract(document, pageIndex, pageIndex);
+            page = pages.get(pageIndex);
+        }
+        return page;
+    }
+
+    /**
+     * Returns the pages in the zero-based, inclusive range, extracting all missing pages in a
+     * single stripper pass.
+     */
+    public List<PageText> getPages(PDDocument document, int fromIndex, int toIndex)
+            throws IOException {
+        int first = -1;
+        int last = -1;
+        for (int i = fromIndex; i <= toIndex; i++) {
+            if (pages.get(i) == null) {
+                if (first < 0) {
+                    first = i;
+                }
+                last = i;
+            }
+        }
+        if (first >= 0) {
+            extract(document, first, last);
+        }
+        List<PageText> result = new ArrayList<>(toIndex - fromIndex + 1);
+        for (int i = fromIndex; i <= toIndex; i++) {
+            result.add(pages.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the text of all pages, each followed by a line break like {@link
+     * PDFTextStripper#getText} ends every page.
+     */
+    public String getText(PDDocument document) throws IOException {
+        if (getPageCount() == 0) {
+            return "";
+        }
+        StringBuilder text = new StringBuilder();
+        for (PageText page : getPages(document, 0, getPageCount() - 1)) {
+            text.append(page.text()).append('\n');
+        }
+        return text.toString();
+    }
+
+    private void extract(PDDocument document, int fromIndex, int toIndex) throws IOException {
+        PageTextStripper stripper =
+                new PageTextStripper() {
+                    @Override
+                    protected void pageExtracted(int pageIndex, PageText page) {
+                        store(pageIndex, page);
+                    }
+                };
+        stripper.setStartPage(fromIndex + 1);
+        stripper.setEndPage(toIndex + 1);
+        stripper.getText(document);
+        // Pages the stripper skipped (e.g. unreadable content) are recorded as empty
+        for (int i = fromIndex; i <= toIndex; i++) {
+            if (pages.get(i) == null) {
+                store(i, PageText.EMPTY);
+            }
+        }
+    }
+
+    private void store(int pageIndex, PageText page) {
+        if (pageIndex < 0 || pageIndex >= pages.length()) {
+            return;
+        }
+        if (pages.compareAndSet(pageIndex, null, page)) {
+            long bytes = page.estimatedBytes();
+            estimatedBytes.addAndGet(bytes);
+            if (contentKey != null) {
+                recordSharedGrowth(this, bytes);
+            }
+        }
+    }
+
+    private static synchronized void recordSharedGrowth(PageTextIndex index, long bytes) {
+        if (SHARED_INDEXES.get(index.contentKey) != index) {
+            return;
+        }
+        sharedBytes += bytes;
+        Iterator<Map.Entry<String, PageTextIndex>> eldest = SHARED_INDEXES.entrySet().iterator();
+        while (sharedBytes > MAX_SHARED_BYTES && eldest.hasNext()) {
+            PageTextIndex candidate = eldest.next().getValue();
+            if (candidate == index) {
+                continue;
+            }
+            eldest.remove();
+            sharedBytes -= candidate.estimatedBytes.get();
+            log.debug("Evicted page text index {}", candidate.contentKey);
+        }
+    }
+
+    /**
+     * Text of one page with four bounds per character ({@code minX, minY, maxX, maxY} in PDFBox
+     * text coordinates). Separators inserted by the stripper have {@link Float#NaN} bounds.
+     */
+    public record PageText(String text, float[] glyphBounds) {
+
+        public static final PageText EMPTY = new PageText("", new float[0]);
+
+        public boolean hasBounds(int charIndex) {
+            return charIndex >= 0
+                    && charIndex * 4 < glyphBounds.length
+                    && !Float.isNaN(glyphBounds[charIndex * 4]);
+        }
+
+        public float minX(int charIndex) {
+            return glyphBounds[charIndex * 4];
+        }
+
+        public float minY(int charIndex) {
+            return glyphBounds[charIndex * 4 + 1];
+        }
+
+        public float maxX(int charIndex) {
+            return glyphBounds[charIndex * 4 + 2];
+        }
+
+        public float maxY(int charIndex) {
+            return glyphBounds[charIndex * 4 + 3];
+        }
+
+        /** Number of characters that have an entry in {@link #glyphBounds()}. */
+        public int boundsLength() {
+            return glyphBounds.length / 4;
+        }
+
+        long estimatedBytes() {
+            return 64L + text.length() * 2L + glyphBounds.length * 4L;
+        }
+    }
+
+    /**
+     * Text stripper that collects each page's text and character bounds and hands them to {@link
+     * #pageExtracted} when the page ends.
+     */
+    public static class PageTextStripper extends PDFTextStripper {
+
+        private final StringBuilder pageTextBuilder = new StringBuilder();
+        private float[] pageBounds = new float[1024];
+        private int boundsCount;
+
+        public PageTextStripper() {
+            setWordSeparator(" ");
+            setLineSeparator("\n");
+        }
+
+        @Override
+        protected void startPage(PDPage page) throws IOException {
+            super.startPage(page);
+            pageTextBuilder.setLength(0);
+            boundsCount = 0;
+        }
+
+        @Override
+        protected void writeString(String text, List<TextPosition> textPositions) {
+            pageTextBuilder.append(text);
+            for (TextPosition pos : textPositions) {
+                addBounds(
+                        pos.getX(),
+                        pos.getY() - pos.getHeight(),
+                        pos.getX() + pos.getWidth(),
+                        pos.getY());
+            }
+        }
+
+        @Override
+        protected void writeWordSeparator() {
+            pageTextBuilder.append(getWordSeparator());
+            addSeparator();
+        }
+
+        @Override
+        protected void writeLineSeparator() {
+            pageTextBuilder.append(getLineSeparator());
+            addSeparator();
+        }
+
+        @Override
+        protected void endPage(PDPage page) throws IOException {
+            pageExtracted(
+                    getCurrentPageNo() - 1,
+                    new PageText(
+                            pageTextBuilder.toString(), Arrays.copyOf(pageBounds, boundsCount)));
+            super.endPage(page);
+        }
+
+        /** Called with the zero-based index and content of every extracted page. */
+        protected void pageExtracted(int pageIndex, PageText page) throws IOException {}
+
+        private void addSeparator() {
+            addBounds(Float.NaN, Float.NaN, Float.NaN, Float.NaN);
+        }
+
+        private void addBounds(float minX, float minY, float maxX, float maxY) {
+            if (boundsCount + 4 > pageBounds.length) {
+                pageBounds = Arrays.copyOf(pageBounds, pageBounds.length * 2);
+            }
+            pageBounds[boundsCount++] = minX;
+            pageBounds[boundsCount++] = minY;
+            pageBounds[boundsCount++] = maxX;
+            pageBounds[boundsCount++] = maxY;
+        }
+    }
+}
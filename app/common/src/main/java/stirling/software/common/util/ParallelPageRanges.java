@@ -0,0 +1,80 @@
+package stirling.software.common.util;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.ObjIntConsumer;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Processes the pages of a document in contiguous ranges on virtual threads and merges the results
+ * in page order.
+ *
+ * <p>A task usually opens its own read-only view of the document, since PDFBox objects must not be
+ * shared between threads. Results are handed to the caller in page order on the calling thread, so
+ * the merged result does not depend on completion order.
+ */
+@UtilityClass
+public class ParallelPageRanges {
+
+    /** Processes pages {@code startPage} to {@code endPage}, 1-based and inclusive. */
+    @FunctionalInterface
+    public interface RangeTask<R> {
+        R process(int startPage, int endPage) throws IOException;
+    }
+
+    /**
+     * Returns how many ranges to split {@code pageCount} pages into: at most one per processor,
+     * each with at least {@code minPagesPerRange} pages. Below two, processing the pages in one
+     * pass is cheaper.
+     */
+    public static int rangeCount(int pageCount, int minPagesPerRange) {
+        int processors = Runtime.getRuntime().availableProcessors();
+        return Math.max(1, Math.min(processors, pageCount / minPagesPerRange));
+    }
+
+    /**
+     * Splits pages 1 to {@code pageCount} into up to {@code ranges} ranges of equal size, runs
+     * {@code task} for each concurrently and passes every result to {@code merger} together with
+     * the last page of its range. The first failure cancels the remaining ranges; an {@link
+     * IOException} is rethrown as is, anything else wrapped in one.
+     */
+    public static <R> void process(
+            int pageCount, int ranges, RangeTask<R> task, ObjIntConsumer<R> merger)
+            throws IOException {
+        int pagesPerRange = (pageCount + ranges - 1) / ranges;
+        try (ExecutorService executor = ExecutorFactory.newVirtualThreadExecutor()) {
+            List<Future<R>> futures = new ArrayList<>();
+            for (int start = 1; start <= pageCount; start += pagesPerRange) {
+                int startPage = start;
+                int endPage = Math.min(pageCount, start + pagesPerRange - 1);
+                futures.add(executor.submit(() -> task.process(startPage, endPage)));
+            }
+            try {
+                for (int i = 0; i < futures.size(); i++) {
+                    merger.accept(
+                            futures.get(i).get(), Math.min(pageCount, (i + 1) * pagesPerRange));
+                }
+            } catch (ExecutionException e) {
+                futures.forEach(f -> f.cancel(true));
+                Throwable cause = e.getCause();
+                if (cause instanceof IOException ioe) {
+                    throw ioe;
+                }
+                throw new IOException("Processing a page range failed", cause);
+            } catch (InterruptedException e) {
+                futures.forEach(f -> f.cancel(true));
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Page range processing interrupted");
+            } catch (RuntimeException e) {
+                futures.forEach(f -> f.cancel(true));
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package stirling.software.common.util;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Serializes the many generated parts of a multi-file result, such as the documents of a split,
+ * concurrently to managed temp files.
+ *
+ * <p>Parts are produced by a bounded number of workers on virtual threads. Each worker opens its
+ * own context (for example an independent reader over the source document), since PDFBox objects
+ * must not be shared between threads, and claims part indexes until none are left. Across all
+ * requests at most {@link #MAX_PARALLELISM} parts are written at the same time. The finished files
+ * are returned in part order, ready for a {@link MultiFileResponseBody}.
+ */
+@Slf4j
+@UtilityClass
+public class ParallelPartWriter {
+
+    public static final int MAX_PARALLELISM =
+            Math.max(1, Runtime.getRuntime().availableProcessors());
+
+    private static final Semaphore PART_GATE = new Semaphore(MAX_PARALLELISM);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /** Opens the per-worker context; may return null when the writer needs none. */
+    @FunctionalInterface
+    public interface ContextFactory<C extends Closeable> {
+        C open() throws IOException;
+    }
+
+    /** Writes part {@code index} to {@code out} using the worker's context. */
+    @FunctionalInterface
+    public interface PartWriter<C extends Closeable> {
+        void write(C context, int index, OutputStream out) throws IOException;
+    }
+
+    /**
+     * Writes parts {@code 0} to {@code count - 1} to temp files with the given suffix and returns
+     * them in that order. Parts are produced by up to {@code parallelism} workers; pass 1 when the
+     * parts share state that is not thread-safe. The first failure stops all workers, deletes every
+     * part written so far and is rethrown.
+     */
+    public static <C extends Closeable> List<TempFile> writeParts(
+            int count,
+            String suffix,
+            int parallelism,
+            TempFileManager tempFileManager,
+            ContextFactory<C> contexts,
+            PartWriter<C> writer)
+            throws IOException {
+        TempFile[] parts = new TempFile[count];
+        int workers = Math.max(1, Math.min(Math.min(parallelism, MAX_PARALLELISM), count));
+        AtomicInteger nextIndex = new AtomicInteger();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        try (ExecutorService executor = ExecutorFactory.newVirtualThreadExecutor()) {
+            for (int w = 0; w < workers && count > 0; w++) {
+                executor.execute(
+                        () ->
+                                runWorker(
+                                        parts,
+                                        suffix,
+                                        nextIndex,
+                                        failure,
+                                        tempFileManager,
+                                        contexts,
+                                        writer));
+            }
+        }
+
+        Throwable error = failure.get();
+        if (error != null) {
+            for (TempFile part : parts) {
+                if (part != null) {
+                    part.close();
+                }
+            }
+            if (error instanceof IOException io) {
+                throw io;
+            }
+            if (error instanceof RuntimeException re) {
+                throw re;
+            }
+            if (error instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Writing parts interrupted");
+            }
+            if (error instanceof Error err) {
+                throw err;
+            }
+            throw new IOException("Failed to write part", error);
+        }
+        return Arrays.asList(parts);
+    }
+
+    private static <C extends Closeable> void runWorker(
+            TempFile[] parts,
+            String suffix,
+            AtomicInteger nextIndex,
+            AtomicReference<Throwable> failure,
+            TempFileManager tempFileManager,
+            ContextFactory<C> contexts,
+            PartWriter<C> writer) {
+        int index = -1;
+        try (C context = contexts.open()) {
+            while (failure.get() == null && (index = nextIndex.getAndIncrement()) < parts.length) {
+                TempFile part = new TempFile(tempFileManager, suffix);
+                // Published before writing so that a failed part is deleted as well
+                parts[index] = part;
+                PART_GATE.acquire();
+                try (OutputStream out =
+                        new BufferedOutputStream(
+                                Files.newOutputStream(part.getPath()), BUFFER_SIZE)) {
+                    writer.write(context, index, out);
+                } finally {
+                    PART_GATE.release();
+                }
+            }
+        } catch (Throwable e) {
+            if (index >= 0 && index < parts.length) {
+                log.error("Error writing part {}", index + 1, e);
+            } else {
+                log.error("Error preparing part writer", e);
+            }
+            failure.compareAndSet(null, e);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package stirling.software.common.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * A {@link MultipartFile} backed by a file on disk, such as an upload persisted for an async job.
+ * Nothing is held in memory: every read goes to the file, and {@link #getPath()} lets loaders open
+ * it directly instead of copying it first. The file is owned by whoever created it and is never
+ * deleted or moved by this class.
+ */
+public class PathMultipartFile implements MultipartFile {
+
+    private final String name;
+    private final Path path;
+    private final long size;
+
+    public PathMultipartFile(String name, Path path) throws IOException {
+        this.name = name;
+        this.path = path;
+        this.size = Files.size(path);
+    }
+
+    /** The file this upload reads from. */
+    public Path getPath() {
+        return path;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getOriginalFilename() {
+        return name;
+    }
+
+    @Override
+    public String getContentType() {
+        return MediaType.APPLICATION_PDF_VALUE;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public long getSize() {
+        return size;
+    }
+
+    @Override
+    public byte[] getBytes() throws IOException {
+        return Files.readAllBytes(path);
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return Files.newInputStream(path);
+    }
+
+    @Override
+    public void transferTo(File dest) throws IOException {
+        transferTo(dest.toPath());
+    }
+
+    @Override
+    public void transferTo(Path dest) throws IOException {
+        Files.copy(path, dest, StandardCopyOption.REPLACE_EXISTING);
+    }
+}
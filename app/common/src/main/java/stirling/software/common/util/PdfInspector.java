@@ -0,0 +1,159 @@
+package stirling.software.common.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.IOUtils;
+import org.apache.pdfbox.io.RandomAccessRead;
+import org.apache.pdfbox.io.RandomAccessReadBuffer;
+import org.apache.pdfbox.io.RandomAccessReadMemoryMappedFile;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDDocumentInformation;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.common.PDMetadata;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.encryption.AccessPermission;
+import org.apache.pdfbox.pdmodel.encryption.PDEncryption;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Read-only view of the document-level facts of a PDF: version, trailer and Info dictionary,
+ * encryption dictionary and the page tree.
+ *
+ * <p>Files are memory-mapped and parsed lazily, so opening one only reads the cross-reference data
+ * and trailer; each accessor then resolves just the objects it needs. Content streams, fonts and
+ * images are never decoded, and unlike {@code CustomPDFDocumentFactory.load} no default metadata
+ * or security removal is applied. This keeps page-count and metadata queries at I/O speed even for
+ * very large files.
+ */
+@Slf4j
+public class PdfInspector implements Closeable {
+
+    private final PDDocument document;
+    private final Path ownedFile;
+
+    private PdfInspector(PDDocument document, Path ownedFile) {
+        this.document = document;
+        this.ownedFile = ownedFile;
+    }
+
+    public static PdfInspector open(byte[] bytes) throws IOException {
+        return open(new RandomAccessReadBuffer(bytes), null);
+    }
+
+    /** Maps {@code file} into memory. The caller keeps ownership of the file. */
+    public static PdfInspector open(Path file) throws IOException {
+        return open(new RandomAccessReadMemoryMappedFile(file.toFile()), null);
+    }
+
+    /** Like {@link #open(Path)}, but deletes {@code file} when the inspector is closed. */
+    public static PdfInspector openAndDelete(Path file) throws IOException {
+        RandomAccessRead source;
+        try {
+            source = new RandomAccessReadMemoryMappedFile(file.toFile());
+        } catch (IOException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        return open(source, file);
+    }
+
+    private static PdfInspector open(RandomAccessRead source, Path ownedFile) throws IOException {
+        return new PdfInspector(loadLazily(source, ownedFile), ownedFile);
+    }
+
+    /**
+     * Parses the cross-reference data and trailer of {@code source}; objects are resolved on first
+     * access. On failure {@code source} is closed and {@code ownedFile}, if any, deleted.
+     */
+    static PDDocument loadLazily(RandomAccessRead source, Path ownedFile) throws IOException {
+        PDDocument document;
+        try {
+            // Empty string password: PDFBox convention for unencrypted documents.
+            document =
+                    Loader.loadPDF(
+                            source, "", null, null, IOUtils.createMemoryOnlyStreamCache());
+        } catch (IOException e) {
+            try {
+                source.close();
+            } catch (IOException ce) {
+                e.addSuppressed(ce);
+            }
+            if (ownedFile != null) {
+                Files.deleteIfExists(ownedFile);
+            }
+            ExceptionUtils.logException("PDF inspection", e);
+            throw ExceptionUtils.handlePdfException(e);
+        }
+        // Nothing is rendered, so resources do not need to be cached
+        document.setResourceCache(null);
+        return document;
+    }
+
+    /** Page count from the page tree root, without visiting the pages. */
+    public int getPageCount() {
+        return document.getNumberOfPages();
+    }
+
+    public float getVersion() {
+        return document.getVersion();
+    }
+
+    /** Info dictionary from the trailer; empty if the document has none. */
+    public PDDocumentInformation getDocumentInformation() {
+        return document.getDocumentInformation();
+    }
+
+    /** XMP metadata stream of the catalog, or null. The stream is not decoded until read. */
+    public PDMetadata getXmpMetadata() {
+        return document.getDocumentCatalog().getMetadata();
+    }
+
+    public boolean isEncrypted() {
+        return document.isEncrypted();
+    }
+
+    /** Encryption dictionary, or null if the document is not encrypted. */
+    public PDEncryption getEncryption() {
+        return document.isEncrypted() ? document.getEncryption() : null;
+    }
+
+    public AccessPermission getAccessPermission() {
+        return document.getCurrentAccessPermission();
+    }
+
+    /** Effective media box of the page at {@code pageIndex}, including inherited values. */
+    public PDRectangle getMediaBox(int pageIndex) {
+        return document.getPage(pageIndex).getMediaBox();
+    }
+
+    /** Visible area (crop box clipped to the media box) of every page, in page order. */
+    public List<PDRectangle> getPageBoxes() {
+        List<PDRectangle> boxes = new ArrayList<>(getPageCount());
+        for (PDPage page : document.getPages()) {
+            boxes.add(page.getBBox());
+        }
+        return boxes;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            document.close();
+        } finally {
+            if (ownedFile != null) {
+                try {
+                    Files.deleteIfExists(ownedFile);
+                } catch (IOException e) {
+                    log.warn("Failed to delete temp file: {}", ownedFile, e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,688 @@
+package stirling.software.common.util;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.apache.pdfbox.cos.COSArray;
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.cos.COSBoolean;
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSDocument;
+import org.apache.pdfbox.cos.COSFloat;
+import org.apache.pdfbox.cos.COSInteger;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.cos.COSObject;
+import org.apache.pdfbox.cos.COSObjectKey;
+import org.apache.pdfbox.cos.COSStream;
+import org.apache.pdfbox.cos.COSString;
+import org.apache.pdfbox.io.RandomAccessRead;
+import org.apache.pdfbox.io.RandomAccessReadBuffer;
+import org.apache.pdfbox.io.RandomAccessReadMemoryMappedFile;
+import org.apache.pdfbox.pdfwriter.COSWriter;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDDocumentInformation;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Writes new documents made of selected pages of an unencrypted source PDF, copying the objects the
+ * pages use straight from the source bytes.
+ *
+ * <p>The source is memory-mapped and parsed lazily, so only the selected pages and the objects they
+ * reach are ever resolved, and stream data is never decoded. Each reached object that is stored
+ * uncompressed in the source is copied byte for byte under its original object number; only the
+ * page objects themselves (whose parent changes), objects stored in object streams and the new
+ * catalog, page tree and Info dictionary are serialized. References to pages that are not part of
+ * the output are left dangling, which readers treat as null.
+ */
+@Slf4j
+public class PdfPageRangeWriter implements Closeable {
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    // Page attributes a page may inherit from its ancestors in the page tree
+    private static final List<COSName> INHERITABLE =
+            List.of(COSName.RESOURCES, COSName.MEDIA_BOX, COSName.CROP_BOX, COSName.ROTATE);
+
+    private final PDDocument document;
+    // Second reader over the same bytes, so raw copies never move the parser's position
+    private final RandomAccessRead raw;
+    private final Path ownedFile;
+    // Exactly one is set; kept so that fork() can open another reader
+    private final byte[] sourceBytes;
+    private final Path sourceFile;
+    private final Map<COSObjectKey, Long> offsets;
+    private final List<PageEntry> pages;
+    private final long firstNewNumber;
+    private PDDocumentInformation outputInformation;
+
+    private record PageEntry(
+            COSObjectKey key, COSDictionary dictionary, Map<COSName, COSBase> inherited) {}
+
+    private record XrefEntry(long offset, int generation) {}
+
+    private PdfPageRangeWriter(
+            PDDocument document,
+            RandomAccessRead raw,
+            Path ownedFile,
+            byte[] sourceBytes,
+            Path sourceFile) {
+        this.document = document;
+        this.raw = raw;
+        this.ownedFile = ownedFile;
+        this.sourceBytes = sourceBytes;
+        this.sourceFile = sourceFile;
+        COSDocument cosDocument = document.getDocument();
+        this.offsets = cosDocument.getXrefTable();
+        this.pages = new ArrayList<>();
+        collectPages(
+                document.getDocumentCatalog().getCOSObject().getItem(COSName.PAGES),
+                Map.of(),
+                Collections.newSetFromMap(new IdentityHashMap<>()));
+        long highest = cosDocument.getTrailer().getLong(COSName.SIZE, 1) - 1;
+        for (COSObjectKey key : offsets.keySet()) {
+            highest = Math.max(highest, key.getNumber());
+        }
+        this.firstNewNumber = highest + 1;
+    }
+
+    public static PdfPageRangeWriter open(byte[] bytes) throws IOException {
+        PDDocument document = PdfInspector.loadLazily(new RandomAccessReadBuffer(bytes), null);
+        return new PdfPageRangeWriter(
+                document, new RandomAccessReadBuffer(bytes), null, bytes, null);
+    }
+
+    /** Maps {@code file} into memory. The caller keeps ownership of the file. */
+    public static PdfPageRangeWriter open(Path file) throws IOException {
+        return open(file, null);
+    }
+
+    /** Like {@link #open(Path)}, but deletes {@code file} when the writer is closed. */
+    public static PdfPageRangeWriter openAndDelete(Path file) throws IOException {
+        return open(file, file);
+    }
+
+    private static PdfPageRangeWriter open(Path file, Path ownedFile) throws IOException {
+        RandomAccessRead source;
+        try {
+            source = new RandomAccessReadMemoryMappedFile(file.toFile());
+        } catch (IOException e) {
+            if (ownedFile != null) {
+                Files.deleteIfExists(ownedFile);
+            }
+            throw e;
+        }
+        PDDocument document = PdfInspector.loadLazily(source, ownedFile);
+        try {
+            return new PdfPageRangeWriter(
+                    document,
+                    new RandomAccessReadMemoryMappedFile(file.toFile()),
+                    ownedFile,
+                    null,
+                    file);
+        } catch (IOException | RuntimeException e) {
+            document.close();
+            if (ownedFile != null) {
+                Files.deleteIfExists(ownedFile);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Opens another writer over the same source with the same output information. A writer is not
+     * thread-safe, so concurrent writes each use their own fork. Forks never delete the source and
+     * must be closed before this writer.
+     */
+    public PdfPageRangeWriter fork() throws IOException {
+        PdfPageRangeWriter fork = sourceBytes != null ? open(sourceBytes) : open(sourceFile);
+        fork.setOutputInformation(outputInformation);
+        return fork;
+    }
+
+    /** Encrypted sources cannot be copied verbatim; load and decrypt them instead. */
+    public boolean isEncrypted() {
+        return document.isEncrypted();
+    }
+
+    public int getPageCount() {
+        return pages.size();
+    }
+
+    /** Info dictionary of the source document. */
+    public PDDocumentInformation getDocumentInformation() {
+        return document.getDocumentInformation();
+    }
+
+    /** Info dictionary written to every output; none when null. */
+    public void setOutputInformation(PDDocumentInformation outputInformation) {
+        this.outputInformation = outputInformation;
+    }
+
+    /**
+     * Writes a complete PDF made of the pages at {@code pageIndexes} (zero-based, in output order,
+     * repeats allowed) to {@code target}. The stream is flushed but not closed.
+     */
+    public void writePages(List<Integer> pageIndexes, OutputStream target) throws IOException {
+        if (document.isEncrypted()) {
+            throw new IllegalStateException("Encrypted documents cannot be copied verbatim");
+        }
+        CountingOutputStream out =
+                new CountingOutputStream(new BufferedOutputStream(target, COPY_BUFFER_SIZE));
+        TreeMap<Long, XrefEntry> xref = new TreeMap<>();
+        long[] nextNumber = {firstNewNumber};
+        long pagesNumber = nextNumber[0]++;
+        long catalogNumber = nextNumber[0]++;
+
+        // Version header, then a comment marking the file as binary
+        write(
+                out,
+                String.format(
+                        Locale.ROOT,
+                        "%%PDF-%.1f\n%%\u00e2\u00e3\u00cf\u00d3\n",
+                        document.getVersion()));
+
+        // References to selected pages resolve to the written page, never to a copy of it
+        Set<COSObjectKey> seen = new HashSet<>();
+        for (int pageIndex : pageIndexes) {
+            if (pages.get(pageIndex).key() != null) {
+                seen.add(pages.get(pageIndex).key());
+            }
+        }
+        // Pages keep their source number on first use; repeats become new objects
+        Set<COSObjectKey> numbered = new HashSet<>();
+        List<Long> kids = new ArrayList<>(pageIndexes.size());
+        List<Integer> kidGenerations = new ArrayList<>(pageIndexes.size());
+        Deque<COSObject> pending = new ArrayDeque<>();
+        for (int pageIndex : pageIndexes) {
+            PageEntry page = pages.get(pageIndex);
+            long number;
+            int generation;
+            if (page.key() != null && numbered.add(page.key())) {
+                number = page.key().getNumber();
+                generation = page.key().getGeneration();
+            } else {
+                number = nextNumber[0]++;
+                generation = 0;
+            }
+            kids.add(number);
+            kidGenerations.add(generation);
+
+            // Inherited attributes are copied down, as the page leaves its page tree
+            COSDictionary dictionary = new COSDictionary();
+            for (Map.Entry<COSName, COSBase> entry : page.dictionary().entrySet()) {
+                if (!COSName.PARENT.equals(entry.getKey())) {
+                    dictionary.setItem(entry.getKey(), entry.getValue());
+                }
+            }
+            for (Map.Entry<COSName, COSBase> entry : page.inherited().entrySet()) {
+                if (dictionary.getItem(entry.getKey()) == null) {
+                    dictionary.setItem(entry.getKey(), entry.getValue());
+                }
+            }
+            collectReferences(dictionary, seen, pending);
+            xref.put(number, new XrefEntry(out.count, generation));
+            write(out, number + " " + generation + " obj\n<<");
+            writeEntries(dictionary, out);
+            write(out, " /Parent " + pagesNumber + " 0 R >>\nendobj\n");
+        }
+
+        while (!pending.isEmpty()) {
+            COSObject reference = pending.poll();
+            COSBase object = reference.getObject();
+            if (object == null || isPageTreeNode(object)) {
+                continue;
+            }
+            COSObjectKey key = reference.getKey();
+            long start = out.count;
+            if (copyVerbatim(key, object, out)) {
+                xref.put(key.getNumber(), new XrefEntry(start, key.getGeneration()));
+            } else {
+                writeObject(key.getNumber(), key.getGeneration(), object, out, xref, nextNumber);
+            }
+            collectReferences(object, seen, pending);
+        }
+
+        xref.put(pagesNumber, new XrefEntry(out.count, 0));
+        StringBuilder pageTree = new StringBuilder();
+        pageTree.append(pagesNumber).append(" 0 obj\n<< /Type /Pages /Kids [");
+        for (int i = 0; i < kids.size(); i++) {
+            pageTree.append(i == 0 ? "" : " ")
+                    .append(kids.get(i))
+                    .append(' ')
+                    .append(kidGenerations.get(i))
+                    .append(" R");
+        }
+        pageTree.append("] /Count ").append(kids.size()).append(" >>\nendobj\n");
+        write(out, pageTree.toString());
+
+        xref.put(catalogNumber, new XrefEntry(out.count, 0));
+        write(
+                out,
+                catalogNumber
+                        + " 0 obj\n<< /Type /Catalog /Pages "
+                        + pagesNumber
+                        + " 0 R >>\nendobj\n");
+
+        long infoNumber = -1;
+        if (outputInformation != null) {
+            infoNumber = nextNumber[0]++;
+            writeObject(infoNumber, 0, outputInformation.getCOSObject(), out, xref, nextNumber);
+        }
+
+        writeXrefAndTrailer(out, xref, nextNumber[0], catalogNumber, infoNumber);
+        out.flush();
+    }
+
+    private void writeXrefAndTrailer(
+            CountingOutputStream out,
+            TreeMap<Long, XrefEntry> xref,
+            long size,
+            long catalogNumber,
+            long infoNumber)
+            throws IOException {
+        long xrefOffset = out.count;
+        StringBuilder table = new StringBuilder("xref\n0 1\n0000000000 65535 f\r\n");
+        // One subsection per run of consecutive numbers; numbers not listed are unused
+        List<Map.Entry<Long, XrefEntry>> run = new ArrayList<>();
+        for (Map.Entry<Long, XrefEntry> entry : xref.entrySet()) {
+            if (!run.isEmpty() && run.get(run.size() - 1).getKey() + 1 != entry.getKey()) {
+                appendSubsection(table, run);
+                run.clear();
+            }
+            run.add(entry);
+            if (table.length() > COPY_BUFFER_SIZE) {
+                write(out, table.toString());
+                table.setLength(0);
+            }
+        }
+        appendSubsection(table, run);
+        table.append("trailer\n<< /Size ")
+                .append(size)
+                .append(" /Root ")
+                .append(catalogNumber)
+                .append(" 0 R");
+        if (infoNumber >= 0) {
+            table.append(" /Info ").append(infoNumber).append(" 0 R");
+        }
+        write(out, table.toString());
+        COSBase id = document.getDocument().getTrailer().getDictionaryObject(COSName.ID);
+        if (id instanceof COSArray) {
+            write(out, " /ID ");
+            writeValue(id, out);
+        }
+        write(out, " >>\nstartxref\n" + xrefOffset + "\n%%EOF\n");
+    }
+
+    private static void appendSubsection(
+            StringBuilder table, List<Map.Entry<Long, XrefEntry>> run) {
+        if (run.isEmpty()) {
+            return;
+        }
+        table.append(run.get(0).getKey()).append(' ').append(run.size()).append('\n');
+        for (Map.Entry<Long, XrefEntry> entry : run) {
+            table.append(
+                    String.format(
+                            Locale.ROOT,
+                            "%010d %05d n\r\n",
+                            entry.getValue().offset(),
+                            entry.getValue().generation()));
+        }
+    }
+
+    private void collectPages(
+            COSBase node, Map<COSName, COSBase> inherited, Set<COSBase> visited) {
+        COSObjectKey key = node instanceof COSObject reference ? reference.getKey() : null;
+        COSBase resolved = node instanceof COSObject reference ? reference.getObject() : node;
+        if (!(resolved instanceof COSDictionary dictionary) || !visited.add(dictionary)) {
+            return;
+        }
+        COSArray kids = dictionary.getCOSArray(COSName.KIDS);
+        if (kids == null || COSName.PAGE.equals(dictionary.getCOSName(COSName.TYPE))) {
+            pages.add(new PageEntry(key, dictionary, inherited));
+            return;
+        }
+        Map<COSName, COSBase> childInherited = new HashMap<>(inherited);
+        for (COSName name : INHERITABLE) {
+            COSBase value = dictionary.getItem(name);
+            if (value != null) {
+                childInherited.put(name, value);
+            }
+        }
+        for (int i = 0; i < kids.size(); i++) {
+            collectPages(kids.get(i), childInherited, visited);
+        }
+    }
+
+    /** Queues the indirect objects {@code value} references that were not seen before. */
+    private static void collectReferences(
+            COSBase value, Set<COSObjectKey> seen, Deque<COSObject> pending) {
+        if (value instanceof COSObject reference) {
+            COSObjectKey key = reference.getKey();
+            if (key != null && seen.add(key)) {
+                pending.add(reference);
+            }
+        } else if (value instanceof COSArray array) {
+            for (int i = 0; i < array.size(); i++) {
+                collectReferences(array.get(i), seen, pending);
+            }
+        } else if (value instanceof COSDictionary dictionary) {
+            for (COSBase item : dictionary.getValues()) {
+                collectReferences(item, seen, pending);
+            }
+        }
+    }
+
+    // Other pages and page tree nodes are only written as part of the page selection
+    private static boolean isPageTreeNode(COSBase object) {
+        if (!(object instanceof COSDictionary dictionary) || object instanceof COSStream) {
+            return false;
+        }
+        COSName type = dictionary.getCOSName(COSName.TYPE);
+        return COSName.PAGE.equals(type) || COSName.PAGES.equals(type);
+    }
+
+    /**
+     * Copies the source bytes of an object stored uncompressed under {@code key}. Returns false,
+     * having written nothing, if the object lives in an object stream or its bytes do not parse as
+     * expected.
+     */
+    private boolean copyVerbatim(COSObjectKey key, COSBase object, OutputStream out)
+            throws IOException {
+        Long offset = offsets.get(key);
+        if (offset == null || offset <= 0) {
+            return false;
+        }
+        long end = findObjectEnd(offset, key, object);
+        if (end < 0) {
+            log.debug("Re-serializing object {} that could not be copied verbatim", key);
+            return false;
+        }
+        raw.seek(offset);
+        byte[] buffer = new byte[(int) Math.min(COPY_BUFFER_SIZE, end - offset)];
+        long remaining = end - offset;
+        while (remaining > 0) {
+            int read = raw.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+            if (read <= 0) {
+                throw new IOException("Unexpected end of PDF while copying object " + key);
+            }
+            out.write(buffer, 0, read);
+            remaining -= read;
+        }
+        out.write('\n');
+        return true;
+    }
+
+    /**
+     * Returns the position just after the {@code endobj} keyword of the object at {@code offset},
+     * or -1 if the bytes there are not the expected object. Stream data is skipped by its length,
+     * strings and comments are skipped so keywords inside them are not matched.
+     */
+    private long findObjectEnd(long offset, COSObjectKey key, COSBase object) throws IOException {
+        raw.seek(offset);
+        if (readNumber() != key.getNumber()) {
+            return -1;
+        }
+        skipWhitespace();
+        if (readNumber() != key.getGeneration()) {
+            return -1;
+        }
+        skipWhitespace();
+        if (!matches("obj")) {
+            return -1;
+        }
+        int previous = ' ';
+        int c;
+        while ((c = raw.read()) != -1) {
+            if (c == '(') {
+                skipLiteralString();
+            } else if (c == '%') {
+                skipComment();
+            } else if (isKeywordStart(previous) && c == 'e' && matchesKeyword("ndobj")) {
+                return raw.getPosition();
+            } else if (isKeywordStart(previous) && c == 's' && matchesKeyword("tream")) {
+                return object instanceof COSStream stream ? findStreamEnd(stream) : -1;
+            }
+            previous = c;
+        }
+        return -1;
+    }
+
+    private long findStreamEnd(COSStream stream) throws IOException {
+        int c = raw.read();
+        if (c == '\r') {
+            if (raw.peek() == '\n') {
+                raw.read();
+            }
+        } else if (c != '\n') {
+            return -1;
+        }
+        long length = stream.getLength();
+        if (length < 0 || raw.getPosition() + length > raw.length()) {
+            return -1;
+        }
+        raw.seek(raw.getPosition() + length);
+        skipWhitespace();
+        if (!matches("endstream")) {
+            return -1;
+        }
+        skipWhitespace();
+        return matches("endobj") ? raw.getPosition() : -1;
+    }
+
+    private long readNumber() throws IOException {
+        long value = 0;
+        int digits = 0;
+        while (raw.peek() >= '0' && raw.peek() <= '9') {
+            value = value * 10 + (raw.read() - '0');
+            digits++;
+        }
+        return digits == 0 ? -1 : value;
+    }
+
+    private void skipWhitespace() throws IOException {
+        while (true) {
+            int c = raw.peek();
+            if (c == '%') {
+                skipComment();
+            } else if (isWhitespace(c)) {
+                raw.read();
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void skipComment() throws IOException {
+        int c;
+        while ((c = raw.read()) != -1 && c != '\n' && c != '\r') {
+            // comment text
+        }
+    }
+
+    private void skipLiteralString() throws IOException {
+        int depth = 1;
+        int c;
+        while (depth > 0 && (c = raw.read()) != -1) {
+            if (c == '\\') {
+                raw.read();
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            }
+        }
+    }
+
+    /** Consumes {@code text} if it comes next; otherwise leaves the position unchanged. */
+    private boolean matches(String text) throws IOException {
+        long start = raw.getPosition();
+        for (int i = 0; i < text.length(); i++) {
+            if (raw.read() != text.charAt(i)) {
+                raw.seek(start);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Like matches, but the keyword must also end at a delimiter or whitespace
+    private boolean matchesKeyword(String rest) throws IOException {
+        long start = raw.getPosition();
+        if (matches(rest)) {
+            int next = raw.peek();
+            if (next == -1 || isWhitespace(next) || "()<>[]{}/%".indexOf(next) >= 0) {
+                return true;
+            }
+            raw.seek(start);
+        }
+        return false;
+    }
+
+    private static boolean isKeywordStart(int previous) {
+        return isWhitespace(previous) || previous == '>' || previous == ']' || previous == ')';
+    }
+
+    private static boolean isWhitespace(int c) {
+        return c == ' ' || c == '\n' || c == '\r' || c == '\t' || c == '\f' || c == 0;
+    }
+
+    private void writeObject(
+            long number,
+            int generation,
+            COSBase object,
+            CountingOutputStream out,
+            TreeMap<Long, XrefEntry> xref,
+            long[] nextNumber)
+            throws IOException {
+        xref.put(number, new XrefEntry(out.count, generation));
+        write(out, number + " " + generation + " obj\n");
+        if (object instanceof COSStream stream) {
+            // The encoded length is only known after copying, so it goes in its own object
+            long lengthNumber = nextNumber[0]++;
+            COSDictionary dictionary = new COSDictionary(stream);
+            dictionary.removeItem(COSName.LENGTH);
+            write(out, "<<");
+            writeEntries(dictionary, out);
+            write(out, " /Length " + lengthNumber + " 0 R >>\nstream\n");
+            long dataStart = out.count;
+            try (InputStream data = stream.createRawInputStream()) {
+                data.transferTo(out);
+            }
+            long length = out.count - dataStart;
+            write(out, "\nendstream\nendobj\n");
+            xref.put(lengthNumber, new XrefEntry(out.count, 0));
+            write(out, lengthNumber + " 0 obj\n" + length + "\nendobj\n");
+            return;
+        }
+        writeValue(object, out);
+        write(out, "\nendobj\n");
+    }
+
+    private static void writeValue(COSBase value, OutputStream out) throws IOException {
+        if (value instanceof COSObject reference) {
+            COSObjectKey key = reference.getKey();
+            write(out, key != null ? key.getNumber() + " " + key.getGeneration() + " R" : "null");
+        } else if (value instanceof COSName name) {
+            name.writePDF(out);
+        } else if (value instanceof COSString string) {
+            COSWriter.writeString(string, out);
+        } else if (value instanceof COSInteger integer) {
+            integer.writePDF(out);
+        } else if (value instanceof COSFloat number) {
+            number.writePDF(out);
+        } else if (value instanceof COSBoolean bool) {
+            bool.writePDF(out);
+        } else if (value instanceof COSArray array) {
+            write(out, "[");
+            for (int i = 0; i < array.size(); i++) {
+                if (i > 0) {
+                    write(out, " ");
+                }
+                writeValue(array.get(i), out);
+            }
+            write(out, "]");
+        } else if (value instanceof COSDictionary dictionary
+                && !(value instanceof COSStream)) {
+            write(out, "<<");
+            writeEntries(dictionary, out);
+            write(out, " >>");
+        } else {
+            // COSNull, and streams that are not indirect, which a parsed document never has
+            write(out, "null");
+        }
+    }
+
+    private static void writeEntries(COSDictionary dictionary, OutputStream out)
+            throws IOException {
+        for (Map.Entry<COSName, COSBase> entry : dictionary.entrySet()) {
+            write(out, " ");
+            entry.getKey().writePDF(out);
+            write(out, " ");
+            writeValue(entry.getValue(), out);
+        }
+    }
+
+    private static void write(OutputStream out, String text) throws IOException {
+        out.write(text.getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            document.close();
+        } finally {
+            try {
+                raw.close();
+            } finally {
+                if (ownedFile != null) {
+                    try {
+                        Files.deleteIfExists(ownedFile);
+                    } catch (IOException e) {
+                        log.warn("Failed to delete temp file: {}", ownedFile, e);
+                    }
+                }
+            }
+        }
+    }
+
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package stirling.software.common.util;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.pdfbox.cos.COSArray;
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.cos.COSBoolean;
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSInteger;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.cos.COSNull;
+import org.apache.pdfbox.cos.COSObject;
+import org.apache.pdfbox.cos.COSStream;
+import org.apache.pdfbox.cos.COSString;
+import org.apache.pdfbox.pdmodel.PDPage;
+
+/**
+ * Estimates the serialized size of a document being assembled from pages of another document
+ * without saving it. Each added page contributes the objects reachable from it that no earlier page
+ * of the same document reached, so fonts, images and other shared resources are counted once.
+ *
+ * <p>The estimate ignores compression and is usually on the high side; callers that need an exact
+ * bound should verify with a real save.
+ */
+public class PdfPageSizeEstimator {
+
+    /** Header, catalog, page tree root, cross-reference section and trailer. */
+    static final long DOCUMENT_OVERHEAD = 1024;
+
+    // "n 0 obj" / "endobj" plus the cross-reference entry
+    private static final long INDIRECT_OBJECT_OVERHEAD = 40;
+    // "stream" / "endstream" keywords and line breaks
+    private static final long STREAM_OVERHEAD = 20;
+    private static final long REFERENCE_SIZE = 10;
+    private static final long NUMBER_SIZE = 8;
+
+    private final Set<COSBase> counted = Collections.newSetFromMap(new IdentityHashMap<>());
+    private long estimatedSize = DOCUMENT_OVERHEAD;
+
+    /**
+     * Records {@code page} as part of the document and returns the bytes it adds: the page object,
+     * its entry in the page tree and every object it reaches that was not counted yet. References
+     * to the page tree and to other pages are not followed.
+     */
+    public long addPage(PDPage page) {
+        COSDictionary pageDictionary = page.getCOSObject();
+        if (!counted.add(pageDictionary)) {
+            return 0;
+        }
+        long added = INDIRECT_OBJECT_OVERHEAD + REFERENCE_SIZE;
+        Deque<COSBase> pending = new ArrayDeque<>();
+        added += sizeOfContents(pageDictionary, pending);
+        while (!pending.isEmpty()) {
+            COSBase object = pending.pop();
+            added += INDIRECT_OBJECT_OVERHEAD + sizeOfContents(object, pending);
+        }
+        estimatedSize += added;
+        return added;
+    }
+
+    /** Estimated size of the document made of the pages added since the last {@link #reset()}. */
+    public long getEstimatedSize() {
+        return estimatedSize;
+    }
+
+    /** Starts a new document; objects counted for earlier pages count again. */
+    public void reset() {
+        counted.clear();
+        estimatedSize = DOCUMENT_OVERHEAD;
+    }
+
+    /**
+     * Size of a value nested in another object. Indirect objects it references that have not been
+     * counted are pushed to {@code pending} and only contribute their reference here. Containers
+     * that were already counted, e.g. a page reached again through an annotation, also count as a
+     * reference, which keeps cycles of direct objects finite.
+     */
+    private long sizeOf(COSBase value, Deque<COSBase> pending) {
+        if (value instanceof COSObject reference) {
+            COSBase target = reference.getObject();
+            if (target != null && !isPageTreeNode(target) && counted.add(target)) {
+                pending.push(target);
+            }
+            return REFERENCE_SIZE;
+        }
+        if (value instanceof COSArray || value instanceof COSDictionary) {
+            if (isPageTreeNode(value) || !counted.add(value)) {
+                return REFERENCE_SIZE;
+            }
+        }
+        return sizeOfContents(value, pending);
+    }
+
+    private long sizeOfContents(COSBase value, Deque<COSBase> pending) {
+        if (value == null || value instanceof COSNull) {
+            return 4;
+        }
+        if (value instanceof COSBoolean) {
+            return 5;
+        }
+        if (value instanceof COSInteger integer) {
+            return String.valueOf(integer.longValue()).length();
+        }
+        if (value instanceof COSName name) {
+            return name.getName().length() + 1L;
+        }
+        if (value instanceof COSString string) {
+            return string.getBytes().length + 2L;
+        }
+        if (value instanceof COSArray array) {
+            long size = 2;
+            for (int i = 0; i < array.size(); i++) {
+                size += sizeOf(array.get(i), pending) + 1;
+            }
+            return size;
+        }
+        if (value instanceof COSDictionary dictionary) {
+            long size = 4;
+            for (Map.Entry<COSName, COSBase> entry : dictionary.entrySet()) {
+                if (COSName.PARENT.equals(entry.getKey())) {
+                    continue;
+                }
+                size += entry.getKey().getName().length() + 2L;
+                size += sizeOf(entry.getValue(), pending);
+            }
+            if (value instanceof COSStream stream) {
+                size += STREAM_OVERHEAD + Math.max(0L, stream.getLength());
+            }
+            return size;
+        }
+        return NUMBER_SIZE;
+    }
+
+    // Other pages and page tree nodes belong to whichever part contains them
+    private static boolean isPageTreeNode(COSBase object) {
+        if (!(object instanceof COSDictionary dictionary) || object instanceof COSStream) {
+            return false;
+        }
+        COSName type = dictionary.getCOSName(COSName.TYPE);
+        return COSName.PAGE.equals(type) || COSName.PAGES.equals(type);
+    }
+}
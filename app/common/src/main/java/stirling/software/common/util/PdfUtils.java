@@ -103,9 +103,9 @@ public class PdfUtils {
         List<Integer> pageList =
                 GeneralUtils.parsePageList(pageOrderArr, document.getNumberOfPages());
 
+        PageTextIndex index = PageTextIndex.of(document);
         for (int pageNumber : pageList) {
-            PDPage page = document.getPage(pageNumber);
-            if (hasTextOnPage(page, phrase)) {
+            if (index.getPageText(document, pageNumber).contains(phrase)) {
                 return true;
             }
         }
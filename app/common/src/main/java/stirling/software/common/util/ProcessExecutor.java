@@ -3,6 +3,7 @@ package stirling.software.common.util;
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.InterruptedIOException;
 import java.nio.charset.StandardCharsets;
@@ -15,6 +16,7 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import io.github.pixee.security.BoundedLineReader;
 
@@ -23,6 +25,7 @@ import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
 import stirling.software.common.model.ApplicationProperties;
+import stirling.software.common.service.TaskManager;
 
 @Slf4j
 public class ProcessExecutor {
@@ -30,6 +33,7 @@ public class ProcessExecutor {
     private static final Map<Processes, ProcessExecutor> instances = new ConcurrentHashMap<>();
     private static ApplicationProperties applicationProperties = new ApplicationProperties();
     private static volatile UnoServerPool unoServerPool;
+    private static volatile PythonWorkerPool pythonWorkerPool;
     private final Semaphore semaphore;
     private final boolean liveUpdates;
     private long timeoutDuration;
@@ -189,6 +193,14 @@ public class ProcessExecutor {
         unoServerPool = pool;
     }
 
+    public static void setPythonWorkerPool(PythonWorkerPool pool) {
+        PythonWorkerPool previous = pythonWorkerPool;
+        pythonWorkerPool = pool;
+        if (previous != null && previous != pool) {
+            previous.close();
+        }
+    }
+
     public ProcessExecutorResult runCommandWithOutputHandling(List<String> command)
             throws IOException, InterruptedException {
         return runCommandWithOutputHandling(command, null);
@@ -212,6 +224,15 @@ public class ProcessExecutor {
         try {
 
             validateCommand(commandToRun);
+            if (shouldUsePythonWorker(commandToRun)) {
+                try {
+                    return runWithPythonWorker(commandToRun, workingDirectory);
+                } catch (PythonWorkerPool.WorkerUnavailableException e) {
+                    log.warn(
+                            "Python worker unavailable ({}), running command in a new process",
+                            e.getMessage());
+                }
+            }
             log.info("Running command: {}", String.join(" ", commandToRun));
             ProcessBuilder processBuilder = new ProcessBuilder(commandToRun);
 
@@ -221,99 +242,83 @@ public class ProcessExecutor {
             }
             Process process = processBuilder.start();
 
-            // Read the error stream and standard output stream concurrently
-            List<String> errorLines = new ArrayList<>();
-            List<String> outputLines = new ArrayList<>();
-
-            Thread errorReaderThread =
-                    Thread.ofVirtual()
-                            .unstarted(
-                                    () -> {
-                                        try (BufferedReader errorReader =
-                                                new BufferedReader(
-                                                        new InputStreamReader(
-                                                                process.getErrorStream(),
-                                                                StandardCharsets.UTF_8))) {
-                                            String line;
-                                            while ((line =
-                                                            BoundedLineReader.readLine(
-                                                                    errorReader, 5_000_000))
-                                                    != null) {
-                                                errorLines.add(line);
-                                                if (liveUpdates) log.info(line);
-                                            }
-                                        } catch (InterruptedIOException e) {
-                                            log.warn(
-                                                    "Error reader thread was interrupted due to timeout.");
-                                        } catch (IOException e) {
-                                            log.error("exception", e);
-                                        }
-                                    });
-
-            Thread outputReaderThread =
-                    Thread.ofVirtual()
-                            .unstarted(
-                                    () -> {
-                                        try (BufferedReader outputReader =
-                                                new BufferedReader(
-                                                        new InputStreamReader(
-                                                                process.getInputStream(),
-                                                                StandardCharsets.UTF_8))) {
-                                            String line;
-                                            while ((line =
-                                                            BoundedLineReader.readLine(
-                                                                    outputReader, 5_000_000))
-                                                    != null) {
-                                                outputLines.add(line);
-                                                if (liveUpdates) log.info(line);
-                                            }
-                                        } catch (InterruptedIOException e) {
-                                            log.warn(
-                                                    "Error reader thread was interrupted due to timeout.");
-                                        } catch (IOException e) {
-                                            log.error("exception", e);
-                                        }
-                                    });
-
-            errorReaderThread.start();
-            outputReaderThread.start();
-
-            // Wait for the conversion process to complete
-            boolean finished = process.waitFor(timeoutDuration, TimeUnit.MINUTES);
-
-            if (!finished) {
-                // Kill the entire process tree (descendants first, then the process itself)
-                process.descendants().forEach(ProcessHandle::destroyForcibly);
-                process.destroyForcibly();
-                // Interrupt the reader threads
-                errorReaderThread.interrupt();
-                outputReaderThread.interrupt();
-                throw new IOException("Process timeout exceeded.");
-            }
-            exitCode = process.exitValue();
-            // Wait for the reader threads to finish
-            errorReaderThread.join();
-            outputReaderThread.join();
-
-            boolean isQpdf =
-                    commandToRun != null
-                            && !commandToRun.isEmpty()
-                            && commandToRun.get(0).contains("qpdf");
-
-            if (!outputLines.isEmpty()) {
-                String outputMessage = String.join("\n", outputLines);
-                messages += outputMessage;
-                if (!liveUpdates) {
-                    log.info("Command output:\n{}", outputMessage);
+            // Read the error stream and standard output stream concurrently into bounded
+            // captures; anything beyond the in-memory tail is spilled to a managed temp file
+            TempFileManager tempFileManager =
+                    ApplicationContextProvider.getBean(TempFileManager.class);
+            Consumer<String> progressListener = createProgressListener();
+            try (ProcessOutputCapture errorCapture =
+                            new ProcessOutputCapture(
+                                    ProcessOutputCapture.DEFAULT_MAX_BUFFERED_CHARS,
+                                    tempFileManager,
+                                    progressListener);
+                    ProcessOutputCapture outputCapture =
+                            new ProcessOutputCapture(
+                                    ProcessOutputCapture.DEFAULT_MAX_BUFFERED_CHARS,
+                                    tempFileManager,
+                                    progressListener)) {
+
+                Thread errorReaderThread =
+                        Thread.ofVirtual()
+                                .unstarted(
+                                        () -> readStream(process.getErrorStream(), errorCapture));
+                Thread outputReaderThread =
+                        Thread.ofVirtual()
+                                .unstarted(
+                                        () -> readStream(process.getInputStream(), outputCapture));
+
+                errorReaderThread.start();
+                outputReaderThread.start();
+
+                // Wait for the conversion process to complete
+                boolean finished = process.waitFor(timeoutDuration, TimeUnit.MINUTES);
+
+                if (!finished) {
+                    // Kill the entire process tree (descendants first, then the process itself)
+                    process.descendants().forEach(ProcessHandle::destroyForcibly);
+                    process.destroyForcibly();
+                    // Interrupt the reader threads
+                    errorReaderThread.interrupt();
+                    outputReaderThread.interrupt();
+                    throw new IOException("Process timeout exceeded.");
+                }
+                exitCode = process.exitValue();
+                // Wait for the reader threads to finish
+                errorReaderThread.join();
+                outputReaderThread.join();
+
+                boolean isQpdf =
+                        commandToRun != null
+                                && !commandToRun.isEmpty()
+                                && commandToRun.get(0).contains("qpdf");
+
+                if (!outputCapture.isEmpty()) {
+                    String outputMessage = outputCapture.getBufferedOutput();
+                    messages += outputMessage;
+                    if (!liveUpdates) {
+                        log.info("Command output:\n{}", outputMessage);
+                    }
                 }
-            }
 
-            if (!errorLines.isEmpty()) {
-                String errorMessage = String.join("\n", errorLines);
-                messages += errorMessage;
-                if (!liveUpdates) {
-                    log.warn("Command error output:\n{}", errorMessage);
+                if (!errorCapture.isEmpty()) {
+                    String errorMessage = errorCapture.getBufferedOutput();
+                    messages += errorMessage;
+                    if (!liveUpdates) {
+                        log.warn("Command error output:\n{}", errorMessage);
+                    }
+                    if (exitCode != 0) {
+                        if (isQpdf && exitCode == 3) {
+                            log.warn("qpdf succeeded with warnings: {}", messages);
+                        } else {
+                            throw new IOException(
+                                    "Command process failed with exit code "
+                                            + exitCode
+                                            + ". Error message: "
+                                            + errorMessage);
+                        }
+                    }
                 }
+
                 if (exitCode != 0) {
                     if (isQpdf && exitCode == 3) {
                         log.warn("qpdf succeeded with warnings: {}", messages);
@@ -321,22 +326,14 @@ public class ProcessExecutor {
                         throw new IOException(
                                 "Command process failed with exit code "
                                         + exitCode
-                                        + ". Error message: "
-                                        + errorMessage);
+                                        + "\nLogs: "
+                                        + messages);
                     }
                 }
-            }
 
-            if (exitCode != 0) {
-                if (isQpdf && exitCode == 3) {
-                    log.warn("qpdf succeeded with warnings: {}", messages);
-                } else {
-                    throw new IOException(
-                            "Command process failed with exit code "
-                                    + exitCode
-                                    + "\nLogs: "
-                                    + messages);
-                }
+                // Full logs are only kept around for failed runs
+                errorCapture.discardSpillFile();
+                outputCapture.discardSpillFile();
             }
         } finally {
             if (useSemaphore) {
@@ -349,6 +346,66 @@ public class ProcessExecutor {
         return new ProcessExecutorResult(exitCode, messages);
     }
 
+    private void readStream(InputStream stream, ProcessOutputCapture capture) {
+        try (BufferedReader reader =
+                new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = BoundedLineReader.readLine(reader, 5_000_000)) != null) {
+                capture.append(line);
+                if (liveUpdates) log.info(line);
+            }
+        } catch (InterruptedIOException e) {
+            log.warn("Reader thread was interrupted due to timeout.");
+        } catch (IOException e) {
+            log.error("exception", e);
+        }
+    }
+
+    /**
+     * Publishes parsed page progress as notes on the current async job, if there is one. The job
+     * ID is captured here because the reader threads do not inherit the caller's {@link
+     * JobContext}.
+     */
+    private Consumer<String> createProgressListener() {
+        String jobId = JobContext.getJobId();
+        if (jobId == null) {
+            return null;
+        }
+        TaskManager taskManager = ApplicationContextProvider.getBean(TaskManager.class);
+        if (taskManager == null) {
+            return null;
+        }
+        return note -> taskManager.addNote(jobId, note);
+    }
+
+    private ProcessExecutorResult runWithPythonWorker(List<String> command, File workingDirectory)
+            throws IOException, InterruptedException {
+        log.info("Running command on Python worker: {}", String.join(" ", command));
+        PythonWorkerPool.WorkerResult result =
+                pythonWorkerPool.execute(
+                        command, workingDirectory, timeoutDuration, TimeUnit.MINUTES);
+        String messages = result.output() + result.error();
+        if (liveUpdates && !messages.isEmpty()) {
+            log.info(messages);
+        }
+        if (result.rc() != 0) {
+            throw new IOException(
+                    "Command process failed with exit code "
+                            + result.rc()
+                            + ". Error message: "
+                            + result.error());
+        }
+        return new ProcessExecutorResult(result.rc(), messages);
+    }
+
+    private boolean shouldUsePythonWorker(List<String> command) {
+        PythonWorkerPool pool = pythonWorkerPool;
+        return processType == Processes.PYTHON_OPENCV
+                && pool != null
+                && pool.isAvailable()
+                && PythonWorkerPool.isScriptCommand(command);
+    }
+
     private boolean shouldUseUnoServerPool(List<String> command) {
         if (processType != Processes.LIBRE_OFFICE || unoServerPool == null) {
             return false;
@@ -0,0 +1,204 @@
+package stirling.software.common.util;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bounded capture of an external process' output.
+ *
+ * <p>The most recent lines are kept in memory up to {@code maxBufferedChars} so they can be used
+ * for error reporting and pattern checks. Once that bound is exceeded the complete log is spilled
+ * to a managed temp file (when a {@link TempFileManager} is available) and only the tail is kept
+ * on heap. Lines that look like page progress ("Page 3 of 10", Ghostscript's "Processing pages 1
+ * through 10." followed by "Page 3") are reported to an optional progress listener.
+ *
+ * <p>Each stream gets its own instance, filled by that stream's reader thread. The methods are
+ * synchronized because the caller reads the tail or the spill file from another thread, possibly
+ * while the reader is still appending.
+ */
+@Slf4j
+public class ProcessOutputCapture implements AutoCloseable {
+
+    public static final int DEFAULT_MAX_BUFFERED_CHARS = 256 * 1024;
+
+    private static final Pattern PAGE_OF_PATTERN =
+            Pattern.compile("(?i)\\bpages?\\s+(\\d+)\\s*(?:of|/)\\s*(\\d+)");
+    private static final Pattern PAGE_RANGE_PATTERN =
+            Pattern.compile("(?i)\\bprocessing pages\\s+(\\d+)\\s+through\\s+(\\d+)");
+    private static final Pattern PAGE_PATTERN = Pattern.compile("^\\s*Page\\s+(\\d+)\\s*$");
+    private static final int PROGRESS_STEP_PERCENT = 5;
+
+    private final int maxBufferedChars;
+    private final TempFileManager tempFileManager;
+    private final Consumer<String> progressListener;
+    private final Deque<String> tail = new ArrayDeque<>();
+    private int tailChars;
+    private long totalLines;
+    private boolean truncated;
+    private Path spillFile;
+    private BufferedWriter spillWriter;
+    private int firstPage = 1;
+    private int totalPages = -1;
+    private int lastReportedPercent = -1;
+
+    public ProcessOutputCapture(
+            int maxBufferedChars,
+            TempFileManager tempFileManager,
+            Consumer<String> progressListener) {
+        this.maxBufferedChars = Math.max(1024, maxBufferedChars);
+        this.tempFileManager = tempFileManager;
+        this.progressListener = progressListener;
+    }
+
+    public synchronized void append(String line) {
+        totalLines++;
+        if (spillWriter != null) {
+            writeToSpill(line);
+        }
+        tail.addLast(line);
+        tailChars += line.length() + 1;
+        while (tailChars > maxBufferedChars && tail.size() > 1) {
+            if (!truncated) {
+                startSpill();
+                truncated = true;
+            }
+            String dropped = tail.removeFirst();
+            tailChars -= dropped.length() + 1;
+        }
+        if (progressListener != null) {
+            parseProgress(line);
+        }
+    }
+
+    /** Returns the retained output, prefixed with a marker if earlier lines were dropped. */
+    public synchronized String getBufferedOutput() {
+        StringBuilder builder = new StringBuilder(tailChars + 128);
+        if (truncated) {
+            builder.append("[... output truncated, ")
+                    .append(totalLines - tail.size())
+                    .append(" earlier lines omitted");
+            if (spillFile != null) {
+                builder.append(", full log: ").append(spillFile);
+            }
+            builder.append(" ...]\n");
+        }
+        builder.append(String.join("\n", tail));
+        return builder.toString();
+    }
+
+    public synchronized boolean isEmpty() {
+        return totalLines == 0;
+    }
+
+    public synchronized boolean isTruncated() {
+        return truncated;
+    }
+
+    /** Path of the spilled full log, or null if the output fit in memory. */
+    public synchronized Path getSpillFile() {
+        return spillFile;
+    }
+
+    /** Deletes the spilled log, if any. */
+    public synchronized void discardSpillFile() {
+        closeSpillWriter();
+        if (spillFile != null && tempFileManager != null) {
+            tempFileManager.deleteTempFile(spillFile);
+        }
+        spillFile = null;
+    }
+
+    @Override
+    public synchronized void close() {
+        closeSpillWriter();
+    }
+
+    private void startSpill() {
+        if (tempFileManager == null) {
+            return;
+        }
+        try {
+            spillFile = tempFileManager.createTempFile(".log").toPath();
+            spillWriter = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8);
+            for (String buffered : tail) {
+                spillWriter.write(buffered);
+                spillWriter.newLine();
+            }
+        } catch (IOException e) {
+            log.warn("Could not spill process output to disk: {}", e.getMessage());
+            closeSpillWriter();
+        }
+    }
+
+    private void writeToSpill(String line) {
+        try {
+            spillWriter.write(line);
+            spillWriter.newLine();
+        } catch (IOException e) {
+            log.warn("Failed writing process output to {}: {}", spillFile, e.getMessage());
+            closeSpillWriter();
+        }
+    }
+
+    private void closeSpillWriter() {
+        if (spillWriter != null) {
+            try {
+                spillWriter.close();
+            } catch (IOException e) {
+                log.debug("Failed closing process output log: {}", e.getMessage());
+            }
+            spillWriter = null;
+        }
+    }
+
+    private void parseProgress(String line) {
+        Matcher pageOf = PAGE_OF_PATTERN.matcher(line);
+        if (pageOf.find()) {
+            reportProgress(Integer.parseInt(pageOf.group(1)), Integer.parseInt(pageOf.group(2)));
+            return;
+        }
+        Matcher range = PAGE_RANGE_PATTERN.matcher(line);
+        if (range.find()) {
+            firstPage = Integer.parseInt(range.group(1));
+            totalPages = Integer.parseInt(range.group(2)) - firstPage + 1;
+            return;
+        }
+        if (totalPages > 0) {
+            Matcher page = PAGE_PATTERN.matcher(line);
+            if (page.matches()) {
+                reportProgress(Integer.parseInt(page.group(1)) - firstPage + 1, totalPages);
+            }
+        }
+    }
+
+    private void reportProgress(int page, int total) {
+        if (total <= 0 || page < 0) {
+            return;
+        }
+        int percent = (int) Math.min(100, (page * 100L) / total);
+        if (lastReportedPercent >= 0
+                && percent < 100
+                && percent - lastReportedPercent < PROGRESS_STEP_PERCENT) {
+            return;
+        }
+        if (percent == lastReportedPercent) {
+            return;
+        }
+        lastReportedPercent = percent;
+        try {
+            progressListener.accept("Processing page " + page + " of " + total);
+        } catch (RuntimeException e) {
+            log.debug("Progress listener failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,318 @@
+package stirling.software.common.util;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import io.github.pixee.security.BoundedLineReader;
+
+import lombok.extern.slf4j.Slf4j;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Pool of long-running Python interpreters that execute the bundled scripts through {@code
+ * python_worker.py}. Each worker imports OpenCV/NumPy/Pillow once and then serves requests over
+ * newline-delimited JSON on stdin/stdout, so a script invocation costs a round trip instead of an
+ * interpreter start.
+ *
+ * <p>Concurrency is bounded by the caller ({@link ProcessExecutor}'s semaphore); the pool only
+ * keeps up to {@code maxIdleWorkers} warm processes around. Workers that die, time out or break
+ * the protocol are destroyed and replaced on the next request.
+ *
+ * <p>A request is only reported as retryable ({@link WorkerUnavailableException}) when it never
+ * reached a worker; once it was sent, a crash fails the call, because the scripts are not
+ * guaranteed to be idempotent. When a worker cannot be started the pool reports itself unavailable
+ * for a backoff that doubles on each further failure, then tries again.
+ */
+@Slf4j
+public class PythonWorkerPool implements AutoCloseable {
+
+    private static final String WORKER_SCRIPT = "python_worker.py";
+    private static final String EOF_MARKER = "\u0000EOF";
+    private static final long STARTUP_TIMEOUT_SECONDS = 60;
+    private static final int MAX_LINE_LENGTH = 50_000_000;
+    private static final long INITIAL_BACKOFF_NANOS = TimeUnit.SECONDS.toNanos(30);
+    private static final long MAX_BACKOFF_NANOS = TimeUnit.MINUTES.toNanos(10);
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+    private final BlockingQueue<PythonWorker> idleWorkers = new LinkedBlockingQueue<>();
+    private final int maxIdleWorkers;
+    private final WorkerScriptLocator workerScript;
+    private final LongSupplier nanoClock;
+
+    private volatile boolean disabled;
+    private volatile long retryAt;
+    private long backoffNanos = INITIAL_BACKOFF_NANOS;
+
+    public PythonWorkerPool(int maxIdleWorkers) {
+        this(maxIdleWorkers, () -> GeneralUtils.extractScript(WORKER_SCRIPT), System::nanoTime);
+    }
+
+    PythonWorkerPool(int maxIdleWorkers, WorkerScriptLocator workerScript, LongSupplier nanoClock) {
+        this.maxIdleWorkers = Math.max(1, maxIdleWorkers);
+        this.workerScript = workerScript;
+        this.nanoClock = nanoClock;
+    }
+
+    /** Locates the worker script; tests substitute their own. */
+    @FunctionalInterface
+    interface WorkerScriptLocator {
+        Path locate() throws IOException;
+    }
+
+    /**
+     * Returns true if the command is a plain {@code python script.py args...} invocation that the
+     * worker can execute in-process.
+     */
+    public static boolean isScriptCommand(List<String> command) {
+        if (command == null || command.size() < 2) {
+            return false;
+        }
+        String executable = command.get(0);
+        String script = command.get(1);
+        if (executable == null || script == null) {
+            return false;
+        }
+        int lastSlash = Math.max(executable.lastIndexOf('/'), executable.lastIndexOf('\\'));
+        String basename = executable.substring(lastSlash + 1).toLowerCase(Locale.ROOT);
+        return basename.startsWith("python")
+                && script.toLowerCase(Locale.ROOT).endsWith(".py")
+                && !script.startsWith("-");
+    }
+
+    /** False while the pool backs off after a worker failed to start. */
+    public boolean isAvailable() {
+        return !disabled || nanoClock.getAsLong() - retryAt >= 0;
+    }
+
+    /**
+     * Executes {@code command} (interpreter, script, args...) on a pooled worker.
+     *
+     * @throws WorkerUnavailableException if no worker could be started or the request could not be
+     *     handed to it; the script has not run, so callers should fall back to spawning a
+     *     dedicated process
+     * @throws IOException if the request timed out or the worker crashed while handling it
+     */
+    public WorkerResult execute(
+            List<String> command, File workingDirectory, long timeout, TimeUnit unit)
+            throws IOException, InterruptedException {
+        String interpreter = command.get(0);
+        PythonWorker worker = borrowWorker(interpreter);
+        boolean reusable = false;
+        try {
+            WorkerResult result =
+                    worker.execute(
+                            command.get(1),
+                            command.subList(2, command.size()),
+                            workingDirectory,
+                            timeout,
+                            unit);
+            reusable = true;
+            return result;
+        } finally {
+            if (reusable) {
+                releaseWorker(worker);
+            } else {
+                worker.destroy();
+            }
+        }
+    }
+
+    private PythonWorker borrowWorker(String interpreter)
+            throws WorkerUnavailableException, InterruptedException {
+        PythonWorker worker;
+        while ((worker = idleWorkers.poll()) != null) {
+            if (worker.isAlive() && worker.interpreter.equals(interpreter)) {
+                return worker;
+            }
+            log.debug("Discarding stale Python worker (pid {})", worker.pid());
+            worker.destroy();
+        }
+        try {
+            worker = PythonWorker.start(interpreter, workerScript.locate(), objectMapper);
+        } catch (IOException e) {
+            long backoff = startFailed();
+            log.warn(
+                    "Persistent Python worker could not be started, falling back to per-call"
+                            + " processes for {}s: {}",
+                    TimeUnit.NANOSECONDS.toSeconds(backoff),
+                    e.getMessage());
+            throw new WorkerUnavailableException("Python worker could not be started", e);
+        }
+        startSucceeded();
+        return worker;
+    }
+
+    /** Backs off from starting workers and returns how long for. */
+    private synchronized long startFailed() {
+        long backoff = backoffNanos;
+        retryAt = nanoClock.getAsLong() + backoff;
+        disabled = true;
+        backoffNanos = Math.min(backoff * 2, MAX_BACKOFF_NANOS);
+        return backoff;
+    }
+
+    private synchronized void startSucceeded() {
+        disabled = false;
+        backoffNanos = INITIAL_BACKOFF_NANOS;
+    }
+
+    private void releaseWorker(PythonWorker worker) {
+        if (!worker.isAlive() || idleWorkers.size() >= maxIdleWorkers) {
+            worker.destroy();
+            return;
+        }
+        idleWorkers.offer(worker);
+    }
+
+    @Override
+    public void close() {
+        PythonWorker worker;
+        while ((worker = idleWorkers.poll()) != null) {
+            worker.destroy();
+        }
+    }
+
+    public record WorkerResult(int rc, String output, String error) {}
+
+    /** Signals that the request never reached a healthy worker and can be retried elsewhere. */
+    public static class WorkerUnavailableException extends IOException {
+        public WorkerUnavailableException(String message) {
+            super(message);
+        }
+
+        public WorkerUnavailableException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+
+    private static final class PythonWorker {
+        private final String interpreter;
+        private final Process process;
+        private final BufferedWriter requestWriter;
+        private final BlockingQueue<String> responses = new LinkedBlockingQueue<>();
+        private final ObjectMapper objectMapper;
+
+        private PythonWorker(String interpreter, Process process, ObjectMapper objectMapper) {
+            this.interpreter = interpreter;
+            this.process = process;
+            this.objectMapper = objectMapper;
+            this.requestWriter =
+                    new BufferedWriter(
+                            new OutputStreamWriter(
+                                    process.getOutputStream(), StandardCharsets.UTF_8));
+            Thread.ofVirtual().start(this::readResponses);
+            Thread.ofVirtual().start(this::drainErrors);
+        }
+
+        static PythonWorker start(String interpreter, Path workerScript, ObjectMapper mapper)
+                throws IOException, InterruptedException {
+            Process process =
+                    new ProcessBuilder(
+                                    interpreter, "-u", workerScript.toAbsolutePath().toString())
+                            .start();
+            PythonWorker worker = new PythonWorker(interpreter, process, mapper);
+            String ready = worker.responses.poll(STARTUP_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            if (ready == null || EOF_MARKER.equals(ready) || !ready.contains("ready")) {
+                worker.destroy();
+                throw new IOException("Python worker did not report ready: " + ready);
+            }
+            log.info("Started persistent Python worker (pid {})", worker.pid());
+            return worker;
+        }
+
+        WorkerResult execute(
+                String script,
+                List<String> args,
+                File workingDirectory,
+                long timeout,
+                TimeUnit unit)
+                throws IOException, InterruptedException {
+            Map<String, Object> request = new LinkedHashMap<>();
+            request.put("script", script);
+            request.put("args", args);
+            request.put(
+                    "cwd", workingDirectory != null ? workingDirectory.getAbsolutePath() : null);
+            try {
+                requestWriter.write(objectMapper.writeValueAsString(request));
+                requestWriter.newLine();
+                requestWriter.flush();
+            } catch (IOException e) {
+                throw new WorkerUnavailableException("Python worker stdin closed", e);
+            }
+
+            String line = responses.poll(timeout, unit);
+            if (line == null) {
+                throw new IOException("Process timeout exceeded.");
+            }
+            if (EOF_MARKER.equals(line)) {
+                // The request was sent and may have had effects, so it must not be retried
+                throw new IOException("Python worker exited while handling " + script);
+            }
+            JsonNode response = objectMapper.readTree(line);
+            return new WorkerResult(
+                    response.path("rc").asInt(1),
+                    response.path("output").asString(""),
+                    response.path("error").asString(""));
+        }
+
+        boolean isAlive() {
+            return process.isAlive();
+        }
+
+        long pid() {
+            return process.pid();
+        }
+
+        void destroy() {
+            process.descendants().forEach(ProcessHandle::destroyForcibly);
+            process.destroyForcibly();
+        }
+
+        private void readResponses() {
+            try (BufferedReader reader =
+                    new BufferedReader(
+                            new InputStreamReader(
+                                    process.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = BoundedLineReader.readLine(reader, MAX_LINE_LENGTH)) != null) {
+                    responses.offer(line);
+                }
+            } catch (IOException e) {
+                log.debug("Python worker output closed: {}", e.getMessage());
+            } finally {
+                responses.offer(EOF_MARKER);
+            }
+        }
+
+        private void drainErrors() {
+            try (BufferedReader reader =
+                    new BufferedReader(
+                            new InputStreamReader(
+                                    process.getErrorStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = BoundedLineReader.readLine(reader, 5_000_000)) != null) {
+                    log.debug("[python-worker {}] {}", process.pid(), line);
+                }
+            } catch (IOException e) {
+                log.debug("Python worker error stream closed: {}", e.getMessage());
+            }
+        }
+    }
+}
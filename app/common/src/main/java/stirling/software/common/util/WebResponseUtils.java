@@ -6,6 +6,7 @@ import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.springframework.http.HttpHeaders;
@@ -110,6 +111,19 @@ public class WebResponseUtils {
         return fileToWebResponse(outputTempFile, docName, MediaType.APPLICATION_OCTET_STREAM);
     }
 
+    /**
+     * Convert the files of a multi-file result to a web response. The files are streamed as a ZIP
+     * with STORED entries; async jobs register them individually instead.
+     *
+     * @param parts The files, in the order they are delivered.
+     * @param zipName The name of the ZIP.
+     * @return A ResponseEntity whose body is a {@link MultiFileResponseBody}.
+     */
+    public static ResponseEntity<StreamingResponseBody> multiFileToWebResponse(
+            List<MultiFileResponseBody.Part> parts, String zipName) throws IOException {
+        return new MultiFileResponseBody(parts, zipName).toZipResponse();
+    }
+
     /**
      * Convert a File to a web response with explicit media type (e.g., ZIP).
      *
@@ -21,6 +21,7 @@ import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 
 import stirling.software.common.model.api.PDFFile;
+import stirling.software.common.util.PathMultipartFile;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
@@ -109,6 +110,18 @@ class CustomPDFDocumentFactoryTest {
         }
     }
 
+    @Test
+    void testLoadFromPathMultipartFileKeepsFile() throws IOException {
+        File file = writeTempFile(inflatePdf(basePdfBytes, 20));
+        PathMultipartFile multipart = new PathMultipartFile("doc.pdf", file.toPath());
+        try (PDDocument doc = factory.load(multipart)) {
+            assertNotNull(doc);
+            Assertions.assertEquals(StrategyType.MIXED, factory.lastStrategyUsed);
+        }
+        assertTrue(file.exists());
+        Files.delete(file.toPath());
+    }
+
     @Test
     void testLoadFromStringPath() throws IOException {
         File file = writeTempFile(inflatePdf(basePdfBytes, 5));
@@ -11,18 +11,17 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InjectMocks;
-import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.http.MediaType;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.multipart.MultipartFile;
 
+import stirling.software.common.util.PathMultipartFile;
+
 class FileStorageTest {
 
     @TempDir Path tempDir;
 
-    @Mock private FileOrUploadService fileOrUploadService;
-
     @InjectMocks private FileStorage fileStorage;
 
     private MultipartFile mockFile;
@@ -86,16 +85,20 @@ class FileStorageTest {
         Path filePath = tempDir.resolve(fileId);
         Files.write(filePath, fileContent);
 
-        MultipartFile expectedFile = mock(MultipartFile.class);
-        when(fileOrUploadService.toMockMultipartFile(eq(fileId), eq(fileContent)))
-                .thenReturn(expectedFile);
-
         // Act
         MultipartFile result = fileStorage.retrieveFile(fileId);
 
         // Assert
-        assertSame(expectedFile, result);
-        verify(fileOrUploadService).toMockMultipartFile(eq(fileId), eq(fileContent));
+        PathMultipartFile pathFile = assertInstanceOf(PathMultipartFile.class, result);
+        assertEquals(filePath, pathFile.getPath());
+        assertEquals(fileId, result.getOriginalFilename());
+        assertEquals(fileContent.length, result.getSize());
+        assertArrayEquals(fileContent, result.getBytes());
+
+        Path copy = tempDir.resolve("copy.pdf");
+        result.transferTo(copy.toFile());
+        assertArrayEquals(fileContent, Files.readAllBytes(copy));
+        assertTrue(Files.exists(filePath));
     }
 
     @Test
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 
 import org.junit.jupiter.api.AfterEach;
@@ -218,23 +219,10 @@ class TaskManagerTest {
         // Capture test time at the beginning for deterministic calculations
         final LocalDateTime testTime = LocalDateTime.now();
         // Arrange
-        // 1. Create a recent completed job
-        String recentJobId = "recent-job";
-        taskManager.createTask(recentJobId);
-        taskManager.setResult(recentJobId, "Result");
-
-        // 2. Create an old completed job with file result
+        // 1. Create an old completed job with file result. Jobs expire in the order they
+        // completed, so it completes first.
         String oldJobId = "old-job";
         taskManager.createTask(oldJobId);
-        JobResult oldJob = taskManager.getJobResult(oldJobId);
-
-        // Manually set the completion time to be older than the expiry (relative to test start
-        // time)
-        LocalDateTime oldTime = testTime.minusHours(1);
-        ReflectionTestUtils.setField(oldJob, "completedAt", oldTime);
-        ReflectionTestUtils.setField(oldJob, "complete", true);
-
-        // Create a ResultFile and set it using the new approach
         ResultFile resultFile =
                 ResultFile.builder()
                         .fileId("file-id")
@@ -242,10 +230,21 @@ class TaskManagerTest {
                         .contentType(MediaType.APPLICATION_PDF_VALUE)
                         .fileSize(1024L)
                         .build();
-        ReflectionTestUtils.setField(oldJob, "resultFiles", java.util.List.of(resultFile));
+        taskManager.setMultipleFileResults(oldJobId, List.of(resultFile));
+
+        // Manually set the completion time to be older than the expiry (relative to test start
+        // time)
+        JobResult oldJob = taskManager.getJobResult(oldJobId);
+        LocalDateTime oldTime = testTime.minusHours(1);
+        ReflectionTestUtils.setField(oldJob, "completedAt", oldTime);
 
         when(fileStorage.deleteFile("file-id")).thenReturn(true);
 
+        // 2. Create a recent completed job
+        String recentJobId = "recent-job";
+        taskManager.createTask(recentJobId);
+        taskManager.setResult(recentJobId, "Result");
+
         // Obtain access to the private jobResults map
         Map<String, JobResult> jobResultsMap =
                 (Map<String, JobResult>) ReflectionTestUtils.getField(taskManager, "jobResults");
@@ -259,6 +258,7 @@ class TaskManagerTest {
         assertTrue(jobResultsMap.containsKey(recentJobId));
         assertTrue(jobResultsMap.containsKey(oldJobId));
         assertTrue(jobResultsMap.containsKey(activeJobId));
+        assertEquals(oldJobId, taskManager.findJobKeyByFileId("file-id"));
 
         // Act
         taskManager.cleanupOldJobs();
@@ -268,6 +268,41 @@ class TaskManagerTest {
         assertTrue(jobResultsMap.containsKey(recentJobId));
         assertTrue(jobResultsMap.containsKey(activeJobId));
         verify(fileStorage).deleteFile("file-id");
+        assertNull(taskManager.findJobKeyByFileId("file-id"));
+        assertNull(taskManager.findResultFileByFileId("file-id"));
+    }
+
+    @Test
+    void testFindResultFileByFileId() throws Exception {
+        // Arrange
+        String jobId = "files-job";
+        taskManager.createTask(jobId);
+        ResultFile first = ResultFile.builder().fileId("first").fileName("a.pdf").build();
+        ResultFile second = ResultFile.builder().fileId("second").fileName("b.pdf").build();
+        taskManager.setMultipleFileResults(jobId, List.of(first, second));
+
+        String singleJobId = "single-job";
+        taskManager.createTask(singleJobId);
+        when(fileStorage.getFileSize("single")).thenReturn(10L);
+        taskManager.setFileResult(
+                singleJobId, "single", "single.pdf", MediaType.APPLICATION_PDF_VALUE);
+
+        // Act & Assert
+        assertSame(second, taskManager.findResultFileByFileId("second"));
+        assertEquals(jobId, taskManager.findJobKeyByFileId("first"));
+        assertEquals("single.pdf", taskManager.findResultFileByFileId("single").getFileName());
+        assertEquals(singleJobId, taskManager.findJobKeyByFileId("single"));
+        assertNull(taskManager.findResultFileByFileId("unknown"));
+        assertNull(taskManager.findJobKeyByFileId("unknown"));
+
+        // Replacing the files of a job drops the old ones from the index
+        taskManager.setMultipleFileResults(jobId, List.of(first));
+        assertNull(taskManager.findJobKeyByFileId("second"));
+        assertEquals(jobId, taskManager.findJobKeyByFileId("first"));
+
+        // So does recreating the job
+        taskManager.createTask(jobId);
+        assertNull(taskManager.findJobKeyByFileId("first"));
     }
 
     @Test
@@ -310,4 +345,26 @@ class TaskManagerTest {
         // Assert
         assertFalse(result);
     }
+
+    @Test
+    void testJobListenerReceivesNotesAndCompletion() {
+        // Arrange
+        String jobId = "test-job-9";
+        taskManager.createTask(jobId);
+        TaskManager.JobListener listener = mock(TaskManager.JobListener.class);
+        taskManager.addJobListener(jobId, listener);
+
+        // Act
+        taskManager.addNote(jobId, "Halfway there");
+        taskManager.setResult(jobId, "done");
+
+        // Assert
+        verify(listener).onNote(jobId, "Halfway there");
+        verify(listener).onComplete(jobId, taskManager.getJobResult(jobId));
+
+        // A removed listener hears nothing more
+        taskManager.removeJobListener(jobId, listener);
+        taskManager.addNote(jobId, "After completion");
+        verifyNoMoreInteractions(listener);
+    }
 }
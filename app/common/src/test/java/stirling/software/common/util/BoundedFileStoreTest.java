@@ -0,0 +1,86 @@
+package stirling.software.common.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BoundedFileStoreTest {
+
+    private static final String SUFFIX = ".entry";
+
+    @TempDir Path dir;
+
+    private BoundedFileStore open(long maxBytes) throws IOException {
+        return new BoundedFileStore(dir, SUFFIX, maxBytes, "Test store");
+    }
+
+    private long fileCount() throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            return files.filter(Files::isRegularFile).count();
+        }
+    }
+
+    @Test
+    void leastRecentlyReadEntryIsEvictedFirst() throws IOException {
+        BoundedFileStore store = open(10);
+
+        store.put("aa11", new byte[] {1, 0, 0, 0});
+        store.put("bb22", new byte[4]);
+        assertEquals(1, store.get("aa11")[0]);
+        assertTrue(store.put("cc33", new byte[4]));
+
+        assertNotNull(store.get("aa11"));
+        assertNull(store.get("bb22"));
+        assertNotNull(store.get("cc33"));
+        assertEquals(8, store.getSizeBytes());
+        assertEquals(1, store.getEvictionCount());
+        assertEquals(2, fileCount());
+    }
+
+    @Test
+    void reopenedStoreKeepsModificationTimeOrder() throws IOException {
+        BoundedFileStore store = open(12);
+        store.put("aa11", new byte[] {7, 7, 7, 7});
+        store.put("bb22", new byte[4]);
+        store.put("cc33", new byte[4]);
+        Files.setLastModifiedTime(dir.resolve("aa/aa11" + SUFFIX), FileTime.fromMillis(3_000));
+        Files.setLastModifiedTime(dir.resolve("bb/bb22" + SUFFIX), FileTime.fromMillis(1_000));
+        Files.setLastModifiedTime(dir.resolve("cc/cc33" + SUFFIX), FileTime.fromMillis(2_000));
+
+        BoundedFileStore reopened = open(8);
+
+        assertEquals(2, reopened.getEntryCount());
+        assertArrayEquals(new byte[] {7, 7, 7, 7}, reopened.get("aa11"));
+        assertNull(reopened.get("bb22"));
+        assertNotNull(reopened.get("cc33"));
+        assertEquals(2, fileCount());
+    }
+
+    @Test
+    void unfinishedWritesAreRemovedOnOpen() throws IOException {
+        Files.createDirectories(dir.resolve("aa"));
+        Files.write(dir.resolve("aa/aa11123.tmp"), new byte[4]);
+
+        BoundedFileStore store = open(10);
+
+        assertEquals(0, store.getEntryCount());
+        assertEquals(0, fileCount());
+    }
+
+    @Test
+    void entryLargerThanBoundIsRejected() throws IOException {
+        BoundedFileStore store = open(4);
+
+        assertFalse(store.put("aa11", new byte[5]));
+
+        assertNull(store.get("aa11"));
+        assertEquals(0, fileCount());
+    }
+}
@@ -0,0 +1,130 @@
+package stirling.software.common.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import stirling.software.common.model.ApplicationProperties;
+
+class MultiFileResponseBodyTest {
+
+    @TempDir Path tempDir;
+
+    private TempFileManager tempFileManager;
+
+    @BeforeEach
+    void setUp() {
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.getSystem().getTempFileManagement().setBaseTmpDir(tempDir.toString());
+        tempFileManager = new TempFileManager(new TempFileRegistry(), applicationProperties);
+    }
+
+    private List<MultiFileResponseBody.Part> parts(String... contents) throws IOException {
+        List<MultiFileResponseBody.Part> parts = new ArrayList<>();
+        for (int i = 0; i < contents.length; i++) {
+            TempFile file = new TempFile(tempFileManager, ".pdf");
+            Files.writeString(file.getPath(), contents[i]);
+            parts.add(
+                    new MultiFileResponseBody.Part(
+                            "part_" + (i + 1) + ".pdf", MediaType.APPLICATION_PDF_VALUE, file));
+        }
+        return parts;
+    }
+
+    @Test
+    void writesStoredZipInPartOrderAndDeletesParts() throws IOException {
+        List<MultiFileResponseBody.Part> parts = parts("first", "second", "third");
+        MultiFileResponseBody body = new MultiFileResponseBody(parts, "out.zip");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        body.writeTo(out);
+
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            for (String expected : List.of("first", "second", "third")) {
+                ZipEntry entry = zip.getNextEntry();
+                assertNotNull(entry);
+                assertEquals(ZipEntry.STORED, entry.getMethod());
+                assertEquals(expected, new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+            assertNull(zip.getNextEntry());
+        }
+        for (MultiFileResponseBody.Part part : parts) {
+            assertFalse(part.file().exists());
+        }
+    }
+
+    @Test
+    void multipartResponseDeclaresItsLength() throws IOException {
+        ResponseEntity<StreamingResponseBody> response =
+                new MultiFileResponseBody(parts("one", "two"), "out.zip").toMultipartResponse();
+
+        HttpHeaders headers = response.getHeaders();
+        MediaType contentType = headers.getContentType();
+        assertNotNull(contentType);
+        assertTrue(contentType.isCompatibleWith(MediaType.MULTIPART_MIXED));
+        String boundary = contentType.getParameter("boundary");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+        String body = out.toString(StandardCharsets.ISO_8859_1);
+
+        assertEquals(headers.getContentLength(), out.size());
+        assertTrue(body.startsWith("--" + boundary + "\r\n"));
+        assertTrue(body.endsWith("--" + boundary + "--\r\n"));
+        assertTrue(body.contains("filename=\"part_2.pdf\""));
+        assertTrue(body.contains("Content-Length: 3\r\n\r\ntwo\r\n"));
+    }
+
+    @Test
+    void zipResponseDeclaresItsLength() throws IOException {
+        List<MultiFileResponseBody.Part> parts = parts("first", "");
+        TempFile umlauts = new TempFile(tempFileManager, ".pdf");
+        Files.write(umlauts.getPath(), new byte[1000]);
+        parts.add(
+                new MultiFileResponseBody.Part(
+                        "Übersicht_3.pdf", MediaType.APPLICATION_PDF_VALUE, umlauts));
+
+        ResponseEntity<StreamingResponseBody> response =
+                new MultiFileResponseBody(parts, "out.zip").toZipResponse();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+        assertEquals(out.size(), response.getHeaders().getContentLength());
+    }
+
+    @Test
+    void zipLengthIsLeftOpenWhenZip64IsNeeded() {
+        assertEquals(
+                -1, MultiFileResponseBody.storedZipLength(List.of("large.pdf"), List.of(1L << 32)));
+        assertEquals(
+                22 + 2 * (30 + 46 + 5) + 7,
+                MultiFileResponseBody.storedZipLength(List.of("a.pdf", "b.pdf"), List.of(3L, 4L)));
+    }
+
+    @Test
+    void detectsMultipartMixedInAcceptHeader() {
+        assertTrue(
+                MultiFileResponseBody.acceptsMultipartMixed(
+                        "application/zip;q=0.5, multipart/mixed"));
+        assertFalse(MultiFileResponseBody.acceptsMultipartMixed("*/*"));
+        assertFalse(MultiFileResponseBody.acceptsMultipartMixed(null));
+        assertFalse(MultiFileResponseBody.acceptsMultipartMixed("not a media type"));
+    }
+}
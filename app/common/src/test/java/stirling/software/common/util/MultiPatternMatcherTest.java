@@ -0,0 +1,94 @@
+package stirling.software.common.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class MultiPatternMatcherTest {
+
+    private static List<String> matched(MultiPatternMatcher matcher, String text) {
+        return matcher.findAll(text).stream().map(m -> text.substring(m.start(), m.end())).toList();
+    }
+
+    @Test
+    void literalTermsAreFoundInOrder() {
+        MultiPatternMatcher matcher =
+                MultiPatternMatcher.compile(List.of("secret", "John"), false, false, true);
+
+        assertEquals(
+                List.of("John", "secret", "SECRET"),
+                matched(matcher, "John keeps a secret. SECRET!"));
+    }
+
+    @Test
+    void overlappingTermsAreAllReported() {
+        MultiPatternMatcher matcher =
+                MultiPatternMatcher.compile(List.of("he", "she", "hers"), false, false, false);
+
+        List<MultiPatternMatcher.Match> matches = matcher.findAll("ushers");
+
+        assertEquals(3, matches.size());
+        assertEquals(List.of("she", "he", "hers"), matched(matcher, "ushers"));
+    }
+
+    @Test
+    void termsAreTrimmedAndDeduplicated() {
+        MultiPatternMatcher matcher =
+                MultiPatternMatcher.compile(
+                        List.of(" secret ", "secret", "", "  "), false, false, true);
+
+        assertEquals(List.of("secret"), matcher.getTerms());
+        assertTrue(MultiPatternMatcher.compile(List.of(" "), false, false, true).isEmpty());
+    }
+
+    @Test
+    void wholeWordLiteralSkipsPartialWords() {
+        MultiPatternMatcher matcher =
+                MultiPatternMatcher.compile(List.of("cat"), false, true, true);
+
+        assertEquals(List.of("cat", "Cat"), matched(matcher, "cat concatenate Cat cats"));
+    }
+
+    @Test
+    void wholeWordSingleDigitIgnoresDecimals() {
+        MultiPatternMatcher matcher = MultiPatternMatcher.compile(List.of("1"), false, true, true);
+
+        List<MultiPatternMatcher.Match> matches = matcher.findAll("1.5 and 1 and 21");
+
+        assertEquals(1, matches.size());
+        assertEquals(8, matches.get(0).start());
+    }
+
+    @Test
+    void regexTermsAreMatchedIndividually() {
+        MultiPatternMatcher matcher =
+                MultiPatternMatcher.compile(
+                        List.of("\\d{3}-\\d{2}-\\d{4}", "\\d{2}-\\d{4}"), true, false, true);
+
+        List<MultiPatternMatcher.Match> matches = matcher.findAll("SSN 123-45-6789");
+
+        assertEquals(2, matches.size());
+        assertEquals(0, matches.get(0).patternIndex());
+        assertEquals(1, matches.get(1).patternIndex());
+        assertTrue(matcher.containsMatch("SSN 123-45-6789"));
+        assertFalse(matcher.containsMatch("no numbers here"));
+    }
+
+    @Test
+    void invalidRegexIsSkipped() {
+        MultiPatternMatcher matcher =
+                MultiPatternMatcher.compile(List.of("[invalid(", "valid"), true, false, true);
+
+        assertEquals(List.of("valid"), matched(matcher, "a valid text"));
+    }
+
+    @Test
+    void literalMatcherIsCaseSensitive() {
+        MultiPatternMatcher matcher = MultiPatternMatcher.literal("Hello");
+
+        assertTrue(matcher.containsMatch("say Hello"));
+        assertFalse(matcher.containsMatch("say hello"));
+    }
+}
@@ -0,0 +1,97 @@
+package stirling.software.common.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class PageTextIndexTest {
+
+    @AfterEach
+    void tearDown() {
+        PageTextIndex.clearSharedIndexes();
+    }
+
+    private static byte[] createPdf(String... pageTexts) throws IOException {
+        try (PDDocument doc = new PDDocument()) {
+            for (String text : pageTexts) {
+                PDPage page = new PDPage();
+                doc.addPage(page);
+                try (PDPageContentStream cs = new PDPageContentStream(doc, page)) {
+                    cs.beginText();
+                    cs.setFont(new PDType1Font(Standard14Fonts.FontName.HELVETICA), 12);
+                    cs.newLineAtOffset(100, 700);
+                    cs.showText(text);
+                    cs.endText();
+                }
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            doc.save(out);
+            return out.toByteArray();
+        }
+    }
+
+    @Test
+    void extractsPageTextWithBounds() throws IOException {
+        try (PDDocument doc = Loader.loadPDF(createPdf("first page", "second page"))) {
+            PageTextIndex index = PageTextIndex.of(doc);
+
+            PageTextIndex.PageText page = index.getPage(doc, 1);
+
+            assertEquals("second page", page.text().trim());
+            assertTrue(page.hasBounds(0));
+            assertFalse(page.hasBounds(page.boundsLength()));
+            assertTrue(page.maxX(0) > page.minX(0));
+            assertFalse(index.isComplete());
+            String text = index.getText(doc);
+            assertTrue(text.startsWith("first page"));
+            assertTrue(text.contains("second page"));
+            assertTrue(index.isComplete());
+        }
+    }
+
+    @Test
+    void sameDocumentReusesIndex() throws IOException {
+        try (PDDocument doc = Loader.loadPDF(createPdf("text"))) {
+            assertSame(PageTextIndex.of(doc), PageTextIndex.of(doc));
+            assertEquals(0, PageTextIndex.getSharedIndexCount());
+        }
+    }
+
+    @Test
+    void documentsBoundToSameContentShareIndex() throws IOException {
+        byte[] pdf = createPdf("shared text");
+        try (PDDocument first = Loader.loadPDF(pdf);
+                PDDocument second = Loader.loadPDF(pdf)) {
+            PageTextIndex.bind(first, "key");
+            PageTextIndex.bind(second, "key");
+
+            PageTextIndex.of(first).getPage(first, 0);
+
+            assertSame(PageTextIndex.of(first), PageTextIndex.of(second));
+            assertTrue(PageTextIndex.of(second).isComplete());
+            assertEquals("key", PageTextIndex.getContentKey(second));
+            assertTrue(PageTextIndex.getSharedBytes() > 0);
+        }
+    }
+
+    @Test
+    void getPagesReturnsRequestedRange() throws IOException {
+        try (PDDocument doc = Loader.loadPDF(createPdf("a", "b", "c"))) {
+            List<PageTextIndex.PageText> pages = PageTextIndex.of(doc).getPages(doc, 1, 2);
+
+            assertEquals(
+                    List.of("b", "c"), pages.stream().map(p -> p.text().trim()).toList());
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package stirling.software.common.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.junit.jupiter.api.Test;
+
+class ParallelPageRangesTest {
+
+    @Test
+    void rangeCountKeepsMinimumPagesPerRange() {
+        assertEquals(1, ParallelPageRanges.rangeCount(10, 16));
+        assertEquals(1, ParallelPageRanges.rangeCount(31, 16));
+        int processors = Runtime.getRuntime().availableProcessors();
+        assertEquals(Math.min(processors, 4), ParallelPageRanges.rangeCount(64, 16));
+    }
+
+    @Test
+    void resultsAreMergedInPageOrder() throws IOException {
+        List<String> merged = new ArrayList<>();
+
+        ParallelPageRanges.process(
+                10,
+                3,
+                (startPage, endPage) -> {
+                    if (startPage == 1) {
+                        // The first range finishes last, the merge order must not change
+                        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(50));
+                    }
+                    return startPage + "-" + endPage;
+                },
+                (range, endPage) -> merged.add(range + "@" + endPage));
+
+        assertEquals(List.of("1-4@4", "5-8@8", "9-10@10"), merged);
+    }
+
+    @Test
+    void ioExceptionOfARangeIsRethrown() {
+        IOException failure = new IOException("Damaged page");
+
+        IOException thrown =
+                assertThrows(
+                        IOException.class,
+                        () ->
+                                ParallelPageRanges.process(
+                                        40,
+                                        4,
+                                        (startPage, endPage) -> {
+                                            if (startPage > 1) {
+                                                throw failure;
+                                            }
+                                            return startPage;
+                                        },
+                                        (range, endPage) -> {}));
+
+        assertSame(failure, thrown);
+    }
+
+    @Test
+    void otherFailuresAreWrapped() {
+        IOException thrown =
+                assertThrows(
+                        IOException.class,
+                        () ->
+                                ParallelPageRanges.process(
+                                        40,
+                                        4,
+                                        (startPage, endPage) -> {
+                                            throw new IllegalStateException("Damaged page tree");
+                                        },
+                                        (range, endPage) -> {}));
+
+        assertInstanceOf(IllegalStateException.class, thrown.getCause());
+    }
+}
@@ -0,0 +1,142 @@
+package stirling.software.common.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import stirling.software.common.model.ApplicationProperties;
+
+class ParallelPartWriterTest {
+
+    @TempDir Path tempDir;
+
+    private TempFileManager tempFileManager;
+
+    @BeforeEach
+    void setUp() {
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.getSystem().getTempFileManagement().setBaseTmpDir(tempDir.toString());
+        tempFileManager = new TempFileManager(new TempFileRegistry(), applicationProperties);
+    }
+
+    private static byte[] content(int index) {
+        return ("content of part " + index).repeat(index + 1).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private List<Path> leftoverParts() throws IOException {
+        try (Stream<Path> files = Files.walk(tempDir)) {
+            return files.filter(file -> file.toString().endsWith(".part")).toList();
+        }
+    }
+
+    /** Counts how often worker contexts are opened and closed. */
+    private static final class CountingContext implements Closeable {
+        private final AtomicInteger closed;
+
+        CountingContext(AtomicInteger opened, AtomicInteger closed) {
+            opened.incrementAndGet();
+            this.closed = closed;
+        }
+
+        @Override
+        public void close() {
+            closed.incrementAndGet();
+        }
+    }
+
+    @Test
+    void partsAreReturnedInRequestedOrder() throws Exception {
+        AtomicInteger opened = new AtomicInteger();
+        AtomicInteger closed = new AtomicInteger();
+        List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+
+        List<TempFile> parts =
+                ParallelPartWriter.writeParts(
+                        40,
+                        ".part",
+                        4,
+                        tempFileManager,
+                        () -> new CountingContext(opened, closed),
+                        (context, index, out) -> {
+                            threads.add(Thread.currentThread());
+                            if (index % 5 == 0) {
+                                // Early parts finish late without reordering the result
+                                try {
+                                    Thread.sleep(5);
+                                } catch (InterruptedException e) {
+                                    Thread.currentThread().interrupt();
+                                }
+                            }
+                            out.write(content(index));
+                        });
+
+        assertEquals(40, parts.size());
+        for (int i = 0; i < parts.size(); i++) {
+            assertArrayEquals(content(i), Files.readAllBytes(parts.get(i).getPath()));
+        }
+        assertTrue(opened.get() >= 1 && opened.get() <= 4);
+        assertEquals(opened.get(), closed.get());
+        assertFalse(threads.contains(Thread.currentThread()));
+
+        parts.forEach(TempFile::close);
+        assertTrue(leftoverParts().isEmpty());
+    }
+
+    @Test
+    void noPartsOpenNoContext() throws Exception {
+        AtomicInteger opened = new AtomicInteger();
+        AtomicInteger closed = new AtomicInteger();
+
+        List<TempFile> parts =
+                ParallelPartWriter.writeParts(
+                        0,
+                        ".part",
+                        4,
+                        tempFileManager,
+                        () -> new CountingContext(opened, closed),
+                        (context, index, out) -> out.write(content(index)));
+
+        assertTrue(parts.isEmpty());
+        assertEquals(0, opened.get());
+    }
+
+    @Test
+    void failedPartStopsWritingAndCleansUp() throws IOException {
+        AtomicInteger opened = new AtomicInteger();
+        AtomicInteger closed = new AtomicInteger();
+
+        IOException e =
+                assertThrows(
+                        IOException.class,
+                        () ->
+                                ParallelPartWriter.writeParts(
+                                        20,
+                                        ".part",
+                                        3,
+                                        tempFileManager,
+                                        () -> new CountingContext(opened, closed),
+                                        (context, index, out) -> {
+                                            if (index == 7) {
+                                                throw new IOException("broken part");
+                                            }
+                                            out.write(content(index));
+                                        }));
+
+        assertEquals("broken part", e.getMessage());
+        assertEquals(opened.get(), closed.get());
+        assertTrue(leftoverParts().isEmpty());
+    }
+}
@@ -0,0 +1,75 @@
+package stirling.software.common.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Calendar;
+import java.util.List;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PdfInspectorTest {
+
+    @TempDir Path tempDir;
+
+    private static byte[] createPdf() throws IOException {
+        try (PDDocument doc = new PDDocument()) {
+            doc.addPage(new PDPage(PDRectangle.A4));
+            PDPage cropped = new PDPage(PDRectangle.LETTER);
+            cropped.setCropBox(new PDRectangle(100, 200));
+            doc.addPage(cropped);
+            Calendar modified = Calendar.getInstance();
+            modified.setTimeInMillis(1_700_000_000_000L);
+            doc.getDocumentInformation().setModificationDate(modified);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            doc.save(out);
+            return out.toByteArray();
+        }
+    }
+
+    @Test
+    void readsDocumentFactsFromMemory() throws IOException {
+        try (PdfInspector inspector = PdfInspector.open(createPdf())) {
+            assertEquals(2, inspector.getPageCount());
+            assertFalse(inspector.isEncrypted());
+            assertNull(inspector.getEncryption());
+            assertEquals(PDRectangle.LETTER.getWidth(), inspector.getMediaBox(1).getWidth());
+            assertEquals(
+                    1_700_000_000_000L,
+                    inspector.getDocumentInformation().getModificationDate().getTimeInMillis());
+
+            List<PDRectangle> boxes = inspector.getPageBoxes();
+            assertEquals(2, boxes.size());
+            assertEquals(PDRectangle.A4.getHeight(), boxes.get(0).getHeight());
+            assertEquals(100, boxes.get(1).getWidth());
+        }
+    }
+
+    @Test
+    void mappedFileIsKeptOrDeletedAsRequested() throws IOException {
+        Path kept = Files.write(tempDir.resolve("kept.pdf"), createPdf());
+        Path owned = Files.write(tempDir.resolve("owned.pdf"), createPdf());
+
+        try (PdfInspector inspector = PdfInspector.open(kept)) {
+            assertEquals(2, inspector.getPageCount());
+        }
+        try (PdfInspector inspector = PdfInspector.openAndDelete(owned)) {
+            assertEquals(2, inspector.getPageCount());
+        }
+
+        assertTrue(Files.exists(kept));
+        assertFalse(Files.exists(owned));
+    }
+
+    @Test
+    void invalidInputFails() {
+        assertThrows(IOException.class, () -> PdfInspector.open("not a pdf".getBytes()));
+    }
+}
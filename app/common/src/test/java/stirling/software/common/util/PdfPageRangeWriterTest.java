@@ -0,0 +1,187 @@
+package stirling.software.common.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.pdfwriter.compress.CompressParameters;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDDocumentInformation;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.encryption.AccessPermission;
+import org.apache.pdfbox.pdmodel.encryption.StandardProtectionPolicy;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PdfPageRangeWriterTest {
+
+    @TempDir Path tempDir;
+
+    /** Pages are 100, 101, ... points wide and show "Page n"; page 2 carries a large stream. */
+    private static byte[] createPdf(int pages, CompressParameters compression) throws IOException {
+        try (PDDocument doc = new PDDocument()) {
+            PDType1Font font = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+            for (int i = 0; i < pages; i++) {
+                PDPage page = new PDPage(new PDRectangle(100 + i, 200));
+                doc.addPage(page);
+                try (PDPageContentStream content = new PDPageContentStream(doc, page)) {
+                    content.beginText();
+                    content.setFont(font, 12);
+                    content.newLineAtOffset(10, 100);
+                    content.showText("Page " + (i + 1));
+                    content.endText();
+                    if (i == 1) {
+                        for (int j = 0; j < 20_000; j++) {
+                            content.addComment("padding " + j);
+                        }
+                    }
+                }
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            doc.save(out, compression);
+            return out.toByteArray();
+        }
+    }
+
+    private static byte[] write(PdfPageRangeWriter writer, List<Integer> pages)
+            throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.writePages(pages, out);
+        return out.toByteArray();
+    }
+
+    private static String text(PDDocument doc, int pageNumber) throws IOException {
+        PDFTextStripper stripper = new PDFTextStripper();
+        stripper.setStartPage(pageNumber);
+        stripper.setEndPage(pageNumber);
+        return stripper.getText(doc).trim();
+    }
+
+    @Test
+    void writesSelectedPagesInOrderWithRepeats() throws IOException {
+        List<CompressParameters> compressions =
+                List.of(CompressParameters.NO_COMPRESSION, CompressParameters.DEFAULT_COMPRESSION);
+        for (CompressParameters compression : compressions) {
+            try (PdfPageRangeWriter writer = PdfPageRangeWriter.open(createPdf(4, compression))) {
+                assertEquals(4, writer.getPageCount());
+
+                byte[] output = write(writer, List.of(3, 0, 3));
+
+                try (PDDocument result = Loader.loadPDF(output)) {
+                    assertEquals(3, result.getNumberOfPages());
+                    assertEquals(103, result.getPage(0).getMediaBox().getWidth());
+                    assertEquals(100, result.getPage(1).getMediaBox().getWidth());
+                    assertEquals("Page 4", text(result, 1));
+                    assertEquals("Page 1", text(result, 2));
+                    assertEquals("Page 4", text(result, 3));
+                }
+            }
+        }
+    }
+
+    @Test
+    void copiesOnlyObjectsReachedFromSelectedPages() throws IOException {
+        byte[] source = createPdf(3, CompressParameters.NO_COMPRESSION);
+        try (PdfPageRangeWriter writer = PdfPageRangeWriter.open(source)) {
+            byte[] withoutPadding = write(writer, List.of(0, 2));
+            byte[] withPadding = write(writer, List.of(1));
+
+            assertTrue(withoutPadding.length < withPadding.length);
+            assertTrue(withoutPadding.length < source.length / 2);
+            try (PDDocument result = Loader.loadPDF(withPadding)) {
+                assertEquals("Page 2", text(result, 1));
+            }
+        }
+    }
+
+    @Test
+    void materializesInheritedAttributes() throws IOException {
+        byte[] source;
+        try (PDDocument doc = new PDDocument()) {
+            doc.addPage(new PDPage());
+            // Rotation set on the page tree root only
+            doc.getPages().getCOSObject().setInt(COSName.ROTATE, 90);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            doc.save(out);
+            source = out.toByteArray();
+        }
+        try (PdfPageRangeWriter writer = PdfPageRangeWriter.open(source);
+                PDDocument result = Loader.loadPDF(write(writer, List.of(0)))) {
+            assertEquals(90, result.getPage(0).getRotation());
+        }
+    }
+
+    @Test
+    void writesOutputInformation() throws IOException {
+        Path file =
+                Files.write(
+                        tempDir.resolve("in.pdf"),
+                        createPdf(2, CompressParameters.NO_COMPRESSION));
+        try (PdfPageRangeWriter writer = PdfPageRangeWriter.open(file)) {
+            PDDocumentInformation info = new PDDocumentInformation();
+            info.setTitle("Part");
+            writer.setOutputInformation(info);
+
+            try (PDDocument result = Loader.loadPDF(write(writer, List.of(1)))) {
+                assertEquals("Part", result.getDocumentInformation().getTitle());
+                assertEquals("Page 2", text(result, 1));
+            }
+        }
+        assertTrue(Files.exists(file));
+    }
+
+    @Test
+    void forkWritesIndependentlyWithSameInformation() throws IOException {
+        Path file =
+                Files.write(
+                        tempDir.resolve("fork.pdf"),
+                        createPdf(3, CompressParameters.DEFAULT_COMPRESSION));
+        try (PdfPageRangeWriter writer = PdfPageRangeWriter.openAndDelete(file)) {
+            PDDocumentInformation info = new PDDocumentInformation();
+            info.setTitle("Forked");
+            writer.setOutputInformation(info);
+
+            try (PdfPageRangeWriter fork = writer.fork()) {
+                assertEquals(3, fork.getPageCount());
+                try (PDDocument result = Loader.loadPDF(write(fork, List.of(2)))) {
+                    assertEquals("Forked", result.getDocumentInformation().getTitle());
+                    assertEquals("Page 3", text(result, 1));
+                }
+            }
+            assertTrue(Files.exists(file));
+            try (PDDocument result = Loader.loadPDF(write(writer, List.of(0)))) {
+                assertEquals("Page 1", text(result, 1));
+            }
+        }
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    void reportsEncryptedSources() throws IOException {
+        byte[] source;
+        try (PDDocument doc = new PDDocument()) {
+            doc.addPage(new PDPage());
+            doc.protect(new StandardProtectionPolicy("owner", "", new AccessPermission()));
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            doc.save(out);
+            source = out.toByteArray();
+        }
+        try (PdfPageRangeWriter writer = PdfPageRangeWriter.open(source)) {
+            assertTrue(writer.isEncrypted());
+            assertThrows(
+                    IllegalStateException.class,
+                    () -> writer.writePages(List.of(0), new ByteArrayOutputStream()));
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package stirling.software.common.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.cos.COSStream;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDResources;
+import org.junit.jupiter.api.Test;
+
+class PdfPageSizeEstimatorTest {
+
+    private static COSStream createStream(PDDocument doc, int length) throws IOException {
+        COSStream stream = doc.getDocument().createCOSStream();
+        try (OutputStream out = stream.createRawOutputStream()) {
+            out.write(new byte[length]);
+        }
+        return stream;
+    }
+
+    private static PDPage pageUsing(PDDocument doc, COSStream image) {
+        PDPage page = new PDPage();
+        COSDictionary xObjects = new COSDictionary();
+        xObjects.setItem("Im1", image);
+        PDResources resources = new PDResources();
+        resources.getCOSObject().setItem(COSName.XOBJECT, xObjects);
+        page.setResources(resources);
+        doc.addPage(page);
+        return page;
+    }
+
+    @Test
+    void sharedResourceIsCountedOnce() throws IOException {
+        try (PDDocument doc = new PDDocument()) {
+            COSStream image = createStream(doc, 10_000);
+            PDPage first = pageUsing(doc, image);
+            PDPage second = pageUsing(doc, image);
+            PdfPageSizeEstimator estimator = new PdfPageSizeEstimator();
+
+            long firstAdded = estimator.addPage(first);
+            long secondAdded = estimator.addPage(second);
+
+            assertTrue(firstAdded > 10_000);
+            assertTrue(secondAdded < 1_000);
+            assertEquals(
+                    PdfPageSizeEstimator.DOCUMENT_OVERHEAD + firstAdded + secondAdded,
+                    estimator.getEstimatedSize());
+            assertEquals(0, estimator.addPage(first));
+        }
+    }
+
+    @Test
+    void resetCountsSharedResourcesAgain() throws IOException {
+        try (PDDocument doc = new PDDocument()) {
+            COSStream image = createStream(doc, 10_000);
+            PDPage first = pageUsing(doc, image);
+            PDPage second = pageUsing(doc, image);
+            PdfPageSizeEstimator estimator = new PdfPageSizeEstimator();
+            estimator.addPage(first);
+
+            estimator.reset();
+
+            assertEquals(PdfPageSizeEstimator.DOCUMENT_OVERHEAD, estimator.getEstimatedSize());
+            assertTrue(estimator.addPage(second) > 10_000);
+        }
+    }
+
+    @Test
+    void otherPagesReachedThroughAnnotationsAreNotCounted() throws IOException {
+        try (PDDocument doc = new PDDocument()) {
+            PDPage first = pageUsing(doc, createStream(doc, 100));
+            PDPage second = pageUsing(doc, createStream(doc, 10_000));
+            // A link back to the page itself and one to the heavy second page
+            first.getCOSObject().setItem(COSName.P, first.getCOSObject());
+            first.getCOSObject().setItem(COSName.DEST, second.getCOSObject());
+            PdfPageSizeEstimator estimator = new PdfPageSizeEstimator();
+
+            assertTrue(estimator.addPage(first) < 1_000);
+        }
+    }
+}
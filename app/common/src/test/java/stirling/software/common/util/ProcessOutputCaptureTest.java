@@ -0,0 +1,121 @@
+package stirling.software.common.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import stirling.software.common.model.ApplicationProperties;
+
+class ProcessOutputCaptureTest {
+
+    @TempDir Path tempDir;
+
+    private TempFileManager tempFileManager;
+
+    @BeforeEach
+    void setUp() {
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.getSystem().getTempFileManagement().setBaseTmpDir(tempDir.toString());
+        tempFileManager = new TempFileManager(new TempFileRegistry(), applicationProperties);
+    }
+
+    @Test
+    void smallOutputStaysInMemory() {
+        try (ProcessOutputCapture capture = new ProcessOutputCapture(4096, tempFileManager, null)) {
+            capture.append("first");
+            capture.append("second");
+
+            assertEquals("first\nsecond", capture.getBufferedOutput());
+            assertFalse(capture.isTruncated());
+            assertNull(capture.getSpillFile());
+        }
+    }
+
+    @Test
+    void largeOutputKeepsTailAndSpillsFullLog() throws IOException {
+        Path spill;
+        try (ProcessOutputCapture capture = new ProcessOutputCapture(1024, tempFileManager, null)) {
+            for (int i = 0; i < 500; i++) {
+                capture.append("line " + i);
+            }
+
+            assertTrue(capture.isTruncated());
+            String buffered = capture.getBufferedOutput();
+            assertTrue(buffered.startsWith("[... output truncated"));
+            assertTrue(buffered.endsWith("line 499"));
+            assertFalse(buffered.contains("line 0\n"));
+            assertTrue(buffered.length() < 2048);
+            spill = capture.getSpillFile();
+            assertNotNull(spill);
+        }
+
+        List<String> lines = Files.readAllLines(spill);
+        assertEquals(500, lines.size());
+        assertEquals("line 0", lines.get(0));
+        assertEquals("line 499", lines.get(499));
+    }
+
+    @Test
+    void discardSpillFileDeletesLog() {
+        try (ProcessOutputCapture capture = new ProcessOutputCapture(1024, tempFileManager, null)) {
+            for (int i = 0; i < 500; i++) {
+                capture.append("line " + i);
+            }
+            Path spill = capture.getSpillFile();
+            assertNotNull(spill);
+
+            capture.discardSpillFile();
+
+            assertFalse(Files.exists(spill));
+            assertNull(capture.getSpillFile());
+        }
+    }
+
+    @Test
+    void overflowWithoutTempFileManagerStillBoundsMemory() {
+        try (ProcessOutputCapture capture = new ProcessOutputCapture(1024, null, null)) {
+            for (int i = 0; i < 500; i++) {
+                capture.append("line " + i);
+            }
+            assertTrue(capture.isTruncated());
+            assertNull(capture.getSpillFile());
+            assertTrue(capture.getBufferedOutput().length() < 2048);
+        }
+    }
+
+    @Test
+    void reportsPageOfProgressInSteps() {
+        List<String> notes = new ArrayList<>();
+        try (ProcessOutputCapture capture =
+                new ProcessOutputCapture(4096, tempFileManager, notes::add)) {
+            for (int page = 1; page <= 100; page++) {
+                capture.append("Processing page " + page + " of 100");
+            }
+        }
+
+        assertEquals("Processing page 1 of 100", notes.get(0));
+        assertEquals("Processing page 100 of 100", notes.get(notes.size() - 1));
+        assertTrue(notes.size() <= 21);
+    }
+
+    @Test
+    void reportsGhostscriptStyleProgress() {
+        List<String> notes = new ArrayList<>();
+        try (ProcessOutputCapture capture =
+                new ProcessOutputCapture(4096, tempFileManager, notes::add)) {
+            capture.append("Processing pages 1 through 2.");
+            capture.append("Page 1");
+            capture.append("Page 2");
+        }
+
+        assertEquals(List.of("Processing page 1 of 2", "Processing page 2 of 2"), notes);
+    }
+}
@@ -0,0 +1,139 @@
+package stirling.software.common.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+class PythonWorkerPoolTest {
+
+    // Stands in for python_worker.py: reports ready, then answers each request line until it
+    // receives one for crash.py, on which it exits without answering
+    private static final String FAKE_WORKER =
+            """
+            echo '{"status": "ready"}'
+            while IFS= read -r line; do
+              case "$line" in
+                *crash.py*) exit 3 ;;
+                *) echo '{"rc": 0, "output": "done", "error": ""}' ;;
+              esac
+            done
+            """;
+
+    @TempDir Path tempDir;
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private Path script(String name, String content) throws IOException {
+        Path script = tempDir.resolve(name);
+        Files.writeString(script, content);
+        return script;
+    }
+
+    private static PythonWorkerPool.WorkerResult run(PythonWorkerPool pool, String script)
+            throws IOException, InterruptedException {
+        return pool.execute(List.of("sh", script), null, 10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void isScriptCommand_acceptsPythonScriptInvocation() {
+        assertTrue(
+                PythonWorkerPool.isScriptCommand(
+                        List.of("python3", "/tmp/scripts/split_photos.py", "in.png", "out")));
+        assertTrue(
+                PythonWorkerPool.isScriptCommand(
+                        List.of("/opt/venv/bin/python", "/tmp/png_to_webp.py")));
+        assertTrue(
+                PythonWorkerPool.isScriptCommand(
+                        List.of("C:\\Python\\python.exe", "C:\\scripts\\split_photos.py")));
+    }
+
+    @Test
+    void isScriptCommand_rejectsNonScriptCommands() {
+        assertFalse(PythonWorkerPool.isScriptCommand(null));
+        assertFalse(PythonWorkerPool.isScriptCommand(List.of("python3")));
+        assertFalse(PythonWorkerPool.isScriptCommand(List.of("python3", "--version")));
+        assertFalse(PythonWorkerPool.isScriptCommand(List.of("python3", "-m", "foo.py")));
+        assertFalse(PythonWorkerPool.isScriptCommand(List.of("qpdf", "in.py")));
+    }
+
+    @Test
+    void newPoolIsAvailableAndClosesCleanly() {
+        PythonWorkerPool pool = new PythonWorkerPool(0);
+        assertTrue(pool.isAvailable());
+        assertDoesNotThrow(pool::close);
+    }
+
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    void execute_returnsWorkerResponse() throws Exception {
+        Path worker = script("worker.sh", FAKE_WORKER);
+        try (PythonWorkerPool pool = new PythonWorkerPool(1, () -> worker, clock::get)) {
+            PythonWorkerPool.WorkerResult result = run(pool, "split_photos.py");
+
+            assertEquals(0, result.rc());
+            assertEquals("done", result.output());
+        }
+    }
+
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    void execute_workerCrashAfterRequestIsNotRetryable() throws Exception {
+        Path worker = script("worker.sh", FAKE_WORKER);
+        try (PythonWorkerPool pool = new PythonWorkerPool(1, () -> worker, clock::get)) {
+            IOException e = assertThrows(IOException.class, () -> run(pool, "crash.py"));
+
+            // The script may already have run, so callers must not fall back to a new process
+            assertFalse(e instanceof PythonWorkerPool.WorkerUnavailableException);
+            assertTrue(pool.isAvailable());
+            assertEquals("done", run(pool, "split_photos.py").output());
+        }
+    }
+
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    void execute_startupFailureBacksOffAndRecovers() throws Exception {
+        Path broken = script("broken.sh", "exit 1\n");
+        Path worker = script("worker.sh", FAKE_WORKER);
+        AtomicReference<Path> workerScript = new AtomicReference<>(broken);
+        try (PythonWorkerPool pool = new PythonWorkerPool(1, workerScript::get, clock::get)) {
+            assertThrows(
+                    PythonWorkerPool.WorkerUnavailableException.class,
+                    () -> run(pool, "split_photos.py"));
+            assertFalse(pool.isAvailable());
+
+            // A second failure doubles the backoff
+            clock.addAndGet(TimeUnit.SECONDS.toNanos(30));
+            assertTrue(pool.isAvailable());
+            assertThrows(
+                    PythonWorkerPool.WorkerUnavailableException.class,
+                    () -> run(pool, "split_photos.py"));
+            clock.addAndGet(TimeUnit.SECONDS.toNanos(30));
+            assertFalse(pool.isAvailable());
+            clock.addAndGet(TimeUnit.SECONDS.toNanos(30));
+            assertTrue(pool.isAvailable());
+
+            // A successful start makes the pool available again and resets the backoff
+            workerScript.set(worker);
+            assertEquals("done", run(pool, "split_photos.py").output());
+            assertTrue(pool.isAvailable());
+            pool.close();
+            workerScript.set(broken);
+            assertThrows(
+                    PythonWorkerPool.WorkerUnavailableException.class,
+                    () -> run(pool, "split_photos.py"));
+            clock.addAndGet(TimeUnit.SECONDS.toNanos(30));
+            assertTrue(pool.isAvailable());
+        }
+    }
+}
@@ -28,6 +28,7 @@ public class SpringDocConfig {
                         "/api/v1/proprietary/ui-data/**",
                         "/api/v1/info/**",
                         "/api/v1/general/job/**",
+                        "/api/v1/general/jobs/**",
                         "/api/v1/general/files/**",
                         "/api/v1/general/signatures/**",
                         "/api/v1/database/**",
@@ -94,6 +95,7 @@ public class SpringDocConfig {
                         "/api/v1/proprietary/ui-data/**",
                         "/api/v1/info/**",
                         "/api/v1/general/job/**",
+                        "/api/v1/general/jobs/**",
                         "/api/v1/general/files/**",
                         "/api/v1/general/signatures/**")
                 .addOpenApiCustomizer(
@@ -7,8 +7,9 @@ import org.apache.pdfbox.cos.COSName;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDDocumentInformation;
 import org.apache.pdfbox.pdmodel.PDPage;
-import org.apache.pdfbox.pdmodel.PDPageTree;
 import org.apache.pdfbox.pdmodel.PDResources;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.encryption.AccessPermission;
 import org.apache.pdfbox.pdmodel.encryption.PDEncryption;
 import org.apache.pdfbox.pdmodel.interactive.annotation.PDAnnotation;
 import org.apache.pdfbox.pdmodel.interactive.form.PDAcroForm;
@@ -25,6 +26,7 @@ import stirling.software.common.annotations.AutoJobPostMapping;
 import stirling.software.common.annotations.api.AnalysisApi;
 import stirling.software.common.model.api.PDFFile;
 import stirling.software.common.service.CustomPDFDocumentFactory;
+import stirling.software.common.util.PdfInspector;
 
 @AnalysisApi
 @RequiredArgsConstructor
@@ -38,8 +40,8 @@ public class AnalysisController {
             summary = "Get PDF page count",
             description = "Returns total number of pages in PDF. Input:PDF Output:JSON Type:SISO")
     public ResponseEntity<?> getPageCount(@ModelAttribute PDFFile file) throws IOException {
-        try (PDDocument document = pdfDocumentFactory.load(file.getFileInput())) {
-            return ResponseEntity.ok(Map.of("pageCount", document.getNumberOfPages()));
+        try (PdfInspector inspector = pdfDocumentFactory.inspect(file.getFileInput())) {
+            return ResponseEntity.ok(Map.of("pageCount", inspector.getPageCount()));
         }
     }
 
@@ -49,10 +51,10 @@ public class AnalysisController {
             summary = "Get basic PDF information",
             description = "Returns page count, version, file size. Input:PDF Output:JSON Type:SISO")
     public ResponseEntity<?> getBasicInfo(@ModelAttribute PDFFile file) throws IOException {
-        try (PDDocument document = pdfDocumentFactory.load(file.getFileInput())) {
+        try (PdfInspector inspector = pdfDocumentFactory.inspect(file.getFileInput())) {
             Map<String, Object> info = new HashMap<>();
-            info.put("pageCount", document.getNumberOfPages());
-            info.put("pdfVersion", document.getVersion());
+            info.put("pageCount", inspector.getPageCount());
+            info.put("pdfVersion", inspector.getVersion());
             info.put("fileSize", file.getFileInput().getSize());
             return ResponseEntity.ok(info);
         }
@@ -96,14 +98,13 @@ public class AnalysisController {
             summary = "Get page dimensions for all pages",
             description = "Returns width and height of each page. Input:PDF Output:JSON Type:SISO")
     public ResponseEntity<?> getPageDimensions(@ModelAttribute PDFFile file) throws IOException {
-        try (PDDocument document = pdfDocumentFactory.load(file.getFileInput())) {
+        try (PdfInspector inspector = pdfDocumentFactory.inspect(file.getFileInput())) {
             List<Map<String, Float>> dimensions = new ArrayList<>();
-            PDPageTree pages = document.getPages();
 
-            for (PDPage page : pages) {
+            for (PDRectangle box : inspector.getPageBoxes()) {
                 Map<String, Float> pageDim = new HashMap<>();
-                pageDim.put("width", page.getBBox().getWidth());
-                pageDim.put("height", page.getBBox().getHeight());
+                pageDim.put("width", box.getWidth());
+                pageDim.put("height", box.getHeight());
                 dimensions.add(pageDim);
             }
             return ResponseEntity.ok(dimensions);
@@ -192,26 +193,21 @@ public class AnalysisController {
             description =
                     "Returns encryption and permission details. Input:PDF Output:JSON Type:SISO")
     public ResponseEntity<?> getSecurityInfo(@ModelAttribute PDFFile file) throws IOException {
-        try (PDDocument document = pdfDocumentFactory.load(file.getFileInput())) {
+        try (PdfInspector inspector = pdfDocumentFactory.inspect(file.getFileInput())) {
             Map<String, Object> securityInfo = new HashMap<>();
-            PDEncryption encryption = document.getEncryption();
+            PDEncryption encryption = inspector.getEncryption();
 
             if (encryption != null) {
                 securityInfo.put("isEncrypted", true);
                 securityInfo.put("keyLength", encryption.getLength());
 
                 // Get permissions
+                AccessPermission access = inspector.getAccessPermission();
                 Map<String, Boolean> permissions = new HashMap<>();
-                permissions.put(
-                        "preventPrinting", !document.getCurrentAccessPermission().canPrint());
-                permissions.put(
-                        "preventModify", !document.getCurrentAccessPermission().canModify());
-                permissions.put(
-                        "preventExtractContent",
-                        !document.getCurrentAccessPermission().canExtractContent());
-                permissions.put(
-                        "preventModifyAnnotations",
-                        !document.getCurrentAccessPermission().canModifyAnnotations());
+                permissions.put("preventPrinting", !access.canPrint());
+                permissions.put("preventModify", !access.canModify());
+                permissions.put("preventExtractContent", !access.canExtractContent());
+                permissions.put("preventModifyAnnotations", !access.canModifyAnnotations());
 
                 securityInfo.put("permissions", permissions);
             } else {
@@ -1,14 +1,16 @@
 package stirling.software.SPDF.controller.api;
 
-import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Pattern;
 
+import org.apache.pdfbox.io.MemoryUsageSetting;
 import org.apache.pdfbox.multipdf.PDFMergerUtility;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDDocumentCatalog;
@@ -43,6 +45,7 @@ import stirling.software.common.service.CustomPDFDocumentFactory;
 import stirling.software.common.util.ExceptionUtils;
 import stirling.software.common.util.GeneralUtils;
 import stirling.software.common.util.PdfErrorUtils;
+import stirling.software.common.util.PdfInspector;
 import stirling.software.common.util.TempFile;
 import stirling.software.common.util.TempFileManager;
 import stirling.software.common.util.WebResponseUtils;
@@ -53,6 +56,8 @@ import stirling.software.common.util.WebResponseUtils;
 public class MergeController {
 
     private static final Pattern QUOTE_WRAP_PATTERN = Pattern.compile("^\"|\"$");
+    // Heap share of the merged document's stream data; the rest goes to a scratch file
+    private static final long MERGE_MEMORY_LIMIT = 32L * 1024 * 1024;
     private final CustomPDFDocumentFactory pdfDocumentFactory;
     private final TempFileManager tempFileManager;
 
@@ -116,18 +121,14 @@ public class MergeController {
                                 return name == null ? "" : name;
                             },
                             String.CASE_INSENSITIVE_ORDER);
-            case "byDateModified" ->
-                    (file1, file2) -> {
-                        long t1 = getPdfDateTimeSafe(file1);
-                        long t2 = getPdfDateTimeSafe(file2);
-                        return Long.compare(t2, t1);
-                    };
-            case "byDateCreated" ->
-                    (file1, file2) -> {
-                        long t1 = getPdfDateTimeSafe(file1);
-                        long t2 = getPdfDateTimeSafe(file2);
-                        return Long.compare(t2, t1);
-                    };
+            case "byDateModified", "byDateCreated" -> {
+                // Each file is inspected once, not once per comparison
+                Map<MultipartFile, Long> times = new IdentityHashMap<>();
+                yield Comparator.comparingLong(
+                                (MultipartFile file) ->
+                                        times.computeIfAbsent(file, this::getPdfDateTimeSafe))
+                        .reversed();
+            }
             case "byPDFTitle" ->
                     (file1, file2) -> {
                         try (PDDocument doc1 = pdfDocumentFactory.load(file1);
@@ -185,18 +186,18 @@ public class MergeController {
         return new String[0];
     }
 
-    // Adds a table of contents to the merged document using filenames as chapter titles
-    private void addTableOfContents(PDDocument mergedDocument, MultipartFile[] files) {
+    // Adds a table of contents to the merged document using filenames as chapter titles.
+    // firstPageIndexes holds, for each file, the index of its first page in the merged document.
+    private void addTableOfContents(
+            PDDocument mergedDocument, MultipartFile[] files, int[] firstPageIndexes) {
         // Create the document outline
         PDDocumentOutline outline = new PDDocumentOutline();
         mergedDocument.getDocumentCatalog().setDocumentOutline(outline);
 
-        int pageIndex = 0; // Current page index in the merged document
-
-        // Iterate through the original files
-        for (MultipartFile file : files) {
+        int totalPages = mergedDocument.getNumberOfPages();
+        for (int i = 0; i < files.length; i++) {
             // Get the filename without extension to use as bookmark title
-            String filename = file.getOriginalFilename();
+            String filename = files[i].getOriginalFilename();
             String title = GeneralUtils.removeExtension(filename);
 
             // Create an outline item for this file
@@ -204,28 +205,19 @@ public class MergeController {
             item.setTitle(title);
 
             // Set the destination to the first page of this file in the merged document
-            if (pageIndex < mergedDocument.getNumberOfPages()) {
-                PDPage page = mergedDocument.getPage(pageIndex);
-                item.setDestination(page);
+            int pageIndex = firstPageIndexes[i];
+            if (pageIndex < totalPages) {
+                item.setDestination(mergedDocument.getPage(pageIndex));
             }
 
-            // Add the item to the outline
             outline.addLast(item);
-
-            // Increment page index for the next file
-            try (PDDocument doc = pdfDocumentFactory.load(file)) {
-                pageIndex += doc.getNumberOfPages();
-            } catch (IOException e) {
-                ExceptionUtils.logException("document loading for TOC generation", e);
-                pageIndex++; // Increment by at least one if we can't determine page count
-            }
         }
     }
 
     private long getPdfDateTimeSafe(MultipartFile file) {
         try {
-            try (PDDocument doc = pdfDocumentFactory.load(file)) {
-                PDDocumentInformation info = doc.getDocumentInformation();
+            try (PdfInspector inspector = pdfDocumentFactory.inspect(file)) {
+                PDDocumentInformation info = inspector.getDocumentInformation();
                 if (info != null) {
                     if (info.getModificationDate() != null) {
                         return info.getModificationDate().getTimeInMillis();
@@ -236,7 +228,7 @@ public class MergeController {
                 }
 
                 // Fallback to XMP metadata if Info dates are missing
-                PDMetadata metadata = doc.getDocumentCatalog().getMetadata();
+                PDMetadata metadata = inspector.getXmpMetadata();
                 if (metadata != null) {
                     try (InputStream is = metadata.createInputStream()) {
                         DomXmpParser parser = new DomXmpParser();
@@ -283,7 +275,6 @@ public class MergeController {
             @ModelAttribute MergePdfsRequest request,
             @RequestParam(value = "fileOrder", required = false) String fileOrder)
             throws IOException {
-        List<File> filesToDelete = new ArrayList<>(); // List of temporary files to delete
         TempFile outputTempFile = null;
 
         boolean removeCertSign = Boolean.TRUE.equals(request.getRemoveCertSign());
@@ -306,79 +297,66 @@ public class MergeController {
                             request.getSortType())); // Sort files based on requested sort type
         }
 
-        try (TempFile mt = new TempFile(tempFileManager, ".pdf")) {
+        long totalSize = 0;
+        for (MultipartFile file : files) {
+            totalSize += file.getSize();
+        }
 
+        // Each input is parsed once and appended right away; its objects are copied into the
+        // merged document, so it can be closed before the next one is loaded. The merged document
+        // keeps at most MERGE_MEMORY_LIMIT of stream data on the heap and spills the rest to disk.
+        MemoryUsageSetting scratch =
+                totalSize < MERGE_MEMORY_LIMIT
+                        ? MemoryUsageSetting.setupMainMemoryOnly()
+                        : MemoryUsageSetting.setupMixed(MERGE_MEMORY_LIMIT);
+        try (PDDocument mergedDocument = pdfDocumentFactory.createNewDocument(scratch)) {
             PDFMergerUtility mergerUtility = new PDFMergerUtility();
-            long totalSize = 0;
-            List<Integer> invalidIndexes = new ArrayList<>();
+            int[] firstPageIndexes = new int[files.length];
             for (int index = 0; index < files.length; index++) {
                 MultipartFile multipartFile = files[index];
-                totalSize += multipartFile.getSize();
-                File tempFile =
-                        tempFileManager.convertMultipartFileToFile(
-                                multipartFile); // Convert MultipartFile to File
-                filesToDelete.add(tempFile); // Add temp file to the list for later deletion
-
-                // Pre-validate each PDF so we can report which one(s) are broken
-                // Use the original MultipartFile to avoid deleting the tempFile during validation
-                try (PDDocument ignored = pdfDocumentFactory.load(multipartFile)) {
-                    // OK
+                firstPageIndexes[index] = mergedDocument.getNumberOfPages();
+                try (PDDocument sourceDocument = pdfDocumentFactory.load(multipartFile)) {
+                    mergerUtility.appendDocument(mergedDocument, sourceDocument);
                 } catch (IOException e) {
-                    ExceptionUtils.logException("PDF pre-validate", e);
-                    invalidIndexes.add(index);
-                }
-                mergerUtility.addSource(tempFile); // Add source file to the merger utility
-            }
-
-            mergerUtility.setDestinationFileName(mt.getFile().getAbsolutePath());
-
-            try {
-                mergerUtility.mergeDocuments(
-                        pdfDocumentFactory.getStreamCacheFunction(
-                                totalSize)); // Merge the documents
-            } catch (IOException e) {
-                ExceptionUtils.logException("PDF merge", e);
-                if (PdfErrorUtils.isCorruptedPdfError(e)) {
-                    throw ExceptionUtils.createMultiplePdfCorruptedException(e);
+                    log.warn(
+                            "Failed to merge file {} ({}): {}",
+                            index + 1,
+                            multipartFile.getOriginalFilename(),
+                            e.getMessage());
+                    if (e instanceof ExceptionUtils.PdfCorruptedException
+                            || PdfErrorUtils.isCorruptedPdfError(e)) {
+                        throw ExceptionUtils.createMultiplePdfCorruptedException(e);
+                    }
+                    throw e;
                 }
-                throw e;
             }
 
-            // Load the merged PDF document and operate on it inside try-with-resources
-            try (PDDocument mergedDocument = pdfDocumentFactory.load(mt.getFile())) {
-                // Remove signatures if removeCertSign is true
-                if (removeCertSign) {
-                    PDDocumentCatalog catalog = mergedDocument.getDocumentCatalog();
-                    PDAcroForm acroForm = catalog.getAcroForm();
-                    if (acroForm != null) {
-                        List<PDField> fieldsToRemove =
-                                acroForm.getFields().stream()
-                                        .filter(PDSignatureField.class::isInstance)
-                                        .toList();
-
-                        if (!fieldsToRemove.isEmpty()) {
-                            acroForm.flatten(
-                                    fieldsToRemove,
-                                    false); // Flatten the fields, effectively removing them
-                        }
+            // Remove signatures if removeCertSign is true
+            if (removeCertSign) {
+                PDDocumentCatalog catalog = mergedDocument.getDocumentCatalog();
+                PDAcroForm acroForm = catalog.getAcroForm();
+                if (acroForm != null) {
+                    List<PDField> fieldsToRemove =
+                            acroForm.getFields().stream()
+                                    .filter(PDSignatureField.class::isInstance)
+                                    .toList();
+
+                    if (!fieldsToRemove.isEmpty()) {
+                        acroForm.flatten(
+                                fieldsToRemove,
+                                false); // Flatten the fields, effectively removing them
                     }
                 }
+            }
 
-                // Add table of contents if generateToc is true
-                if (generateToc && files.length > 0) {
-                    addTableOfContents(mergedDocument, files);
-                }
-
-                // Save the modified document to a temporary file
-                outputTempFile = new TempFile(tempFileManager, ".pdf");
-                try {
-                    mergedDocument.save(outputTempFile.getFile());
-                } catch (Exception e) {
-                    outputTempFile.close();
-                    outputTempFile = null;
-                    throw e;
-                }
+            // Add table of contents if generateToc is true
+            if (generateToc && files.length > 0) {
+                addTableOfContents(mergedDocument, files, firstPageIndexes);
             }
+
+            // Save the merged document straight to a temporary file
+            outputTempFile = new TempFile(tempFileManager, ".pdf");
+            mergedDocument.save(outputTempFile.getFile());
         } catch (Exception ex) {
             if (outputTempFile != null) {
                 outputTempFile.close();
@@ -389,10 +367,6 @@ public class MergeController {
                 log.error("Error in merge pdf process", ex);
             }
             throw ex;
-        } finally {
-            for (File file : filesToDelete) {
-                tempFileManager.deleteTempFile(file); // Delete temporary files
-            }
         }
 
         String firstFilename = files.length > 0 ? files[0].getOriginalFilename() : null;
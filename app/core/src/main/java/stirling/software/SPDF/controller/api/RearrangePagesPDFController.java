@@ -1,6 +1,8 @@
 package stirling.software.SPDF.controller.api;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -28,6 +30,8 @@ import stirling.software.common.annotations.api.GeneralApi;
 import stirling.software.common.service.CustomPDFDocumentFactory;
 import stirling.software.common.util.ExceptionUtils;
 import stirling.software.common.util.GeneralUtils;
+import stirling.software.common.util.PdfPageRangeWriter;
+import stirling.software.common.util.TempFile;
 import stirling.software.common.util.TempFileManager;
 import stirling.software.common.util.WebResponseUtils;
 
@@ -219,6 +223,22 @@ public class RearrangePagesPDFController {
         }
     }
 
+    private List<Integer> newPageOrder(String pageOrder, String sortType, int totalPages) {
+        List<Integer> newPageOrder;
+        if (sortType != null
+                && !sortType.isEmpty()
+                && !"custom".equals(sortType.toLowerCase(Locale.ROOT))) {
+            newPageOrder = processSortTypes(sortType, totalPages, pageOrder);
+        } else {
+            // Split the page order string into an array of page numbers or range of numbers
+            String[] pageOrderArr = pageOrder != null ? pageOrder.split(",") : new String[0];
+            newPageOrder = GeneralUtils.parsePageList(pageOrderArr, totalPages, false);
+        }
+        log.info("newPageOrder = {}", newPageOrder);
+        log.info("totalPages = {}", totalPages);
+        return newPageOrder;
+    }
+
     @AutoJobPostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE, value = "/rearrange-pages")
     @StandardPdfResponse
     @Operation(
@@ -233,23 +253,29 @@ public class RearrangePagesPDFController {
         MultipartFile pdfFile = request.getFileInput();
         String pageOrder = request.getPageNumbers();
         String sortType = request.getCustomMode();
+        String outputFilename =
+                GeneralUtils.generateFilename(pdfFile.getOriginalFilename(), "_rearranged.pdf");
         try {
+            // Unencrypted inputs are copied from the source bytes without re-serializing
+            try (PdfPageRangeWriter pageWriter = pdfDocumentFactory.openPageRangeWriter(pdfFile)) {
+                if (pageWriter != null) {
+                    List<Integer> newPageOrder =
+                            newPageOrder(pageOrder, sortType, pageWriter.getPageCount());
+                    TempFile tempFile = tempFileManager.createManagedTempFile(".pdf");
+                    try (OutputStream out = Files.newOutputStream(tempFile.getPath())) {
+                        pageWriter.writePages(newPageOrder, out);
+                    } catch (IOException | RuntimeException e) {
+                        tempFile.close();
+                        throw e;
+                    }
+                    return WebResponseUtils.pdfFileToWebResponse(tempFile, outputFilename);
+                }
+            }
+
             // Load the input PDF with proper resource management
             try (PDDocument document = pdfDocumentFactory.load(pdfFile)) {
-
-                // Split the page order string into an array of page numbers or range of numbers
-                String[] pageOrderArr = pageOrder != null ? pageOrder.split(",") : new String[0];
-                int totalPages = document.getNumberOfPages();
-                List<Integer> newPageOrder;
-                if (sortType != null
-                        && !sortType.isEmpty()
-                        && !"custom".equals(sortType.toLowerCase(Locale.ROOT))) {
-                    newPageOrder = processSortTypes(sortType, totalPages, pageOrder);
-                } else {
-                    newPageOrder = GeneralUtils.parsePageList(pageOrderArr, totalPages, false);
-                }
-                log.info("newPageOrder = {}", newPageOrder);
-                log.info("totalPages = {}", totalPages);
+                List<Integer> newPageOrder =
+                        newPageOrder(pageOrder, sortType, document.getNumberOfPages());
                 // Create a new list to hold the pages in the new order
                 List<PDPage> newPages = new ArrayList<>();
                 for (int i = 0; i < newPageOrder.size(); i++) {
@@ -266,10 +292,7 @@ public class RearrangePagesPDFController {
                     }
 
                     return WebResponseUtils.pdfDocToWebResponse(
-                            rearrangedDocument,
-                            GeneralUtils.generateFilename(
-                                    pdfFile.getOriginalFilename(), "_rearranged.pdf"),
-                            tempFileManager);
+                            rearrangedDocument, outputFilename, tempFileManager);
                 }
             }
         } catch (IOException e) {
@@ -1,12 +1,12 @@
 package stirling.software.SPDF.controller.api;
 
+import java.io.Closeable;
 import java.io.IOException;
-import java.nio.file.Files;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
+import java.util.stream.IntStream;
 
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.springframework.http.MediaType;
@@ -27,6 +27,9 @@ import stirling.software.common.annotations.api.GeneralApi;
 import stirling.software.common.service.CustomPDFDocumentFactory;
 import stirling.software.common.util.ExceptionUtils;
 import stirling.software.common.util.GeneralUtils;
+import stirling.software.common.util.MultiFileResponseBody;
+import stirling.software.common.util.ParallelPartWriter;
+import stirling.software.common.util.PdfPageRangeWriter;
 import stirling.software.common.util.TempFile;
 import stirling.software.common.util.TempFileManager;
 import stirling.software.common.util.WebResponseUtils;
@@ -52,55 +55,112 @@ public class SplitPDFController {
             throws IOException {
 
         MultipartFile file = request.getFileInput();
-        TempFile outputTempFile = new TempFile(tempFileManager, ".zip");
-        try {
-            try (PDDocument document = pdfDocumentFactory.load(file)) {
-                int totalPages = document.getNumberOfPages();
-                List<Integer> pageNumbers = request.getPageNumbersList(document, false);
-                if (!pageNumbers.contains(totalPages - 1)) {
-                    pageNumbers = new ArrayList<>(pageNumbers);
-                    pageNumbers.add(totalPages - 1);
+        String baseFilename = GeneralUtils.removeExtension(file.getOriginalFilename());
+        List<MultiFileResponseBody.Part> parts;
+        try (PdfPageRangeWriter pageWriter = pdfDocumentFactory.openPageRangeWriter(file)) {
+            if (pageWriter != null) {
+                // Parts are copied from the source bytes without re-serializing, each worker on
+                // its own fork of the writer
+                int totalPages = pageWriter.getPageCount();
+                List<Integer> splitPoints =
+                        splitPoints(
+                                GeneralUtils.parsePageList(
+                                        request.getPageNumbers(), totalPages, false),
+                                totalPages);
+                parts =
+                        writeParts(
+                                baseFilename,
+                                splitPoints,
+                                ParallelPartWriter.MAX_PARALLELISM,
+                                pageWriter::fork,
+                                (writer, first, last, out) ->
+                                        writer.writePages(
+                                                IntStream.rangeClosed(first, last).boxed().toList(),
+                                                out));
+            } else {
+                try (PDDocument document = pdfDocumentFactory.load(file)) {
+                    List<Integer> splitPoints =
+                            splitPoints(
+                                    request.getPageNumbersList(document, false),
+                                    document.getNumberOfPages());
+                    // All parts share the source document, so they are saved one at a time
+                    parts =
+                            writeParts(
+                                    baseFilename,
+                                    splitPoints,
+                                    1,
+                                    () -> null,
+                                    (unused, first, last, out) -> {
+                                        try (PDDocument splitDocument =
+                                                pdfDocumentFactory
+                                                        .createNewDocumentBasedOnOldDocument(
+                                                                document)) {
+                                            for (int i = first; i <= last; i++) {
+                                                splitDocument.addPage(document.getPage(i));
+                                                log.debug("Adding page {} to split document", i);
+                                            }
+                                            splitDocument.save(out);
+                                        }
+                                    });
                 }
+            }
+        }
 
-                log.debug(
-                        "Splitting PDF into pages: {}",
-                        pageNumbers.stream().map(String::valueOf).collect(Collectors.joining(",")));
+        log.debug("Successfully created {} split documents", parts.size());
+        String zipFilename =
+                GeneralUtils.generateFilename(file.getOriginalFilename(), "_split.zip");
+        return WebResponseUtils.multiFileToWebResponse(parts, zipFilename);
+    }
 
-                String baseFilename = GeneralUtils.removeExtension(file.getOriginalFilename());
-                try (ZipOutputStream zipOut =
-                        new ZipOutputStream(Files.newOutputStream(outputTempFile.getPath()))) {
-                    int previousPageNumber = 0;
-                    for (int splitIndex = 0; splitIndex < pageNumbers.size(); splitIndex++) {
-                        int splitPoint = pageNumbers.get(splitIndex);
-                        try (PDDocument splitDocument =
-                                pdfDocumentFactory.createNewDocumentBasedOnOldDocument(document)) {
-                            for (int i = previousPageNumber; i <= splitPoint; i++) {
-                                splitDocument.addPage(document.getPage(i));
-                                log.debug("Adding page {} to split document", i);
-                            }
-                            previousPageNumber = splitPoint + 1;
+    /** Writes the pages {@code first} to {@code last} (zero-based, inclusive) as one PDF. */
+    @FunctionalInterface
+    private interface PartWriter<C extends Closeable> {
+        void write(C context, int first, int last, OutputStream out) throws IOException;
+    }
 
-                            String fileName = baseFilename + "_" + (splitIndex + 1) + ".pdf";
-                            zipOut.putNextEntry(new ZipEntry(fileName));
-                            splitDocument.save(zipOut);
-                            zipOut.closeEntry();
-                            log.debug("Wrote split document {} to zip file", fileName);
-                        } catch (Exception e) {
-                            ExceptionUtils.logException("document splitting and saving", e);
-                            throw e;
-                        }
-                    }
-                }
-            }
+    private static List<Integer> splitPoints(List<Integer> pageNumbers, int totalPages) {
+        if (!pageNumbers.contains(totalPages - 1)) {
+            pageNumbers = new ArrayList<>(pageNumbers);
+            pageNumbers.add(totalPages - 1);
+        }
+        log.debug(
+                "Splitting PDF into pages: {}",
+                pageNumbers.stream().map(String::valueOf).collect(Collectors.joining(",")));
+        return pageNumbers;
+    }
 
-            log.debug(
-                    "Successfully created zip file with split documents: {}",
-                    outputTempFile.getPath().toString());
-            String zipFilename =
-                    GeneralUtils.generateFilename(file.getOriginalFilename(), "_split.zip");
-            return WebResponseUtils.zipFileToWebResponse(outputTempFile, zipFilename);
-        } catch (Exception e) {
-            outputTempFile.close();
+    private <C extends Closeable> List<MultiFileResponseBody.Part> writeParts(
+            String baseFilename,
+            List<Integer> splitPoints,
+            int parallelism,
+            ParallelPartWriter.ContextFactory<C> contexts,
+            PartWriter<C> partWriter)
+            throws IOException {
+        List<String> fileNames = new ArrayList<>(splitPoints.size());
+        int[] firstPages = new int[splitPoints.size()];
+        int previousPageNumber = 0;
+        for (int splitIndex = 0; splitIndex < splitPoints.size(); splitIndex++) {
+            fileNames.add(baseFilename + "_" + (splitIndex + 1) + ".pdf");
+            firstPages[splitIndex] = previousPageNumber;
+            previousPageNumber = splitPoints.get(splitIndex) + 1;
+        }
+        try {
+            List<TempFile> files =
+                    ParallelPartWriter.writeParts(
+                            splitPoints.size(),
+                            ".pdf",
+                            parallelism,
+                            tempFileManager,
+                            contexts,
+                            (context, index, out) ->
+                                    partWriter.write(
+                                            context,
+                                            firstPages[index],
+                                            splitPoints.get(index),
+                                            out));
+            return MultiFileResponseBody.parts(fileNames, MediaType.APPLICATION_PDF_VALUE, files);
+        } catch (IOException | RuntimeException e) {
+            ExceptionUtils.logException("document splitting and saving", e);
             throw e;
         }
     }
@@ -1,13 +1,14 @@
 package stirling.software.SPDF.controller.api;
 
-import java.nio.file.Files;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
+import java.util.stream.IntStream;
 
+import org.apache.pdfbox.io.IOUtils;
 import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDDocumentInformation;
 import org.apache.pdfbox.pdmodel.PDPage;
 import org.apache.pdfbox.pdmodel.interactive.documentnavigation.outline.PDDocumentOutline;
 import org.apache.pdfbox.pdmodel.interactive.documentnavigation.outline.PDOutlineItem;
@@ -35,6 +36,9 @@ import stirling.software.common.service.CustomPDFDocumentFactory;
 import stirling.software.common.service.PdfMetadataService;
 import stirling.software.common.util.ExceptionUtils;
 import stirling.software.common.util.GeneralUtils;
+import stirling.software.common.util.MultiFileResponseBody;
+import stirling.software.common.util.ParallelPartWriter;
+import stirling.software.common.util.PdfPageRangeWriter;
 import stirling.software.common.util.TempFile;
 import stirling.software.common.util.TempFileManager;
 import stirling.software.common.util.WebResponseUtils;
@@ -182,9 +186,10 @@ public class SplitPdfByChaptersController {
                         bookmark.getEndPage());
             }
 
-            TempFile zipTempFile = createZipFile(sourceDocument, bookmarks, includeMetadata);
+            List<MultiFileResponseBody.Part> parts =
+                    writeChapters(file, sourceDocument, bookmarks, includeMetadata);
             String filename = GeneralUtils.generateFilename(file.getOriginalFilename(), "");
-            return WebResponseUtils.zipFileToWebResponse(zipTempFile, filename + ".zip");
+            return WebResponseUtils.multiFileToWebResponse(parts, filename + ".zip");
         }
     }
 
@@ -213,55 +218,87 @@ public class SplitPdfByChaptersController {
         return bookmarks;
     }
 
-    private TempFile createZipFile(
-            PDDocument sourceDocument, List<Bookmark> bookmarks, boolean includeMetadata)
+    private List<MultiFileResponseBody.Part> writeChapters(
+            MultipartFile file,
+            PDDocument sourceDocument,
+            List<Bookmark> bookmarks,
+            boolean includeMetadata)
             throws Exception {
         PdfMetadata metadata =
                 includeMetadata ? pdfMetadataService.extractMetadataFromPdf(sourceDocument) : null;
         String fileNumberFormatter = "%0" + (Integer.toString(bookmarks.size()).length()) + "d ";
-        TempFile zipTempFile = new TempFile(tempFileManager, ".zip");
-        try {
-            try (ZipOutputStream zipOut =
-                    new ZipOutputStream(Files.newOutputStream(zipTempFile.getPath()))) {
-                for (int i = 0; i < bookmarks.size(); i++) {
-                    Bookmark bookmark = bookmarks.get(i);
-                    try (PDDocument splitDocument = new PDDocument()) {
-                        boolean isSinglePage = (bookmark.getStartPage() == bookmark.getEndPage());
-
-                        for (int pg = bookmark.getStartPage();
-                                pg < bookmark.getEndPage() + (isSinglePage ? 1 : 0);
-                                pg++) {
-                            PDPage page = sourceDocument.getPage(pg);
-                            splitDocument.addPage(page);
-                            log.debug("Adding page {} to split document", pg);
-                        }
-                        if (includeMetadata) {
-                            pdfMetadataService.setMetadataToPdf(splitDocument, metadata);
-                        }
+        List<String> fileNames = new ArrayList<>(bookmarks.size());
+        List<List<Integer>> partPages = new ArrayList<>(bookmarks.size());
+        for (int i = 0; i < bookmarks.size(); i++) {
+            Bookmark bookmark = bookmarks.get(i);
+            // split files will be named as "[FILE_NUMBER] [BOOKMARK_TITLE].pdf"
+            fileNames.add(
+                    String.format(Locale.ROOT, fileNumberFormatter, i)
+                            + bookmark.getTitle()
+                            + ".pdf");
+            boolean isSinglePage = (bookmark.getStartPage() == bookmark.getEndPage());
+            partPages.add(
+                    IntStream.range(
+                                    bookmark.getStartPage(),
+                                    bookmark.getEndPage() + (isSinglePage ? 1 : 0))
+                            .boxed()
+                            .toList());
+        }
 
-                        // split files will be named as "[FILE_NUMBER] [BOOKMARK_TITLE].pdf"
-                        String fileName =
-                                String.format(Locale.ROOT, fileNumberFormatter, i)
-                                        + bookmark.getTitle()
-                                        + ".pdf";
-                        zipOut.putNextEntry(new ZipEntry(fileName));
-                        splitDocument.save(zipOut);
-                        zipOut.closeEntry();
-                        log.debug("Wrote split document {} to zip file", fileName);
-                    } catch (Exception e) {
-                        ExceptionUtils.logException("document splitting and saving", e);
-                        throw e;
-                    }
-                }
+        List<TempFile> files;
+        try (PdfPageRangeWriter pageWriter = pdfDocumentFactory.openPageRangeWriter(file)) {
+            if (pageWriter != null) {
+                // Chapters are copied from the source bytes concurrently, one fork per worker
+                pageWriter.setOutputInformation(
+                        includeMetadata ? outputInformation(metadata) : null);
+                files =
+                        ParallelPartWriter.writeParts(
+                                bookmarks.size(),
+                                ".pdf",
+                                ParallelPartWriter.MAX_PARALLELISM,
+                                tempFileManager,
+                                pageWriter::fork,
+                                (writer, index, out) ->
+                                        writer.writePages(partPages.get(index), out));
+            } else {
+                // All chapters share the source document, so they are saved one at a time
+                files =
+                        ParallelPartWriter.writeParts(
+                                bookmarks.size(),
+                                ".pdf",
+                                1,
+                                tempFileManager,
+                                () -> null,
+                                (unused, index, out) -> {
+                                    try (PDDocument splitDocument = new PDDocument()) {
+                                        for (int pg : partPages.get(index)) {
+                                            PDPage page = sourceDocument.getPage(pg);
+                                            splitDocument.addPage(page);
+                                            log.debug("Adding page {} to split document", pg);
+                                        }
+                                        if (includeMetadata) {
+                                            pdfMetadataService.setMetadataToPdf(
+                                                    splitDocument, metadata);
+                                        }
+                                        splitDocument.save(out);
+                                    }
+                                });
             }
-            log.info(
-                    "Successfully created zip file with split documents: {}",
-                    zipTempFile.getPath());
-            return zipTempFile;
         } catch (Exception e) {
-            zipTempFile.close();
+            ExceptionUtils.logException("document splitting and saving", e);
             throw e;
         }
+        log.info("Successfully created {} split documents", files.size());
+        return MultiFileResponseBody.parts(fileNames, MediaType.APPLICATION_PDF_VALUE, files);
+    }
+
+    private PDDocumentInformation outputInformation(PdfMetadata metadata) throws IOException {
+        try (PDDocument scratch = new PDDocument(IOUtils.createMemoryOnlyStreamCache())) {
+            PDDocumentInformation info = new PDDocumentInformation();
+            scratch.setDocumentInformation(info);
+            pdfMetadataService.setMetadataToPdf(scratch, metadata);
+            return info;
+        }
     }
 }
 
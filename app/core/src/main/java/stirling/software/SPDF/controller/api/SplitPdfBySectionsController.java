@@ -1,11 +1,9 @@
 package stirling.software.SPDF.controller.api;
 
 import java.io.IOException;
-import java.nio.file.Files;
+import java.io.OutputStream;
 import java.util.*;
 import java.util.stream.IntStream;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
 
 import org.apache.pdfbox.multipdf.LayerUtility;
 import org.apache.pdfbox.pdmodel.PDDocument;
@@ -36,6 +34,8 @@ import stirling.software.common.annotations.api.GeneralApi;
 import stirling.software.common.service.CustomPDFDocumentFactory;
 import stirling.software.common.util.ExceptionUtils;
 import stirling.software.common.util.GeneralUtils;
+import stirling.software.common.util.MultiFileResponseBody;
+import stirling.software.common.util.ParallelPartWriter;
 import stirling.software.common.util.TempFile;
 import stirling.software.common.util.TempFileManager;
 import stirling.software.common.util.WebResponseUtils;
@@ -101,70 +101,53 @@ public class SplitPdfBySectionsController {
                             mergedDoc, filename + ".pdf", tempFileManager);
                 }
             } else {
-                TempFile zipTempFile = tempFileManager.createManagedTempFile(".zip");
-                try {
-                    try (ZipOutputStream zipOut =
-                            new ZipOutputStream(Files.newOutputStream(zipTempFile.getPath()))) {
-                        for (int pageIndex = 0;
-                                pageIndex < sourceDocument.getNumberOfPages();
-                                pageIndex++) {
-                            int pageNum = pageIndex + 1;
-                            if (pagesToSplit.contains(pageIndex)) {
-                                for (int i = 0; i < horiz; i++) {
-                                    for (int j = 0; j < verti; j++) {
-                                        try (PDDocument subDoc =
-                                                pdfDocumentFactory.createNewDocument()) {
-                                            LayerUtility subLayerUtility = new LayerUtility(subDoc);
-                                            addSingleSectionToTarget(
-                                                    sourceDocument,
-                                                    pageIndex,
-                                                    subDoc,
-                                                    subLayerUtility,
-                                                    i,
-                                                    j,
-                                                    horiz,
-                                                    verti);
-                                            int sectionNum = i * verti + j + 1;
-                                            String entryName =
-                                                    filename
-                                                            + "_"
-                                                            + pageNum
-                                                            + "_"
-                                                            + sectionNum
-                                                            + ".pdf";
-                                            saveDocToZip(subDoc, zipOut, entryName);
-                                        } catch (IOException e) {
-                                            log.error(
-                                                    "Error creating section {} for page {}",
-                                                    (i * verti + j + 1),
-                                                    pageNum,
-                                                    e);
-                                            throw e;
-                                        }
-                                    }
-                                }
-                            } else {
-                                try (PDDocument subDoc = pdfDocumentFactory.createNewDocument()) {
-                                    LayerUtility subLayerUtility = new LayerUtility(subDoc);
-                                    addPageToTarget(
-                                            sourceDocument, pageIndex, subDoc, subLayerUtility);
-                                    String entryName = filename + "_" + pageNum + "_1.pdf";
-                                    saveDocToZip(subDoc, zipOut, entryName);
-                                } catch (IOException e) {
-                                    log.error("Error processing unsplit page {}", pageNum, e);
-                                    throw e;
-                                }
+                // One entry per section; pages that are not split become a single section
+                List<String> entryNames = new ArrayList<>();
+                List<Section> sections = new ArrayList<>();
+                for (int pageIndex = 0;
+                        pageIndex < sourceDocument.getNumberOfPages();
+                        pageIndex++) {
+                    int pageNum = pageIndex + 1;
+                    if (pagesToSplit.contains(pageIndex)) {
+                        for (int i = 0; i < horiz; i++) {
+                            for (int j = 0; j < verti; j++) {
+                                int sectionNum = i * verti + j + 1;
+                                entryNames.add(
+                                        filename + "_" + pageNum + "_" + sectionNum + ".pdf");
+                                sections.add(new Section(pageIndex, i, j));
                             }
                         }
-                    } catch (IOException e) {
-                        log.error("Error creating ZIP file with split PDF sections", e);
-                        throw e;
+                    } else {
+                        entryNames.add(filename + "_" + pageNum + "_1.pdf");
+                        sections.add(new Section(pageIndex, -1, -1));
                     }
-                    return WebResponseUtils.zipFileToWebResponse(zipTempFile, filename + ".zip");
-                } catch (Exception ex) {
-                    zipTempFile.close();
-                    throw ex;
                 }
+
+                List<TempFile> files;
+                try {
+                    // PDFBox documents are not thread-safe, so each worker loads its own source
+                    files =
+                            ParallelPartWriter.writeParts(
+                                    sections.size(),
+                                    ".pdf",
+                                    ParallelPartWriter.MAX_PARALLELISM,
+                                    tempFileManager,
+                                    () -> pdfDocumentFactory.load(file),
+                                    (workerSource, index, out) ->
+                                            writeSection(
+                                                    workerSource,
+                                                    sections.get(index),
+                                                    horiz,
+                                                    verti,
+                                                    out));
+                } catch (IOException e) {
+                    log.error("Error creating split PDF sections", e);
+                    throw e;
+                }
+                return WebResponseUtils.multiFileToWebResponse(
+                        MultiFileResponseBody.parts(
+                                entryNames, MediaType.APPLICATION_PDF_VALUE, files),
+                        filename + ".zip");
             }
         } catch (Exception e) {
             log.error("Error splitting PDF file: {}", file.getOriginalFilename(), e);
@@ -274,12 +257,45 @@ public class SplitPdfBySectionsController {
         }
     }
 
-    private void saveDocToZip(PDDocument doc, ZipOutputStream zipOut, String entryName)
+    /** One output document: a section of a page, or the whole page when it is not split. */
+    private record Section(int pageIndex, int horizIndex, int vertIndex) {
+        boolean isWholePage() {
+            return horizIndex < 0;
+        }
+    }
+
+    private void writeSection(
+            PDDocument sourceDocument, Section section, int horiz, int verti, OutputStream out)
             throws IOException {
-        ZipEntry entry = new ZipEntry(entryName);
-        zipOut.putNextEntry(entry);
-        doc.save(zipOut);
-        zipOut.closeEntry();
+        int pageIndex = section.pageIndex();
+        try (PDDocument subDoc = pdfDocumentFactory.createNewDocument()) {
+            LayerUtility subLayerUtility = new LayerUtility(subDoc);
+            if (section.isWholePage()) {
+                addPageToTarget(sourceDocument, pageIndex, subDoc, subLayerUtility);
+            } else {
+                addSingleSectionToTarget(
+                        sourceDocument,
+                        pageIndex,
+                        subDoc,
+                        subLayerUtility,
+                        section.horizIndex(),
+                        section.vertIndex(),
+                        horiz,
+                        verti);
+            }
+            subDoc.save(out);
+        } catch (IOException e) {
+            if (section.isWholePage()) {
+                log.error("Error processing unsplit page {}", pageIndex + 1, e);
+            } else {
+                log.error(
+                        "Error creating section {} for page {}",
+                        section.horizIndex() * verti + section.vertIndex() + 1,
+                        pageIndex + 1,
+                        e);
+            }
+            throw e;
+        }
     }
 
     // Based on the mode, get the pages that need to be split and return the pages set
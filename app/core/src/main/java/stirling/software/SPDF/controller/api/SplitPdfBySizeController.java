@@ -3,8 +3,9 @@ package stirling.software.SPDF.controller.api;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.file.Files;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
 
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDPage;
@@ -16,7 +17,6 @@ import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBo
 
 import io.swagger.v3.oas.annotations.Operation;
 
-import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -27,6 +27,10 @@ import stirling.software.common.annotations.api.GeneralApi;
 import stirling.software.common.service.CustomPDFDocumentFactory;
 import stirling.software.common.util.ExceptionUtils;
 import stirling.software.common.util.GeneralUtils;
+import stirling.software.common.util.MultiFileResponseBody;
+import stirling.software.common.util.ParallelPartWriter;
+import stirling.software.common.util.PdfPageRangeWriter;
+import stirling.software.common.util.PdfPageSizeEstimator;
 import stirling.software.common.util.TempFile;
 import stirling.software.common.util.TempFileManager;
 import stirling.software.common.util.WebResponseUtils;
@@ -60,13 +64,15 @@ public class SplitPdfBySizeController {
         String filename = GeneralUtils.generateFilename(file.getOriginalFilename(), "");
         log.debug("Base filename for output: {}", filename);
 
-        TempFile zipTempFile = new TempFile(tempFileManager, ".zip");
+        List<MultiFileResponseBody.Part> parts = new ArrayList<>();
         try {
-            log.debug("Created temporary managed zip file: {}", zipTempFile.getPath());
-            log.debug("Creating ZIP output stream");
-            try (ZipOutputStream zipOut =
-                            new ZipOutputStream(Files.newOutputStream(zipTempFile.getPath()));
-                    PDDocument sourceDocument = pdfDocumentFactory.load(file)) {
+            List<MultiFileResponseBody.Part> concurrentParts =
+                    writePartsConcurrently(request, file, filename);
+            if (concurrentParts != null) {
+                log.debug("Returning streaming response for split parts");
+                return WebResponseUtils.multiFileToWebResponse(concurrentParts, filename + ".zip");
+            }
+            try (PDDocument sourceDocument = pdfDocumentFactory.load(file)) {
                 log.debug(
                         "Successfully loaded PDF with {} pages", sourceDocument.getNumberOfPages());
 
@@ -78,17 +84,17 @@ public class SplitPdfBySizeController {
                     log.debug("Processing split by size");
                     long maxBytes = GeneralUtils.convertSizeToBytes(value);
                     log.debug("Max bytes per document: {}", maxBytes);
-                    handleSplitBySize(sourceDocument, maxBytes, zipOut, filename);
+                    handleSplitBySize(sourceDocument, maxBytes, parts, filename);
                 } else if (type == 1) {
                     log.debug("Processing split by page count");
                     int pageCount = Integer.parseInt(value);
                     log.debug("Pages per document: {}", pageCount);
-                    handleSplitByPageCount(sourceDocument, pageCount, zipOut, filename);
+                    handleSplitByPageCount(sourceDocument, pageCount, parts, filename);
                 } else if (type == 2) {
                     log.debug("Processing split by document count");
                     int documentCount = Integer.parseInt(value);
                     log.debug("Total number of documents: {}", documentCount);
-                    handleSplitByDocCount(sourceDocument, documentCount, zipOut, filename);
+                    handleSplitByDocCount(sourceDocument, documentCount, parts, filename);
                 } else {
                     log.error("Invalid split type: {}", type);
                     throw ExceptionUtils.createIllegalArgumentException(
@@ -99,186 +105,191 @@ public class SplitPdfBySizeController {
                 log.debug("PDF splitting completed successfully");
             }
 
-            log.debug("Returning streaming response for zip file");
-            return WebResponseUtils.zipFileToWebResponse(zipTempFile, filename + ".zip");
+            log.debug("Returning streaming response for split parts");
+            return WebResponseUtils.multiFileToWebResponse(parts, filename + ".zip");
         } catch (Exception e) {
             ExceptionUtils.logException("PDF splitting process", e);
-            zipTempFile.close();
+            parts.forEach(part -> part.file().close());
             throw e;
         }
     }
 
-    private void handleSplitBySize(
-            PDDocument sourceDocument, long maxBytes, ZipOutputStream zipOut, String baseFilename)
+    /**
+     * Splits by page or document count by copying the parts from the source bytes, several at a
+     * time. Returns null when the split has to go through the loaded document instead: for a split
+     * by size, where each part depends on the size of the previous one, for counts the loaded path
+     * treats specially, and for encrypted sources.
+     */
+    private List<MultiFileResponseBody.Part> writePartsConcurrently(
+            SplitPdfBySizeOrCountRequest request, MultipartFile file, String baseFilename)
             throws IOException {
-        log.debug("Starting handleSplitBySize with maxBytes={}", maxBytes);
+        int type = request.getSplitType();
+        if (type != 1 && type != 2) {
+            return null;
+        }
+        int value = Integer.parseInt(request.getSplitValue());
+        if (value <= 0) {
+            return null;
+        }
+        try (PdfPageRangeWriter pageWriter = pdfDocumentFactory.openPageRangeWriter(file)) {
+            if (pageWriter == null) {
+                return null;
+            }
+            int totalPages = pageWriter.getPageCount();
+            List<List<Integer>> parts =
+                    type == 1
+                            ? partsByPageCount(totalPages, value)
+                            : partsByDocCount(totalPages, value);
+            log.debug("Writing {} parts concurrently", parts.size());
+            List<String> entryNames = new ArrayList<>(parts.size());
+            for (int i = 1; i <= parts.size(); i++) {
+                entryNames.add(baseFilename + "_" + i + ".pdf");
+            }
+            try {
+                List<TempFile> files =
+                        ParallelPartWriter.writeParts(
+                                parts.size(),
+                                ".pdf",
+                                ParallelPartWriter.MAX_PARALLELISM,
+                                tempFileManager,
+                                pageWriter::fork,
+                                (writer, index, out) -> writer.writePages(parts.get(index), out));
+                return MultiFileResponseBody.parts(
+                        entryNames, MediaType.APPLICATION_PDF_VALUE, files);
+            } catch (IOException e) {
+                throw ExceptionUtils.createFileProcessingException("split", e);
+            }
+        }
+    }
 
-        @Getter
-        class DocHolder implements AutoCloseable {
-            private PDDocument doc;
+    /** Consecutive runs of {@code pageCount} pages; the last one may be shorter. */
+    private static List<List<Integer>> partsByPageCount(int totalPages, int pageCount) {
+        List<List<Integer>> parts = new ArrayList<>();
+        for (int start = 0; start < totalPages; start += pageCount) {
+            parts.add(
+                    IntStream.range(start, Math.min(start + pageCount, totalPages))
+                            .boxed()
+                            .toList());
+        }
+        return parts;
+    }
 
-            public DocHolder(PDDocument doc) {
-                this.doc = doc;
-            }
+    /**
+     * {@code documentCount} consecutive runs of pages as even as possible, the first ones taking
+     * one extra page each.
+     */
+    private static List<List<Integer>> partsByDocCount(int totalPages, int documentCount) {
+        int pagesPerDocument = totalPages / documentCount;
+        int extraPages = totalPages % documentCount;
+        List<List<Integer>> parts = new ArrayList<>(documentCount);
+        int start = 0;
+        for (int i = 0; i < documentCount; i++) {
+            int end = start + pagesPerDocument + (i < extraPages ? 1 : 0);
+            parts.add(IntStream.range(start, end).boxed().toList());
+            start = end;
+        }
+        return parts;
+    }
 
-            public void setDoc(PDDocument doc) {
-                if (this.doc != null) {
-                    try {
-                        this.doc.close();
-                    } catch (IOException e) {
-                        log.error("Error closing document", e);
-                    }
-                }
-                this.doc = doc;
-            }
+    private void handleSplitBySize(
+            PDDocument sourceDocument,
+            long maxBytes,
+            List<MultiFileResponseBody.Part> parts,
+            String baseFilename)
+            throws IOException {
+        log.debug("Starting handleSplitBySize with maxBytes={}", maxBytes);
+
+        // Collect pages up front; adding a page to a part re-parents it in the source tree
+        List<PDPage> pages = new ArrayList<>(sourceDocument.getNumberOfPages());
+        for (PDPage page : sourceDocument.getPages()) {
+            pages.add(page);
+        }
+        int totalPages = pages.size();
 
-            @Override
-            public void close() throws IOException {
-                if (doc != null) {
-                    doc.close();
+        PdfPageSizeEstimator estimator = new PdfPageSizeEstimator();
+        // Saved size relative to the estimate, learned from the parts written so far. The
+        // estimate ignores compression, so starting at 1 errs towards smaller parts.
+        double calibration = 1.0;
+        int fileIndex = 1;
+        int start = 0;
+        while (start < totalPages) {
+            int end = findPartEnd(pages, start, totalPages, maxBytes, calibration, estimator);
+            while (true) {
+                long estimated = estimator.getEstimatedSize();
+                byte[] partBytes = savePart(sourceDocument, pages, start, end);
+                calibration = (double) partBytes.length / Math.max(1L, estimated);
+                log.debug(
+                        "Part {} with pages {}-{}: {} bytes (estimated {}, max {})",
+                        fileIndex,
+                        start + 1,
+                        end,
+                        partBytes.length,
+                        estimated,
+                        maxBytes);
+                if (partBytes.length <= maxBytes || end - start == 1) {
+                    addPart(parts, baseFilename, fileIndex++, partBytes);
+                    break;
                 }
+                // Over the limit: retry with fewer pages using the corrected calibration
+                end = findPartEnd(pages, start, end - 1, maxBytes, calibration, estimator);
             }
+            start = end;
         }
 
-        int fileIndex = 1;
-        try (DocHolder holder =
-                new DocHolder(
-                        pdfDocumentFactory.createNewDocumentBasedOnOldDocument(sourceDocument))) {
-            int totalPages = sourceDocument.getNumberOfPages();
-            int pageAdded = 0;
-
-            // Smart size check frequency - check more often with larger documents
-            int baseCheckFrequency = 5;
-
-            for (int pageIndex = 0; pageIndex < totalPages; pageIndex++) {
-                PDPage page = sourceDocument.getPage(pageIndex);
-                log.debug("Processing page {} of {}", pageIndex + 1, totalPages);
-
-                // Add the page to current document
-                PDPage newPage = new PDPage(page.getCOSObject());
-                holder.getDoc().addPage(newPage);
-                pageAdded++;
-
-                // Dynamic size checking based on document size and page count
-                boolean shouldCheckSize =
-                        (pageAdded % baseCheckFrequency == 0)
-                                || (pageIndex == totalPages - 1)
-                                || (pageAdded >= 20); // Always check after 20 pages
-
-                if (shouldCheckSize) {
-                    log.debug("Performing size check after {} pages", pageAdded);
-                    long actualSize;
-                    try (ByteArrayOutputStream checkSizeStream = new ByteArrayOutputStream()) {
-                        holder.getDoc().save(checkSizeStream);
-                        actualSize = checkSizeStream.size();
-                    }
-                    log.debug(
-                            "Current document size: {} bytes (max: {} bytes)",
-                            actualSize,
-                            maxBytes);
-
-                    if (actualSize > maxBytes) {
-                        // We exceeded the limit - remove the last page and save
-                        if (holder.getDoc().getNumberOfPages() > 1) {
-                            holder.getDoc().removePage(holder.getDoc().getNumberOfPages() - 1);
-                            pageIndex--; // Process this page again in the next document
-                            log.debug("Size limit exceeded - removed last page");
-                        }
+        log.debug("Completed handleSplitBySize with {} document parts created", fileIndex - 1);
+    }
 
-                        log.debug(
-                                "Saving document with {} pages as part {}",
-                                holder.getDoc().getNumberOfPages(),
-                                fileIndex);
-                        saveDocumentToZip(holder.getDoc(), zipOut, baseFilename, fileIndex++);
-                        holder.setDoc(new PDDocument());
-                        pageAdded = 0;
-                    } else if (pageIndex < totalPages - 1) {
-                        // We're under the limit, calculate if we might fit more pages
-                        // Try to predict how many more similar pages might fit
-                        if (actualSize < maxBytes * 0.75 && pageAdded > 0) {
-                            // Rather than using a ratio, look ahead to test actual upcoming pages
-                            int pagesToLookAhead = Math.min(5, totalPages - pageIndex - 1);
-
-                            if (pagesToLookAhead > 0) {
-                                log.debug(
-                                        "Testing {} upcoming pages for potential addition",
-                                        pagesToLookAhead);
-
-                                // Create a temp document with current pages + look-ahead pages
-                                try (PDDocument testDoc = new PDDocument()) {
-                                    // First copy existing pages
-                                    for (int i = 0; i < holder.getDoc().getNumberOfPages(); i++) {
-                                        testDoc.addPage(
-                                                new PDPage(
-                                                        holder.getDoc().getPage(i).getCOSObject()));
-                                    }
-
-                                    // Try adding look-ahead pages one by one
-                                    int extraPagesAdded = 0;
-                                    for (int i = 0; i < pagesToLookAhead; i++) {
-                                        int testPageIndex = pageIndex + 1 + i;
-                                        PDPage testPage = sourceDocument.getPage(testPageIndex);
-                                        testDoc.addPage(new PDPage(testPage.getCOSObject()));
-
-                                        // Check if we're still under size
-                                        long testSize;
-                                        try (ByteArrayOutputStream testStream =
-                                                new ByteArrayOutputStream()) {
-                                            testDoc.save(testStream);
-                                            testSize = testStream.size();
-                                        }
-
-                                        if (testSize <= maxBytes) {
-                                            extraPagesAdded++;
-                                            log.debug(
-                                                    "Test: Can add page {} (size would be {})",
-                                                    testPageIndex + 1,
-                                                    testSize);
-                                        } else {
-                                            log.debug(
-                                                    "Test: Cannot add page {} (size would be {})",
-                                                    testPageIndex + 1,
-                                                    testSize);
-                                            break;
-                                        }
-                                    }
-                                    // Add the pages we verified would fit
-                                    if (extraPagesAdded > 0) {
-                                        log.debug(
-                                                "Adding {} verified pages ahead", extraPagesAdded);
-                                        for (int i = 0; i < extraPagesAdded; i++) {
-                                            int extraPageIndex = pageIndex + 1 + i;
-                                            PDPage extraPage =
-                                                    sourceDocument.getPage(extraPageIndex);
-                                            holder.getDoc()
-                                                    .addPage(new PDPage(extraPage.getCOSObject()));
-                                        }
-                                        pageIndex += extraPagesAdded;
-                                        pageAdded += extraPagesAdded;
-                                    }
-                                }
-                            }
-                        }
-                    }
+    /**
+     * Returns the exclusive end of the part starting at {@code start}: as many pages as fit into
+     * {@code maxBytes} by the calibrated estimate, at least one and at most up to {@code limit}.
+     * Leaves {@code estimator} holding the estimate of exactly those pages.
+     */
+    private int findPartEnd(
+            List<PDPage> pages,
+            int start,
+            int limit,
+            long maxBytes,
+            double calibration,
+            PdfPageSizeEstimator estimator) {
+        estimator.reset();
+        estimator.addPage(pages.get(start));
+        int end = start + 1;
+        while (end < limit) {
+            estimator.addPage(pages.get(end));
+            if (estimator.getEstimatedSize() * calibration > maxBytes) {
+                // Rebuild the estimate without the page that did not fit
+                estimator.reset();
+                for (int i = start; i < end; i++) {
+                    estimator.addPage(pages.get(i));
                 }
+                break;
             }
+            end++;
+        }
+        return end;
+    }
 
-            // Save final document if it has any pages
-            if (holder.getDoc() != null && holder.getDoc().getNumberOfPages() > 0) {
-                log.debug(
-                        "Saving final document with {} pages as part {}",
-                        holder.getDoc().getNumberOfPages(),
-                        fileIndex);
-                saveDocumentToZip(holder.getDoc(), zipOut, baseFilename, fileIndex++);
-                holder.setDoc(null);
+    private byte[] savePart(PDDocument sourceDocument, List<PDPage> pages, int start, int end)
+            throws IOException {
+        try (PDDocument part =
+                        pdfDocumentFactory.createNewDocumentBasedOnOldDocument(sourceDocument);
+                ByteArrayOutputStream outStream = new ByteArrayOutputStream()) {
+            for (int i = start; i < end; i++) {
+                part.addPage(new PDPage(pages.get(i).getCOSObject()));
             }
+            part.save(outStream);
+            return outStream.toByteArray();
+        } catch (IOException e) {
+            log.error("Error saving pages {}-{}", start + 1, end, e);
+            throw ExceptionUtils.createFileProcessingException("split", e);
         }
-
-        log.debug("Completed handleSplitBySize with {} document parts created", fileIndex - 1);
     }
 
     private void handleSplitByPageCount(
-            PDDocument sourceDocument, int pageCount, ZipOutputStream zipOut, String baseFilename)
+            PDDocument sourceDocument,
+            int pageCount,
+            List<MultiFileResponseBody.Part> parts,
+            String baseFilename)
             throws IOException {
         log.debug("Starting handleSplitByPageCount with pageCount={}", pageCount);
         int currentPageCount = 0;
@@ -322,8 +333,8 @@ public class SplitPdfBySizeController {
                                 pageCount,
                                 fileIndex);
                         try {
-                            saveDocumentToZip(currentDoc, zipOut, baseFilename, fileIndex++);
-                            currentDoc = null; // Document is closed by saveDocumentToZip
+                            saveDocumentAsPart(currentDoc, parts, baseFilename, fileIndex++);
+                            currentDoc = null; // Document is closed by saveDocumentAsPart
                             log.debug("Successfully saved document part {}", fileIndex - 1);
                         } catch (Exception e) {
                             log.error("Error saving document part {}", fileIndex - 1, e);
@@ -356,8 +367,8 @@ public class SplitPdfBySizeController {
                             currentDoc.getPages().getCount(),
                             fileIndex);
                     try {
-                        saveDocumentToZip(currentDoc, zipOut, baseFilename, fileIndex++);
-                        currentDoc = null; // Document is closed by saveDocumentToZip
+                        saveDocumentAsPart(currentDoc, parts, baseFilename, fileIndex++);
+                        currentDoc = null; // Document is closed by saveDocumentAsPart
                         log.debug("Successfully saved final document part {}", fileIndex - 1);
                     } catch (Exception e) {
                         log.error("Error saving final document part {}", fileIndex - 1, e);
@@ -388,7 +399,7 @@ public class SplitPdfBySizeController {
     private void handleSplitByDocCount(
             PDDocument sourceDocument,
             int documentCount,
-            ZipOutputStream zipOut,
+            List<MultiFileResponseBody.Part> parts,
             String baseFilename)
             throws IOException {
         log.debug("Starting handleSplitByDocCount with documentCount={}", documentCount);
@@ -430,8 +441,8 @@ public class SplitPdfBySizeController {
 
                 try {
                     log.debug("Saving document {} with {} pages", i + 1, pagesToAdd);
-                    saveDocumentToZip(currentDoc, zipOut, baseFilename, fileIndex++);
-                    // saveDocumentToZip closes the document
+                    saveDocumentAsPart(currentDoc, parts, baseFilename, fileIndex++);
+                    // saveDocumentAsPart closes the document
                     currentDoc = null;
                     log.debug("Successfully saved document {}", i + 1);
                 } catch (Exception e) {
@@ -455,40 +466,47 @@ public class SplitPdfBySizeController {
         log.debug("Completed handleSplitByDocCount with {} documents created", documentCount);
     }
 
-    private void saveDocumentToZip(
-            PDDocument document, ZipOutputStream zipOut, String baseFilename, int index)
+    private void saveDocumentAsPart(
+            PDDocument document,
+            List<MultiFileResponseBody.Part> parts,
+            String baseFilename,
+            int index)
             throws IOException {
-        log.debug("Starting saveDocumentToZip for document part {}", index);
-        try (ByteArrayOutputStream outStream = new ByteArrayOutputStream()) {
-
-            try (PDDocument doc = document) {
-                log.debug("Saving document part {} to byte array", index);
-                doc.save(outStream);
-                log.debug(
-                        "Successfully saved document part {} ({} bytes)", index, outStream.size());
-            } catch (Exception e) {
-                log.error("Error saving document part {} to byte array", index, e);
-                throw ExceptionUtils.createFileProcessingException("split", e);
-            }
+        log.debug("Starting saveDocumentAsPart for document part {}", index);
+        TempFile partFile = newPart(parts, baseFilename, index);
+        try (PDDocument doc = document) {
+            log.debug("Saving document part {} to {}", index, partFile.getPath());
+            doc.save(partFile.getFile());
+            log.debug("Successfully saved document part {}", index);
+        } catch (Exception e) {
+            log.error("Error saving document part {}", index, e);
+            throw ExceptionUtils.createFileProcessingException("split", e);
+        }
+    }
 
-            try {
-                // Create a new zip entry
-                String entryName = baseFilename + "_" + index + ".pdf";
-                log.debug("Creating ZIP entry: {}", entryName);
-                ZipEntry zipEntry = new ZipEntry(entryName);
-                zipOut.putNextEntry(zipEntry);
-
-                byte[] bytes = outStream.toByteArray();
-                log.debug("Writing {} bytes to ZIP entry", bytes.length);
-                zipOut.write(bytes);
-
-                log.debug("Closing ZIP entry");
-                zipOut.closeEntry();
-                log.debug("Successfully added document part {} to ZIP", index);
-            } catch (Exception e) {
-                log.error("Error adding document part {} to ZIP", index, e);
-                throw ExceptionUtils.createFileProcessingException("split", e);
-            }
+    private void addPart(
+            List<MultiFileResponseBody.Part> parts, String baseFilename, int index, byte[] bytes)
+            throws IOException {
+        try {
+            TempFile partFile = newPart(parts, baseFilename, index);
+            log.debug("Writing {} bytes to document part {}", bytes.length, index);
+            Files.write(partFile.getPath(), bytes);
+        } catch (Exception e) {
+            log.error("Error writing document part {}", index, e);
+            throw ExceptionUtils.createFileProcessingException("split", e);
         }
     }
+
+    /** Creates the file of part {@code index}, registered so that it is deleted on failure. */
+    private TempFile newPart(
+            List<MultiFileResponseBody.Part> parts, String baseFilename, int index)
+            throws IOException {
+        TempFile partFile = new TempFile(tempFileManager, ".pdf");
+        parts.add(
+                new MultiFileResponseBody.Part(
+                        baseFilename + "_" + index + ".pdf",
+                        MediaType.APPLICATION_PDF_VALUE,
+                        partFile));
+        return partFile;
+    }
 }
@@ -46,6 +46,7 @@ import stirling.software.common.util.CbzUtils;
 import stirling.software.common.util.CheckProgramInstall;
 import stirling.software.common.util.ExceptionUtils;
 import stirling.software.common.util.GeneralUtils;
+import stirling.software.common.util.PdfPageRangeWriter;
 import stirling.software.common.util.PdfToCbrUtils;
 import stirling.software.common.util.PdfToCbzUtils;
 import stirling.software.common.util.PdfUtils;
@@ -394,6 +395,17 @@ public class ConvertImgPDFController {
      */
     private byte[] rearrangePdfPages(MultipartFile pdfFile, String[] pageOrderArr)
             throws IOException {
+        // Unencrypted inputs are copied from the source bytes without re-serializing
+        try (PdfPageRangeWriter pageWriter = pdfDocumentFactory.openPageRangeWriter(pdfFile)) {
+            if (pageWriter != null) {
+                List<Integer> newPageOrder =
+                        GeneralUtils.parsePageList(pageOrderArr, pageWriter.getPageCount(), false);
+                ByteArrayOutputStream baos = new ByteArrayOutputStream();
+                pageWriter.writePages(newPageOrder, baos);
+                return baos.toByteArray();
+            }
+        }
+
         // Load the input PDF
         try (PDDocument document = pdfDocumentFactory.load(pdfFile);
                 ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
@@ -1882,14 +1882,11 @@ public class ConvertPDFToPDFA {
 
     private void verifyStrictCompliance(byte[] pdfBytes) throws IOException {
         try (InputStream is = new ByteArrayInputStream(pdfBytes)) {
-            List<stirling.software.SPDF.model.api.security.PDFVerificationResult> results =
-                    veraPDFService.validatePDF(is);
-            boolean isCompliant = results.stream().anyMatch(result -> result.isCompliant());
-            if (!isCompliant) {
-                String details =
-                        results.stream()
-                                .map(r -> r.getStandard() + ": " + r.getComplianceSummary())
-                                .collect(Collectors.joining("; "));
+            // Only pass/fail of the profile written into the XMP matters here
+            stirling.software.SPDF.model.api.security.PDFVerificationResult result =
+                    veraPDFService.validateClaimedProfile(is, true);
+            if (!result.isCompliant()) {
+                String details = result.getStandard() + ": " + result.getComplianceSummary();
                 throw new ResponseStatusException(
                         HttpStatus.BAD_REQUEST,
                         "Strict PDF/A mode enabled: Conversion is not perfectly compliant. Details: "
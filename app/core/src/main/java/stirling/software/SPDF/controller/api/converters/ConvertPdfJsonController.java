@@ -1,18 +1,27 @@
 package stirling.software.SPDF.controller.api.converters;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
@@ -45,6 +54,7 @@ public class ConvertPdfJsonController {
     private static final Pattern FILE_EXTENSION_PATTERN = Pattern.compile("[.][^.]+$");
     private static final Pattern WHITESPACE_PATTERN = Pattern.compile("[\\r\\n\\t]+");
     private static final Pattern NON_PRINTABLE_PATTERN = Pattern.compile("[^\\x20-\\x7E]");
+    private static final Pattern ASSET_HASH_PATTERN = Pattern.compile("[0-9a-f]{64}");
     private final PdfJsonConversionService pdfJsonConversionService;
     private final TempFileManager tempFileManager;
 
@@ -65,10 +75,6 @@ public class ConvertPdfJsonController {
             throw ExceptionUtils.createNullArgumentException("fileInput");
         }
 
-        // TODO: Refactor PdfJsonConversionService to write directly to an OutputStream
-        // instead of returning byte[], avoiding the intermediate heap allocation + temp file write
-        byte[] jsonBytes = pdfJsonConversionService.convertPdfToJson(inputFile, lightweight);
-        logJsonResponse("pdf/text-editor", jsonBytes);
         String originalName = inputFile.getOriginalFilename();
         String baseName =
                 (originalName != null && !originalName.isBlank())
@@ -78,12 +84,14 @@ public class ConvertPdfJsonController {
                         : "document";
         String docName = baseName + ".json";
         TempFile tempOut = tempFileManager.createManagedTempFile(".json");
-        try {
-            Files.write(tempOut.getPath(), jsonBytes);
+        try (OutputStream out =
+                new BufferedOutputStream(Files.newOutputStream(tempOut.getPath()))) {
+            pdfJsonConversionService.convertPdfToJson(inputFile, lightweight, out);
         } catch (Exception e) {
             tempOut.close();
             throw e;
         }
+        logJsonResponse("pdf/text-editor", tempOut.getPath());
         return WebResponseUtils.fileToWebResponse(tempOut, docName, MediaType.APPLICATION_JSON);
     }
 
@@ -174,11 +182,13 @@ public class ConvertPdfJsonController {
             description =
                     "Applies edits for the specified pages of a cached PDF and returns an updated PDF."
                             + " Requires the PDF to have been previously cached via the text editor metadata endpoint."
-                            + " The jobId must be obtained from the metadata extraction endpoint.")
+                            + " The jobId must be obtained from the metadata extraction endpoint."
+                            + " Edits are appended as a PDF incremental update unless fullRewrite=true.")
     public ResponseEntity<StreamingResponseBody> exportPartialPdf(
             @PathVariable String jobId,
             @RequestBody PdfJsonDocument document,
-            @RequestParam(value = "filename", required = false) String filename)
+            @RequestParam(value = "filename", required = false) String filename,
+            @RequestParam(value = "fullRewrite", defaultValue = "false") boolean fullRewrite)
             throws Exception {
         if (document == null) {
             throw ExceptionUtils.createNullArgumentException("document");
@@ -186,7 +196,8 @@ public class ConvertPdfJsonController {
 
         validateJobAccess(jobId);
 
-        byte[] pdfBytes = pdfJsonConversionService.exportUpdatedPages(jobId, document);
+        byte[] pdfBytes =
+                pdfJsonConversionService.exportUpdatedPages(jobId, document, fullRewrite);
 
         String baseName =
                 (filename != null && !filename.isBlank())
@@ -214,13 +225,18 @@ public class ConvertPdfJsonController {
             description =
                     "Retrieves a single page's content from a previously cached PDF document for the text editor tool."
                             + " Requires prior call to /pdf/text-editor/metadata. The jobId must belong to the"
-                            + " authenticated user. Output:JSON")
+                            + " authenticated user. With assets=true images are referenced by hash and"
+                            + " served by /pdf/text-editor/asset. Output:JSON")
     public ResponseEntity<StreamingResponseBody> extractSinglePage(
-            @PathVariable String jobId, @PathVariable int pageNumber) throws Exception {
+            @PathVariable String jobId,
+            @PathVariable int pageNumber,
+            @RequestParam(value = "assets", defaultValue = "false") boolean externalAssets)
+            throws Exception {
 
         validateJobAccess(jobId);
 
-        byte[] jsonBytes = pdfJsonConversionService.extractSinglePage(jobId, pageNumber);
+        byte[] jsonBytes =
+                pdfJsonConversionService.extractSinglePage(jobId, pageNumber, externalAssets);
         logJsonResponse("pdf/text-editor/page", jsonBytes);
         String docName = "page_" + pageNumber + ".json";
         TempFile tempOut = tempFileManager.createManagedTempFile(".json");
@@ -239,13 +255,18 @@ public class ConvertPdfJsonController {
             description =
                     "Retrieves the font payloads used by a single page from a previously cached PDF document."
                             + " Requires prior call to /pdf/text-editor/metadata. The jobId must belong to the"
-                            + " authenticated user. Output:JSON")
+                            + " authenticated user. With assets=true font programs are referenced by hash"
+                            + " and served by /pdf/text-editor/asset. Output:JSON")
     public ResponseEntity<StreamingResponseBody> extractPageFonts(
-            @PathVariable String jobId, @PathVariable int pageNumber) throws Exception {
+            @PathVariable String jobId,
+            @PathVariable int pageNumber,
+            @RequestParam(value = "assets", defaultValue = "false") boolean externalAssets)
+            throws Exception {
 
         validateJobAccess(jobId);
 
-        byte[] jsonBytes = pdfJsonConversionService.extractPageFonts(jobId, pageNumber);
+        byte[] jsonBytes =
+                pdfJsonConversionService.extractPageFonts(jobId, pageNumber, externalAssets);
         logJsonResponse("pdf/text-editor/fonts/page", jsonBytes);
         String docName = "page_fonts_" + pageNumber + ".json";
         TempFile tempOut = tempFileManager.createManagedTempFile(".json");
@@ -258,6 +279,49 @@ public class ConvertPdfJsonController {
         return WebResponseUtils.fileToWebResponse(tempOut, docName, MediaType.APPLICATION_JSON);
     }
 
+    @GetMapping(value = "/pdf/text-editor/asset/{jobId}/{hash}")
+    @Operation(
+            summary = "Download a binary asset of a cached text editor document",
+            description =
+                    "Returns the raw bytes of an image or font program referenced by hash from the"
+                            + " page or font endpoints called with assets=true. Assets are immutable and"
+                            + " served with a strong ETag. The jobId must belong to the authenticated user.")
+    public ResponseEntity<byte[]> getAsset(
+            @PathVariable String jobId,
+            @PathVariable String hash,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+                    String ifNoneMatch) {
+
+        validateJobAccess(jobId);
+
+        if (!ASSET_HASH_PATTERN.matcher(hash).matches()) {
+            return ResponseEntity.notFound().build();
+        }
+        PdfJsonConversionService.TextEditorAsset asset =
+                pdfJsonConversionService.getAsset(jobId, hash);
+        if (asset == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        String eTag = "\"" + hash + "\"";
+        // Assets are content addressed, so a cached copy never needs revalidation
+        CacheControl cacheControl =
+                CacheControl.maxAge(365, TimeUnit.DAYS).cachePrivate().immutable();
+        if (ifNoneMatch != null
+                && (ifNoneMatch.contains(eTag) || "*".equals(ifNoneMatch.trim()))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(cacheControl)
+                .contentType(MediaType.parseMediaType(asset.contentType()))
+                .contentLength(asset.data().length)
+                .body(asset.data());
+    }
+
     @AutoJobPostMapping(
             value = "/pdf/text-editor/clear-cache/{jobId}",
             consumes = MediaType.ALL_VALUE)
@@ -282,6 +346,15 @@ public class ConvertPdfJsonController {
         return baseJobId;
     }
 
+    private void logJsonResponse(String label, Path jsonFile) throws IOException {
+        if (isPdfJsonDebugDumpEnabled() || isPdfJsonRepeatScanEnabled()) {
+            // Diagnostics need the full payload; only read it back when explicitly enabled
+            logJsonResponse(label, Files.readAllBytes(jsonFile));
+        } else if (log.isDebugEnabled()) {
+            log.debug("Returning {} JSON response ({} bytes)", label, Files.size(jsonFile));
+        }
+    }
+
     private void logJsonResponse(String label, byte[] jsonBytes) {
         if (jsonBytes == null) {
             log.warn("Returning {} JSON response: null bytes", label);
@@ -29,6 +29,8 @@ import stirling.software.common.annotations.AutoJobPostMapping;
 import stirling.software.common.annotations.api.FilterApi;
 import stirling.software.common.service.CustomPDFDocumentFactory;
 import stirling.software.common.util.ExceptionUtils;
+import stirling.software.common.util.PageTextIndex;
+import stirling.software.common.util.PdfInspector;
 import stirling.software.common.util.PdfUtils;
 import stirling.software.common.util.TempFileManager;
 import stirling.software.common.util.WebResponseUtils;
@@ -63,6 +65,7 @@ public class FilterController {
         String pageNumber = request.getPageNumbers();
 
         try (PDDocument pdfDocument = pdfDocumentFactory.load(inputFile)) {
+            PageTextIndex.bind(pdfDocument, PageTextIndex.contentKey(inputFile));
             if (PdfUtils.hasText(pdfDocument, pageNumber, text)) {
                 return WebResponseUtils.pdfDocToWebResponse(
                         pdfDocument,
@@ -128,8 +131,8 @@ public class FilterController {
         String comparator = request.getComparator();
 
         boolean valid;
-        try (PDDocument document = pdfDocumentFactory.load(inputFile)) {
-            int actualPageCount = document.getNumberOfPages();
+        try (PdfInspector inspector = pdfDocumentFactory.inspect(inputFile)) {
+            int actualPageCount = inspector.getPageCount();
             valid = compare(actualPageCount, pageCount, comparator);
         }
 
@@ -159,9 +162,8 @@ public class FilterController {
         String comparator = request.getComparator();
 
         final boolean valid;
-        try (PDDocument document = pdfDocumentFactory.load(inputFile)) {
-            PDPage firstPage = document.getPage(0);
-            PDRectangle actualPageSize = firstPage.getMediaBox();
+        try (PdfInspector inspector = pdfDocumentFactory.inspect(inputFile)) {
+            PDRectangle actualPageSize = inspector.getMediaBox(0);
 
             float actualArea = actualPageSize.getWidth() * actualPageSize.getHeight();
             PDRectangle standardSize = PdfUtils.textToPageSize(standardPageSize);
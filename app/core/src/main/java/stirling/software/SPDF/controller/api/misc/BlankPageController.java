@@ -2,13 +2,9 @@ package stirling.software.SPDF.controller.api.misc;
 
 import java.awt.image.BufferedImage;
 import java.io.IOException;
-import java.io.OutputStream;
-import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
 
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDPage;
@@ -36,6 +32,7 @@ import stirling.software.common.service.CustomPDFDocumentFactory;
 import stirling.software.common.util.ApplicationContextProvider;
 import stirling.software.common.util.ExceptionUtils;
 import stirling.software.common.util.GeneralUtils;
+import stirling.software.common.util.MultiFileResponseBody;
 import stirling.software.common.util.PdfUtils;
 import stirling.software.common.util.TempFile;
 import stirling.software.common.util.TempFileManager;
@@ -159,25 +156,24 @@ public class BlankPageController {
                     GeneralUtils.removeExtension(
                             Filenames.toSimpleFileName(inputFile.getOriginalFilename()));
 
-            TempFile tempOut = tempFileManager.createManagedTempFile(".zip");
-            try (OutputStream fos = Files.newOutputStream(tempOut.getFile().toPath());
-                    ZipOutputStream zos = new ZipOutputStream(fos)) {
+            List<MultiFileResponseBody.Part> parts = new ArrayList<>();
+            try {
                 if (!nonBlankPages.isEmpty()) {
-                    createZipEntry(zos, nonBlankPages, filename + "_nonBlankPages.pdf");
+                    createPart(parts, nonBlankPages, filename + "_nonBlankPages.pdf");
                 } else {
-                    createZipEntry(zos, blankPages, filename + "_allBlankPages.pdf");
+                    createPart(parts, blankPages, filename + "_allBlankPages.pdf");
                 }
 
                 if (!nonBlankPages.isEmpty() && !blankPages.isEmpty()) {
-                    createZipEntry(zos, blankPages, filename + "_blankPages.pdf");
+                    createPart(parts, blankPages, filename + "_blankPages.pdf");
                 }
             } catch (IOException e) {
-                tempOut.close();
+                parts.forEach(part -> part.file().close());
                 throw e;
             }
 
             log.info("Returning ZIP file: {}", filename + "_processed.zip");
-            return WebResponseUtils.zipFileToWebResponse(tempOut, filename + "_processed.zip");
+            return WebResponseUtils.multiFileToWebResponse(parts, filename + "_processed.zip");
 
         } catch (ExceptionUtils.OutOfMemoryDpiException e) {
             throw e;
@@ -187,7 +183,8 @@ public class BlankPageController {
         }
     }
 
-    public void createZipEntry(ZipOutputStream zos, List<PDPage> pages, String entryName)
+    public void createPart(
+            List<MultiFileResponseBody.Part> parts, List<PDPage> pages, String fileName)
             throws IOException {
         try (PDDocument document = pdfDocumentFactory.createNewDocument()) {
 
@@ -195,10 +192,11 @@ public class BlankPageController {
                 document.addPage(page);
             }
 
-            ZipEntry zipEntry = new ZipEntry(entryName);
-            zos.putNextEntry(zipEntry);
-            document.save(zos);
-            zos.closeEntry();
+            TempFile partFile = new TempFile(tempFileManager, ".pdf");
+            parts.add(
+                    new MultiFileResponseBody.Part(
+                            fileName, MediaType.APPLICATION_PDF_VALUE, partFile));
+            document.save(partFile.getFile());
         }
     }
 }
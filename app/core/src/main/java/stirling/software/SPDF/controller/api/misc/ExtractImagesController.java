@@ -4,14 +4,12 @@ import java.awt.Graphics2D;
 import java.awt.Image;
 import java.awt.image.BufferedImage;
 import java.awt.image.RenderedImage;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Set;
-import java.util.zip.Deflater;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
 
 import javax.imageio.ImageIO;
 
@@ -37,6 +35,7 @@ import stirling.software.common.annotations.api.MiscApi;
 import stirling.software.common.service.CustomPDFDocumentFactory;
 import stirling.software.common.util.ExceptionUtils;
 import stirling.software.common.util.GeneralUtils;
+import stirling.software.common.util.MultiFileResponseBody;
 import stirling.software.common.util.TempFile;
 import stirling.software.common.util.TempFileManager;
 import stirling.software.common.util.WebResponseUtils;
@@ -65,40 +64,35 @@ public class ExtractImagesController {
         String baseFilename = GeneralUtils.removeExtension(file.getOriginalFilename());
         Set<Integer> processedImageHashes = new HashSet<>();
 
-        TempFile zipFile = new TempFile(tempFileManager, ".zip");
-        try (ZipOutputStream zipStream =
-                        new ZipOutputStream(Files.newOutputStream(zipFile.getPath()));
-                PDDocument pdfDoc = pdfDocumentFactory.load(file)) {
-
-            zipStream.setLevel(Deflater.BEST_COMPRESSION);
-
+        List<MultiFileResponseBody.Part> images = new ArrayList<>();
+        try (PDDocument pdfDoc = pdfDocumentFactory.load(file)) {
             int totalPages = pdfDoc.getNumberOfPages();
             for (int pageIndex = 0; pageIndex < totalPages; pageIndex++) {
                 PDPage currentPage = pdfDoc.getPage(pageIndex);
-                extractAndAddImagesToZip(
+                extractImages(
                         currentPage,
                         imageFormat,
                         baseFilename,
                         pageIndex + 1,
                         processedImageHashes,
-                        zipStream);
+                        images);
             }
         } catch (Exception e) {
-            zipFile.close();
+            images.forEach(image -> image.file().close());
             throw e;
         }
 
-        return WebResponseUtils.zipFileToWebResponse(
-                zipFile, baseFilename + "_extracted-images.zip");
+        return WebResponseUtils.multiFileToWebResponse(
+                images, baseFilename + "_extracted-images.zip");
     }
 
-    private void extractAndAddImagesToZip(
+    private void extractImages(
             PDPage page,
             String imageFormat,
             String baseFilename,
             int pageNumber,
             Set<Integer> seenImageHashes,
-            ZipOutputStream zipOutput)
+            List<MultiFileResponseBody.Part> images)
             throws IOException {
         if (page.getResources() == null || page.getResources().getXObjectNames() == null) {
             return;
@@ -131,12 +125,15 @@ public class ExtractImagesController {
                                 + imageCount++
                                 + "."
                                 + imageFormat;
-                ByteArrayOutputStream imageBuffer = new ByteArrayOutputStream();
-                ImageIO.write(convertedImage, imageFormat, imageBuffer);
-
-                zipOutput.putNextEntry(new ZipEntry(imagePath));
-                zipOutput.write(imageBuffer.toByteArray());
-                zipOutput.closeEntry();
+                // Images are already compressed, so each one is kept as its own file and
+                // stored in the ZIP as is
+                TempFile imageFile = new TempFile(tempFileManager, "." + imageFormat);
+                images.add(
+                        new MultiFileResponseBody.Part(
+                                imagePath,
+                                "image/" + imageFormat.toLowerCase(Locale.ROOT),
+                                imageFile));
+                ImageIO.write(convertedImage, imageFormat, imageFile.getFile());
 
             } catch (IOException e) {
                 ExceptionUtils.logException("image extraction failed", e);
@@ -8,6 +8,8 @@ import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
 
 import org.apache.pdfbox.cos.COSInputStream;
 import org.apache.pdfbox.cos.COSName;
@@ -37,7 +39,6 @@ import org.apache.pdfbox.pdmodel.interactive.documentnavigation.outline.PDOutlin
 import org.apache.pdfbox.pdmodel.interactive.documentnavigation.outline.PDOutlineNode;
 import org.apache.pdfbox.pdmodel.interactive.form.PDAcroForm;
 import org.apache.pdfbox.pdmodel.interactive.form.PDField;
-import org.apache.pdfbox.text.PDFTextStripper;
 import org.apache.xmpbox.XMPMetadata;
 import org.apache.xmpbox.xml.DomXmpParser;
 import org.apache.xmpbox.xml.XmpParsingException;
@@ -53,15 +54,18 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import stirling.software.SPDF.model.api.security.PDFVerificationResult;
+import stirling.software.SPDF.service.PdfInfoResultCache;
 import stirling.software.SPDF.service.VeraPDFService;
 import stirling.software.common.annotations.AutoJobPostMapping;
 import stirling.software.common.annotations.api.SecurityApi;
 import stirling.software.common.model.api.PDFFile;
 import stirling.software.common.service.CustomPDFDocumentFactory;
 import stirling.software.common.util.ExceptionUtils;
+import stirling.software.common.util.PageTextIndex;
 import stirling.software.common.util.RegexPatternUtils;
 import stirling.software.common.util.WebResponseUtils;
 
+import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.ObjectMapper;
 import tools.jackson.databind.json.JsonMapper;
 import tools.jackson.databind.node.ArrayNode;
@@ -80,8 +84,26 @@ public class GetInfoOnPDF {
 
     private static final ObjectMapper objectMapper = JsonMapper.builder().build();
 
+    private static final String SUMMARY_SECTION = "SummaryData";
+    // Top-level sections of the report, in output order; each is cached on its own
+    private static final List<String> REPORT_SECTIONS =
+            List.of(
+                    "Metadata",
+                    "BasicInfo",
+                    "DocumentInfo",
+                    "Compliancy",
+                    "Encryption",
+                    "Permissions",
+                    "FormFields",
+                    "Other",
+                    "PerPageInfo",
+                    SUMMARY_SECTION);
+    // Sections that depend on the veraPDF results
+    private static final Set<String> COMPLIANCE_SECTIONS = Set.of("Compliancy", SUMMARY_SECTION);
+
     private final CustomPDFDocumentFactory pdfDocumentFactory;
     private final VeraPDFService veraPDFService;
+    private final PdfInfoResultCache infoCache;
 
     private static void addOutlinesToArray(PDOutlineItem outline, ArrayNode arrayNode) {
         if (outline == null) return;
@@ -813,10 +835,7 @@ public class GetInfoOnPDF {
                 "ArtBox", page.getArtBox() == null ? "Undefined" : page.getArtBox().toString());
 
         // Text content
-        PDFTextStripper textStripper = new PDFTextStripper();
-        textStripper.setStartPage(pageNum + 1);
-        textStripper.setEndPage(pageNum + 1);
-        String pageText = textStripper.getText(document);
+        String pageText = PageTextIndex.of(document).getPageText(document, pageNum);
         pageInfo.put("Text Characters Count", pageText.length());
 
         // Annotations
@@ -1077,45 +1096,31 @@ public class GetInfoOnPDF {
             return createErrorResponse("Invalid PDF file: " + e.getMessage());
         }
 
-        List<PDFVerificationResult> verificationResults = null;
         try {
-            verificationResults = veraPDFService.validatePDF(inputFile.getInputStream());
-        } catch (Exception e) {
-            log.error("VeraPDF validation failed", e);
-        }
-
-        boolean readonly = true;
-
-        try (PDDocument pdfBoxDoc = pdfDocumentFactory.load(inputFile, readonly)) {
-            ObjectNode jsonOutput = objectMapper.createObjectNode();
-
-            ObjectNode metadata = extractMetadata(pdfBoxDoc);
-            ObjectNode basicInfo = extractBasicInfo(pdfBoxDoc, inputFile.getSize());
-            ObjectNode docInfoNode = extractDocumentInfo(pdfBoxDoc);
-            ObjectNode compliancy = extractComplianceInfo(pdfBoxDoc, verificationResults);
-            ObjectNode encryption = extractEncryptionInfo(pdfBoxDoc);
-            ObjectNode permissionsNode = extractPermissions(pdfBoxDoc);
-            ObjectNode other = extractOtherInfo(pdfBoxDoc);
-            ObjectNode formFieldsNode = extractFormFields(pdfBoxDoc);
-
-            ObjectNode summaryData = generatePDFSummaryData(pdfBoxDoc, verificationResults);
+            String contentKey = PageTextIndex.contentKey(inputFile);
+            Map<String, JsonNode> sections = new HashMap<>();
+            List<String> missing = new ArrayList<>();
+            for (String section : REPORT_SECTIONS) {
+                byte[] cached = infoCache.get(contentKey, section);
+                if (cached != null) {
+                    sections.put(section, objectMapper.readTree(cached));
+                } else {
+                    missing.add(section);
+                }
+            }
 
-            // Extract per-page information
-            ObjectNode pageInfoParent = extractPerPageInfo(pdfBoxDoc);
+            if (!missing.isEmpty()) {
+                computeSections(inputFile, contentKey, missing, sections);
+            }
 
             // Assemble final JSON output
-            jsonOutput.set("Metadata", metadata);
-            jsonOutput.set("BasicInfo", basicInfo);
-            jsonOutput.set("DocumentInfo", docInfoNode);
-            jsonOutput.set("Compliancy", compliancy);
-            jsonOutput.set("Encryption", encryption);
-            jsonOutput.set("Permissions", permissionsNode);
-            jsonOutput.set("FormFields", formFieldsNode);
-            jsonOutput.set("Other", other);
-            jsonOutput.set("PerPageInfo", pageInfoParent);
-
-            if (summaryData != null && !summaryData.isEmpty()) {
-                jsonOutput.set("SummaryData", summaryData);
+            ObjectNode jsonOutput = objectMapper.createObjectNode();
+            for (String section : REPORT_SECTIONS) {
+                JsonNode node = sections.get(section);
+                if (SUMMARY_SECTION.equals(section) && (node == null || node.isEmpty())) {
+                    continue;
+                }
+                jsonOutput.set(section, node);
             }
 
             // Convert to JSON string
@@ -1136,13 +1141,98 @@ public class GetInfoOnPDF {
         }
     }
 
+    /**
+     * Computes the {@code missing} report sections into {@code sections} and caches them. veraPDF
+     * only runs when a compliance section is missing, and then on a virtual thread while the other
+     * sections are extracted; compliance sections computed without its results are returned but
+     * not cached, so a later request can fill them in.
+     */
+    private void computeSections(
+            MultipartFile inputFile,
+            String contentKey,
+            List<String> missing,
+            Map<String, JsonNode> sections)
+            throws IOException {
+        FutureTask<List<PDFVerificationResult>> validation = null;
+        if (missing.stream().anyMatch(COMPLIANCE_SECTIONS::contains)) {
+            validation =
+                    new FutureTask<>(() -> veraPDFService.validatePDF(inputFile.getInputStream()));
+            Thread.ofVirtual().name("get-info-verapdf").start(validation);
+        }
+
+        boolean readonly = true;
+
+        try (PDDocument pdfBoxDoc = pdfDocumentFactory.load(inputFile, readonly)) {
+            PageTextIndex.bind(pdfBoxDoc, contentKey);
+            // Compliance sections last, so validation overlaps with the other sections
+            List<String> ordered = new ArrayList<>(missing);
+            ordered.sort(Comparator.comparing(COMPLIANCE_SECTIONS::contains));
+            List<PDFVerificationResult> verificationResults = null;
+            for (String section : ordered) {
+                if (validation != null && COMPLIANCE_SECTIONS.contains(section)) {
+                    verificationResults = awaitValidation(validation);
+                    validation = null;
+                }
+                ObjectNode node =
+                        extractSection(
+                                section, pdfBoxDoc, inputFile.getSize(), verificationResults);
+                sections.put(section, node);
+                if (verificationResults != null || !COMPLIANCE_SECTIONS.contains(section)) {
+                    infoCache.put(contentKey, section, objectMapper.writeValueAsBytes(node));
+                }
+            }
+        } finally {
+            if (validation != null) {
+                validation.cancel(true);
+            }
+        }
+    }
+
+    private static List<PDFVerificationResult> awaitValidation(
+            FutureTask<List<PDFVerificationResult>> validation) {
+        try {
+            return validation.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            validation.cancel(true);
+            log.error("VeraPDF validation interrupted", e);
+        } catch (ExecutionException e) {
+            log.error("VeraPDF validation failed", e.getCause());
+        }
+        return null;
+    }
+
+    private ObjectNode extractSection(
+            String section,
+            PDDocument pdfBoxDoc,
+            long fileSize,
+            List<PDFVerificationResult> verificationResults) {
+        return switch (section) {
+            case "Metadata" -> extractMetadata(pdfBoxDoc);
+            case "BasicInfo" -> extractBasicInfo(pdfBoxDoc, fileSize);
+            case "DocumentInfo" -> extractDocumentInfo(pdfBoxDoc);
+            case "Compliancy" -> extractComplianceInfo(pdfBoxDoc, verificationResults);
+            case "Encryption" -> extractEncryptionInfo(pdfBoxDoc);
+            case "Permissions" -> extractPermissions(pdfBoxDoc);
+            case "FormFields" -> extractFormFields(pdfBoxDoc);
+            case "Other" -> extractOtherInfo(pdfBoxDoc);
+            // Extract per-page information
+            case "PerPageInfo" -> extractPerPageInfo(pdfBoxDoc);
+            case SUMMARY_SECTION -> {
+                ObjectNode summaryData = generatePDFSummaryData(pdfBoxDoc, verificationResults);
+                yield summaryData != null ? summaryData : objectMapper.createObjectNode();
+            }
+            default -> throw new IllegalArgumentException("Unknown report section: " + section);
+        };
+    }
+
     private ObjectNode extractBasicInfo(PDDocument document, long fileSizeInBytes) {
         ObjectNode basicInfo = objectMapper.createObjectNode();
 
         try {
             basicInfo.put("FileSizeInBytes", fileSizeInBytes);
 
-            String fullText = new PDFTextStripper().getText(document);
+            String fullText = PageTextIndex.of(document).getText(document);
             String[] words = RegexPatternUtils.getInstance().getWhitespacePattern().split(fullText);
             int paragraphCount =
                     RegexPatternUtils.getInstance()
@@ -1,17 +1,18 @@
 package stirling.software.SPDF.controller.api.security;
 
 import java.awt.Color;
+import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.regex.Pattern;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import org.apache.pdfbox.contentstream.operator.Operator;
@@ -63,6 +64,9 @@ import stirling.software.common.model.api.security.RedactionArea;
 import stirling.software.common.service.CustomPDFDocumentFactory;
 import stirling.software.common.util.ExceptionUtils;
 import stirling.software.common.util.GeneralUtils;
+import stirling.software.common.util.MultiPatternMatcher;
+import stirling.software.common.util.PageTextIndex;
+import stirling.software.common.util.ParallelPageRanges;
 import stirling.software.common.util.PdfUtils;
 import stirling.software.common.util.TempFile;
 import stirling.software.common.util.TempFileManager;
@@ -86,6 +90,10 @@ public class RedactController {
 
     private static final COSString EMPTY_COS_STRING = new COSString("");
 
+    // Below this many pages per worker the cost of opening another document view outweighs the
+    // gain from scanning in parallel
+    private static final int MIN_PAGES_PER_ANALYSIS_WORKER = 16;
+
     private final CustomPDFDocumentFactory pdfDocumentFactory;
     private final TempFileManager tempFileManager;
 
@@ -529,8 +537,17 @@ public class RedactController {
                         "during redaction", new IOException("Failed to load PDF document"));
             }
 
+            String contentKey = PageTextIndex.contentKey(request.getFileInput());
+            PageTextIndex.bind(document, contentKey);
+
+            PhaseTimings timings = new PhaseTimings();
+            long phaseStart = System.nanoTime();
+            MultiPatternMatcher matcher =
+                    MultiPatternMatcher.compile(
+                            Arrays.asList(listOfText), useRegex, wholeWordSearchBool, true);
             Map<Integer, List<PDFText>> allFoundTextsByPage =
-                    findTextToRedact(document, listOfText, useRegex, wholeWordSearchBool);
+                    findTextToRedact(document, request.getFileInput(), matcher);
+            timings.record("analysis", phaseStart);
 
             int totalMatches = allFoundTextsByPage.values().stream().mapToInt(List::size).sum();
             log.info(
@@ -543,43 +560,44 @@ public class RedactController {
 
             if (allFoundTextsByPage.isEmpty()) {
                 log.info("No text found matching redaction patterns");
-                return WebResponseUtils.pdfDocToWebResponse(
-                        document,
-                        removeFileExtension(
-                                        Objects.requireNonNull(
-                                                Filenames.toSimpleFileName(
-                                                        request.getFileInput()
-                                                                .getOriginalFilename())))
-                                + "_redacted.pdf",
-                        tempFileManager);
+                return timings.applyTo(
+                        WebResponseUtils.pdfDocToWebResponse(
+                                document,
+                                removeFileExtension(
+                                                Objects.requireNonNull(
+                                                        Filenames.toSimpleFileName(
+                                                                request.getFileInput()
+                                                                        .getOriginalFilename())))
+                                        + "_redacted.pdf",
+                                tempFileManager));
             }
 
             boolean fallbackToBoxOnlyMode;
+            phaseStart = System.nanoTime();
             try {
                 fallbackToBoxOnlyMode =
-                        performTextReplacement(
-                                document,
-                                allFoundTextsByPage,
-                                listOfText,
-                                useRegex,
-                                wholeWordSearchBool);
+                        performTextReplacement(document, allFoundTextsByPage, matcher);
             } catch (Exception e) {
                 log.warn(
                         "Text replacement redaction failed, falling back to box-only mode: {}",
                         e.getMessage());
                 fallbackToBoxOnlyMode = true;
             }
+            timings.record("rewrite", phaseStart);
 
             if (fallbackToBoxOnlyMode) {
                 log.warn(
                         "Font compatibility issues detected. Using box-only redaction mode for better reliability.");
 
                 fallbackDocument = pdfDocumentFactory.load(request.getFileInput());
+                PageTextIndex.bind(fallbackDocument, contentKey);
 
+                phaseStart = System.nanoTime();
                 allFoundTextsByPage =
-                        findTextToRedact(
-                                fallbackDocument, listOfText, useRegex, wholeWordSearchBool);
+                        findTextToRedact(fallbackDocument, request.getFileInput(), matcher);
+                timings.record("fallback-analysis", phaseStart);
 
+                phaseStart = System.nanoTime();
                 TempFile finalized =
                         finalizeRedaction(
                                 fallbackDocument,
@@ -588,17 +606,20 @@ public class RedactController {
                                 request.getCustomPadding(),
                                 request.getConvertPDFToImage(),
                                 false); // Box-only mode, use original box sizes
-
-                return WebResponseUtils.pdfFileToWebResponse(
-                        finalized,
-                        removeFileExtension(
-                                        Objects.requireNonNull(
-                                                Filenames.toSimpleFileName(
-                                                        request.getFileInput()
-                                                                .getOriginalFilename())))
-                                + "_redacted.pdf");
+                timings.record("finalize", phaseStart);
+
+                return timings.applyTo(
+                        WebResponseUtils.pdfFileToWebResponse(
+                                finalized,
+                                removeFileExtension(
+                                                Objects.requireNonNull(
+                                                        Filenames.toSimpleFileName(
+                                                                request.getFileInput()
+                                                                        .getOriginalFilename())))
+                                        + "_redacted.pdf"));
             }
 
+            phaseStart = System.nanoTime();
             TempFile finalized =
                     finalizeRedaction(
                             document,
@@ -607,14 +628,17 @@ public class RedactController {
                             request.getCustomPadding(),
                             request.getConvertPDFToImage(),
                             true); // Text removal mode, use reduced box sizes
+            timings.record("finalize", phaseStart);
 
-            return WebResponseUtils.pdfFileToWebResponse(
-                    finalized,
-                    removeFileExtension(
-                                    Objects.requireNonNull(
-                                            Filenames.toSimpleFileName(
-                                                    request.getFileInput().getOriginalFilename())))
-                            + "_redacted.pdf");
+            return timings.applyTo(
+                    WebResponseUtils.pdfFileToWebResponse(
+                            finalized,
+                            removeFileExtension(
+                                            Objects.requireNonNull(
+                                                    Filenames.toSimpleFileName(
+                                                            request.getFileInput()
+                                                                    .getOriginalFilename())))
+                                    + "_redacted.pdf"));
 
         } catch (Exception e) {
             log.error("Redaction operation failed: {}", e.getMessage(), e);
@@ -641,54 +665,94 @@ public class RedactController {
         }
     }
 
+    /**
+     * Locates all occurrences of the search terms. Large documents are split into page ranges that
+     * are scanned concurrently, each on its own read-only view of the input, since a {@link
+     * PDDocument} must not be shared between threads. Results are keyed by page, so the merge is
+     * deterministic regardless of completion order. Page text already held by the shared {@link
+     * PageTextIndex} (e.g. from the first pass when falling back to box-only mode) is reused.
+     */
     private Map<Integer, List<PDFText>> findTextToRedact(
-            PDDocument document, String[] listOfText, boolean useRegex, boolean wholeWordSearch) {
-        Map<Integer, List<PDFText>> allFoundTextsByPage = new HashMap<>();
-
-        for (String text : listOfText) {
-            text = text.trim();
-            if (text.isEmpty()) continue;
+            PDDocument document, MultipartFile source, MultiPatternMatcher matcher)
+            throws IOException {
+        int pageCount = document.getNumberOfPages();
+        int ranges = ParallelPageRanges.rangeCount(pageCount, MIN_PAGES_PER_ANALYSIS_WORKER);
+        if (ranges < 2 || source == null || PageTextIndex.of(document).isComplete()) {
+            return findTextToRedact(document, matcher, 1, Integer.MAX_VALUE);
+        }
 
-            log.debug(
-                    "Searching for text: '{}' (regex: {}, wholeWord: {})",
-                    text,
-                    useRegex,
-                    wholeWordSearch);
+        String contentKey = PageTextIndex.getContentKey(document);
+        File sourceFile = tempFileManager.convertMultipartFileToFile(source);
+        try {
+            log.debug("Scanning {} pages for redaction in {} ranges", pageCount, ranges);
+            Map<Integer, List<PDFText>> allFoundTextsByPage = new HashMap<>();
+            ParallelPageRanges.process(
+                    pageCount,
+                    ranges,
+                    (startPage, endPage) -> {
+                        try (PDDocument view = pdfDocumentFactory.load(sourceFile, true)) {
+                            PageTextIndex.bind(view, contentKey);
+                            return findTextToRedact(view, matcher, startPage, endPage);
+                        }
+                    },
+                    (found, endPage) -> allFoundTextsByPage.putAll(found));
+            return allFoundTextsByPage;
+        } finally {
+            tempFileManager.deleteTempFile(sourceFile);
+        }
+    }
 
-            try {
-                TextFinder textFinder = new TextFinder(text, useRegex, wholeWordSearch);
-                textFinder.getText(document);
+    /**
+     * Finds all matches of the compiled search terms within {@code [startPage, endPage]} in a
+     * single text-extraction pass, regardless of how many terms there are. Pages are taken from
+     * the document's {@link PageTextIndex}, so they are only stripped if not already cached.
+     * Extraction errors propagate, since skipping a page would leave its text unredacted.
+     */
+    private Map<Integer, List<PDFText>> findTextToRedact(
+            PDDocument document, MultiPatternMatcher matcher, int startPage, int endPage)
+            throws IOException {
+        Map<Integer, List<PDFText>> allFoundTextsByPage = new HashMap<>();
+        if (matcher.isEmpty()) {
+            return allFoundTextsByPage;
+        }
 
-                List<PDFText> foundTexts = textFinder.getFoundTexts();
-                log.debug("TextFinder found {} instances of '{}'", foundTexts.size(), text);
+        log.debug("Searching pages {}-{} with {}", startPage, endPage, matcher);
 
-                for (PDFText found : foundTexts) {
-                    allFoundTextsByPage
-                            .computeIfAbsent(found.getPageIndex(), k -> new ArrayList<>())
-                            .add(found);
-                    log.debug(
-                            "Added match on page {} at ({},{},{},{}): '{}'",
-                            found.getPageIndex(),
-                            found.getX1(),
-                            found.getY1(),
-                            found.getX2(),
-                            found.getY2(),
-                            found.getText());
-                }
-            } catch (Exception e) {
-                log.error("Error processing search term '{}': {}", text, e.getMessage());
+        PageTextIndex index = PageTextIndex.of(document);
+        int lastPage = Math.min(endPage, index.getPageCount());
+        TextFinder textFinder = new TextFinder(matcher);
+        if (startPage <= lastPage) {
+            List<PageTextIndex.PageText> pages =
+                    index.getPages(document, startPage - 1, lastPage - 1);
+            for (int i = 0; i < pages.size(); i++) {
+                textFinder.findOnPage(startPage - 1 + i, pages.get(i));
             }
         }
 
+        List<PDFText> foundTexts = textFinder.getFoundTexts();
+        log.debug("TextFinder found {} matches", foundTexts.size());
+
+        for (PDFText found : foundTexts) {
+            allFoundTextsByPage
+                    .computeIfAbsent(found.getPageIndex(), k -> new ArrayList<>())
+                    .add(found);
+            log.debug(
+                    "Added match on page {} at ({},{},{},{}): '{}'",
+                    found.getPageIndex(),
+                    found.getX1(),
+                    found.getY1(),
+                    found.getX2(),
+                    found.getY2(),
+                    found.getText());
+        }
+
         return allFoundTextsByPage;
     }
 
     private boolean performTextReplacement(
             PDDocument document,
             Map<Integer, List<PDFText>> allFoundTextsByPage,
-            String[] listOfText,
-            boolean useRegex,
-            boolean wholeWordSearchBool) {
+            MultiPatternMatcher matcher) {
         if (allFoundTextsByPage.isEmpty()) {
             return false;
         }
@@ -701,18 +765,11 @@ public class RedactController {
         }
 
         try {
-            Set<String> allSearchTerms =
-                    Arrays.stream(listOfText)
-                            .map(String::trim)
-                            .filter(s -> !s.isEmpty())
-                            .collect(Collectors.toSet());
-
             int pageCount = 0;
             for (PDPage page : document.getPages()) {
                 pageCount++;
                 List<Object> filteredTokens =
-                        createTokensWithoutTargetText(
-                                document, page, allSearchTerms, useRegex, wholeWordSearchBool);
+                        createTokensWithoutTargetText(document, page, matcher);
                 writeFilteredContentStream(document, page, filteredTokens);
             }
             log.info("Successfully performed text replacement redaction on {} pages.", pageCount);
@@ -818,6 +875,14 @@ public class RedactController {
             boolean useRegex,
             boolean wholeWordSearch)
             throws IOException {
+        return createTokensWithoutTargetText(
+                document,
+                page,
+                MultiPatternMatcher.compile(targetWords, useRegex, wholeWordSearch, true));
+    }
+
+    List<Object> createTokensWithoutTargetText(
+            PDDocument document, PDPage page, MultiPatternMatcher matcher) throws IOException {
 
         PDFStreamParser parser = new PDFStreamParser(page);
         List<Object> tokens = new ArrayList<>();
@@ -828,31 +893,26 @@ public class RedactController {
 
         PDResources resources = page.getResources();
         if (resources != null) {
-            processPageXObjects(document, resources, targetWords, useRegex, wholeWordSearch);
+            processPageXObjects(document, resources, matcher);
         }
 
         List<TextSegment> textSegments = extractTextSegments(page, tokens);
 
         String completeText = buildCompleteText(textSegments);
 
-        List<MatchRange> matches =
-                findAllMatches(completeText, targetWords, useRegex, wholeWordSearch);
+        List<MatchRange> matches = findAllMatches(completeText, matcher);
 
         return applyRedactionsToTokens(tokens, textSegments, matches);
     }
 
     private void processPageXObjects(
-            PDDocument document,
-            PDResources resources,
-            Set<String> targetWords,
-            boolean useRegex,
-            boolean wholeWordSearch) {
+            PDDocument document, PDResources resources, MultiPatternMatcher matcher) {
 
         for (COSName xobjName : resources.getXObjectNames()) {
             try {
                 PDXObject xobj = resources.getXObject(xobjName);
                 if (xobj instanceof PDFormXObject formXObj) {
-                    processFormXObject(document, formXObj, targetWords, useRegex, wholeWordSearch);
+                    processFormXObject(document, formXObj, matcher);
                     log.debug("Processed Form XObject: {}", xobjName.getName());
                 }
             } catch (Exception e) {
@@ -861,6 +921,33 @@ public class RedactController {
         }
     }
 
+    /** Wall-clock duration of each redaction phase, reported via the Server-Timing header. */
+    private static class PhaseTimings {
+        private final Map<String, Long> durationsMillis = new LinkedHashMap<>();
+
+        void record(String phase, long startNanos) {
+            durationsMillis.merge(
+                    phase,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos),
+                    Long::sum);
+        }
+
+        <T> ResponseEntity<T> applyTo(ResponseEntity<T> response) {
+            String header =
+                    durationsMillis.entrySet().stream()
+                            .map(entry -> entry.getKey() + ";dur=" + entry.getValue())
+                            .collect(Collectors.joining(", "));
+            log.info("Redaction phase timings: {}", header);
+            if (header.isEmpty()) {
+                return response;
+            }
+            return ResponseEntity.status(response.getStatusCode())
+                    .headers(response.getHeaders())
+                    .header("Server-Timing", header)
+                    .body(response.getBody());
+        }
+    }
+
     @Data
     private static class GraphicsState {
         private PDFont font = null;
@@ -931,32 +1018,9 @@ public class RedactController {
         return sb.toString();
     }
 
-    private List<MatchRange> findAllMatches(
-            String completeText,
-            Set<String> targetWords,
-            boolean useRegex,
-            boolean wholeWordSearch) {
-
-        // Use the new utility for creating optimized patterns
-        List<Pattern> patterns =
-                TextFinderUtils.createOptimizedSearchPatterns(
-                        targetWords, useRegex, wholeWordSearch);
-
-        return patterns.stream()
-                .flatMap(
-                        pattern -> {
-                            try {
-                                return pattern.matcher(completeText).results();
-                            } catch (Exception e) {
-                                log.debug(
-                                        "Pattern matching failed for pattern {}: {}",
-                                        pattern.pattern(),
-                                        e.getMessage());
-                                return java.util.stream.Stream.empty();
-                            }
-                        })
-                .map(matchResult -> new MatchRange(matchResult.start(), matchResult.end()))
-                .sorted(Comparator.comparingInt(MatchRange::getStartPos))
+    private List<MatchRange> findAllMatches(String completeText, MultiPatternMatcher matcher) {
+        return matcher.findAll(completeText).stream()
+                .map(match -> new MatchRange(match.start(), match.end()))
                 .collect(Collectors.toList());
     }
 
@@ -1574,11 +1638,7 @@ public class RedactController {
     }
 
     private void processFormXObject(
-            PDDocument document,
-            PDFormXObject formXObject,
-            Set<String> targetWords,
-            boolean useRegex,
-            boolean wholeWordSearch) {
+            PDDocument document, PDFormXObject formXObject, MultiPatternMatcher matcher) {
 
         try {
             PDResources xobjResources = formXObject.getResources();
@@ -1589,8 +1649,7 @@ public class RedactController {
             for (COSName xobjName : xobjResources.getXObjectNames()) {
                 PDXObject nestedXObj = xobjResources.getXObject(xobjName);
                 if (nestedXObj instanceof PDFormXObject nestedFormXObj) {
-                    processFormXObject(
-                            document, nestedFormXObj, targetWords, useRegex, wholeWordSearch);
+                    processFormXObject(document, nestedFormXObj, matcher);
                 }
             }
 
@@ -1604,8 +1663,7 @@ public class RedactController {
             List<TextSegment> textSegments = extractTextSegmentsFromXObject(xobjResources, tokens);
             String completeText = buildCompleteText(textSegments);
 
-            List<MatchRange> matches =
-                    findAllMatches(completeText, targetWords, useRegex, wholeWordSearch);
+            List<MatchRange> matches = findAllMatches(completeText, matcher);
 
             if (!matches.isEmpty()) {
                 List<Object> redactedTokens =
@@ -1,5 +1,7 @@
 package stirling.software.SPDF.model.json;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -11,7 +13,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_NULL)
@@ -46,4 +48,39 @@ public class PdfJsonCosValue {
 
     /** Stream payload when {@code type == STREAM}. */
     private PdfJsonStream stream;
+
+    /**
+     * Deep copy of this value. Containers are copied recursively; primitive values are immutable
+     * and shared.
+     */
+    public PdfJsonCosValue copy() {
+        return toBuilder()
+                .items(copyItems(items))
+                .entries(copyEntries(entries))
+                .stream(stream != null ? stream.copy() : null)
+                .build();
+    }
+
+    static List<PdfJsonCosValue> copyItems(List<PdfJsonCosValue> source) {
+        if (source == null) {
+            return null;
+        }
+        List<PdfJsonCosValue> copy = new ArrayList<>(source.size());
+        for (PdfJsonCosValue item : source) {
+            copy.add(item != null ? item.copy() : null);
+        }
+        return copy;
+    }
+
+    static Map<String, PdfJsonCosValue> copyEntries(Map<String, PdfJsonCosValue> source) {
+        if (source == null) {
+            return null;
+        }
+        Map<String, PdfJsonCosValue> copy = new LinkedHashMap<>(source.size() * 4 / 3 + 1);
+        for (Map.Entry<String, PdfJsonCosValue> entry : source.entrySet()) {
+            PdfJsonCosValue value = entry.getValue();
+            copy.put(entry.getKey(), value != null ? value.copy() : null);
+        }
+        return copy;
+    }
 }
@@ -1,5 +1,6 @@
 package stirling.software.SPDF.model.json;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
@@ -10,7 +11,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_NULL)
@@ -43,18 +44,27 @@ public class PdfJsonFont {
     /** Font program bytes (TTF/OTF/CFF/PFB) encoded as Base64. */
     private String program;
 
+    /** Asset hash of {@link #program} when served by the text-editor asset endpoint. */
+    private String programAsset;
+
     /** Hint describing the font program type (ttf, otf, cff, pfb, etc.). */
     private String programFormat;
 
     /** Web-optimized font program (e.g. converted TrueType) encoded as Base64. */
     private String webProgram;
 
+    /** Asset hash of {@link #webProgram} when served by the text-editor asset endpoint. */
+    private String webProgramAsset;
+
     /** Format hint for the webProgram payload. */
     private String webProgramFormat;
 
     /** PDF-friendly font program (e.g. converted TrueType) encoded as Base64. */
     private String pdfProgram;
 
+    /** Asset hash of {@link #pdfProgram} when served by the text-editor asset endpoint. */
+    private String pdfProgramAsset;
+
     /** Format hint for the pdfProgram payload. */
     private String pdfProgramFormat;
 
@@ -93,4 +103,18 @@ public class PdfJsonFont {
 
     /** Serialized COS dictionary describing the original font resource. */
     private PdfJsonCosValue cosDictionary;
+
+    /**
+     * Copy that can be mutated independently of this font. Strings and the Type3 glyph and
+     * conversion candidate entries are never modified after extraction and are shared; the lists
+     * holding them and the COS dictionary are copied.
+     */
+    public PdfJsonFont copy() {
+        return toBuilder()
+                .type3Glyphs(type3Glyphs != null ? new ArrayList<>(type3Glyphs) : null)
+                .conversionCandidates(
+                        conversionCandidates != null ? new ArrayList<>(conversionCandidates) : null)
+                .cosDictionary(cosDictionary != null ? cosDictionary.copy() : null)
+                .build();
+    }
 }
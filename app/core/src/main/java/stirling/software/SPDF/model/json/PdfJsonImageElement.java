@@ -31,4 +31,7 @@ public class PdfJsonImageElement {
     private Integer zOrder;
     private String imageData;
     private String imageFormat;
+
+    /** Hash of the image bytes served by the text-editor asset endpoint instead of imageData. */
+    private String imageAsset;
 }
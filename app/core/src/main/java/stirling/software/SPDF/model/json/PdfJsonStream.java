@@ -10,7 +10,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_NULL)
@@ -24,4 +24,9 @@ public class PdfJsonStream {
 
     /** Raw stream bytes in Base64 form. Data is stored exactly as it appeared in the source PDF. */
     private String rawData;
+
+    /** Deep copy of this stream; the immutable Base64 payload is shared. */
+    public PdfJsonStream copy() {
+        return toBuilder().dictionary(PdfJsonCosValue.copyEntries(dictionary)).build();
+    }
 }
@@ -4,113 +4,73 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
-import org.apache.pdfbox.pdmodel.PDPage;
-import org.apache.pdfbox.text.PDFTextStripper;
-import org.apache.pdfbox.text.TextPosition;
 
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 import stirling.software.SPDF.model.PDFText;
-import stirling.software.common.util.RegexPatternUtils;
+import stirling.software.common.util.MultiPatternMatcher;
+import stirling.software.common.util.PageTextIndex;
+import stirling.software.common.util.PageTextIndex.PageText;
 
 @Slf4j
-public class TextFinder extends PDFTextStripper {
+public class TextFinder extends PageTextIndex.PageTextStripper {
 
-    private final String searchTerm;
-    private final boolean useRegex;
-    private final boolean wholeWordSearch;
+    private final MultiPatternMatcher matcher;
     @Getter private final List<PDFText> foundTexts = new ArrayList<>();
 
-    private final List<TextPosition> pageTextPositions = new ArrayList<>();
-    private final StringBuilder pageTextBuilder = new StringBuilder();
+    private PageText lastPage = PageText.EMPTY;
 
     public TextFinder(String searchTerm, boolean useRegex, boolean wholeWordSearch)
             throws IOException {
-        this.searchTerm = searchTerm;
-        this.useRegex = useRegex;
-        this.wholeWordSearch = wholeWordSearch;
-        this.setWordSeparator(" ");
-        this.setLineSeparator("\n");
+        this(
+                MultiPatternMatcher.compile(
+                        searchTerm == null ? List.of() : List.of(searchTerm),
+                        useRegex,
+                        wholeWordSearch,
+                        true));
     }
 
-    @Override
-    protected void startPage(PDPage page) throws IOException {
-        super.startPage(page);
-        pageTextPositions.clear();
-        pageTextBuilder.setLength(0);
-    }
-
-    @Override
-    protected void writeString(String text, List<TextPosition> textPositions) {
-        pageTextBuilder.append(text);
-        pageTextPositions.addAll(textPositions);
+    /**
+     * Finds every term of {@code matcher} in one extraction pass, so searching for many terms costs
+     * the same text extraction as searching for one.
+     */
+    public TextFinder(MultiPatternMatcher matcher) throws IOException {
+        this.matcher = matcher;
     }
 
     @Override
-    protected void writeWordSeparator() {
-        pageTextBuilder.append(getWordSeparator());
-        pageTextPositions.add(null); // Placeholder for separator
+    protected void pageExtracted(int pageIndex, PageText page) {
+        lastPage = page;
+        findOnPage(pageIndex, page);
     }
 
-    @Override
-    protected void writeLineSeparator() {
-        pageTextBuilder.append(getLineSeparator());
-        pageTextPositions.add(null); // Placeholder for separator
-    }
-
-    @Override
-    protected void endPage(PDPage page) throws IOException {
-        String text = pageTextBuilder.toString();
-        if (text.isEmpty() || this.searchTerm == null || this.searchTerm.isEmpty()) {
-            super.endPage(page);
+    /**
+     * Adds the matches on an already extracted page, e.g. one taken from a {@link PageTextIndex},
+     * to {@link #getFoundTexts()}.
+     */
+    public void findOnPage(int pageIndex, PageText page) {
+        String text = page.text();
+        if (text.isEmpty() || matcher.isEmpty()) {
             return;
         }
 
-        String processedSearchTerm = this.searchTerm.trim();
-        if (processedSearchTerm.isEmpty()) {
-            super.endPage(page);
-            return;
-        }
-        String regex = this.useRegex ? processedSearchTerm : "\\Q" + processedSearchTerm + "\\E";
-        if (this.wholeWordSearch) {
-            if (processedSearchTerm.length() == 1
-                    && Character.isDigit(processedSearchTerm.charAt(0))) {
-                regex = "(?<![\\w])(?<!\\d[\\.,])" + regex + "(?![\\w])(?![\\.,]\\d)";
-            } else if (processedSearchTerm.length() == 1) {
-                regex = "(?<![\\w])" + regex + "(?![\\w])";
-            } else {
-                regex = "\\b" + regex + "\\b";
-            }
-        }
-
-        // Use cached pattern compilation for better performance
-        Pattern pattern = RegexPatternUtils.getInstance().createSearchPattern(regex, true);
-        Matcher matcher = pattern.matcher(text);
-
-        log.debug(
-                "Searching for '{}' in page {} with regex '{}' (wholeWord: {}, useRegex: {})",
-                processedSearchTerm,
-                getCurrentPageNo(),
-                regex,
-                wholeWordSearch,
-                useRegex);
+        log.debug("Searching page {} with {}", pageIndex + 1, matcher);
 
+        int positionCount = page.boundsLength();
         int matchCount = 0;
-        while (matcher.find()) {
+        for (MultiPatternMatcher.Match match : matcher.findAll(text)) {
             matchCount++;
-            int matchStart = matcher.start();
-            int matchEnd = matcher.end();
+            int matchStart = match.start();
+            int matchEnd = match.end();
+            String matchedText = text.substring(matchStart, matchEnd);
 
             log.debug(
                     "Found match #{} at positions {}-{}: '{}'",
                     matchCount,
                     matchStart,
                     matchEnd,
-                    matcher.group());
+                    matchedText);
 
             float minX = Float.MAX_VALUE;
             float minY = Float.MAX_VALUE;
@@ -119,91 +79,75 @@ public class TextFinder extends PDFTextStripper {
             boolean foundPosition = false;
 
             for (int i = matchStart; i < matchEnd; i++) {
-                if (i >= pageTextPositions.size()) {
+                if (i >= positionCount) {
                     log.debug(
                             "Position index {} exceeds available positions ({})",
                             i,
-                            pageTextPositions.size());
+                            positionCount);
                     continue;
                 }
-                TextPosition pos = pageTextPositions.get(i);
-                if (pos != null) {
+                if (page.hasBounds(i)) {
                     foundPosition = true;
-                    minX = Math.min(minX, pos.getX());
-                    maxX = Math.max(maxX, pos.getX() + pos.getWidth());
-                    minY = Math.min(minY, pos.getY() - pos.getHeight());
-                    maxY = Math.max(maxY, pos.getY());
+                    minX = Math.min(minX, page.minX(i));
+                    maxX = Math.max(maxX, page.maxX(i));
+                    minY = Math.min(minY, page.minY(i));
+                    maxY = Math.max(maxY, page.maxY(i));
                 }
             }
 
-            if (!foundPosition && matchStart < pageTextPositions.size()) {
+            if (!foundPosition && matchStart < positionCount) {
                 log.debug(
                         "Attempting to find nearby positions for match at {}-{}",
                         matchStart,
                         matchEnd);
 
                 for (int i = Math.max(0, matchStart - 5);
-                        i < Math.min(pageTextPositions.size(), matchEnd + 5);
+                        i < Math.min(positionCount, matchEnd + 5);
                         i++) {
-                    TextPosition pos = pageTextPositions.get(i);
-                    if (pos != null) {
+                    if (page.hasBounds(i)) {
                         foundPosition = true;
-                        minX = Math.min(minX, pos.getX());
-                        maxX = Math.max(maxX, pos.getX() + pos.getWidth());
-                        minY = Math.min(minY, pos.getY() - pos.getHeight());
-                        maxY = Math.max(maxY, pos.getY());
+                        minX = Math.min(minX, page.minX(i));
+                        maxX = Math.max(maxX, page.maxX(i));
+                        minY = Math.min(minY, page.minY(i));
+                        maxY = Math.max(maxY, page.maxY(i));
                         break;
                     }
                 }
             }
 
             if (foundPosition) {
-                foundTexts.add(
-                        new PDFText(
-                                this.getCurrentPageNo() - 1,
-                                minX,
-                                minY,
-                                maxX,
-                                maxY,
-                                matcher.group()));
+                foundTexts.add(new PDFText(pageIndex, minX, minY, maxX, maxY, matchedText));
                 log.debug(
                         "Added PDFText for match: page={}, bounds=({},{},{},{}), text='{}'",
-                        getCurrentPageNo() - 1,
+                        pageIndex,
                         minX,
                         minY,
                         maxX,
                         maxY,
-                        matcher.group());
+                        matchedText);
             } else {
                 log.warn(
                         "Found text match '{}' but no valid position data at {}-{}",
-                        matcher.group(),
+                        matchedText,
                         matchStart,
                         matchEnd);
             }
         }
 
-        log.debug(
-                "Page {} search complete: found {} matches for '{}'",
-                getCurrentPageNo(),
-                matchCount,
-                processedSearchTerm);
-
-        super.endPage(page);
+        log.debug("Page {} search complete: found {} matches", pageIndex + 1, matchCount);
     }
 
     public String getDebugInfo() {
+        String text = lastPage.text();
         StringBuilder debug = new StringBuilder();
-        debug.append("Extracted text length: ").append(pageTextBuilder.length()).append("\n");
-        debug.append("Position count: ").append(pageTextPositions.size()).append("\n");
+        debug.append("Extracted text length: ").append(text.length()).append("\n");
+        debug.append("Position count: ").append(lastPage.boundsLength()).append("\n");
         debug.append("Text content: '")
-                .append(pageTextBuilder.toString().replace("\n", "\\n").replace("\r", "\\r"))
+                .append(text.replace("\n", "\\n").replace("\r", "\\r"))
                 .append("'\n");
 
-        String text = pageTextBuilder.toString();
         for (int i = 0; i < Math.min(text.length(), 50); i++) {
             char c = text.charAt(i);
-            TextPosition pos = i < pageTextPositions.size() ? pageTextPositions.get(i) : null;
             debug.append(
                     String.format(
                             Locale.ROOT,
@@ -211,9 +155,12 @@ public class TextFinder extends PDFTextStripper {
                             i,
                             c,
                             (int) c,
-                            pos != null
+                            lastPage.hasBounds(i)
                                     ? String.format(
-                                            Locale.ROOT, "(%.1f,%.1f)", pos.getX(), pos.getY())
+                                            Locale.ROOT,
+                                            "(%.1f,%.1f)",
+                                            lastPage.minX(i),
+                                            lastPage.maxY(i))
                                     : "null"));
         }
 
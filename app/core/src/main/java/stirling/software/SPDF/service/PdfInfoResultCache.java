@@ -0,0 +1,239 @@
+package stirling.software.SPDF.service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+import org.verapdf.pdfa.PDFAValidator;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.extern.slf4j.Slf4j;
+
+import stirling.software.common.configuration.InstallationPathConfig;
+import stirling.software.common.model.ApplicationProperties;
+import stirling.software.common.util.BoundedFileStore;
+
+/**
+ * Cache of get-info-on-pdf report sections, keyed by the SHA-256 of the uploaded content and the
+ * section name, so an unchanged document is not analysed twice and expensive sections such as
+ * compliance are cached independently of cheap ones. Sections are held as serialized JSON in a
+ * least recently used map bounded by {@code system.pdfInfoCache.max-bytes}. With {@code
+ * disk-enabled} they are also written to a {@link BoundedFileStore}, which serves entries evicted
+ * from memory and survives restarts. Keys include the veraPDF version, so compliance results of an
+ * older validator are not served after an upgrade.
+ */
+@Slf4j
+@Component
+public class PdfInfoResultCache {
+
+    private static final String ENTRY_SUFFIX = ".json";
+    private static final String METRIC_PREFIX = "pdfinfo.cache";
+
+    // Part of every key; bump when the stored format of a section changes
+    private static final String KEY_FORMAT_VERSION = "1";
+    private static final String VALIDATOR_VERSION = validatorVersion();
+
+    private final boolean enabled;
+    private final long maxBytes;
+    // Null when the disk tier is disabled or unavailable
+    private final BoundedFileStore diskStore;
+
+    // Access ordered, guarded by this
+    private final LinkedHashMap<String, byte[]> memory = new LinkedHashMap<>(16, 0.75f, true);
+    private long memoryBytes;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong diskHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public PdfInfoResultCache(
+            ApplicationProperties applicationProperties, MeterRegistry meterRegistry) {
+        ApplicationProperties.System.PdfInfoCache config =
+                applicationProperties.getSystem() != null
+                        ? applicationProperties.getSystem().getPdfInfoCache()
+                        : null;
+        this.enabled = config != null && config.isEnabled() && config.getMaxBytes() > 0;
+        this.maxBytes = config != null ? config.getMaxBytes() : 0;
+        BoundedFileStore store = null;
+        if (enabled && config.isDiskEnabled() && config.getDiskMaxBytes() > 0) {
+            String configuredDirectory = config.getDirectory();
+            Path directory =
+                    configuredDirectory != null && !configuredDirectory.isBlank()
+                            ? Paths.get(configuredDirectory)
+                            : Paths.get(
+                                    InstallationPathConfig.getConfigPath(), "cache", "pdf-info");
+            try {
+                store =
+                        new BoundedFileStore(
+                                directory,
+                                ENTRY_SUFFIX,
+                                config.getDiskMaxBytes(),
+                                "PDF info cache");
+            } catch (IOException e) {
+                log.warn(
+                        "PDF info cache directory {} unavailable, disk tier disabled: {}",
+                        directory,
+                        e.getMessage());
+            }
+        }
+        this.diskStore = store;
+        if (meterRegistry != null) {
+            registerMetrics(meterRegistry);
+        }
+    }
+
+    /** Returns the cached section for the content hash, or null on a miss. */
+    public byte[] get(String contentKey, String section) {
+        if (!enabled || contentKey == null) {
+            return null;
+        }
+        String key = key(VALIDATOR_VERSION, contentKey, section);
+        synchronized (this) {
+            byte[] value = memory.get(key);
+            if (value != null) {
+                hits.incrementAndGet();
+                return value;
+            }
+        }
+        byte[] value = diskStore != null ? diskStore.get(key) : null;
+        if (value != null) {
+            hits.incrementAndGet();
+            diskHits.incrementAndGet();
+            storeInMemory(key, value);
+            return value;
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /** Stores a serialized section; the array must not be modified afterwards. */
+    public void put(String contentKey, String section, byte[] value) {
+        if (!enabled || contentKey == null || value == null || value.length > maxBytes) {
+            return;
+        }
+        String key = key(VALIDATOR_VERSION, contentKey, section);
+        storeInMemory(key, value);
+        if (diskStore != null) {
+            diskStore.put(key, value);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getDiskHitCount() {
+        return diskHits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /** Fraction of lookups served from either tier, or 0 before the first lookup. */
+    public double getHitRatio() {
+        long h = hits.get();
+        long total = h + misses.get();
+        return total == 0 ? 0d : (double) h / total;
+    }
+
+    public synchronized long getMemoryBytes() {
+        return memoryBytes;
+    }
+
+    public long getDiskBytes() {
+        return diskStore != null ? diskStore.getSizeBytes() : 0;
+    }
+
+    /** Entries evicted from either tier by its size bound. */
+    public long getEvictionCount() {
+        return evictions.get() + (diskStore != null ? diskStore.getEvictionCount() : 0);
+    }
+
+    public synchronized int getEntryCount() {
+        return memory.size();
+    }
+
+    /**
+     * Builds the key of a report section: a digest of the key format, the veraPDF version, the
+     * content hash and the section name.
+     */
+    static String key(String validatorVersion, String contentKey, String section) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String part :
+                    new String[] {KEY_FORMAT_VERSION, validatorVersion, contentKey, section}) {
+                digest.update(String.valueOf(part).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static String validatorVersion() {
+        Package validatorPackage = PDFAValidator.class.getPackage();
+        String version =
+                validatorPackage != null ? validatorPackage.getImplementationVersion() : null;
+        return version != null ? version : "unknown";
+    }
+
+    private synchronized void storeInMemory(String key, byte[] value) {
+        byte[] previous = memory.put(key, value);
+        memoryBytes += value.length - (previous != null ? previous.length : 0L);
+        Iterator<Map.Entry<String, byte[]>> it = memory.entrySet().iterator();
+        while (memoryBytes > maxBytes && it.hasNext()) {
+            Map.Entry<String, byte[]> eldest = it.next();
+            if (eldest.getKey().equals(key)) {
+                continue;
+            }
+            it.remove();
+            memoryBytes -= eldest.getValue().length;
+            evictions.incrementAndGet();
+        }
+    }
+
+    private void registerMetrics(MeterRegistry registry) {
+        FunctionCounter.builder(METRIC_PREFIX + ".hits", hits, AtomicLong::get)
+                .description("PDF info report sections served from the cache")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".disk.hits", diskHits, AtomicLong::get)
+                .description("PDF info report sections served from the disk tier")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".misses", misses, AtomicLong::get)
+                .description("PDF info report sections that had to be computed")
+                .register(registry);
+        FunctionCounter.builder(
+                        METRIC_PREFIX + ".evictions", this, cache -> cache.getEvictionCount())
+                .description("PDF info cache entries evicted by a size bound")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".hit.ratio", this, PdfInfoResultCache::getHitRatio)
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".size", this, cache -> cache.getMemoryBytes())
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".disk.size", this, cache -> cache.getDiskBytes())
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".entries", this, cache -> cache.getEntryCount())
+                .register(registry);
+    }
+}
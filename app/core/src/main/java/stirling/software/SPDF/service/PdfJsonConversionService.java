@@ -10,6 +10,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.RandomAccessFile;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -37,6 +38,8 @@ import java.util.TimeZone;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -87,6 +90,8 @@ import org.apache.pdfbox.text.PDFTextStripper;
 import org.apache.pdfbox.text.TextPosition;
 import org.apache.pdfbox.util.DateConverter;
 import org.apache.pdfbox.util.Matrix;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -114,6 +119,7 @@ import stirling.software.SPDF.model.json.PdfJsonPageDimension;
 import stirling.software.SPDF.model.json.PdfJsonStream;
 import stirling.software.SPDF.model.json.PdfJsonTextColor;
 import stirling.software.SPDF.model.json.PdfJsonTextElement;
+import stirling.software.SPDF.service.pdfjson.PdfJsonDocumentCache;
 import stirling.software.SPDF.service.pdfjson.PdfJsonFontService;
 import stirling.software.SPDF.service.pdfjson.type3.Type3ConversionRequest;
 import stirling.software.SPDF.service.pdfjson.type3.Type3FontConversionService;
@@ -121,12 +127,16 @@ import stirling.software.SPDF.service.pdfjson.type3.Type3GlyphExtractor;
 import stirling.software.SPDF.service.pdfjson.type3.model.Type3GlyphOutline;
 import stirling.software.common.service.CustomPDFDocumentFactory;
 import stirling.software.common.service.TaskManager;
+import stirling.software.common.util.ChecksumUtils;
 import stirling.software.common.util.ExceptionUtils;
+import stirling.software.common.util.ParallelPageRanges;
 import stirling.software.common.util.ProcessExecutor;
 import stirling.software.common.util.ProcessExecutor.ProcessExecutorResult;
 import stirling.software.common.util.TempFile;
 import stirling.software.common.util.TempFileManager;
 
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.StreamWriteFeature;
 import tools.jackson.databind.ObjectMapper;
 
 @Slf4j
@@ -148,21 +158,14 @@ public class PdfJsonConversionService {
     private final Type3FontConversionService type3FontConversionService;
     private final Type3GlyphExtractor type3GlyphExtractor;
     private final stirling.software.common.model.ApplicationProperties applicationProperties;
+
+    /** Cache for storing PDDocuments for lazy page loading, shared with other editor services. */
+    private final PdfJsonDocumentCache documentCache;
+
     private final Map<String, PDFont> type3NormalizedFontCache = new ConcurrentHashMap<>();
     private final Map<String, Set<Integer>> type3GlyphCoverageCache = new ConcurrentHashMap<>();
 
     private boolean fontNormalizationEnabled;
-    private long cacheMaxBytes;
-    private int cacheMaxPercent;
-
-    /** Cache for storing PDDocuments for lazy page loading. Key is jobId. */
-    private final Map<String, CachedPdfDocument> documentCache = new ConcurrentHashMap<>();
-
-    private final java.util.LinkedHashMap<String, CachedPdfDocument> lruCache =
-            new java.util.LinkedHashMap<>(16, 0.75f, true);
-    private final Object cacheLock = new Object();
-    private volatile long currentCacheBytes = 0L;
-    private volatile long cacheBudgetBytes = -1L;
 
     private volatile boolean ghostscriptAvailable;
 
@@ -170,11 +173,16 @@ public class PdfJsonConversionService {
     private static final float ORIENTATION_TOLERANCE = 0.0005f;
     private static final float BASELINE_TOLERANCE = 0.5f;
 
+    // Below this many pages per worker, parallel extraction costs more than it saves
+    private static final int MIN_PAGES_PER_EXTRACTION_WORKER = 16;
+
+    // Asset bytes one cached document may hold, so a single session cannot take over the cache
+    private static final long MAX_ASSET_BYTES_PER_DOCUMENT = 64L * 1024 * 1024;
+
     @PostConstruct
     private void initializeToolAvailability() {
         loadConfigurationFromProperties();
         initializeGhostscriptAvailability();
-        initializeCacheBudget();
     }
 
     private void loadConfigurationFromProperties() {
@@ -182,12 +190,8 @@ public class PdfJsonConversionService {
                 applicationProperties.getPdfEditor();
         if (cfg != null) {
             fontNormalizationEnabled = cfg.getFontNormalization().isEnabled();
-            cacheMaxBytes = cfg.getCache().getMaxBytes();
-            cacheMaxPercent = cfg.getCache().getMaxPercent();
         } else {
             fontNormalizationEnabled = false;
-            cacheMaxBytes = -1;
-            cacheMaxPercent = 20;
         }
     }
 
@@ -229,25 +233,6 @@ public class PdfJsonConversionService {
         }
     }
 
-    private void initializeCacheBudget() {
-        long effective = -1L;
-        if (cacheMaxBytes > 0) {
-            effective = cacheMaxBytes;
-        } else if (cacheMaxPercent > 0) {
-            long maxMem = Runtime.getRuntime().maxMemory();
-            effective = Math.max(0L, (maxMem * cacheMaxPercent) / 100);
-        }
-        cacheBudgetBytes = effective;
-        if (cacheBudgetBytes > 0) {
-            log.debug(
-                    "PDF JSON cache budget configured: {} bytes (source: {})",
-                    cacheBudgetBytes,
-                    cacheMaxBytes > 0 ? "max-bytes" : "max-percent");
-        } else {
-            log.debug("PDF JSON cache budget: unlimited");
-        }
-    }
-
     public byte[] convertPdfToJson(MultipartFile file) throws IOException {
         return convertPdfToJson(file, null, false);
     }
@@ -267,6 +252,28 @@ public class PdfJsonConversionService {
             Consumer<PdfJsonConversionProgress> progressCallback,
             boolean lightweight)
             throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        convertPdfToJson(file, progressCallback, lightweight, buffer);
+        return buffer.toByteArray();
+    }
+
+    public void convertPdfToJson(MultipartFile file, boolean lightweight, OutputStream out)
+            throws IOException {
+        convertPdfToJson(file, null, lightweight, out);
+    }
+
+    /**
+     * Converts {@code file} to the text editor JSON format and streams it to {@code out}. Document
+     * level data (metadata, fonts, form fields) is written first, then each page is built,
+     * serialized and released before the next one, so peak memory tracks the largest page rather
+     * than the whole document. {@code out} is flushed but not closed.
+     */
+    public void convertPdfToJson(
+            MultipartFile file,
+            Consumer<PdfJsonConversionProgress> progressCallback,
+            boolean lightweight,
+            OutputStream out)
+            throws IOException {
         if (file == null) {
             throw ExceptionUtils.createNullArgumentException("fileInput");
         }
@@ -377,55 +384,34 @@ public class PdfJsonConversionService {
                         useLazyImages ? "lazy image" : "standard",
                         jobId,
                         useLazyImages);
-                Map<String, PdfJsonFont> fonts = new LinkedHashMap<>();
-                Map<Integer, List<PdfJsonTextElement>> textByPage = new LinkedHashMap<>();
-                Map<Integer, Map<PDFont, String>> pageFontResources = new HashMap<>();
-
                 progress.accept(
                         PdfJsonConversionProgress.of(30, "fonts", "Collecting font information"));
-                int pageNumber = 1;
-                for (PDPage page : document.getPages()) {
-                    Map<PDFont, String> resourceMap =
-                            collectFontsForPage(
-                                    document, page, pageNumber, fonts, fontCache, jobId);
-                    pageFontResources.put(pageNumber, resourceMap);
-                    log.debug(
-                            "PDF->JSON: collected {} font resources on page {}",
-                            resourceMap.size(),
-                            pageNumber);
-
-                    // Update progress for font collection (30-50%)
-                    int fontProgress = 30 + (int) ((pageNumber / (double) totalPages) * 20);
-                    progress.accept(
-                            PdfJsonConversionProgress.of(
-                                    fontProgress,
-                                    "fonts",
-                                    "Collecting fonts",
-                                    pageNumber,
-                                    totalPages));
-                    pageNumber++;
-                }
-
+                final byte[] viewBytes = cachedPdfBytes;
+                final Path viewPath = workingPath;
+                PageModelExtraction extraction =
+                        extractPageModels(
+                                document,
+                                () ->
+                                        viewBytes != null
+                                                ? pdfDocumentFactory.load(viewBytes, true)
+                                                : pdfDocumentFactory.load(viewPath, true),
+                                fontCache,
+                                true,
+                                jobId,
+                                progress);
+                Map<String, PdfJsonFont> fonts = extraction.fonts();
+                Map<Integer, List<PdfJsonTextElement>> textByPage = extraction.textByPage();
+                Map<Integer, Map<PDFont, String>> pageFontResources =
+                        extraction.pageFontResources();
+
+                // Images are encoded page by page while the pages are written
                 progress.accept(
-                        PdfJsonConversionProgress.of(50, "text", "Extracting text content"));
-                TextCollectingStripper stripper =
-                        new TextCollectingStripper(
-                                document, fonts, textByPage, pageFontResources, fontCache, jobId);
-                stripper.setSortByPosition(true);
-                stripper.getText(document);
-
-                Map<Integer, List<PdfJsonImageElement>> imagesByPage;
-                if (useLazyImages) {
-                    progress.accept(
-                            PdfJsonConversionProgress.of(
-                                    70, "images", "Skipping upfront image extraction"));
-                    imagesByPage = new LinkedHashMap<>();
-                } else {
-                    progress.accept(
-                            PdfJsonConversionProgress.of(
-                                    70, "images", "Extracting embedded images"));
-                    imagesByPage = collectImages(document, totalPages, progress, imageCache);
-                }
+                        PdfJsonConversionProgress.of(
+                                70,
+                                "images",
+                                useLazyImages
+                                        ? "Skipping upfront image extraction"
+                                        : "Deferring image extraction to page output"));
 
                 progress.accept(
                         PdfJsonConversionProgress.of(
@@ -456,13 +442,9 @@ public class PdfJsonConversionService {
                 }
                 List<PdfJsonFont> responseFonts = cloneFontList(cachedFonts);
                 pdfJson.setFonts(responseFonts);
-                pdfJson.setPages(
-                        extractPages(
-                                document,
-                                textByPage,
-                                imagesByPage,
-                                annotationsByPage,
-                                lightweight && useLazyImages));
+                // Pages are not attached to the document model; they are built and streamed one
+                // at a time by writePdfJson
+                pdfJson.setPages(null);
                 if (lightweight && useLazyImages) {
                     // Lightweight async editor flow does not use form fields and this payload can
                     // be
@@ -582,7 +564,7 @@ public class PdfJsonConversionService {
                             "PDF->JSON conversion complete: {} fonts ({} Type3), {} pages. Missing font programs for {} embedded font(s): {}",
                             responseFonts.size(),
                             type3Fonts,
-                            pdfJson.getPages().size(),
+                            totalPages,
                             fontsWithMissingProgram.size(),
                             String.join(", ", fontsWithMissingProgram));
                 } else {
@@ -590,10 +572,18 @@ public class PdfJsonConversionService {
                             "PDF->JSON conversion complete: {} fonts ({} Type3), {} pages",
                             responseFonts.size(),
                             type3Fonts,
-                            pdfJson.getPages().size());
+                            totalPages);
                 }
 
-                byte[] result = objectMapper.writeValueAsBytes(pdfJson);
+                writePdfJson(
+                        out,
+                        pdfJson,
+                        document,
+                        textByPage,
+                        annotationsByPage,
+                        useLazyImages ? null : imageCache,
+                        lightweight && useLazyImages,
+                        progress);
                 progress.accept(PdfJsonConversionProgress.complete());
 
                 // Clear Type3 cache entries immediately for non-cached conversions
@@ -602,8 +592,6 @@ public class PdfJsonConversionService {
                 if (!useLazyImages) {
                     clearType3CacheEntriesForJob(jobId);
                 }
-
-                return result;
             }
         } finally {
             closeQuietly(normalizedFile);
@@ -816,6 +804,142 @@ public class PdfJsonConversionService {
         }
     }
 
+    /** Opens an independent read-only view of the document being converted. */
+    @FunctionalInterface
+    interface DocumentViewLoader {
+        PDDocument load() throws IOException;
+    }
+
+    /** Fonts, text and page font resources of a range of pages, keyed by page number. */
+    record PageModelExtraction(
+            Map<String, PdfJsonFont> fonts,
+            Map<Integer, List<PdfJsonTextElement>> textByPage,
+            Map<Integer, Map<PDFont, String>> pageFontResources) {
+
+        PageModelExtraction() {
+            this(new LinkedHashMap<>(), new LinkedHashMap<>(), new HashMap<>());
+        }
+
+        void merge(PageModelExtraction other) {
+            fonts.putAll(other.fonts);
+            textByPage.putAll(other.textByPage);
+            pageFontResources.putAll(other.pageFontResources);
+        }
+    }
+
+    /**
+     * Collects fonts and, with {@code includeText}, text for every page. Large documents are split
+     * into page ranges extracted concurrently: the first range on {@code document}, the others on
+     * their own views from {@code viewLoader}. Font keys contain the page number, so the merged
+     * result matches a sequential pass.
+     */
+    private PageModelExtraction extractPageModels(
+            PDDocument document,
+            DocumentViewLoader viewLoader,
+            Map<COSBase, FontModelCacheEntry> fontCache,
+            boolean includeText,
+            String jobId,
+            Consumer<PdfJsonConversionProgress> progress)
+            throws IOException {
+        int totalPages = document.getNumberOfPages();
+        int ranges = ParallelPageRanges.rangeCount(totalPages, MIN_PAGES_PER_EXTRACTION_WORKER);
+        if (ranges < 2) {
+            return extractPageRange(
+                    document, 1, totalPages, fontCache, includeText, jobId, progress);
+        }
+
+        log.debug("Extracting {} pages in {} ranges (jobId: {})", totalPages, ranges, jobId);
+        PageModelExtraction result = new PageModelExtraction();
+        ParallelPageRanges.process(
+                totalPages,
+                ranges,
+                (startPage, endPage) -> {
+                    if (startPage == 1) {
+                        return extractPageRange(
+                                document, 1, endPage, fontCache, includeText, jobId, null);
+                    }
+                    try (PDDocument view = viewLoader.load()) {
+                        return extractPageRange(
+                                view,
+                                startPage,
+                                endPage,
+                                new IdentityHashMap<>(),
+                                includeText,
+                                jobId,
+                                null);
+                    }
+                },
+                (range, endPage) -> {
+                    result.merge(range);
+                    reportExtractionProgress(progress, endPage, totalPages);
+                });
+        return result;
+    }
+
+    private PageModelExtraction extractPageRange(
+            PDDocument document,
+            int startPage,
+            int endPage,
+            Map<COSBase, FontModelCacheEntry> fontCache,
+            boolean includeText,
+            String jobId,
+            Consumer<PdfJsonConversionProgress> progress)
+            throws IOException {
+        PageModelExtraction extraction = new PageModelExtraction();
+        int totalPages = document.getNumberOfPages();
+        for (int pageNumber = startPage; pageNumber <= endPage; pageNumber++) {
+            PDPage page = document.getPage(pageNumber - 1);
+            Map<PDFont, String> resourceMap =
+                    collectFontsForPage(
+                            document, page, pageNumber, extraction.fonts(), fontCache, jobId);
+            extraction.pageFontResources().put(pageNumber, resourceMap);
+            log.debug(
+                    "PDF->JSON: collected {} font resources on page {}",
+                    resourceMap.size(),
+                    pageNumber);
+
+            if (progress != null) {
+                // Update progress for font collection (30-50%)
+                int fontProgress = 30 + (int) ((pageNumber / (double) totalPages) * 20);
+                progress.accept(
+                        PdfJsonConversionProgress.of(
+                                fontProgress, "fonts", "Collecting fonts", pageNumber, totalPages));
+            }
+        }
+
+        if (includeText) {
+            if (progress != null) {
+                progress.accept(
+                        PdfJsonConversionProgress.of(50, "text", "Extracting text content"));
+            }
+            TextCollectingStripper stripper =
+                    new TextCollectingStripper(
+                            document,
+                            extraction.fonts(),
+                            extraction.textByPage(),
+                            extraction.pageFontResources(),
+                            fontCache,
+                            jobId);
+            stripper.setSortByPosition(true);
+            stripper.setStartPage(startPage);
+            stripper.setEndPage(endPage);
+            stripper.getText(document);
+        }
+        return extraction;
+    }
+
+    private void reportExtractionProgress(
+            Consumer<PdfJsonConversionProgress> progress, int pagesDone, int totalPages) {
+        if (progress == null) {
+            return;
+        }
+        // Fonts and text of a range complete together in parallel mode (30-70%)
+        int percent = 30 + (int) ((pagesDone / (double) totalPages) * 40);
+        progress.accept(
+                PdfJsonConversionProgress.of(
+                        percent, "fonts", "Collecting fonts and text", pagesDone, totalPages));
+    }
+
     private Map<PDFont, String> collectFontsForPage(
             PDDocument document,
             PDPage page,
@@ -987,62 +1111,7 @@ public class PdfJsonConversionService {
     }
 
     private PdfJsonFont cloneFont(PdfJsonFont font) {
-        if (font == null) {
-            return null;
-        }
-        try {
-            byte[] bytes = objectMapper.writeValueAsBytes(font);
-            return objectMapper.readValue(bytes, PdfJsonFont.class);
-        } catch (Exception ex) {
-            log.debug(
-                    "Failed deep-cloning font {} via roundtrip: {}", font.getId(), ex.getMessage());
-            PdfJsonCosValue cosClone = null;
-            try {
-                if (font.getCosDictionary() != null) {
-                    byte[] cosBytes = objectMapper.writeValueAsBytes(font.getCosDictionary());
-                    cosClone = objectMapper.readValue(cosBytes, PdfJsonCosValue.class);
-                }
-            } catch (Exception cosEx) {
-                log.debug(
-                        "Failed deep-cloning font cosDictionary {}: {}",
-                        font.getId(),
-                        cosEx.getMessage());
-            }
-            return PdfJsonFont.builder()
-                    .id(font.getId())
-                    .pageNumber(font.getPageNumber())
-                    .uid(font.getUid())
-                    .baseName(font.getBaseName())
-                    .subtype(font.getSubtype())
-                    .encoding(font.getEncoding())
-                    .cidSystemInfo(font.getCidSystemInfo())
-                    .embedded(font.getEmbedded())
-                    .program(font.getProgram())
-                    .programFormat(font.getProgramFormat())
-                    .webProgram(font.getWebProgram())
-                    .webProgramFormat(font.getWebProgramFormat())
-                    .pdfProgram(font.getPdfProgram())
-                    .pdfProgramFormat(font.getPdfProgramFormat())
-                    .type3Glyphs(
-                            font.getType3Glyphs() == null
-                                    ? null
-                                    : new ArrayList<>(font.getType3Glyphs()))
-                    .conversionCandidates(
-                            font.getConversionCandidates() == null
-                                    ? null
-                                    : new ArrayList<>(font.getConversionCandidates()))
-                    .toUnicode(font.getToUnicode())
-                    .standard14Name(font.getStandard14Name())
-                    .fontDescriptorFlags(font.getFontDescriptorFlags())
-                    .ascent(font.getAscent())
-                    .descent(font.getDescent())
-                    .capHeight(font.getCapHeight())
-                    .xHeight(font.getXHeight())
-                    .italicAngle(font.getItalicAngle())
-                    .unitsPerEm(font.getUnitsPerEm())
-                    .cosDictionary(cosClone)
-                    .build();
-        }
+        return font != null ? font.copy() : null;
     }
 
     private void applyLightweightTransformations(PdfJsonDocument document) {
@@ -1229,8 +1298,28 @@ public class PdfJsonConversionService {
                     textElementCount,
                     textCharCount);
 
+            // Size every page once; the pages section total and the top page ranking share them
+            List<PageSizeStat> topPages = new ArrayList<>();
+            long pagesBytes = 0;
+            if (pages != null) {
+                // Array brackets plus separators
+                pagesBytes = 2L + Math.max(0, pages.size() - 1);
+                int pageIndex = 0;
+                for (PdfJsonPage page : pages) {
+                    if (page == null) {
+                        pagesBytes += 4; // null
+                        pageIndex++;
+                        continue;
+                    }
+                    long size = sizeOfObject(page);
+                    pagesBytes += Math.max(0, size);
+                    int pageNumber =
+                            page.getPageNumber() != null ? page.getPageNumber() : pageIndex + 1;
+                    topPages.add(new PageSizeStat(pageNumber, size, page));
+                    pageIndex++;
+                }
+            }
             long fontsBytes = sizeOfObject(pdfJson.getFonts());
-            long pagesBytes = sizeOfObject(pdfJson.getPages());
             long metadataBytes = sizeOfObject(pdfJson.getMetadata());
             long xmpBytes = sizeOfObject(pdfJson.getXmpMetadata());
             long formFieldsBytes = sizeOfObject(pdfJson.getFormFields());
@@ -1243,20 +1332,7 @@ public class PdfJsonConversionService {
                     xmpBytes,
                     formFieldsBytes);
 
-            if (pages != null && !pages.isEmpty()) {
-                List<PageSizeStat> topPages = new ArrayList<>();
-                int pageIndex = 0;
-                for (PdfJsonPage page : pages) {
-                    if (page == null) {
-                        pageIndex++;
-                        continue;
-                    }
-                    long size = sizeOfObject(page);
-                    int pageNumber =
-                            page.getPageNumber() != null ? page.getPageNumber() : pageIndex + 1;
-                    topPages.add(new PageSizeStat(pageNumber, size, page));
-                    pageIndex++;
-                }
+            if (!topPages.isEmpty()) {
                 topPages.sort((a, b) -> Long.compare(b.sizeBytes, a.sizeBytes));
                 String top =
                         topPages.stream()
@@ -1301,18 +1377,18 @@ public class PdfJsonConversionService {
         if (value == null) {
             return;
         }
-        byte[] bytes = objectMapper.writeValueAsBytes(value);
-        if (bytes.length == 0) {
+        // Hash the serialized form as it is written instead of materializing it
+        java.security.MessageDigest digest = java.security.MessageDigest.getInstance("SHA-256");
+        CountingOutputStream counter = new CountingOutputStream();
+        objectMapper.writeValue(new java.security.DigestOutputStream(counter, digest), value);
+        if (counter.count == 0) {
             return;
         }
-        String hash =
-                Base64.getEncoder()
-                        .encodeToString(
-                                java.security.MessageDigest.getInstance("SHA-256").digest(bytes));
+        String hash = Base64.getEncoder().encodeToString(digest.digest());
         DuplicateStats entry = stats.computeIfAbsent(hash, k -> new DuplicateStats());
         entry.count++;
         if (entry.sizeBytes == 0) {
-            entry.sizeBytes = bytes.length;
+            entry.sizeBytes = counter.count;
         }
     }
 
@@ -1356,13 +1432,30 @@ public class PdfJsonConversionService {
             return 0;
         }
         try {
-            return objectMapper.writeValueAsBytes(value).length;
+            CountingOutputStream counter = new CountingOutputStream();
+            objectMapper.writeValue(counter, value);
+            return counter.count;
         } catch (Exception ex) {
             log.warn("Failed to serialize object for size analysis: {}", ex.getMessage());
             return -1;
         }
     }
 
+    /** Discards written bytes, keeping only their count. */
+    private static final class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+
     private static final class DuplicateStats {
         private int count;
         private long sizeBytes;
@@ -2415,70 +2508,117 @@ public class PdfJsonConversionService {
         return null;
     }
 
-    private List<PdfJsonPage> extractPages(
+    /**
+     * Writes {@code header} followed by one page model per page. Text and annotations for each page
+     * are removed from their maps once written, and images are encoded per page (skipped when
+     * {@code imageCache} is null, i.e. lazy image mode), so only one page model is alive at a time.
+     */
+    private void writePdfJson(
+            OutputStream out,
+            PdfJsonDocument header,
             PDDocument document,
             Map<Integer, List<PdfJsonTextElement>> textByPage,
-            Map<Integer, List<PdfJsonImageElement>> imagesByPage,
             Map<Integer, List<PdfJsonAnnotation>> annotationsByPage,
-            boolean omitResourceStreamData)
+            Map<COSBase, EncodedImage> imageCache,
+            boolean omitResourceStreamData,
+            Consumer<PdfJsonConversionProgress> progress)
             throws IOException {
-        List<PdfJsonPage> pages = new ArrayList<>();
-        int pageIndex = 0;
-        for (PDPage page : document.getPages()) {
-            PdfJsonPage pageModel = new PdfJsonPage();
-            pageModel.setPageNumber(pageIndex + 1);
-            // Use CropBox if present (defines visible page area), otherwise fall back to MediaBox
-            PDRectangle pageBox = page.getCropBox();
-            if (pageBox == null || pageBox.getWidth() == 0 || pageBox.getHeight() == 0) {
-                pageBox = page.getMediaBox();
-            }
-            pageModel.setWidth(pageBox.getWidth());
-            pageModel.setHeight(pageBox.getHeight());
-            pageModel.setRotation(page.getRotation());
-            pageModel.setTextElements(textByPage.getOrDefault(pageIndex + 1, new ArrayList<>()));
-            pageModel.setImageElements(imagesByPage.getOrDefault(pageIndex + 1, new ArrayList<>()));
-            pageModel.setAnnotations(
-                    annotationsByPage.getOrDefault(pageIndex + 1, new ArrayList<>()));
-            // Serialize resources but exclude image XObject streams to avoid duplication with
-            // imageElements
-            COSBase resourcesBase = page.getCOSObject().getDictionaryObject(COSName.RESOURCES);
-            COSBase filteredResources = filterImageXObjectsFromResources(resourcesBase);
-            if (omitResourceStreamData) {
-                // In lightweight editor mode, omit heavy resource/content stream payloads entirely.
-                // Partial export preserves originals from cached PDF when these fields are missing.
-                pageModel.setResources(null);
-                pageModel.setContentStreams(null);
-            } else {
-                pageModel.setResources(cosMapper.serializeCosValue(filteredResources));
-                pageModel.setContentStreams(extractContentStreams(page, false));
+        int totalPages = document.getNumberOfPages();
+        try (JsonGenerator generator =
+                objectMapper
+                        .writer()
+                        .without(StreamWriteFeature.AUTO_CLOSE_TARGET)
+                        .createGenerator(out)) {
+            generator.writeStartObject();
+            if (header.getMetadata() != null) {
+                generator.writeName("metadata");
+                objectMapper.writeValue(generator, header.getMetadata());
+            }
+            if (header.getXmpMetadata() != null) {
+                generator.writeName("xmpMetadata");
+                generator.writeString(header.getXmpMetadata());
+            }
+            if (header.isLazyImages()) {
+                generator.writeName("lazyImages");
+                generator.writeBoolean(true);
+            }
+            if (header.getFonts() != null && !header.getFonts().isEmpty()) {
+                generator.writeName("fonts");
+                objectMapper.writeValue(generator, header.getFonts());
+            }
+            if (header.getFormFields() != null && !header.getFormFields().isEmpty()) {
+                generator.writeName("formFields");
+                objectMapper.writeValue(generator, header.getFormFields());
+            }
+
+            generator.writeName("pages");
+            generator.writeStartArray();
+            int pageIndex = 0;
+            for (PDPage page : document.getPages()) {
+                int pageNumber = pageIndex + 1;
+                List<PdfJsonImageElement> images = new ArrayList<>();
+                if (imageCache != null) {
+                    Map<Integer, List<PdfJsonImageElement>> imagesByPage = new HashMap<>();
+                    new ImageCollectingEngine(page, pageNumber, imagesByPage, imageCache)
+                            .processPage(page);
+                    images = imagesByPage.getOrDefault(pageNumber, images);
+                }
+                PdfJsonPage pageModel =
+                        buildPageModel(
+                                page,
+                                pageNumber,
+                                textByPage.remove(pageNumber),
+                                images,
+                                annotationsByPage.remove(pageNumber),
+                                omitResourceStreamData);
+                objectMapper.writeValue(generator, pageModel);
+
+                progress.accept(
+                        PdfJsonConversionProgress.of(
+                                95, "serializing", "Writing pages", pageNumber, totalPages));
+                pageIndex++;
             }
-            pages.add(pageModel);
-            pageIndex++;
+            generator.writeEndArray();
+            generator.writeEndObject();
         }
-        return pages;
+        out.flush();
     }
 
-    private Map<Integer, List<PdfJsonImageElement>> collectImages(
-            PDDocument document,
-            int totalPages,
-            Consumer<PdfJsonConversionProgress> progress,
-            Map<COSBase, EncodedImage> imageCache)
+    private PdfJsonPage buildPageModel(
+            PDPage page,
+            int pageNumber,
+            List<PdfJsonTextElement> textElements,
+            List<PdfJsonImageElement> imageElements,
+            List<PdfJsonAnnotation> annotations,
+            boolean omitResourceStreamData)
             throws IOException {
-        Map<Integer, List<PdfJsonImageElement>> imagesByPage = new LinkedHashMap<>();
-        int pageNumber = 1;
-        for (PDPage page : document.getPages()) {
-            ImageCollectingEngine engine =
-                    new ImageCollectingEngine(page, pageNumber, imagesByPage, imageCache);
-            engine.processPage(page);
-
-            // Update progress for image extraction (70-80%)
-            int imageProgress = 70 + (int) ((pageNumber / (double) totalPages) * 10);
-            progress.accept(
-                    PdfJsonConversionProgress.of(
-                            imageProgress, "images", "Extracting images", pageNumber, totalPages));
-            pageNumber++;
+        PdfJsonPage pageModel = new PdfJsonPage();
+        pageModel.setPageNumber(pageNumber);
+        // Use CropBox if present (defines visible page area), otherwise fall back to MediaBox
+        PDRectangle pageBox = page.getCropBox();
+        if (pageBox == null || pageBox.getWidth() == 0 || pageBox.getHeight() == 0) {
+            pageBox = page.getMediaBox();
+        }
+        pageModel.setWidth(pageBox.getWidth());
+        pageModel.setHeight(pageBox.getHeight());
+        pageModel.setRotation(page.getRotation());
+        pageModel.setTextElements(textElements != null ? textElements : new ArrayList<>());
+        pageModel.setImageElements(imageElements != null ? imageElements : new ArrayList<>());
+        pageModel.setAnnotations(annotations != null ? annotations : new ArrayList<>());
+        if (omitResourceStreamData) {
+            // In lightweight editor mode, omit heavy resource/content stream payloads entirely.
+            // Partial export preserves originals from cached PDF when these fields are missing.
+            pageModel.setResources(null);
+            pageModel.setContentStreams(null);
+        } else {
+            // Serialize resources but exclude image XObject streams to avoid duplication with
+            // imageElements
+            COSBase resourcesBase = page.getCOSObject().getDictionaryObject(COSName.RESOURCES);
+            COSBase filteredResources = filterImageXObjectsFromResources(resourcesBase);
+            pageModel.setResources(cosMapper.serializeCosValue(filteredResources));
+            pageModel.setContentStreams(extractContentStreams(page, false));
         }
-        return imagesByPage;
+        return pageModel;
     }
 
     private Map<Integer, List<PdfJsonAnnotation>> collectAnnotations(
@@ -3512,7 +3652,7 @@ public class PdfJsonConversionService {
         if (pdfBytes == null) {
             throw new IllegalArgumentException("pdfBytes must not be null");
         }
-        long budget = cacheBudgetBytes;
+        long budget = documentCache.getBudgetBytes();
         // If single document is larger than budget, spill straight to disk
         if (budget > 0 && pdfBytes.length > budget) {
             TempFile tempFile = new TempFile(tempFileManager, ".pdfjsoncache");
@@ -3530,110 +3670,41 @@ public class PdfJsonConversionService {
     }
 
     private void putCachedDocument(String jobId, CachedPdfDocument cached) {
-        synchronized (cacheLock) {
-            CachedPdfDocument existing = documentCache.put(jobId, cached);
-            if (existing != null) {
-                lruCache.remove(jobId);
-                currentCacheBytes = Math.max(0L, currentCacheBytes - existing.getInMemorySize());
-                existing.close();
-            }
-            lruCache.put(jobId, cached);
-            currentCacheBytes += cached.getInMemorySize();
-            enforceCacheBudget();
-        }
+        documentCache.put(cacheKey(jobId), cached);
     }
 
-    private CachedPdfDocument getCachedDocument(String jobId) {
-        synchronized (cacheLock) {
-            CachedPdfDocument cached = documentCache.get(jobId);
-            if (cached != null) {
-                lruCache.remove(jobId);
-                lruCache.put(jobId, cached);
-            }
-            return cached;
-        }
+    /**
+     * Stores the next revision of a job's document. The assets of the current entry move over, so
+     * clients keep fetching images and font programs they loaded through the asset endpoint.
+     */
+    private void replaceCachedDocument(String jobId, CachedPdfDocument updated) {
+        documentCache.put(
+                cacheKey(jobId),
+                updated,
+                (previous, next) -> {
+                    if (previous instanceof CachedPdfDocument previousDocument) {
+                        updated.inheritAssets(previousDocument);
+                    }
+                });
     }
 
-    private void enforceCacheBudget() {
-        if (cacheBudgetBytes <= 0) {
-            return;
-        }
-        // Must be called under cacheLock
-        java.util.Iterator<java.util.Map.Entry<String, CachedPdfDocument>> it =
-                lruCache.entrySet().iterator();
-        while (currentCacheBytes > cacheBudgetBytes && it.hasNext()) {
-            java.util.Map.Entry<String, CachedPdfDocument> entry = it.next();
-            it.remove();
-            CachedPdfDocument removed = entry.getValue();
-            documentCache.remove(entry.getKey(), removed);
-            currentCacheBytes = Math.max(0L, currentCacheBytes - removed.getInMemorySize());
-            removed.close();
-            log.warn(
-                    "Evicted cached PDF for jobId {} to enforce cache budget (budget={} bytes, current={} bytes)",
-                    entry.getKey(),
-                    cacheBudgetBytes,
-                    currentCacheBytes);
-        }
-        if (currentCacheBytes > cacheBudgetBytes && !lruCache.isEmpty()) {
-            // Spill the most recently used large entry to disk
-            String key =
-                    lruCache.entrySet().stream()
-                            .reduce((first, second) -> second)
-                            .map(java.util.Map.Entry::getKey)
-                            .orElse(null);
-            if (key != null) {
-                CachedPdfDocument doc = lruCache.get(key);
-                if (doc != null && doc.getInMemorySize() > 0) {
-                    try {
-                        CachedPdfDocument diskDoc =
-                                buildCachedDocument(
-                                        key,
-                                        doc.getPdfBytes(),
-                                        doc.getMetadata(),
-                                        doc.getFonts(),
-                                        doc.getPageFontResources());
-                        lruCache.put(key, diskDoc);
-                        documentCache.put(key, diskDoc);
-                        currentCacheBytes =
-                                Math.max(0L, currentCacheBytes - doc.getInMemorySize())
-                                        + diskDoc.getInMemorySize();
-                        doc.close();
-                        log.debug("Spilled cached PDF for jobId {} to disk to satisfy budget", key);
-                    } catch (IOException ex) {
-                        log.warn(
-                                "Failed to spill cached PDF for jobId {} to disk: {}",
-                                key,
-                                ex.getMessage());
-                    }
-                }
-            }
-        }
+    private CachedPdfDocument getCachedDocument(String jobId) {
+        return documentCache.get(cacheKey(jobId), CachedPdfDocument.class);
     }
 
     private void removeCachedDocument(String jobId) {
-        log.warn(
-                "removeCachedDocument called for jobId: {} [CALLER: {}]",
-                jobId,
-                Thread.currentThread().getStackTrace()[2].toString());
-        CachedPdfDocument removed = null;
-        synchronized (cacheLock) {
-            removed = documentCache.remove(jobId);
-            if (removed != null) {
-                lruCache.remove(jobId);
-                currentCacheBytes = Math.max(0L, currentCacheBytes - removed.getInMemorySize());
-                log.warn(
-                        "Removed cached document for jobId: {} (size={} bytes)",
-                        jobId,
-                        removed.getInMemorySize());
-            } else {
-                log.warn("Attempted to remove jobId: {} but it was not in cache", jobId);
-            }
-        }
-        if (removed != null) {
-            removed.close();
+        if (documentCache.remove(cacheKey(jobId))) {
+            log.debug("Removed cached document for jobId: {}", jobId);
+        } else {
+            log.debug("Attempted to remove jobId: {} but it was not in cache", jobId);
         }
     }
 
+    // Namespaces job ids within the document cache shared with other editor services
+    private static String cacheKey(String jobId) {
+        return "pdfjson:" + jobId;
+    }
+
     private void applyTextState(PDPageContentStream contentStream, PdfJsonTextElement element)
             throws IOException {
         if (element.getCharacterSpacing() != null) {
@@ -5977,15 +6048,47 @@ public class PdfJsonConversionService {
      * Stores PDF bytes for lazy page loading. Each page is extracted on-demand by re-loading the
      * PDF from bytes.
      */
-    private static class CachedPdfDocument {
+    static class CachedPdfDocument implements PdfJsonDocumentCache.Entry {
         private final byte[] pdfBytes;
-        private final TempFile pdfTempFile;
+        private final SharedFile pdfFile;
         private final long pdfSize;
         private final PdfJsonDocumentMetadata metadata;
         private final Map<String, PdfJsonFont> fonts; // Font map with UIDs for consistency
         private final Map<Integer, Map<PDFont, String>> pageFontResources; // Page font resources
+        private final Map<String, TextEditorAsset> assets = new ConcurrentHashMap<>();
+        private long assetBytes; // Guarded by the document cache lock
+        private final Map<String, SpilledAsset> spilledAssets;
+        private final List<SharedFile> assetFiles;
+        private final AtomicBoolean closed = new AtomicBoolean();
         private final long timestamp;
 
+        /** Asset moved to {@code length} bytes at {@code offset} of a spill file. */
+        private record SpilledAsset(TempFile file, long offset, int length, String contentType) {}
+
+        /**
+         * Spill file referenced by an entry, its spilled copies and the entry replacing it after an
+         * export. Each holds one reference, and the file is deleted when the last one is closed.
+         */
+        private static final class SharedFile {
+            private final TempFile file;
+            private final AtomicInteger references = new AtomicInteger(1);
+
+            private SharedFile(TempFile file) {
+                this.file = file;
+            }
+
+            private SharedFile retain() {
+                references.incrementAndGet();
+                return this;
+            }
+
+            private void release() {
+                if (references.decrementAndGet() == 0) {
+                    file.close();
+                }
+            }
+        }
+
         public CachedPdfDocument(
                 byte[] pdfBytes,
                 TempFile pdfTempFile,
@@ -5993,8 +6096,29 @@ public class PdfJsonConversionService {
                 PdfJsonDocumentMetadata metadata,
                 Map<String, PdfJsonFont> fonts,
                 Map<Integer, Map<PDFont, String>> pageFontResources) {
+            this(
+                    pdfBytes,
+                    pdfTempFile != null ? new SharedFile(pdfTempFile) : null,
+                    pdfSize,
+                    metadata,
+                    fonts,
+                    pageFontResources,
+                    Map.of(),
+                    List.of());
+        }
+
+        // Takes over one reference to pdfFile and to each of assetFiles
+        private CachedPdfDocument(
+                byte[] pdfBytes,
+                SharedFile pdfFile,
+                long pdfSize,
+                PdfJsonDocumentMetadata metadata,
+                Map<String, PdfJsonFont> fonts,
+                Map<Integer, Map<PDFont, String>> pageFontResources,
+                Map<String, SpilledAsset> spilledAssets,
+                List<SharedFile> assetFiles) {
             this.pdfBytes = pdfBytes;
-            this.pdfTempFile = pdfTempFile;
+            this.pdfFile = pdfFile;
             this.pdfSize = pdfSize;
             this.metadata = metadata;
             // Create defensive copies to prevent mutation of shared maps
@@ -6006,6 +6130,8 @@ public class PdfJsonConversionService {
                     pageFontResources != null
                             ? new java.util.concurrent.ConcurrentHashMap<>(pageFontResources)
                             : new java.util.concurrent.ConcurrentHashMap<>();
+            this.spilledAssets = new ConcurrentHashMap<>(spilledAssets);
+            this.assetFiles = new ArrayList<>(assetFiles);
             this.timestamp = System.currentTimeMillis();
         }
 
@@ -6014,8 +6140,8 @@ public class PdfJsonConversionService {
             if (pdfBytes != null) {
                 return pdfBytes;
             }
-            if (pdfTempFile != null) {
-                return Files.readAllBytes(pdfTempFile.getPath());
+            if (pdfFile != null) {
+                return Files.readAllBytes(pdfFile.file.getPath());
             }
             throw new IOException("Cached PDF backing missing");
         }
@@ -6036,12 +6162,130 @@ public class PdfJsonConversionService {
             return pdfSize;
         }
 
+        @Override
         public long getInMemorySize() {
-            return pdfBytes != null ? pdfBytes.length : 0L;
+            return (pdfBytes != null ? pdfBytes.length : 0L) + assetBytes;
+        }
+
+        /**
+         * Moves the PDF bytes and the resident assets to disk. An entry whose PDF is already on
+         * disk only moves the assets registered since, so the returned copy holds nothing on the
+         * heap. The copy shares the files this entry already references.
+         */
+        @Override
+        public CachedPdfDocument spill(PdfJsonDocumentCache.SpillFiles files) throws IOException {
+            if (pdfBytes == null && assets.isEmpty()) {
+                return null;
+            }
+            TempFile writtenPdf = null;
+            if (pdfBytes != null) {
+                writtenPdf = files.create();
+                Files.write(writtenPdf.getPath(), pdfBytes);
+            }
+            Map<String, SpilledAsset> nextSpilled = new HashMap<>(spilledAssets);
+            TempFile assetFile = null;
+            if (!assets.isEmpty()) {
+                assetFile = files.create();
+                long offset = 0;
+                try (OutputStream out = Files.newOutputStream(assetFile.getPath())) {
+                    for (Map.Entry<String, TextEditorAsset> entry : assets.entrySet()) {
+                        TextEditorAsset asset = entry.getValue();
+                        out.write(asset.data());
+                        nextSpilled.put(
+                                entry.getKey(),
+                                new SpilledAsset(
+                                        assetFile,
+                                        offset,
+                                        asset.data().length,
+                                        asset.contentType()));
+                        offset += asset.data().length;
+                    }
+                }
+            }
+            // Take the references only once nothing can fail, as the cache discards the files
+            // created above when the spill throws
+            List<SharedFile> nextFiles = new ArrayList<>();
+            assetFiles.forEach(file -> nextFiles.add(file.retain()));
+            if (assetFile != null) {
+                nextFiles.add(new SharedFile(assetFile));
+            }
+            SharedFile nextPdfFile;
+            if (writtenPdf != null) {
+                nextPdfFile = new SharedFile(writtenPdf);
+            } else {
+                nextPdfFile = pdfFile != null ? pdfFile.retain() : null;
+            }
+            return new CachedPdfDocument(
+                    null,
+                    nextPdfFile,
+                    pdfSize,
+                    metadata,
+                    fonts,
+                    pageFontResources,
+                    nextSpilled,
+                    nextFiles);
+        }
+
+        /** Returns the asset, or null if it is unknown or its spill file can no longer be read. */
+        public TextEditorAsset getAsset(String hash) {
+            TextEditorAsset asset = assets.get(hash);
+            SpilledAsset spilled = spilledAssets.get(hash);
+            if (asset != null || spilled == null) {
+                return asset;
+            }
+            byte[] data = new byte[spilled.length()];
+            try (RandomAccessFile file = new RandomAccessFile(spilled.file().getFile(), "r")) {
+                file.seek(spilled.offset());
+                file.readFully(data);
+            } catch (IOException e) {
+                log.warn("Failed to read spilled asset {}: {}", hash, e.getMessage());
+                return null;
+            }
+            return new TextEditorAsset(data, spilled.contentType());
+        }
+
+        public boolean hasAsset(String hash) {
+            return assets.containsKey(hash) || spilledAssets.containsKey(hash);
+        }
+
+        /**
+         * Stores an asset under its hash unless the assets would then exceed {@code maxAssetBytes},
+         * and returns the bytes added. Call through {@link PdfJsonDocumentCache#grow}.
+         */
+        public long addAsset(String hash, TextEditorAsset asset, long maxAssetBytes) {
+            long size = asset.data().length;
+            if (hasAsset(hash) || assetBytes + size > maxAssetBytes) {
+                return 0L;
+            }
+            assets.put(hash, asset);
+            assetBytes += size;
+            return size;
+        }
+
+        /**
+         * Takes over the assets of the entry this one replaces, so hashes handed out for the
+         * previous revision keep resolving. Call from the hand-over of {@link
+         * PdfJsonDocumentCache#put}, before this entry is visible to other threads.
+         */
+        void inheritAssets(CachedPdfDocument previous) {
+            previous.assets.forEach(
+                    (hash, asset) -> {
+                        if (!hasAsset(hash)) {
+                            assets.put(hash, asset);
+                            assetBytes += asset.data().length;
+                        }
+                    });
+            previous.spilledAssets.forEach(spilledAssets::putIfAbsent);
+            previous.assetFiles.forEach(file -> assetFiles.add(file.retain()));
         }
 
         public boolean isDiskBacked() {
-            return pdfBytes == null && pdfTempFile != null;
+            return pdfBytes == null && pdfFile != null;
+        }
+
+        /** Path of the cached PDF when it is disk-backed, otherwise null. */
+        public Path getPdfPath() {
+            return isDiskBacked() ? pdfFile.file.getPath() : null;
         }
 
         public long getTimestamp() {
@@ -6064,10 +6308,15 @@ public class PdfJsonConversionService {
                     pageFontResources);
         }
 
+        @Override
         public void close() {
-            if (pdfTempFile != null) {
-                pdfTempFile.close();
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            if (pdfFile != null) {
+                pdfFile.release();
             }
+            assetFiles.forEach(SharedFile::release);
         }
     }
 
@@ -6105,16 +6354,16 @@ public class PdfJsonConversionService {
             // Extract fonts
             progress.accept(
                     PdfJsonConversionProgress.of(30, "fonts", "Collecting font information"));
-            Map<String, PdfJsonFont> fonts = new LinkedHashMap<>();
-            Map<Integer, Map<PDFont, String>> pageFontResources = new HashMap<>();
-            Map<COSBase, FontModelCacheEntry> fontCache = new IdentityHashMap<>();
-            int pageNumber = 1;
-            for (PDPage page : document.getPages()) {
-                Map<PDFont, String> resourceMap =
-                        collectFontsForPage(document, page, pageNumber, fonts, fontCache, jobId);
-                pageFontResources.put(pageNumber, resourceMap);
-                pageNumber++;
-            }
+            PageModelExtraction extraction =
+                    extractPageModels(
+                            document,
+                            () -> pdfDocumentFactory.load(pdfBytes, true),
+                            new IdentityHashMap<>(),
+                            false,
+                            jobId,
+                            progress);
+            Map<String, PdfJsonFont> fonts = extraction.fonts();
+            Map<Integer, Map<PDFont, String>> pageFontResources = extraction.pageFontResources();
 
             // Build metadata response
             progress.accept(PdfJsonConversionProgress.of(90, "metadata", "Extracting metadata"));
@@ -6176,6 +6425,16 @@ public class PdfJsonConversionService {
 
     /** Extracts a single page from cached PDF bytes. Re-loads the PDF for each request. */
     public byte[] extractSinglePage(String jobId, int pageNumber) throws IOException {
+        return extractSinglePage(jobId, pageNumber, false);
+    }
+
+    /**
+     * Extracts a single page from cached PDF bytes. With {@code externalAssets} the image bytes are
+     * registered as job assets and referenced by {@link PdfJsonImageElement#getImageAsset()}
+     * instead of being inlined as Base64, so the page payload only carries text and geometry.
+     */
+    public byte[] extractSinglePage(String jobId, int pageNumber, boolean externalAssets)
+            throws IOException {
         CachedPdfDocument cached = getCachedDocument(jobId);
         if (cached == null) {
             throw new stirling.software.SPDF.exception.CacheUnavailableException(
@@ -6310,6 +6569,11 @@ public class PdfJsonConversionService {
                             page, pageNumber, singlePageImages, new IdentityHashMap<>());
             engine.processPage(page);
             List<PdfJsonImageElement> images = singlePageImages.getOrDefault(pageNumber, List.of());
+            if (externalAssets) {
+                for (PdfJsonImageElement image : images) {
+                    externalizeImageData(jobId, cached, image);
+                }
+            }
             pageModel.setImageElements(images);
 
             // Extract resources and content streams
@@ -6331,6 +6595,15 @@ public class PdfJsonConversionService {
     }
 
     public byte[] extractPageFonts(String jobId, int pageNumber) throws IOException {
+        return extractPageFonts(jobId, pageNumber, false);
+    }
+
+    /**
+     * Returns the fonts used by a cached page. With {@code externalAssets} the font programs are
+     * registered as job assets and referenced by hash instead of being inlined as Base64.
+     */
+    public byte[] extractPageFonts(String jobId, int pageNumber, boolean externalAssets)
+            throws IOException {
         CachedPdfDocument cached = getCachedDocument(jobId);
         if (cached == null) {
             throw new stirling.software.SPDF.exception.CacheUnavailableException(
@@ -6370,6 +6643,9 @@ public class PdfJsonConversionService {
                 continue;
             }
             PdfJsonFont clone = cloneFont(font);
+            if (externalAssets && clone != null) {
+                externalizeFontPrograms(jobId, cached, clone);
+            }
             pageFonts.add(clone != null ? clone : font);
         }
         pageFonts.sort(
@@ -6379,6 +6655,20 @@ public class PdfJsonConversionService {
     }
 
     public byte[] exportUpdatedPages(String jobId, PdfJsonDocument updates) throws IOException {
+        return exportUpdatedPages(jobId, updates, false);
+    }
+
+    /**
+     * Applies page edits to the cached PDF of a job and returns the updated PDF, which also becomes
+     * the job's cached document.
+     *
+     * <p>By default the edits are appended as a PDF incremental update: the original bytes are
+     * copied verbatim and only the changed pages, their resources, content streams and fonts are
+     * written, so the cost follows the size of the edit instead of the document. With {@code
+     * fullRewrite} the whole document is serialized again, which drops superseded revisions.
+     */
+    public byte[] exportUpdatedPages(String jobId, PdfJsonDocument updates, boolean fullRewrite)
+            throws IOException {
         if (jobId == null || jobId.isBlank()) {
             throw new IllegalArgumentException("jobId is required for incremental export");
         }
@@ -6388,7 +6678,7 @@ public class PdfJsonConversionService {
             log.error(
                     "Cache not found for jobId: {}. Available cache keys: {}",
                     jobId,
-                    documentCache.keySet());
+                    documentCache.keys());
             throw new stirling.software.SPDF.exception.CacheUnavailableException(
                     "No cached document available for jobId: " + jobId);
         }
@@ -6397,6 +6687,7 @@ public class PdfJsonConversionService {
                 jobId,
                 cached.getPdfSize(),
                 cached.isDiskBacked());
+        resolveAssetReferences(cached, updates);
         if (updates == null || updates.getPages() == null || updates.getPages().isEmpty()) {
             log.debug(
                     "Incremental export requested with no page updates; returning cached PDF for jobId {}",
@@ -6404,8 +6695,11 @@ public class PdfJsonConversionService {
             return cached.getPdfBytes();
         }
 
-        try (PDDocument document = pdfDocumentFactory.load(cached.getPdfBytes(), true)) {
-            Map<String, PdfJsonFont> mergedFonts = new LinkedHashMap<>();
+        Map<String, PdfJsonFont> mergedFonts = new LinkedHashMap<>();
+        String updateJobId;
+        Set<Integer> updatedPages = new HashSet<>();
+        byte[] updatedBytes;
+        try (PDDocument document = loadCachedPdf(cached)) {
             if (cached.getFonts() != null) {
                 cached.getFonts()
                         .forEach(
@@ -6435,10 +6729,9 @@ public class PdfJsonConversionService {
             List<PdfJsonFont> fontModels = new ArrayList<>(mergedFonts.values());
             List<PdfJsonFont> fontModelsCopy = new ArrayList<>(fontModels);
             // Generate synthetic jobId for this incremental update to prevent cache collisions
-            String updateJobId = "incremental:" + jobId + ":" + java.util.UUID.randomUUID();
+            updateJobId = "incremental:" + jobId + ":" + java.util.UUID.randomUUID();
             Map<String, PDFont> fontMap = buildFontMap(document, fontModelsCopy, updateJobId);
 
-            Set<Integer> updatedPages = new HashSet<>();
             for (PdfJsonPage pageModel : updates.getPages()) {
                 if (pageModel == null) {
                     continue;
@@ -6461,6 +6754,7 @@ public class PdfJsonConversionService {
                 PDPage page = document.getPage(pageIndex);
                 replacePageContentFromModel(
                         document, page, pageModel, fontMap, fontModelsCopy, pageNumber);
+                markPageForIncrementalUpdate(document, page);
                 updatedPages.add(pageIndex);
             }
 
@@ -6471,30 +6765,259 @@ public class PdfJsonConversionService {
                 return cached.getPdfBytes();
             }
 
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            document.save(baos);
-            byte[] updatedBytes = baos.toByteArray();
+            updatedBytes = saveUpdatedDocument(document, jobId, fullRewrite);
+        }
+
+        // Replace the cache entry only after the document is closed, as a disk-backed entry's
+        // file is still open while the document is
+        CachedPdfDocument updated =
+                buildCachedDocument(
+                        jobId,
+                        updatedBytes,
+                        cached.getMetadata(),
+                        mergedFonts,
+                        cached.getPageFontResources());
+        replaceCachedDocument(jobId, updated);
+
+        // Clear Type3 cache entries for this incremental update
+        clearType3CacheEntriesForJob(updateJobId);
 
-            CachedPdfDocument updated =
-                    buildCachedDocument(
+        log.debug(
+                "Export complete for jobId {} (pages updated: {}, fullRewrite: {}, {} bytes)",
+                jobId,
+                updatedPages.stream().map(i -> i + 1).sorted().toList(),
+                fullRewrite,
+                updatedBytes.length);
+        return updatedBytes;
+    }
+
+    private PDDocument loadCachedPdf(CachedPdfDocument cached) throws IOException {
+        Path path = cached.getPdfPath();
+        if (path != null) {
+            return pdfDocumentFactory.load(path, true);
+        }
+        return pdfDocumentFactory.load(cached.getPdfBytes(), true);
+    }
+
+    private byte[] saveUpdatedDocument(PDDocument document, String jobId, boolean fullRewrite)
+            throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        if (!fullRewrite) {
+            try {
+                document.saveIncremental(baos);
+                return baos.toByteArray();
+            } catch (IOException | RuntimeException ex) {
+                log.warn(
+                        "Incremental save failed for jobId {}, rewriting full document: {}",
+                        jobId,
+                        ex.getMessage());
+                baos.reset();
+            }
+        }
+        document.save(baos);
+        return baos.toByteArray();
+    }
+
+    /**
+     * Flags a rewritten page, its resources and the page tree path to the catalog, so an
+     * incremental save writes them together with the new objects they reference.
+     */
+    private void markPageForIncrementalUpdate(PDDocument document, PDPage page) {
+        COSDictionary pageDict = page.getCOSObject();
+        pageDict.setNeedToBeUpdated(true);
+        COSDictionary resources = pageDict.getCOSDictionary(COSName.RESOURCES);
+        if (resources != null) {
+            resources.setNeedToBeUpdated(true);
+            for (COSName category : List.of(COSName.FONT, COSName.XOBJECT, COSName.EXT_G_STATE)) {
+                COSDictionary entries = resources.getCOSDictionary(category);
+                if (entries != null) {
+                    entries.setNeedToBeUpdated(true);
+                }
+            }
+        }
+        Set<COSDictionary> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        COSDictionary parent = pageDict.getCOSDictionary(COSName.PARENT);
+        while (parent != null && visited.add(parent)) {
+            parent.setNeedToBeUpdated(true);
+            parent = parent.getCOSDictionary(COSName.PARENT);
+        }
+        document.getDocumentCatalog().getCOSObject().setNeedToBeUpdated(true);
+    }
+
+    /**
+     * Returns an asset registered by a lazy page or font request, or null if the job has no asset
+     * with this hash.
+     */
+    public TextEditorAsset getAsset(String jobId, String hash) {
+        CachedPdfDocument cached = getCachedDocument(jobId);
+        if (cached == null) {
+            throw new stirling.software.SPDF.exception.CacheUnavailableException(
+                    "No cached document found for jobId: " + jobId);
+        }
+        return hash != null ? cached.getAsset(hash) : null;
+    }
+
+    private void externalizeImageData(
+            String jobId, CachedPdfDocument cached, PdfJsonImageElement image) {
+        if (image == null || image.getImageData() == null) {
+            return;
+        }
+        String hash =
+                registerAsset(
+                        jobId,
+                        cached,
+                        image.getImageData(),
+                        resolveAssetContentType(image.getImageFormat(), "image/png"));
+        if (hash != null) {
+            image.setImageAsset(hash);
+            image.setImageData(null);
+        }
+    }
+
+    private void externalizeFontPrograms(String jobId, CachedPdfDocument cached, PdfJsonFont font) {
+        if (font.getProgram() != null) {
+            String hash =
+                    registerAsset(
+                            jobId,
+                            cached,
+                            font.getProgram(),
+                            resolveAssetContentType(font.getProgramFormat(), null));
+            if (hash != null) {
+                font.setProgramAsset(hash);
+                font.setProgram(null);
+            }
+        }
+        if (font.getWebProgram() != null) {
+            String hash =
+                    registerAsset(
+                            jobId,
+                            cached,
+                            font.getWebProgram(),
+                            resolveAssetContentType(font.getWebProgramFormat(), null));
+            if (hash != null) {
+                font.setWebProgramAsset(hash);
+                font.setWebProgram(null);
+            }
+        }
+        if (font.getPdfProgram() != null) {
+            String hash =
+                    registerAsset(
                             jobId,
-                            updatedBytes,
-                            cached.getMetadata(),
-                            mergedFonts,
-                            cached.getPageFontResources());
-            putCachedDocument(jobId, updated);
+                            cached,
+                            font.getPdfProgram(),
+                            resolveAssetContentType(font.getPdfProgramFormat(), null));
+            if (hash != null) {
+                font.setPdfProgramAsset(hash);
+                font.setPdfProgram(null);
+            }
+        }
+    }
+
+    /**
+     * Decodes a Base64 payload and stores it as an asset of the cached job. Returns the SHA-256 of
+     * the bytes, or null if the payload is invalid, the job's assets reached their share of the
+     * cache budget or the job was evicted meanwhile, in which case the caller keeps the payload
+     * inline.
+     */
+    private String registerAsset(
+            String jobId, CachedPdfDocument cached, String base64, String contentType) {
+        byte[] data;
+        String hash;
+        try {
+            data = Base64.getDecoder().decode(base64);
+            hash = ChecksumUtils.checksum(new ByteArrayInputStream(data), "SHA-256");
+        } catch (IllegalArgumentException | IOException ex) {
+            log.debug("Keeping asset inline for jobId {}: {}", jobId, ex.getMessage());
+            return null;
+        }
+        TextEditorAsset asset = new TextEditorAsset(data, contentType);
+        long maxAssetBytes = maxAssetBytesPerDocument();
+        if (!documentCache.grow(
+                cacheKey(jobId), cached, () -> cached.addAsset(hash, asset, maxAssetBytes))) {
+            return null;
+        }
+        if (!cached.hasAsset(hash)) {
+            log.debug("Asset limit of {} bytes reached for jobId {}", maxAssetBytes, jobId);
+            return null;
+        }
+        return hash;
+    }
+
+    /** At most a quarter of a bounded document cache, and never more than a fixed cap. */
+    private long maxAssetBytesPerDocument() {
+        long budget = documentCache.getBudgetBytes();
+        return budget > 0
+                ? Math.min(MAX_ASSET_BYTES_PER_DOCUMENT, budget / 4)
+                : MAX_ASSET_BYTES_PER_DOCUMENT;
+    }
 
-            // Clear Type3 cache entries for this incremental update
-            clearType3CacheEntriesForJob(updateJobId);
+    private String resolveAssetContentType(String format, String fallback) {
+        if (format != null && !format.isBlank()) {
+            Optional<MediaType> mediaType =
+                    MediaTypeFactory.getMediaType("asset." + format.toLowerCase(Locale.ROOT));
+            if (mediaType.isPresent()) {
+                return mediaType.get().toString();
+            }
+        }
+        return fallback != null ? fallback : MediaType.APPLICATION_OCTET_STREAM_VALUE;
+    }
 
-            log.debug(
-                    "Incremental export complete for jobId {} (pages updated: {})",
-                    jobId,
-                    updatedPages.stream().map(i -> i + 1).sorted().toList());
-            return updatedBytes;
+    /**
+     * Inlines asset references of an incremental update again, so pages and fonts edited by a
+     * client that loaded them via the asset endpoint keep their binary payloads.
+     */
+    private void resolveAssetReferences(CachedPdfDocument cached, PdfJsonDocument updates) {
+        if (updates == null) {
+            return;
+        }
+        if (updates.getPages() != null) {
+            for (PdfJsonPage page : updates.getPages()) {
+                if (page == null || page.getImageElements() == null) {
+                    continue;
+                }
+                for (PdfJsonImageElement image : page.getImageElements()) {
+                    if (image != null && image.getImageData() == null) {
+                        String data = resolveAssetBase64(cached, image.getImageAsset());
+                        if (data != null) {
+                            image.setImageData(data);
+                        }
+                    }
+                }
+            }
+        }
+        if (updates.getFonts() != null) {
+            for (PdfJsonFont font : updates.getFonts()) {
+                if (font == null) {
+                    continue;
+                }
+                if (font.getProgram() == null) {
+                    font.setProgram(resolveAssetBase64(cached, font.getProgramAsset()));
+                }
+                if (font.getWebProgram() == null) {
+                    font.setWebProgram(resolveAssetBase64(cached, font.getWebProgramAsset()));
+                }
+                if (font.getPdfProgram() == null) {
+                    font.setPdfProgram(resolveAssetBase64(cached, font.getPdfProgramAsset()));
+                }
+            }
+        }
+    }
+
+    private String resolveAssetBase64(CachedPdfDocument cached, String hash) {
+        if (hash == null) {
+            return null;
         }
+        TextEditorAsset asset = cached.getAsset(hash);
+        if (asset == null) {
+            log.warn("Asset {} referenced by text editor update is no longer cached", hash);
+            return null;
+        }
+        return Base64.getEncoder().encodeToString(asset.data());
     }
 
+    /** Raw bytes of a text-editor asset together with their media type. */
+    public record TextEditorAsset(byte[] data, String contentType) {}
+
     /** Clears a cached document. */
     public void clearCachedDocument(String jobId) {
         CachedPdfDocument cached = getCachedDocument(jobId);
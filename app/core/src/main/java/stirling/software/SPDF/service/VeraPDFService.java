@@ -3,8 +3,13 @@ package stirling.software.SPDF.service;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.springframework.stereotype.Service;
 import org.verapdf.core.EncryptedPdfException;
@@ -18,6 +23,7 @@ import org.verapdf.pdfa.flavours.PDFAFlavour;
 import org.verapdf.pdfa.flavours.PDFFlavours;
 import org.verapdf.pdfa.results.TestAssertion;
 import org.verapdf.pdfa.results.ValidationResult;
+import org.verapdf.pdfa.validation.validators.ValidatorFactory;
 
 import jakarta.annotation.PostConstruct;
 
@@ -189,6 +195,12 @@ public class VeraPDFService {
         }
     }
 
+    /**
+     * Validates the document against every PDF/A, PDF/UA and WTPDF profile it declares. The
+     * validation of the XMP-declared PDF/A profile doubles as the identification check and is
+     * reused as that profile's result; the remaining profiles are validated concurrently, each on
+     * its own parsed model since veraPDF models are not thread-safe.
+     */
     public List<PDFVerificationResult> validatePDF(InputStream pdfStream)
             throws IOException, ValidationException, ModelParsingException, EncryptedPdfException {
 
@@ -197,72 +209,37 @@ public class VeraPDFService {
 
         PDFAFlavour declaredFlavour;
         List<PDFAFlavour> detectedFlavours;
+        // Result of validating the declared PDF/A flavour, kept when the declaration is valid
+        PDFVerificationResult declaredResult = null;
 
         try (PDFAParser detectionParser =
                 Foundries.defaultInstance().createParser(new ByteArrayInputStream(pdfBytes))) {
             declaredFlavour = detectionParser.getFlavour();
             detectedFlavours = detectionParser.getFlavours();
-        }
 
-        // For PDF/A flavours, we need to validate first to check if PDF/A identification exists in
-        // XMP
-        // If declaredFlavour is PDF/A, do a quick validation to check for PDF/A identification
-        // schema
-        boolean hasValidPdfaMetadata = false;
-        if (isPdfaFlavour(declaredFlavour)) {
-            try (PDFAParser quickParser =
-                    Foundries.defaultInstance()
-                            .createParser(new ByteArrayInputStream(pdfBytes), declaredFlavour)) {
-                PDFAValidator quickValidator =
-                        Foundries.defaultInstance().createValidator(declaredFlavour, false);
-                ValidationResult quickResult = quickValidator.validate(quickParser);
-
-                // Check if the document has the PDF/A Identification extension schema (clause
-                // 6.7.11, test 1)
-                // OR if it lacks XMP metadata entirely (clause 6.7.2, test 1)
-                // If either of these errors is present, the document is NOT a declared PDF/A
-                hasValidPdfaMetadata = true;
-                for (TestAssertion assertion : quickResult.getTestAssertions()) {
-                    if (assertion.getStatus() == TestAssertion.Status.FAILED
-                            && assertion.getRuleId() != null) {
-                        String clause = assertion.getRuleId().getClause();
-                        int testNumber = assertion.getRuleId().getTestNumber();
-
-                        // Missing XMP metadata entirely (clause 6.7.2, test 1)
-                        if ("6.7.2".equals(clause) && testNumber == 1) {
-                            hasValidPdfaMetadata = false;
-                            log.debug(
-                                    "Document lacks XMP metadata (6.7.2): {}",
-                                    assertion.getMessage());
-                            break;
-                        }
-
-                        // Missing PDF/A identification schema in XMP (clause 6.7.11, test 1)
-                        if ("6.7.11".equals(clause) && testNumber == 1) {
-                            hasValidPdfaMetadata = false;
-                            log.debug(
-                                    "Document lacks PDF/A identification in XMP (6.7.11): {}",
-                                    assertion.getMessage());
-                            break;
-                        }
+            // For PDF/A flavours, validate the already parsed model to check if PDF/A
+            // identification exists in XMP
+            if (isPdfaFlavour(declaredFlavour)) {
+                try {
+                    PDFAValidator quickValidator =
+                            Foundries.defaultInstance().createValidator(declaredFlavour, false);
+                    ValidationResult quickResult = quickValidator.validate(detectionParser);
+                    if (hasPdfaIdentification(quickResult)) {
+                        declaredResult =
+                                convertToVerificationResult(
+                                        quickResult, declaredFlavour, declaredFlavour);
                     }
+                } catch (Exception e) {
+                    log.debug("Error checking for PDF/A identification: {}", e.getMessage());
                 }
-            } catch (Exception e) {
-                log.debug("Error checking for PDF/A identification: {}", e.getMessage());
-                hasValidPdfaMetadata = false;
             }
         }
 
         List<PDFAFlavour> flavoursToValidate = new ArrayList<>();
-        boolean hasPdfaDeclaration = isPdfaFlavour(declaredFlavour) && hasValidPdfaMetadata;
+        boolean hasPdfaDeclaration = declaredResult != null;
 
-        if (declaredFlavour != null) {
-            boolean isDeclaredPdfa = isPdfaFlavour(declaredFlavour);
-            if (isDeclaredPdfa && hasPdfaDeclaration) {
-                flavoursToValidate.add(declaredFlavour);
-            } else if (!isDeclaredPdfa) {
-                flavoursToValidate.add(declaredFlavour);
-            }
+        if (declaredFlavour != null && !isPdfaFlavour(declaredFlavour)) {
+            flavoursToValidate.add(declaredFlavour);
         }
 
         for (PDFAFlavour flavour : detectedFlavours) {
@@ -285,40 +262,132 @@ public class VeraPDFService {
             }
         }
 
-        if (!hasPdfaDeclaration) {
+        if (hasPdfaDeclaration) {
+            results.add(declaredResult);
+        } else {
             results.add(createNoPdfaDeclarationResult());
         }
 
         if (flavoursToValidate.isEmpty()) {
-            log.info("No verifiable PDF/A, PDF/UA, or WTPDF standards declared via XMP metadata");
+            if (!hasPdfaDeclaration) {
+                log.info(
+                        "No verifiable PDF/A, PDF/UA, or WTPDF standards declared via XMP metadata");
+            }
             return results;
         }
 
-        for (PDFAFlavour flavour : flavoursToValidate) {
-            try (PDFAParser parser =
-                    Foundries.defaultInstance()
-                            .createParser(new ByteArrayInputStream(pdfBytes), flavour)) {
-
-                PDFAFlavour parserDeclared = parser.getFlavour();
-                PDFAValidator validator =
-                        Foundries.defaultInstance().createValidator(flavour, false);
-                ValidationResult result = validator.validate(parser);
-
-                PDFAFlavour declaredForResult =
-                        PDFFlavours.isFlavourFamily(flavour, PDFAFlavour.SpecificationFamily.PDF_A)
-                                ? parserDeclared
-                                : flavour;
-
-                results.add(convertToVerificationResult(result, declaredForResult, flavour));
-            } catch (Exception e) {
-                log.error("Error validating standard {}: {}", flavour.getId(), e.getMessage());
-                results.add(
-                        buildErrorResult(
-                                declaredFlavour, flavour, "Validation error: " + e.getMessage()));
+        results.addAll(validateConcurrently(pdfBytes, declaredFlavour, flavoursToValidate));
+        return results;
+    }
+
+    /**
+     * Validation-only fast mode: validates just the profile the document claims in its XMP
+     * metadata, on the model parsed for detection. With {@code stopAtFirstFailure} validation ends
+     * at the first failed rule, which is enough for callers that only need pass/fail.
+     */
+    public PDFVerificationResult validateClaimedProfile(
+            InputStream pdfStream, boolean stopAtFirstFailure)
+            throws IOException, ValidationException, ModelParsingException, EncryptedPdfException {
+        try (PDFAParser parser = Foundries.defaultInstance().createParser(pdfStream)) {
+            PDFAFlavour declaredFlavour = parser.getFlavour();
+            if (declaredFlavour == null || declaredFlavour == PDFAFlavour.NO_FLAVOUR) {
+                return createNoPdfaDeclarationResult();
             }
+            ValidationResult result =
+                    createValidator(declaredFlavour, stopAtFirstFailure).validate(parser);
+            if (isPdfaFlavour(declaredFlavour) && !hasPdfaIdentification(result)) {
+                return createNoPdfaDeclarationResult();
+            }
+            return convertToVerificationResult(result, declaredFlavour, declaredFlavour);
         }
+    }
 
-        return results;
+    private static List<PDFVerificationResult> validateConcurrently(
+            byte[] pdfBytes, PDFAFlavour declaredFlavour, List<PDFAFlavour> flavours)
+            throws IOException {
+        if (flavours.size() == 1) {
+            return List.of(validateFlavour(pdfBytes, declaredFlavour, flavours.get(0)));
+        }
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<PDFVerificationResult>> futures = new ArrayList<>(flavours.size());
+            for (PDFAFlavour flavour : flavours) {
+                futures.add(
+                        executor.submit(() -> validateFlavour(pdfBytes, declaredFlavour, flavour)));
+            }
+            List<PDFVerificationResult> results = new ArrayList<>(futures.size());
+            try {
+                for (Future<PDFVerificationResult> future : futures) {
+                    results.add(future.get());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(f -> f.cancel(true));
+                throw new InterruptedIOException("PDF validation interrupted");
+            } catch (ExecutionException e) {
+                futures.forEach(f -> f.cancel(true));
+                throw new IOException("Concurrent PDF validation failed", e.getCause());
+            }
+            return results;
+        }
+    }
+
+    private static PDFVerificationResult validateFlavour(
+            byte[] pdfBytes, PDFAFlavour declaredFlavour, PDFAFlavour flavour) {
+        try (PDFAParser parser =
+                Foundries.defaultInstance()
+                        .createParser(new ByteArrayInputStream(pdfBytes), flavour)) {
+
+            PDFAFlavour parserDeclared = parser.getFlavour();
+            PDFAValidator validator = Foundries.defaultInstance().createValidator(flavour, false);
+            ValidationResult result = validator.validate(parser);
+
+            PDFAFlavour declaredForResult =
+                    PDFFlavours.isFlavourFamily(flavour, PDFAFlavour.SpecificationFamily.PDF_A)
+                            ? parserDeclared
+                            : flavour;
+
+            return convertToVerificationResult(result, declaredForResult, flavour);
+        } catch (Exception e) {
+            log.error("Error validating standard {}: {}", flavour.getId(), e.getMessage());
+            return buildErrorResult(
+                    declaredFlavour, flavour, "Validation error: " + e.getMessage());
+        }
+    }
+
+    private static PDFAValidator createValidator(PDFAFlavour flavour, boolean stopAtFirstFailure) {
+        return stopAtFirstFailure
+                ? ValidatorFactory.createValidator(flavour, false, 1)
+                : Foundries.defaultInstance().createValidator(flavour, false);
+    }
+
+    /**
+     * Checks that the document carries XMP metadata with the PDF/A Identification schema. If
+     * either clause 6.7.2 test 1 (no XMP at all) or 6.7.11 test 1 (no pdfaid schema) failed, the
+     * document is NOT a declared PDF/A.
+     */
+    private static boolean hasPdfaIdentification(ValidationResult result) {
+        for (TestAssertion assertion : result.getTestAssertions()) {
+            if (assertion.getStatus() == TestAssertion.Status.FAILED
+                    && assertion.getRuleId() != null) {
+                String clause = assertion.getRuleId().getClause();
+                int testNumber = assertion.getRuleId().getTestNumber();
+
+                // Missing XMP metadata entirely (clause 6.7.2, test 1)
+                if ("6.7.2".equals(clause) && testNumber == 1) {
+                    log.debug("Document lacks XMP metadata (6.7.2): {}", assertion.getMessage());
+                    return false;
+                }
+
+                // Missing PDF/A identification schema in XMP (clause 6.7.11, test 1)
+                if ("6.7.11".equals(clause) && testNumber == 1) {
+                    log.debug(
+                            "Document lacks PDF/A identification in XMP (6.7.11): {}",
+                            assertion.getMessage());
+                    return false;
+                }
+            }
+        }
+        return true;
     }
 
     private static boolean isPdfaFlavour(PDFAFlavour flavour) {
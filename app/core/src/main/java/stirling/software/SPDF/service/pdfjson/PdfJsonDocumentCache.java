@@ -0,0 +1,416 @@
+package stirling.software.SPDF.service.pdfjson;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.LongSupplier;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.extern.slf4j.Slf4j;
+
+import stirling.software.common.model.ApplicationProperties;
+import stirling.software.common.util.TempFile;
+import stirling.software.common.util.TempFileManager;
+
+/**
+ * Document cache shared by all text-editor sessions, bounded by one heap budget ({@code
+ * pdfEditor.cache.max-bytes} or {@code max-percent} of the JVM heap).
+ *
+ * <p>When the budget is exceeded, resident entries are spilled to temporary files in least
+ * recently used order rather than dropped, so sessions stay usable at the cost of reading the PDF
+ * from disk. Admission is frequency based in the spirit of TinyLFU: a new entry that is used less
+ * often than the entry it would displace is spilled itself instead. Entries that cannot be spilled
+ * are evicted.
+ */
+@Slf4j
+@Component
+public class PdfJsonDocumentCache {
+
+    private static final String METRIC_PREFIX = "pdfeditor.document.cache";
+    private static final String SPILL_SUFFIX = ".pdfjsoncache";
+
+    /** A cached value whose heap footprint counts against the budget. */
+    public interface Entry {
+
+        /** Bytes held on the heap. */
+        long getInMemorySize();
+
+        /**
+         * Writes the heap-resident payload to files created by {@code files} and returns an
+         * equivalent entry that owns them, or null when there is nothing to move to disk. Files
+         * this entry already owns may be shared with the returned entry, and must stay in place
+         * until both are closed.
+         */
+        Entry spill(SpillFiles files) throws IOException;
+
+        /** Releases resources once the entry has left the cache. */
+        void close();
+    }
+
+    /** Creates the files an entry spills to; the cache deletes them if the spill fails. */
+    @FunctionalInterface
+    public interface SpillFiles {
+        TempFile create() throws IOException;
+    }
+
+    private record Victim(String key, Entry entry, long size) {}
+
+    private final TempFileManager tempFileManager;
+    private final long budgetBytes;
+
+    // Recency ordered, least recent first; guarded by this
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+    private final Set<String> spilling = new LinkedHashSet<>();
+    private final FrequencySketch sketch = new FrequencySketch();
+    private long inMemoryBytes;
+    private long spillingBytes;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong spills = new AtomicLong();
+    private final AtomicLong rejections = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public PdfJsonDocumentCache(
+            ApplicationProperties applicationProperties,
+            TempFileManager tempFileManager,
+            MeterRegistry meterRegistry) {
+        this.tempFileManager = tempFileManager;
+        this.budgetBytes = resolveBudget(applicationProperties.getPdfEditor());
+        if (budgetBytes > 0) {
+            log.debug("PDF JSON document cache budget: {} bytes", budgetBytes);
+        } else {
+            log.debug("PDF JSON document cache budget: unlimited");
+        }
+        if (meterRegistry != null) {
+            registerMetrics(meterRegistry);
+        }
+    }
+
+    private static long resolveBudget(ApplicationProperties.PdfEditor config) {
+        long maxBytes = config != null ? config.getCache().getMaxBytes() : -1L;
+        int maxPercent = config != null ? config.getCache().getMaxPercent() : 20;
+        if (maxBytes > 0) {
+            return maxBytes;
+        }
+        if (maxPercent > 0) {
+            return Math.max(0L, (Runtime.getRuntime().maxMemory() * maxPercent) / 100);
+        }
+        return -1L;
+    }
+
+    /** Heap budget in bytes, or a non-positive value when unbounded. */
+    public long getBudgetBytes() {
+        return budgetBytes;
+    }
+
+    /** Returns the entry for {@code key} if it is of the given type, marking it recently used. */
+    public <T extends Entry> T get(String key, Class<T> type) {
+        Entry entry;
+        synchronized (this) {
+            sketch.increment(key);
+            entry = entries.remove(key);
+            if (entry != null) {
+                entries.put(key, entry);
+            }
+        }
+        if (!type.isInstance(entry)) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return type.cast(entry);
+    }
+
+    /** Stores {@code entry}, replacing and closing any previous entry for the key. */
+    public void put(String key, Entry entry) {
+        put(key, entry, null);
+    }
+
+    /**
+     * Stores {@code entry} like {@link #put(String, Entry)}. If there is a previous entry, it and
+     * {@code entry} are first passed to {@code handOver} while holding the cache lock, so the new
+     * entry can take over state from the previous one without racing {@link #grow}. The size of
+     * {@code entry} is counted after the hand-over.
+     */
+    public void put(String key, Entry entry, BiConsumer<Entry, Entry> handOver) {
+        Entry previous;
+        List<Victim> victims;
+        synchronized (this) {
+            sketch.increment(key);
+            previous = entries.remove(key);
+            if (previous != null) {
+                inMemoryBytes -= previous.getInMemorySize();
+                if (handOver != null && previous != entry) {
+                    handOver.accept(previous, entry);
+                }
+            }
+            entries.put(key, entry);
+            inMemoryBytes += entry.getInMemorySize();
+            victims = selectVictims(key, entry);
+        }
+        if (previous != null && previous != entry) {
+            previous.close();
+        }
+        spill(victims);
+    }
+
+    /**
+     * Runs {@code mutation}, which returns the number of bytes it added to {@code expected}, while
+     * holding the cache lock, provided {@code expected} is still the entry for {@code key} and is
+     * not being spilled.
+     *
+     * @return false if the entry was replaced, removed or is being spilled and the mutation was not
+     *     run
+     */
+    public boolean grow(String key, Entry expected, LongSupplier mutation) {
+        List<Victim> victims;
+        synchronized (this) {
+            if (entries.get(key) != expected || spilling.contains(key)) {
+                return false;
+            }
+            inMemoryBytes += mutation.getAsLong();
+            victims = selectVictims(null, null);
+        }
+        spill(victims);
+        return true;
+    }
+
+    /** Removes and closes the entry for {@code key}; returns true if there was one. */
+    public boolean remove(String key) {
+        Entry removed;
+        synchronized (this) {
+            removed = entries.remove(key);
+            if (removed != null) {
+                inMemoryBytes -= removed.getInMemorySize();
+            }
+        }
+        if (removed == null) {
+            return false;
+        }
+        removed.close();
+        return true;
+    }
+
+    public synchronized Set<String> keys() {
+        return new LinkedHashSet<>(entries.keySet());
+    }
+
+    public synchronized long getInMemoryBytes() {
+        return inMemoryBytes;
+    }
+
+    public synchronized int getEntryCount() {
+        return entries.size();
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public long getSpillCount() {
+        return spills.get();
+    }
+
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+
+    /** Fraction of lookups served from the cache, or 0 before the first lookup. */
+    public double getHitRatio() {
+        long h = hits.get();
+        long total = h + misses.get();
+        return total == 0 ? 0d : (double) h / total;
+    }
+
+    // Must be called while holding the monitor
+    private List<Victim> selectVictims(String candidateKey, Entry candidate) {
+        List<Victim> victims = new ArrayList<>();
+        if (budgetBytes <= 0) {
+            return victims;
+        }
+        long excess = inMemoryBytes - spillingBytes - budgetBytes;
+        boolean candidateDecided = candidate == null || candidate.getInMemorySize() <= 0;
+        for (Map.Entry<String, Entry> resident : entries.entrySet()) {
+            if (excess <= 0) {
+                break;
+            }
+            String key = resident.getKey();
+            long size = resident.getValue().getInMemorySize();
+            if (size <= 0 || key.equals(candidateKey) || spilling.contains(key)) {
+                continue;
+            }
+            if (!candidateDecided) {
+                candidateDecided = true;
+                if (sketch.frequency(candidateKey) < sketch.frequency(key)) {
+                    // The resident is used more often than the newcomer, so keep it in memory
+                    rejections.incrementAndGet();
+                    excess -= addVictim(victims, candidateKey, candidate);
+                    if (excess <= 0) {
+                        break;
+                    }
+                }
+            }
+            excess -= addVictim(victims, key, resident.getValue());
+        }
+        if (excess > 0 && !candidateDecided) {
+            addVictim(victims, candidateKey, candidate);
+        }
+        return victims;
+    }
+
+    // Must be called while holding the monitor
+    private long addVictim(List<Victim> victims, String key, Entry entry) {
+        long size = entry.getInMemorySize();
+        victims.add(new Victim(key, entry, size));
+        spilling.add(key);
+        spillingBytes += size;
+        return size;
+    }
+
+    private void spill(List<Victim> victims) {
+        for (Victim victim : victims) {
+            Entry spilled = null;
+            List<TempFile> files = new ArrayList<>();
+            SpillFiles spillFiles =
+                    () -> {
+                        TempFile file = new TempFile(tempFileManager, SPILL_SUFFIX);
+                        files.add(file);
+                        return file;
+                    };
+            try {
+                spilled = victim.entry().spill(spillFiles);
+            } catch (IOException e) {
+                log.warn("Failed to spill cached document {}: {}", victim.key(), e.getMessage());
+            }
+            if (spilled == null) {
+                files.forEach(TempFile::close);
+            }
+            Entry released = null;
+            synchronized (this) {
+                spilling.remove(victim.key());
+                spillingBytes -= victim.size();
+                Entry current = entries.get(victim.key());
+                if (current != victim.entry()) {
+                    // Replaced or removed while spilling
+                    released = spilled;
+                } else if (spilled != null) {
+                    entries.put(victim.key(), spilled);
+                    inMemoryBytes += spilled.getInMemorySize() - current.getInMemorySize();
+                    released = current;
+                    spills.incrementAndGet();
+                } else {
+                    entries.remove(victim.key());
+                    inMemoryBytes -= current.getInMemorySize();
+                    released = current;
+                    evictions.incrementAndGet();
+                }
+            }
+            if (released != null) {
+                released.close();
+            }
+            if (released == victim.entry()) {
+                log.debug(
+                        "{} cached document {} ({} bytes) to stay within budget {}",
+                        spilled != null ? "Spilled" : "Evicted",
+                        victim.key(),
+                        victim.size(),
+                        budgetBytes);
+            }
+        }
+    }
+
+    private void registerMetrics(MeterRegistry registry) {
+        FunctionCounter.builder(METRIC_PREFIX + ".hits", hits, AtomicLong::get)
+                .description("Text-editor document lookups served from the cache")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".misses", misses, AtomicLong::get)
+                .description("Text-editor document lookups that found no entry")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".spills", spills, AtomicLong::get)
+                .description("Cached documents moved to disk to stay within the heap budget")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".rejections", rejections, AtomicLong::get)
+                .description("New documents kept on disk because residents were used more often")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".evictions", evictions, AtomicLong::get)
+                .description("Cached documents dropped because they could not be spilled")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".hit.ratio", this, PdfJsonDocumentCache::getHitRatio)
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".size", this, cache -> cache.getInMemoryBytes())
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".entries", this, cache -> cache.getEntryCount())
+                .register(registry);
+    }
+
+    /**
+     * Count-min sketch of access frequencies with 4-bit counters that are halved periodically, so
+     * old popularity fades.
+     */
+    private static final class FrequencySketch {
+
+        private static final int[] SEEDS = {0x97cb3127, 0xab31e1d5, 0x8c53a5b7, 0xc1b2f6d9};
+        private static final int MAX_COUNT = 15;
+
+        private final byte[] counters = new byte[1024];
+        private final int resetThreshold = counters.length * 10;
+        private int additions;
+
+        void increment(String key) {
+            int hash = spread(key.hashCode());
+            boolean added = false;
+            for (int seed : SEEDS) {
+                int index = indexOf(hash, seed);
+                if (counters[index] < MAX_COUNT) {
+                    counters[index]++;
+                    added = true;
+                }
+            }
+            if (added && ++additions >= resetThreshold) {
+                for (int i = 0; i < counters.length; i++) {
+                    counters[i] >>= 1;
+                }
+                additions /= 2;
+            }
+        }
+
+        int frequency(String key) {
+            int hash = spread(key.hashCode());
+            int frequency = MAX_COUNT;
+            for (int seed : SEEDS) {
+                frequency = Math.min(frequency, counters[indexOf(hash, seed)]);
+            }
+            return frequency;
+        }
+
+        private int indexOf(int hash, int seed) {
+            int h = hash * seed;
+            h ^= h >>> 16;
+            return h & (counters.length - 1);
+        }
+
+        private static int spread(int h) {
+            h ^= h >>> 17;
+            h *= 0xed5ad4bb;
+            h ^= h >>> 11;
+            return h;
+        }
+    }
+}
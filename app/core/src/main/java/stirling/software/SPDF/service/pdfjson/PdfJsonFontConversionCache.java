@@ -0,0 +1,179 @@
+package stirling.software.SPDF.service.pdfjson;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.extern.slf4j.Slf4j;
+
+import stirling.software.common.configuration.InstallationPathConfig;
+import stirling.software.common.model.ApplicationProperties;
+import stirling.software.common.util.BoundedFileStore;
+
+/**
+ * Persistent cache of converted font programs, keyed by a digest of the converter, its version and
+ * the source program. Entries are kept in a {@link BoundedFileStore} so repeated uploads of the
+ * same fonts skip the external CFF converter across jobs and restarts. The store is bounded by
+ * {@code pdfEditor.font-cache.max-bytes}; entries of an older converter version are never looked up
+ * again and age out through its LRU bound.
+ */
+@Slf4j
+@Component
+public class PdfJsonFontConversionCache {
+
+    private static final String ENTRY_SUFFIX = ".font";
+    private static final String METRIC_PREFIX = "pdfeditor.font.cache";
+
+    // Part of every key; bump when the stored format or the conversion pipeline changes
+    private static final String KEY_FORMAT_VERSION = "2";
+
+    // Null when the cache is disabled or its directory is unavailable
+    private final BoundedFileStore store;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public PdfJsonFontConversionCache(
+            ApplicationProperties applicationProperties, MeterRegistry meterRegistry) {
+        ApplicationProperties.PdfEditor.FontCache config =
+                applicationProperties.getPdfEditor() != null
+                        ? applicationProperties.getPdfEditor().getFontCache()
+                        : null;
+        BoundedFileStore opened = null;
+        if (config != null && config.isEnabled() && config.getMaxBytes() > 0) {
+            String configuredDirectory = config.getDirectory();
+            Path directory =
+                    configuredDirectory != null && !configuredDirectory.isBlank()
+                            ? Paths.get(configuredDirectory)
+                            : Paths.get(InstallationPathConfig.getConfigPath(), "cache", "fonts");
+            try {
+                opened =
+                        new BoundedFileStore(
+                                directory,
+                                ENTRY_SUFFIX,
+                                config.getMaxBytes(),
+                                "Font conversion cache");
+            } catch (IOException e) {
+                log.warn(
+                        "Font conversion cache directory {} unavailable, cache disabled: {}",
+                        directory,
+                        e.getMessage());
+            }
+        }
+        this.store = opened;
+        if (meterRegistry != null) {
+            registerMetrics(meterRegistry);
+        }
+    }
+
+    /**
+     * Builds the cache key for a conversion. {@code converter} identifies the tool and its
+     * settings; {@code converterVersion} identifies the release of the tool and its script, so
+     * results of an older converter are not served after an upgrade; {@code extra} holds further
+     * inputs that change the output, such as a ToUnicode map.
+     */
+    public static String key(
+            String converter, String converterVersion, byte[] program, String extra) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(KEY_FORMAT_VERSION.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(String.valueOf(converter).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(String.valueOf(converterVersion).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(program);
+            digest.update((byte) 0);
+            if (extra != null) {
+                digest.update(extra.getBytes(StandardCharsets.UTF_8));
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /** Returns the cached conversion result, or null on a miss. */
+    public byte[] get(String key) {
+        if (store == null) {
+            return null;
+        }
+        byte[] data = store.get(key);
+        if (data != null) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+        }
+        return data;
+    }
+
+    /** Stores a conversion result, evicting least recently used entries beyond the size bound. */
+    public void put(String key, byte[] data) {
+        if (store == null || data == null || data.length == 0) {
+            return;
+        }
+        store.put(key, data);
+    }
+
+    public boolean isEnabled() {
+        return store != null;
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /** Fraction of lookups served from the cache, or 0 before the first lookup. */
+    public double getHitRatio() {
+        long h = hits.get();
+        long total = h + misses.get();
+        return total == 0 ? 0d : (double) h / total;
+    }
+
+    public long getEvictionCount() {
+        return store != null ? store.getEvictionCount() : 0;
+    }
+
+    public long getSizeBytes() {
+        return store != null ? store.getSizeBytes() : 0;
+    }
+
+    public int getEntryCount() {
+        return store != null ? store.getEntryCount() : 0;
+    }
+
+    private void registerMetrics(MeterRegistry registry) {
+        FunctionCounter.builder(METRIC_PREFIX + ".hits", hits, AtomicLong::get)
+                .description("Font conversions served from the persistent cache")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".misses", misses, AtomicLong::get)
+                .description("Font conversion cache lookups that ran the converter")
+                .register(registry);
+        FunctionCounter.builder(
+                        METRIC_PREFIX + ".evictions", this, cache -> cache.getEvictionCount())
+                .description("Font conversion cache entries evicted by the size bound")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".hit.ratio", this, PdfJsonFontConversionCache::getHitRatio)
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".size", this, cache -> cache.getSizeBytes())
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".entries", this, cache -> cache.getEntryCount())
+                .register(registry);
+    }
+}
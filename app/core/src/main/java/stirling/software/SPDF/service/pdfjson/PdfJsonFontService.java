@@ -1,10 +1,15 @@
 package stirling.software.SPDF.service.pdfjson;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
 import java.util.Base64;
 import java.util.Locale;
+import java.util.Properties;
 
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
 
 import jakarta.annotation.PostConstruct;
@@ -13,6 +18,7 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import stirling.software.common.util.ChecksumUtils;
 import stirling.software.common.util.ProcessExecutor;
 import stirling.software.common.util.ProcessExecutor.ProcessExecutorResult;
 import stirling.software.common.util.TempFile;
@@ -25,6 +31,7 @@ public class PdfJsonFontService {
 
     private final TempFileManager tempFileManager;
     private final stirling.software.common.model.ApplicationProperties applicationProperties;
+    private final PdfJsonFontConversionCache conversionCache;
 
     @Getter private boolean cffConversionEnabled;
 
@@ -39,9 +46,13 @@ public class PdfJsonFontService {
     private volatile boolean pythonCffConverterAvailable;
     private volatile boolean fontForgeCffConverterAvailable;
 
+    // Application version plus a digest of the converter script, part of conversion cache keys
+    private String converterVersion;
+
     @PostConstruct
     private void initialiseCffConverterAvailability() {
         loadConfiguration();
+        converterVersion = resolveConverterVersion();
         if (!cffConversionEnabled) {
             log.warn("[FONT-DEBUG] CFF conversion is DISABLED in configuration");
             pythonCffConverterAvailable = false;
@@ -96,6 +107,30 @@ public class PdfJsonFontService {
             return null;
         }
 
+        boolean useFontForge = "fontforge".equalsIgnoreCase(cffConverterMethod);
+        String cacheKey =
+                useFontForge
+                        ? PdfJsonFontConversionCache.key(
+                                "fontforge", converterVersion, fontBytes, null)
+                        : PdfJsonFontConversionCache.key(
+                                "python:" + pythonScript, converterVersion, fontBytes, toUnicode);
+        byte[] cached = conversionCache.get(cacheKey);
+        if (cached != null) {
+            log.debug(
+                    "[FONT-DEBUG] CFF conversion served from cache: {} bytes -> {} bytes",
+                    fontBytes.length,
+                    cached.length);
+            return cached;
+        }
+
+        byte[] result = runCffConversion(fontBytes, toUnicode);
+        if (result != null) {
+            conversionCache.put(cacheKey, result);
+        }
+        return result;
+    }
+
+    private byte[] runCffConversion(byte[] fontBytes, String toUnicode) {
         log.info(
                 "[FONT-DEBUG] Converting CFF font: {} bytes, method: {}",
                 fontBytes.length,
@@ -117,7 +152,7 @@ public class PdfJsonFontService {
                         "[FONT-DEBUG] FontForge CFF converter not available, skipping conversion");
                 return null;
             }
-            byte[] result = convertCffUsingFontForge(fontBytes);
+            byte[] result = runFontForgeConversion(fontBytes);
             log.debug(
                     "[FONT-DEBUG] FontForge conversion result: {}",
                     result == null ? "null" : result.length + " bytes");
@@ -268,6 +303,23 @@ public class PdfJsonFontService {
     }
 
     public byte[] convertCffUsingFontForge(byte[] fontBytes) {
+        if (fontBytes == null || fontBytes.length == 0) {
+            return null;
+        }
+        String cacheKey =
+                PdfJsonFontConversionCache.key("fontforge", converterVersion, fontBytes, null);
+        byte[] cached = conversionCache.get(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+        byte[] result = runFontForgeConversion(fontBytes);
+        if (result != null) {
+            conversionCache.put(cacheKey, result);
+        }
+        return result;
+    }
+
+    private byte[] runFontForgeConversion(byte[] fontBytes) {
         if (!fontForgeCffConverterAvailable) {
             log.debug("FontForge CFF converter not available");
             return null;
@@ -322,6 +374,29 @@ public class PdfJsonFontService {
         }
     }
 
+    private String resolveConverterVersion() {
+        String appVersion = "0.0.0";
+        Properties props = new Properties();
+        try (InputStream in = new ClassPathResource("version.properties").getInputStream()) {
+            props.load(in);
+            appVersion = props.getProperty("version", appVersion);
+        } catch (IOException e) {
+            log.debug("Application version unavailable for font cache keys: {}", e.getMessage());
+        }
+        if (pythonScript == null || pythonScript.isBlank()) {
+            return appVersion;
+        }
+        try {
+            return appVersion + ":" + ChecksumUtils.checksum(Path.of(pythonScript), "SHA-256");
+        } catch (IOException | InvalidPathException e) {
+            log.debug(
+                    "Could not fingerprint CFF converter script {}: {}",
+                    pythonScript,
+                    e.getMessage());
+            return appVersion;
+        }
+    }
+
     private boolean isCommandAvailable(String command) {
         if (command == null || command.isBlank()) {
             return false;
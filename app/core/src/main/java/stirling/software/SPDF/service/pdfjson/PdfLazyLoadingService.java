@@ -1,11 +1,11 @@
 package stirling.software.SPDF.service.pdfjson;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
@@ -35,6 +35,7 @@ import stirling.software.SPDF.model.json.PdfJsonTextElement;
 import stirling.software.common.service.CustomPDFDocumentFactory;
 import stirling.software.common.service.TaskManager;
 import stirling.software.common.util.ExceptionUtils;
+import stirling.software.common.util.TempFile;
 
 import tools.jackson.databind.ObjectMapper;
 
@@ -53,24 +54,58 @@ public class PdfLazyLoadingService {
     private final PdfJsonMetadataService metadataService;
     private final PdfJsonImageService imageService;
 
-    /** Cache for storing PDDocuments for lazy page loading. Key is jobId. */
-    private final Map<String, CachedPdfDocument> documentCache = new ConcurrentHashMap<>();
+    /** Cache for storing PDF bytes for lazy page loading, shared with other editor services. */
+    private final PdfJsonDocumentCache documentCache;
 
     /**
      * Stores PDF file bytes for lazy page loading. Each page is extracted on-demand by re-loading
-     * the PDF from bytes.
+     * the PDF from bytes, or from a temporary file once the entry was spilled to disk.
      */
     @Data
-    private static class CachedPdfDocument {
+    private static class CachedPdfDocument implements PdfJsonDocumentCache.Entry {
         private final byte[] pdfBytes;
+        private final TempFile pdfTempFile;
+        private final long pdfSize;
         private final PdfJsonDocumentMetadata metadata;
         private final long timestamp;
 
         public CachedPdfDocument(byte[] pdfBytes, PdfJsonDocumentMetadata metadata) {
+            this(pdfBytes, null, pdfBytes.length, metadata);
+        }
+
+        private CachedPdfDocument(
+                byte[] pdfBytes,
+                TempFile pdfTempFile,
+                long pdfSize,
+                PdfJsonDocumentMetadata metadata) {
             this.pdfBytes = pdfBytes;
+            this.pdfTempFile = pdfTempFile;
+            this.pdfSize = pdfSize;
             this.metadata = metadata;
             this.timestamp = System.currentTimeMillis();
         }
+
+        @Override
+        public long getInMemorySize() {
+            return pdfBytes != null ? pdfBytes.length : 0L;
+        }
+
+        @Override
+        public CachedPdfDocument spill(PdfJsonDocumentCache.SpillFiles files) throws IOException {
+            if (pdfBytes == null) {
+                return null;
+            }
+            TempFile file = files.create();
+            Files.write(file.getPath(), pdfBytes);
+            return new CachedPdfDocument(null, file, pdfSize, metadata);
+        }
+
+        @Override
+        public void close() {
+            if (pdfTempFile != null) {
+                pdfTempFile.close();
+            }
+        }
     }
 
     /**
@@ -147,7 +182,7 @@ public class PdfLazyLoadingService {
             // Cache PDF bytes and metadata for lazy page loading
             if (jobId != null) {
                 CachedPdfDocument cached = new CachedPdfDocument(pdfBytes, docMetadata);
-                documentCache.put(jobId, cached);
+                documentCache.put(cacheKey(jobId), cached);
                 log.info(
                         "Cached PDF bytes ({} bytes) for lazy loading, jobId: {}",
                         pdfBytes.length,
@@ -188,7 +223,7 @@ public class PdfLazyLoadingService {
             java.util.function.BiFunction<PDDocument, Integer, List<PdfJsonAnnotation>>
                     extractAnnotations)
             throws IOException {
-        CachedPdfDocument cached = documentCache.get(jobId);
+        CachedPdfDocument cached = documentCache.get(cacheKey(jobId), CachedPdfDocument.class);
         if (cached == null) {
             throw new IllegalArgumentException("No cached document found for jobId: " + jobId);
         }
@@ -204,7 +239,10 @@ public class PdfLazyLoadingService {
         log.debug("Loading PDF from bytes to extract page {} (jobId: {})", pageNumber, jobId);
 
         // Re-load PDF from cached bytes and extract the single page
-        try (PDDocument document = pdfDocumentFactory.load(cached.getPdfBytes(), true)) {
+        try (PDDocument document =
+                cached.getPdfBytes() != null
+                        ? pdfDocumentFactory.load(cached.getPdfBytes(), true)
+                        : pdfDocumentFactory.load(cached.getPdfTempFile().getPath(), true)) {
             PDPage page = document.getPage(pageIndex);
             PdfJsonPage pageModel = new PdfJsonPage();
             pageModel.setPageNumber(pageNumber);
@@ -244,15 +282,16 @@ public class PdfLazyLoadingService {
 
     /** Clears a cached document. */
     public void clearCachedDocument(String jobId) {
-        CachedPdfDocument cached = documentCache.remove(jobId);
-        if (cached != null) {
-            log.info(
-                    "Removed cached PDF bytes ({} bytes) for jobId: {}",
-                    cached.getPdfBytes().length,
-                    jobId);
+        if (documentCache.remove(cacheKey(jobId))) {
+            log.info("Removed cached PDF for jobId: {}", jobId);
         }
     }
 
+    // Namespaces job ids within the document cache shared with other editor services
+    private static String cacheKey(String jobId) {
+        return "lazy:" + jobId;
+    }
+
     /** Schedules automatic cleanup of cached documents after 30 minutes. */
     private void scheduleDocumentCleanup(String jobId) {
         Thread.ofVirtual()
@@ -6,16 +6,26 @@ import java.nio.ByteBuffer;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 import org.apache.pdfbox.cos.COSArray;
 import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.cos.COSBoolean;
 import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSFloat;
+import org.apache.pdfbox.cos.COSInteger;
 import org.apache.pdfbox.cos.COSName;
 import org.apache.pdfbox.cos.COSNumber;
+import org.apache.pdfbox.cos.COSObject;
 import org.apache.pdfbox.cos.COSStream;
+import org.apache.pdfbox.cos.COSString;
 import org.apache.pdfbox.pdmodel.common.PDRectangle;
 import org.apache.pdfbox.pdmodel.font.PDType3CharProc;
 import org.apache.pdfbox.pdmodel.font.PDType3Font;
@@ -30,8 +40,39 @@ import org.apache.pdfbox.util.Matrix;
  */
 public final class Type3FontSignatureCalculator {
 
+    /** Font dictionary entries that {@link #computeSignature} depends on. */
+    private static final List<COSName> SIGNATURE_INPUTS =
+            List.of(
+                    COSName.FONT_MATRIX,
+                    COSName.FONT_BBOX,
+                    COSName.ENCODING,
+                    COSName.WIDTHS,
+                    COSName.FIRST_CHAR,
+                    COSName.LAST_CHAR,
+                    COSName.CHAR_PROCS);
+
     private Type3FontSignatureCalculator() {}
 
+    /**
+     * Digest of the font dictionary entries the signature is derived from, taken over the raw
+     * (still encoded) CharProc streams. Fonts with equal content keys have equal signatures, and
+     * the key skips stream decoding and glyph parsing, so it is a cheap memoization key for {@link
+     * #computeSignature}.
+     */
+    public static String computeContentKey(PDType3Font font) throws IOException {
+        if (font == null) {
+            return null;
+        }
+        COSDictionary dictionary = font.getCOSObject();
+        MessageDigest digest = newDigest();
+        Set<COSBase> visiting = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (COSName key : SIGNATURE_INPUTS) {
+            updateString(digest, key.getName());
+            updateCos(digest, dictionary.getDictionaryObject(key), visiting);
+        }
+        return "sha256:" + toHex(digest.digest());
+    }
+
     public static String computeSignature(PDType3Font font) throws IOException {
         if (font == null) {
             return null;
@@ -68,9 +109,10 @@ public final class Type3FontSignatureCalculator {
         }
         List<COSName> glyphNames = new ArrayList<>(charProcs.keySet());
         glyphNames.sort(Comparator.comparing(COSName::getName, String.CASE_INSENSITIVE_ORDER));
+        Map<String, Integer> codesByName = mapCodesByName(font.getEncoding());
         for (COSName glyphName : glyphNames) {
             updateString(digest, glyphName.getName());
-            int code = resolveCharCode(font, glyphName.getName());
+            int code = codesByName.getOrDefault(glyphName.getName(), -1);
             updateInt(digest, code);
             if (code >= 0) {
                 try {
@@ -119,18 +161,81 @@ public final class Type3FontSignatureCalculator {
         return font.getCOSObject().getCOSArray(COSName.BBOX);
     }
 
-    private static int resolveCharCode(PDType3Font font, String glyphName) {
-        if (glyphName == null || font.getEncoding() == null) {
-            return -1;
+    /** Lowest code for every glyph name of the encoding. */
+    private static Map<String, Integer> mapCodesByName(Encoding encoding) {
+        Map<String, Integer> codes = new HashMap<>();
+        if (encoding == null) {
+            return codes;
         }
-        Encoding encoding = font.getEncoding();
         for (int code = 0; code <= 0xFF; code++) {
             String name = encoding.getName(code);
-            if (glyphName.equals(name)) {
-                return code;
+            if (name != null) {
+                codes.putIfAbsent(name, code);
+            }
+        }
+        return codes;
+    }
+
+    private static void updateCos(MessageDigest digest, COSBase value, Set<COSBase> visiting)
+            throws IOException {
+        if (value instanceof COSObject object) {
+            value = object.getObject();
+        }
+        if (value == null) {
+            updateInt(digest, 0);
+            return;
+        }
+        if (!visiting.add(value)) {
+            // Reference cycle
+            updateInt(digest, 1);
+            return;
+        }
+        try {
+            if (value instanceof COSBoolean bool) {
+                updateInt(digest, 2);
+                updateInt(digest, bool.getValue() ? 1 : 0);
+            } else if (value instanceof COSInteger integer) {
+                updateInt(digest, 3);
+                digest.update(ByteBuffer.allocate(Long.BYTES).putLong(integer.longValue()).array());
+            } else if (value instanceof COSFloat number) {
+                updateInt(digest, 4);
+                updateFloat(digest, number.floatValue());
+            } else if (value instanceof COSName name) {
+                updateInt(digest, 5);
+                updateString(digest, name.getName());
+            } else if (value instanceof COSString string) {
+                updateInt(digest, 6);
+                byte[] bytes = string.getBytes();
+                updateInt(digest, bytes.length);
+                digest.update(bytes);
+            } else if (value instanceof COSArray array) {
+                updateInt(digest, 7);
+                updateInt(digest, array.size());
+                for (int i = 0; i < array.size(); i++) {
+                    updateCos(digest, array.get(i), visiting);
+                }
+            } else if (value instanceof COSDictionary dictionary) {
+                updateInt(digest, value instanceof COSStream ? 9 : 8);
+                List<COSName> keys = new ArrayList<>(dictionary.keySet());
+                keys.sort(Comparator.comparing(COSName::getName));
+                updateInt(digest, keys.size());
+                for (COSName key : keys) {
+                    updateString(digest, key.getName());
+                    updateCos(digest, dictionary.getItem(key), visiting);
+                }
+                if (value instanceof COSStream stream) {
+                    try (InputStream raw = stream.createRawInputStream()) {
+                        byte[] payload = raw.readAllBytes();
+                        updateInt(digest, payload.length);
+                        digest.update(payload);
+                    }
+                }
+            } else {
+                updateString(digest, value.getClass().getSimpleName());
             }
+        } finally {
+            visiting.remove(value);
         }
-        return -1;
     }
 
     private static void updateMatrix(MessageDigest digest, Matrix matrix) {
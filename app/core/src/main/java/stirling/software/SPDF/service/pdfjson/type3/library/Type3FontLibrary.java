@@ -5,6 +5,8 @@ import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -41,6 +43,21 @@ public class Type3FontLibrary {
     private final Map<String, Type3FontLibraryEntry> aliasIndex = new ConcurrentHashMap<>();
     private List<Type3FontLibraryEntry> entries = List.of();
 
+    private static final int MAX_MEMOIZED_SIGNATURES = 4096;
+
+    // Signatures by font content key, so fonts reused across documents are hashed once.
+    // Access ordered and guarded by itself.
+    private final Map<String, String> signatureMemo =
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                    return size() > MAX_MEMOIZED_SIGNATURES;
+                }
+            };
+
+    // Resource backed payloads by location and format, shared between entries and program kinds
+    private final Map<String, Type3FontLibraryPayload> resourcePayloads = new HashMap<>();
+
     @jakarta.annotation.PostConstruct
     void initialise() {
         if (applicationProperties.getPdfEditor() != null
@@ -64,6 +81,7 @@ public class Type3FontLibrary {
             List<RawEntry> rawEntries =
                     objectMapper.readValue(inputStream, new TypeReference<List<RawEntry>>() {});
             List<Type3FontLibraryEntry> loaded = new ArrayList<>();
+            resourcePayloads.clear();
             for (RawEntry rawEntry : rawEntries) {
                 Type3FontLibraryEntry entry = toEntry(rawEntry);
                 if (entry != null && entry.hasAnyPayload()) {
@@ -119,7 +137,7 @@ public class Type3FontLibrary {
         if (font == null || entries.isEmpty()) {
             return null;
         }
-        String signature = Type3FontSignatureCalculator.computeSignature(font);
+        String signature = resolveSignature(font);
         if (signature != null) {
             Type3FontLibraryEntry entry = signatureIndex.get(signature.toLowerCase(Locale.ROOT));
             if (entry != null) {
@@ -166,6 +184,23 @@ public class Type3FontLibrary {
         return null;
     }
 
+    private String resolveSignature(PDType3Font font) throws IOException {
+        String contentKey = Type3FontSignatureCalculator.computeContentKey(font);
+        synchronized (signatureMemo) {
+            String signature = signatureMemo.get(contentKey);
+            if (signature != null) {
+                return signature;
+            }
+        }
+        String signature = Type3FontSignatureCalculator.computeSignature(font);
+        if (signature != null) {
+            synchronized (signatureMemo) {
+                signatureMemo.put(contentKey, signature);
+            }
+        }
+        return signature;
+    }
+
     private Type3FontLibraryEntry toEntry(RawEntry rawEntry) {
         if (rawEntry == null || rawEntry.id == null) {
             return null;
@@ -202,7 +237,6 @@ public class Type3FontLibrary {
         if (payload == null) {
             return null;
         }
-        String base64;
         if (payload.base64 != null && !payload.base64.isBlank()) {
             // Validate the base64 string without wasteful full decode
             // Only decode a small prefix to verify encoding is valid
@@ -220,17 +254,26 @@ public class Type3FontLibrary {
                 return null;
             }
             // Keep the original base64 string directly — avoids 3x memory pressure
-            base64 = payload.base64;
-        } else if (payload.resource != null && !payload.resource.isBlank()) {
-            byte[] data = loadResourceBytes(payload.resource);
-            if (data == null || data.length == 0) {
+            return new Type3FontLibraryPayload(payload.base64, normalizeFormat(payload.format));
+        }
+        if (payload.resource != null && !payload.resource.isBlank()) {
+            // Only check the resource now; its bytes are read when a font first matches
+            String resolved = resolveLocation(payload.resource);
+            Resource resource = resourceLoader.getResource(resolved);
+            if (!resource.exists()) {
+                throw new IOException("Resource not found: " + resolved);
+            }
+            if (resource.contentLength() == 0) {
                 return null;
             }
-            base64 = Base64.getEncoder().encodeToString(data);
-        } else {
-            return null;
+            String format = normalizeFormat(payload.format);
+            return resourcePayloads.computeIfAbsent(
+                    resolved + "|" + format,
+                    key ->
+                            Type3FontLibraryPayload.lazy(
+                                    resolved, format, () -> loadResourceBytes(resolved)));
         }
-        return new Type3FontLibraryPayload(base64, normalizeFormat(payload.format));
+        return null;
     }
 
     private byte[] loadResourceBytes(String location) throws IOException {
@@ -1,13 +1,121 @@
 package stirling.software.SPDF.service.pdfjson.type3.library;
 
-import lombok.Value;
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.util.Base64;
+import java.util.Objects;
 
-@Value
-public class Type3FontLibraryPayload {
-    String base64;
-    String format;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Font program of a library entry. Payloads given inline in the index are held as is; payloads
+ * backed by a resource are read on first use and softly cached, so unmatched library fonts cost no
+ * heap and matched ones can be reclaimed under memory pressure and read again later.
+ */
+@Slf4j
+public final class Type3FontLibraryPayload {
+
+    /** Reads the raw bytes of a resource backed payload. */
+    @FunctionalInterface
+    public interface Source {
+        byte[] read() throws IOException;
+    }
+
+    private final String format;
+    private final String location;
+    private final Source source;
+    private final String inlineBase64;
+    private volatile SoftReference<String> loaded;
+
+    public Type3FontLibraryPayload(String base64, String format) {
+        this.inlineBase64 = base64;
+        this.format = format;
+        this.location = null;
+        this.source = null;
+    }
+
+    private Type3FontLibraryPayload(String location, String format, Source source) {
+        this.inlineBase64 = null;
+        this.format = format;
+        this.location = location;
+        this.source = source;
+    }
+
+    /** Payload read from {@code source} the first time its content is requested. */
+    public static Type3FontLibraryPayload lazy(String location, String format, Source source) {
+        return new Type3FontLibraryPayload(location, format, source);
+    }
+
+    /** Base64 encoded program, or null if a resource backed payload could not be read. */
+    public String getBase64() {
+        if (source == null) {
+            return inlineBase64;
+        }
+        SoftReference<String> ref = loaded;
+        String base64 = ref != null ? ref.get() : null;
+        if (base64 != null) {
+            return base64;
+        }
+        synchronized (this) {
+            ref = loaded;
+            base64 = ref != null ? ref.get() : null;
+            if (base64 == null) {
+                base64 = load();
+                if (base64 != null) {
+                    loaded = new SoftReference<>(base64);
+                }
+            }
+            return base64;
+        }
+    }
+
+    public String getFormat() {
+        return format;
+    }
 
     public boolean hasPayload() {
-        return base64 != null && !base64.isBlank();
+        return source != null || (inlineBase64 != null && !inlineBase64.isBlank());
+    }
+
+    private String load() {
+        try {
+            byte[] data = source.read();
+            if (data == null || data.length == 0) {
+                log.warn("[TYPE3] Library payload {} is empty", location);
+                return null;
+            }
+            log.debug("[TYPE3] Loaded library payload {} ({} bytes)", location, data.length);
+            return Base64.getEncoder().encodeToString(data);
+        } catch (IOException ex) {
+            log.warn("[TYPE3] Failed to load library payload {}: {}", location, ex.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof Type3FontLibraryPayload that)) {
+            return false;
+        }
+        return Objects.equals(inlineBase64, that.inlineBase64)
+                && Objects.equals(location, that.location)
+                && Objects.equals(format, that.format);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(inlineBase64, location, format);
+    }
+
+    @Override
+    public String toString() {
+        return "Type3FontLibraryPayload(format="
+                + format
+                + ", "
+                + (location != null ? "location=" + location : "inline")
+                + ")";
     }
 }
@@ -1,18 +1,33 @@
 package stirling.software.common.controller;
 
+import java.io.IOException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -28,6 +43,7 @@ import stirling.software.common.service.FileStorage;
 import stirling.software.common.service.JobOwnershipService;
 import stirling.software.common.service.JobQueue;
 import stirling.software.common.service.TaskManager;
+import stirling.software.common.util.MultiFileResponseBody;
 import stirling.software.common.util.RegexPatternUtils;
 
 /** REST controller for job-related endpoints */
@@ -38,11 +54,16 @@ import stirling.software.common.util.RegexPatternUtils;
 @Tag(name = "Job Management", description = "Job Management API")
 public class JobController {
 
+    private static final MediaType APPLICATION_ZIP = MediaType.parseMediaType("application/zip");
+
     private final TaskManager taskManager;
     private final FileStorage fileStorage;
     private final JobQueue jobQueue;
     private final HttpServletRequest request;
 
+    @Value("${stirling.jobEventsTimeoutMs:1800000}")
+    private long eventsTimeoutMs;
+
     @Autowired(required = false)
     private JobOwnershipService jobOwnershipService;
 
@@ -67,23 +88,202 @@ public class JobController {
             return ResponseEntity.notFound().build();
         }
 
+        return ResponseEntity.ok(jobStatus(jobId, result));
+    }
+
+    /**
+     * Stream the progress of a job as Server-Sent Events instead of polling its status. The stream
+     * starts with a {@code state} event carrying the same body as {@code GET /job/{jobId}}, then
+     * sends a {@code note} event for every progress note and a {@code complete} event with the
+     * final job result, after which it ends.
+     *
+     * @param jobId The job ID
+     * @return The event stream
+     */
+    @GetMapping(value = "/job/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream job events")
+    public ResponseEntity<SseEmitter> streamJobEvents(@PathVariable("jobId") String jobId) {
+        return streamEvents(List.of(jobId));
+    }
+
+    /**
+     * Stream the progress of several jobs over one Server-Sent Events connection. The events are
+     * the same as for a single job and name their job in {@code jobId}; the stream ends once every
+     * job has completed.
+     *
+     * @param jobIds The job IDs
+     * @return The event stream
+     */
+    @GetMapping(value = "/jobs/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream events of several jobs")
+    public ResponseEntity<SseEmitter> streamJobsEvents(
+            @RequestParam("jobIds") List<String> jobIds) {
+        return streamEvents(jobIds.stream().filter(id -> !id.isBlank()).distinct().toList());
+    }
+
+    private ResponseEntity<SseEmitter> streamEvents(List<String> jobIds) {
+        if (jobIds.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+        for (String jobId : jobIds) {
+            // Validate job ownership
+            if (!validateJobAccess(jobId)) {
+                log.warn("Unauthorized attempt to stream job events: {}", jobId);
+                return ResponseEntity.status(403).build();
+            }
+            if (taskManager.getJobResult(jobId) == null) {
+                return ResponseEntity.notFound().build();
+            }
+        }
+
+        SseEmitter emitter = newEmitter();
+        JobEventStream stream = new JobEventStream(emitter, jobIds);
+        emitter.onCompletion(stream::close);
+        emitter.onTimeout(
+                () -> {
+                    stream.close();
+                    emitter.complete();
+                });
+        emitter.onError(
+                e -> {
+                    log.debug("Job event stream failed: {}", e.getMessage());
+                    stream.close();
+                });
+        stream.start();
+        return ResponseEntity.ok(emitter);
+    }
+
+    SseEmitter newEmitter() {
+        return new SseEmitter(eventsTimeoutMs);
+    }
+
+    /** Status body of a job, with its queue position while it waits in the queue. */
+    private Object jobStatus(String jobId, JobResult result) {
         // Check if the job is in the queue and add queue information
         if (!result.isComplete() && jobQueue.isJobQueued(jobId)) {
             int position = jobQueue.getJobPosition(jobId);
-            Map<String, Object> resultWithQueueInfo =
-                    Map.of(
-                            "jobResult",
-                            result,
-                            "queueInfo",
-                            Map.of("inQueue", true, "position", position));
-            return ResponseEntity.ok(resultWithQueueInfo);
+            return Map.of(
+                    "jobResult",
+                    result,
+                    "queueInfo",
+                    Map.of("inQueue", true, "position", position));
         }
+        return result;
+    }
 
-        return ResponseEntity.ok(result);
+    /**
+     * Forwards the updates of some jobs to one event stream until all of them complete. Callbacks
+     * only queue their events, which a virtual thread of the stream writes in order, so a slow
+     * client never holds up the thread updating a job. The monitor orders the initial state events
+     * before any update.
+     */
+    private final class JobEventStream implements TaskManager.JobListener {
+        private final SseEmitter emitter;
+        private final List<String> jobIds;
+        private final Set<String> pending = ConcurrentHashMap.newKeySet();
+        private final ExecutorService sender =
+                Executors.newSingleThreadExecutor(
+                        Thread.ofVirtual().name("job-events-", 0).factory());
+        private boolean closed;
+
+        JobEventStream(SseEmitter emitter, List<String> jobIds) {
+            this.emitter = emitter;
+            this.jobIds = jobIds;
+            pending.addAll(jobIds);
+        }
+
+        synchronized void start() {
+            // Listen first so that nothing between the state event and the listener is lost
+            for (String jobId : jobIds) {
+                taskManager.addJobListener(jobId, this);
+            }
+            for (String jobId : jobIds) {
+                JobResult result = taskManager.getJobResult(jobId);
+                if (result == null) {
+                    // Expired since the request was checked
+                    if (pending.remove(jobId)) {
+                        done(jobId);
+                    }
+                    continue;
+                }
+                sendEvent("state", jobStatus(jobId, result));
+                if (result.isComplete()) {
+                    onComplete(jobId, result);
+                }
+            }
+        }
+
+        @Override
+        public synchronized void onNote(String jobId, String note) {
+            if (pending.contains(jobId)) {
+                sendEvent("note", Map.of("jobId", jobId, "note", note));
+            }
+        }
+
+        @Override
+        public synchronized void onComplete(String jobId, JobResult result) {
+            if (pending.remove(jobId)) {
+                sendEvent("complete", result);
+                done(jobId);
+            }
+        }
+
+        // Must be called while holding the monitor, once per job
+        private void done(String jobId) {
+            taskManager.removeJobListener(jobId, this);
+            if (pending.isEmpty() && !closed) {
+                // End the response once the queued events have been written
+                sender.execute(
+                        () -> {
+                            if (close()) {
+                                emitter.complete();
+                            }
+                        });
+            }
+        }
+
+        /** Stops listening, returning whether this call was the one that closed the stream. */
+        synchronized boolean close() {
+            if (closed) {
+                return false;
+            }
+            closed = true;
+            for (String jobId : jobIds) {
+                taskManager.removeJobListener(jobId, this);
+            }
+            sender.shutdown();
+            return true;
+        }
+
+        // Must be called while holding the monitor
+        private void sendEvent(String name, Object data) {
+            if (closed) {
+                return;
+            }
+            sender.execute(() -> write(name, data));
+        }
+
+        // Runs on the sender thread, outside the monitor
+        private void write(String name, Object data) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+            }
+            try {
+                emitter.send(SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON));
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Failed to send SSE event (client may have disconnected)", e);
+                close();
+            }
+        }
     }
 
     /**
-     * Get the result of a job
+     * Get the result of a job. Result files are streamed from disk with {@code Content-Length},
+     * {@code ETag} and {@code Range} support. Multiple files are described as JSON for the client
+     * to download individually, or streamed as one ZIP when the client accepts {@code
+     * application/zip}.
      *
      * @param jobId The job ID
      * @return The job result
@@ -111,8 +311,17 @@ public class JobController {
             return ResponseEntity.badRequest().body("Job failed: " + result.getError());
         }
 
-        // Handle multiple files - return metadata for client to download individually
         if (result.hasMultipleFiles()) {
+            if (acceptsZip()) {
+                try {
+                    return zipResponse(jobId, result.getAllResultFiles());
+                } catch (Exception e) {
+                    log.error("Error retrieving files for job {}: {}", jobId, e.getMessage(), e);
+                    return ResponseEntity.internalServerError()
+                            .body("Error retrieving files: " + e.getMessage());
+                }
+            }
+            // Return metadata for client to download individually
             return ResponseEntity.ok()
                     .contentType(MediaType.APPLICATION_JSON)
                     .body(
@@ -130,13 +339,10 @@ public class JobController {
             try {
                 List<ResultFile> files = result.getAllResultFiles();
                 ResultFile singleFile = files.get(0);
-                byte[] fileContent = fileStorage.retrieveBytes(singleFile.getFileId());
-                return ResponseEntity.ok()
-                        .header("Content-Type", singleFile.getContentType())
-                        .header(
-                                "Content-Disposition",
-                                createContentDispositionHeader(singleFile.getFileName()))
-                        .body(fileContent);
+                return fileResponse(
+                        singleFile.getFileId(),
+                        singleFile.getFileName(),
+                        singleFile.getContentType());
             } catch (Exception e) {
                 log.error("Error retrieving file for job {}: {}", jobId, e.getMessage(), e);
                 return ResponseEntity.internalServerError()
@@ -309,7 +515,8 @@ public class JobController {
     }
 
     /**
-     * Download an individual file by its file ID
+     * Download an individual file by its file ID. The file is streamed from disk with {@code
+     * Content-Length}, {@code ETag} and {@code Range} support.
      *
      * @param fileId The file ID
      * @return The file content
@@ -329,9 +536,6 @@ public class JobController {
                         .body(Map.of("message", "You are not authorized to access this file"));
             }
 
-            // Retrieve file content
-            byte[] fileContent = fileStorage.retrieveBytes(fileId);
-
             // Find the file metadata from any job that contains this file
             // This is for getting the original filename and content type
             ResultFile resultFile = taskManager.findResultFileByFileId(fileId);
@@ -342,16 +546,60 @@ public class JobController {
                             ? resultFile.getContentType()
                             : MediaType.APPLICATION_OCTET_STREAM_VALUE;
 
-            return ResponseEntity.ok()
-                    .header("Content-Type", contentType)
-                    .header("Content-Disposition", createContentDispositionHeader(fileName))
-                    .body(fileContent);
+            return fileResponse(fileId, fileName, contentType);
         } catch (Exception e) {
             log.error("Error retrieving file {}: {}", fileId, e.getMessage(), e);
             return ResponseEntity.internalServerError().body("Error retrieving file");
         }
     }
 
+    /**
+     * Streams a stored file. Stored files never change, so the file ID serves as the ETag; Spring
+     * answers {@code If-None-Match} with 304 and {@code Range} with the requested byte ranges,
+     * reading only those from disk.
+     */
+    private ResponseEntity<Resource> fileResponse(
+            String fileId, String fileName, String contentType) throws IOException {
+        Path path = fileStorage.retrievePath(fileId);
+        return ResponseEntity.ok()
+                .header("Content-Type", contentType)
+                .header("Content-Disposition", createContentDispositionHeader(fileName))
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .eTag(fileId)
+                .body(new FileSystemResource(path));
+    }
+
+    /** Streams the files of a job as a ZIP with STORED entries, built while it is sent. */
+    private ResponseEntity<StreamingResponseBody> zipResponse(String jobId, List<ResultFile> files)
+            throws IOException {
+        List<String> fileNames = new ArrayList<>(files.size());
+        List<Path> paths = new ArrayList<>(files.size());
+        for (ResultFile file : files) {
+            fileNames.add(file.getFileName());
+            paths.add(fileStorage.retrievePath(file.getFileId()));
+        }
+        StreamingResponseBody body =
+                out -> MultiFileResponseBody.writeStoredZip(fileNames, paths, out);
+        return ResponseEntity.ok()
+                .contentType(APPLICATION_ZIP)
+                .header("Content-Disposition", createContentDispositionHeader(jobId + ".zip"))
+                .body(body);
+    }
+
+    /** Whether the client explicitly accepts {@code application/zip}. */
+    private boolean acceptsZip() {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null || accept.isBlank()) {
+            return false;
+        }
+        try {
+            return MediaType.parseMediaTypes(accept).stream()
+                    .anyMatch(type -> type.equalsTypeAndSubtype(APPLICATION_ZIP));
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+    }
+
     private boolean isSecurityEnabled() {
         return jobOwnershipService != null;
     }
@@ -0,0 +1,95 @@
+"""
+Description: Long-running worker that executes the bundled Python scripts (png_to_webp.py,
+split_photos.py) inside a single interpreter so OpenCV, NumPy and Pillow are only imported once.
+
+Protocol
+--------
+Requests and responses are newline-delimited JSON objects exchanged over stdin/stdout.
+
+Request:
+    {"script": "/abs/path/split_photos.py", "args": ["in.png", "out_dir"], "cwd": null}
+
+Response:
+    {"rc": 0, "output": "...", "error": "..."}
+
+On startup the worker emits a single {"ready": true} line. Anything the scripts (or native
+libraries) print is captured and returned in the response so it can never corrupt the framing.
+"""
+
+import contextlib
+import io
+import json
+import os
+import runpy
+import sys
+import traceback
+
+
+def preload_modules():
+    """Import the heavy modules up front so individual requests don't pay for them."""
+    for module in ("cv2", "numpy", "PIL.Image", "pdf2image"):
+        try:
+            __import__(module)
+        except Exception:  # noqa: BLE001 - optional dependency, script will report it
+            pass
+
+
+def run_script(script, args, cwd):
+    """Run a script as __main__ with the given argv and return (rc, stdout, stderr)."""
+    stdout = io.StringIO()
+    stderr = io.StringIO()
+    rc = 0
+    previous_argv = sys.argv
+    previous_cwd = os.getcwd()
+    try:
+        sys.argv = [script] + list(args)
+        if cwd:
+            os.chdir(cwd)
+        with contextlib.redirect_stdout(stdout), contextlib.redirect_stderr(stderr):
+            try:
+                runpy.run_path(script, run_name="__main__")
+            except SystemExit as exit_request:
+                code = exit_request.code
+                if code is None:
+                    rc = 0
+                elif isinstance(code, int):
+                    rc = code
+                else:
+                    print(code, file=sys.stderr)
+                    rc = 1
+            except Exception:  # noqa: BLE001 - reported back to the caller
+                traceback.print_exc()
+                rc = 1
+    finally:
+        sys.argv = previous_argv
+        os.chdir(previous_cwd)
+    return rc, stdout.getvalue(), stderr.getvalue()
+
+
+def main():
+    # Keep a private handle to the real stdout for framing and point fd 1 at stderr so that
+    # native code writing directly to the file descriptor cannot break the protocol.
+    channel = os.fdopen(os.dup(sys.stdout.fileno()), "w", encoding="utf-8", buffering=1)
+    os.dup2(sys.stderr.fileno(), sys.stdout.fileno())
+
+    preload_modules()
+    channel.write(json.dumps({"ready": True}) + "\n")
+    channel.flush()
+
+    for line in sys.stdin:
+        line = line.strip()
+        if not line:
+            continue
+        try:
+            request = json.loads(line)
+            rc, output, error = run_script(
+                request["script"], request.get("args", []), request.get("cwd")
+            )
+        except Exception:  # noqa: BLE001 - malformed request
+            rc, output, error = 1, "", traceback.format_exc()
+        channel.write(json.dumps({"rc": rc, "output": output, "error": error}) + "\n")
+        channel.flush()
+
+
+if __name__ == "__main__":
+    main()
@@ -30,6 +30,7 @@ import org.springframework.mock.web.MockMultipartFile;
 
 import stirling.software.common.model.api.PDFFile;
 import stirling.software.common.service.CustomPDFDocumentFactory;
+import stirling.software.common.util.PdfInspector;
 
 @ExtendWith(MockitoExtension.class)
 class AnalysisControllerTest {
@@ -57,9 +58,9 @@ class AnalysisControllerTest {
     @Test
     void getPageCount_returnsCorrectCount() throws IOException {
         PDFFile request = createRequest();
-        PDDocument doc = mock(PDDocument.class);
-        when(pdfDocumentFactory.load(mockFile)).thenReturn(doc);
-        when(doc.getNumberOfPages()).thenReturn(5);
+        PdfInspector inspector = mock(PdfInspector.class);
+        when(pdfDocumentFactory.inspect(mockFile)).thenReturn(inspector);
+        when(inspector.getPageCount()).thenReturn(5);
 
         ResponseEntity<?> response = analysisController.getPageCount(request);
 
@@ -67,15 +68,16 @@ class AnalysisControllerTest {
         @SuppressWarnings("unchecked")
         Map<String, Object> body = (Map<String, Object>) response.getBody();
         assertThat(body).containsEntry("pageCount", 5);
-        verify(doc).close();
+        verify(inspector).close();
+        verify(pdfDocumentFactory, never()).load(mockFile);
     }
 
     @Test
     void getPageCount_emptyDocument() throws IOException {
         PDFFile request = createRequest();
-        PDDocument doc = mock(PDDocument.class);
-        when(pdfDocumentFactory.load(mockFile)).thenReturn(doc);
-        when(doc.getNumberOfPages()).thenReturn(0);
+        PdfInspector inspector = mock(PdfInspector.class);
+        when(pdfDocumentFactory.inspect(mockFile)).thenReturn(inspector);
+        when(inspector.getPageCount()).thenReturn(0);
 
         ResponseEntity<?> response = analysisController.getPageCount(request);
 
@@ -87,7 +89,7 @@ class AnalysisControllerTest {
     @Test
     void getPageCount_ioException() throws IOException {
         PDFFile request = createRequest();
-        when(pdfDocumentFactory.load(mockFile)).thenThrow(new IOException("corrupt"));
+        when(pdfDocumentFactory.inspect(mockFile)).thenThrow(new IOException("corrupt"));
 
         assertThatThrownBy(() -> analysisController.getPageCount(request))
                 .isInstanceOf(IOException.class);
@@ -98,10 +100,10 @@ class AnalysisControllerTest {
     @Test
     void getBasicInfo_returnsAllFields() throws IOException {
         PDFFile request = createRequest();
-        PDDocument doc = mock(PDDocument.class);
-        when(pdfDocumentFactory.load(mockFile)).thenReturn(doc);
-        when(doc.getNumberOfPages()).thenReturn(3);
-        when(doc.getVersion()).thenReturn(1.7f);
+        PdfInspector inspector = mock(PdfInspector.class);
+        when(pdfDocumentFactory.inspect(mockFile)).thenReturn(inspector);
+        when(inspector.getPageCount()).thenReturn(3);
+        when(inspector.getVersion()).thenReturn(1.7f);
 
         ResponseEntity<?> response = analysisController.getBasicInfo(request);
 
@@ -161,15 +163,10 @@ class AnalysisControllerTest {
     @Test
     void getPageDimensions_multiplePages() throws IOException {
         PDFFile request = createRequest();
-        PDDocument doc = mock(PDDocument.class);
-        PDPageTree pages = mock(PDPageTree.class);
-        PDPage page1 = mock(PDPage.class);
-        PDPage page2 = mock(PDPage.class);
-        when(pdfDocumentFactory.load(mockFile)).thenReturn(doc);
-        when(doc.getPages()).thenReturn(pages);
-        when(pages.iterator()).thenReturn(List.of(page1, page2).iterator());
-        when(page1.getBBox()).thenReturn(new PDRectangle(612, 792));
-        when(page2.getBBox()).thenReturn(new PDRectangle(842, 595));
+        PdfInspector inspector = mock(PdfInspector.class);
+        when(pdfDocumentFactory.inspect(mockFile)).thenReturn(inspector);
+        when(inspector.getPageBoxes())
+                .thenReturn(List.of(new PDRectangle(612, 792), new PDRectangle(842, 595)));
 
         ResponseEntity<?> response = analysisController.getPageDimensions(request);
 
@@ -312,13 +309,13 @@ class AnalysisControllerTest {
     @Test
     void getSecurityInfo_encrypted() throws IOException {
         PDFFile request = createRequest();
-        PDDocument doc = mock(PDDocument.class);
+        PdfInspector inspector = mock(PdfInspector.class);
         PDEncryption encryption = mock(PDEncryption.class);
         AccessPermission perm = mock(AccessPermission.class);
-        when(pdfDocumentFactory.load(mockFile)).thenReturn(doc);
-        when(doc.getEncryption()).thenReturn(encryption);
+        when(pdfDocumentFactory.inspect(mockFile)).thenReturn(inspector);
+        when(inspector.getEncryption()).thenReturn(encryption);
         when(encryption.getLength()).thenReturn(128);
-        when(doc.getCurrentAccessPermission()).thenReturn(perm);
+        when(inspector.getAccessPermission()).thenReturn(perm);
         when(perm.canPrint()).thenReturn(false);
         when(perm.canModify()).thenReturn(true);
         when(perm.canExtractContent()).thenReturn(true);
@@ -339,9 +336,9 @@ class AnalysisControllerTest {
     @Test
     void getSecurityInfo_notEncrypted() throws IOException {
         PDFFile request = createRequest();
-        PDDocument doc = mock(PDDocument.class);
-        when(pdfDocumentFactory.load(mockFile)).thenReturn(doc);
-        when(doc.getEncryption()).thenReturn(null);
+        PdfInspector inspector = mock(PdfInspector.class);
+        when(pdfDocumentFactory.inspect(mockFile)).thenReturn(inspector);
+        when(inspector.getEncryption()).thenReturn(null);
 
         ResponseEntity<?> response = analysisController.getSecurityInfo(request);
 
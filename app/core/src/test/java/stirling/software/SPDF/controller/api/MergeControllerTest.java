@@ -3,12 +3,17 @@ package stirling.software.SPDF.controller.api;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.MemoryUsageSetting;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDDocumentCatalog;
 import org.apache.pdfbox.pdmodel.PDPage;
@@ -17,20 +22,27 @@ import org.apache.pdfbox.pdmodel.interactive.documentnavigation.outline.PDDocume
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import stirling.software.SPDF.model.api.general.MergePdfsRequest;
 import stirling.software.common.service.CustomPDFDocumentFactory;
+import stirling.software.common.util.TempFileManager;
 
 @ExtendWith(MockitoExtension.class)
 class MergeControllerTest {
 
+    @TempDir Path tempDir;
     @Mock private CustomPDFDocumentFactory pdfDocumentFactory;
+    @Mock private TempFileManager tempFileManager;
 
     @InjectMocks private MergeController mergeController;
 
@@ -71,6 +83,19 @@ class MergeControllerTest {
         mockPage2 = mock(PDPage.class);
     }
 
+    private void invokeAddTableOfContents(MultipartFile[] files, int[] firstPageIndexes)
+            throws Exception {
+        Method addTableOfContentsMethod =
+                MergeController.class.getDeclaredMethod(
+                        "addTableOfContents",
+                        PDDocument.class,
+                        MultipartFile[].class,
+                        int[].class);
+        addTableOfContentsMethod.setAccessible(true);
+        addTableOfContentsMethod.invoke(
+                mergeController, mockMergedDocument, files, firstPageIndexes);
+    }
+
     @Test
     void testAddTableOfContents_WithMultipleFiles_Success() throws Exception {
         // Given
@@ -83,25 +108,8 @@ class MergeControllerTest {
         when(mockMergedDocument.getPage(2)).thenReturn(mockPage2);
         when(mockMergedDocument.getPage(4)).thenReturn(mockPage1);
 
-        // Mock individual document loading for page count
-        PDDocument doc1 = mock(PDDocument.class);
-        PDDocument doc2 = mock(PDDocument.class);
-        PDDocument doc3 = mock(PDDocument.class);
-
-        when(pdfDocumentFactory.load(mockFile1)).thenReturn(doc1);
-        when(pdfDocumentFactory.load(mockFile2)).thenReturn(doc2);
-        when(pdfDocumentFactory.load(mockFile3)).thenReturn(doc3);
-
-        when(doc1.getNumberOfPages()).thenReturn(2);
-        when(doc2.getNumberOfPages()).thenReturn(2);
-        when(doc3.getNumberOfPages()).thenReturn(2);
-
         // When
-        Method addTableOfContentsMethod =
-                MergeController.class.getDeclaredMethod(
-                        "addTableOfContents", PDDocument.class, MultipartFile[].class);
-        addTableOfContentsMethod.setAccessible(true);
-        addTableOfContentsMethod.invoke(mergeController, mockMergedDocument, files);
+        invokeAddTableOfContents(files, new int[] {0, 2, 4});
 
         // Then
         ArgumentCaptor<PDDocumentOutline> outlineCaptor =
@@ -110,16 +118,11 @@ class MergeControllerTest {
 
         PDDocumentOutline capturedOutline = outlineCaptor.getValue();
         assertNotNull(capturedOutline);
+        assertEquals("document1", capturedOutline.getFirstChild().getTitle());
+        assertEquals("chapter3", capturedOutline.getLastChild().getTitle());
 
-        // Verify that documents were loaded for page count
-        verify(pdfDocumentFactory).load(mockFile1);
-        verify(pdfDocumentFactory).load(mockFile2);
-        verify(pdfDocumentFactory).load(mockFile3);
-
-        // Verify document closing
-        verify(doc1).close();
-        verify(doc2).close();
-        verify(doc3).close();
+        // Page counts come from the merge, so the inputs are not loaded again
+        verifyNoInteractions(pdfDocumentFactory);
     }
 
     @Test
@@ -131,21 +134,12 @@ class MergeControllerTest {
         when(mockMergedDocument.getNumberOfPages()).thenReturn(3);
         when(mockMergedDocument.getPage(0)).thenReturn(mockPage1);
 
-        PDDocument doc1 = mock(PDDocument.class);
-        when(pdfDocumentFactory.load(mockFile1)).thenReturn(doc1);
-        when(doc1.getNumberOfPages()).thenReturn(3);
-
         // When
-        Method addTableOfContentsMethod =
-                MergeController.class.getDeclaredMethod(
-                        "addTableOfContents", PDDocument.class, MultipartFile[].class);
-        addTableOfContentsMethod.setAccessible(true);
-        addTableOfContentsMethod.invoke(mergeController, mockMergedDocument, files);
+        invokeAddTableOfContents(files, new int[] {0});
 
         // Then
         verify(mockCatalog).setDocumentOutline(any(PDDocumentOutline.class));
-        verify(pdfDocumentFactory).load(mockFile1);
-        verify(doc1).close();
+        verify(mockMergedDocument).getPage(0);
     }
 
     @Test
@@ -155,11 +149,7 @@ class MergeControllerTest {
         when(mockMergedDocument.getDocumentCatalog()).thenReturn(mockCatalog);
 
         // When
-        Method addTableOfContentsMethod =
-                MergeController.class.getDeclaredMethod(
-                        "addTableOfContents", PDDocument.class, MultipartFile[].class);
-        addTableOfContentsMethod.setAccessible(true);
-        addTableOfContentsMethod.invoke(mergeController, mockMergedDocument, files);
+        invokeAddTableOfContents(files, new int[0]);
 
         // Then
         verify(mockMergedDocument).getDocumentCatalog();
@@ -168,39 +158,20 @@ class MergeControllerTest {
     }
 
     @Test
-    void testAddTableOfContents_WithIOException_HandlesGracefully() throws Exception {
+    void testAddTableOfContents_TrailingFileWithoutPages_HasNoDestination() throws Exception {
         // Given
         MultipartFile[] files = {mockFile1, mockFile2};
 
         when(mockMergedDocument.getDocumentCatalog()).thenReturn(mockCatalog);
-        when(mockMergedDocument.getNumberOfPages()).thenReturn(4);
-        when(mockMergedDocument.getPage(anyInt()))
-                .thenReturn(mockPage1); // Use anyInt() to avoid stubbing conflicts
-
-        // First document loads successfully
-        PDDocument doc1 = mock(PDDocument.class);
-        when(pdfDocumentFactory.load(mockFile1)).thenReturn(doc1);
-        when(doc1.getNumberOfPages()).thenReturn(2);
-
-        // Second document throws IOException
-        when(pdfDocumentFactory.load(mockFile2))
-                .thenThrow(new IOException("Failed to load document"));
+        when(mockMergedDocument.getNumberOfPages()).thenReturn(2);
+        when(mockMergedDocument.getPage(0)).thenReturn(mockPage1);
 
         // When
-        Method addTableOfContentsMethod =
-                MergeController.class.getDeclaredMethod(
-                        "addTableOfContents", PDDocument.class, MultipartFile[].class);
-        addTableOfContentsMethod.setAccessible(true);
-
-        // Should not throw exception
-        assertDoesNotThrow(
-                () -> addTableOfContentsMethod.invoke(mergeController, mockMergedDocument, files));
+        assertDoesNotThrow(() -> invokeAddTableOfContents(files, new int[] {0, 2}));
 
         // Then
         verify(mockCatalog).setDocumentOutline(any(PDDocumentOutline.class));
-        verify(pdfDocumentFactory).load(mockFile1);
-        verify(pdfDocumentFactory).load(mockFile2);
-        verify(doc1).close();
+        verify(mockMergedDocument, never()).getPage(2);
     }
 
     @Test
@@ -218,20 +189,14 @@ class MergeControllerTest {
         when(mockMergedDocument.getNumberOfPages()).thenReturn(1);
         when(mockMergedDocument.getPage(0)).thenReturn(mockPage1);
 
-        PDDocument doc = mock(PDDocument.class);
-        when(pdfDocumentFactory.load(fileWithoutExtension)).thenReturn(doc);
-        when(doc.getNumberOfPages()).thenReturn(1);
-
         // When
-        Method addTableOfContentsMethod =
-                MergeController.class.getDeclaredMethod(
-                        "addTableOfContents", PDDocument.class, MultipartFile[].class);
-        addTableOfContentsMethod.setAccessible(true);
-        addTableOfContentsMethod.invoke(mergeController, mockMergedDocument, files);
+        invokeAddTableOfContents(files, new int[] {0});
 
         // Then
-        verify(mockCatalog).setDocumentOutline(any(PDDocumentOutline.class));
-        verify(doc).close();
+        ArgumentCaptor<PDDocumentOutline> outlineCaptor =
+                ArgumentCaptor.forClass(PDDocumentOutline.class);
+        verify(mockCatalog).setDocumentOutline(outlineCaptor.capture());
+        assertEquals("document_no_ext", outlineCaptor.getValue().getFirstChild().getTitle());
     }
 
     @Test
@@ -242,24 +207,59 @@ class MergeControllerTest {
         when(mockMergedDocument.getDocumentCatalog()).thenReturn(mockCatalog);
         when(mockMergedDocument.getNumberOfPages()).thenReturn(0); // No pages in merged document
 
-        PDDocument doc1 = mock(PDDocument.class);
-        when(pdfDocumentFactory.load(mockFile1)).thenReturn(doc1);
-        when(doc1.getNumberOfPages()).thenReturn(3);
-
         // When
-        Method addTableOfContentsMethod =
-                MergeController.class.getDeclaredMethod(
-                        "addTableOfContents", PDDocument.class, MultipartFile[].class);
-        addTableOfContentsMethod.setAccessible(true);
-
-        // Should not throw exception
-        assertDoesNotThrow(
-                () -> addTableOfContentsMethod.invoke(mergeController, mockMergedDocument, files));
+        assertDoesNotThrow(() -> invokeAddTableOfContents(files, new int[] {0}));
 
         // Then
         verify(mockCatalog).setDocumentOutline(any(PDDocumentOutline.class));
         verify(mockMergedDocument, never()).getPage(anyInt());
-        verify(doc1).close();
+    }
+
+    @Test
+    void testMergePdfs_LoadsEachInputOnceAndBuildsToc() throws Exception {
+        // Given
+        MockMultipartFile first = realPdf("first.pdf", 2);
+        MockMultipartFile second = realPdf("second.pdf", 3);
+        MergePdfsRequest request = new MergePdfsRequest();
+        request.setFileInput(new MultipartFile[] {first, second});
+        request.setGenerateToc(true);
+
+        when(pdfDocumentFactory.createNewDocument(any(MemoryUsageSetting.class)))
+                .thenAnswer(inv -> new PDDocument());
+        when(pdfDocumentFactory.load(any(MultipartFile.class)))
+                .thenAnswer(inv -> Loader.loadPDF(((MultipartFile) inv.getArgument(0)).getBytes()));
+        when(tempFileManager.createTempFile(anyString()))
+                .thenAnswer(
+                        inv ->
+                                Files.createTempFile(tempDir, "merge", inv.getArgument(0))
+                                        .toFile());
+
+        // When
+        ResponseEntity<StreamingResponseBody> response = mergeController.mergePdfs(request, null);
+
+        // Then
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+        try (PDDocument merged = Loader.loadPDF(out.toByteArray())) {
+            assertEquals(5, merged.getNumberOfPages());
+            PDDocumentOutline outline = merged.getDocumentCatalog().getDocumentOutline();
+            assertEquals("first", outline.getFirstChild().getTitle());
+            assertEquals("second", outline.getLastChild().getTitle());
+        }
+        verify(pdfDocumentFactory).load(first);
+        verify(pdfDocumentFactory).load(second);
+    }
+
+    private static MockMultipartFile realPdf(String name, int pages) throws IOException {
+        try (PDDocument doc = new PDDocument()) {
+            for (int i = 0; i < pages; i++) {
+                doc.addPage(new PDPage());
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            doc.save(out);
+            return new MockMultipartFile(
+                    "fileInput", name, MediaType.APPLICATION_PDF_VALUE, out.toByteArray());
+        }
     }
 
     @Test
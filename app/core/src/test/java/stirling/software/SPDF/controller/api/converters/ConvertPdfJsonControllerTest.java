@@ -1,11 +1,15 @@
 package stirling.software.SPDF.controller.api.converters;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -14,6 +18,7 @@ import static org.mockito.Mockito.when;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -82,13 +87,20 @@ class ConvertPdfJsonControllerTest {
         PDFFile request = new PDFFile();
         request.setFileInput(pdfFile);
 
-        when(pdfJsonConversionService.convertPdfToJson(pdfFile, false)).thenReturn(jsonBytes);
+        doAnswer(
+                        inv -> {
+                            inv.<OutputStream>getArgument(2).write(jsonBytes);
+                            return null;
+                        })
+                .when(pdfJsonConversionService)
+                .convertPdfToJson(eq(pdfFile), eq(false), any(OutputStream.class));
 
         ResponseEntity<StreamingResponseBody> response =
                 controller.convertPdfToJson(request, false);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
+        assertArrayEquals(jsonBytes, drainBody(response));
     }
 
     @Test
@@ -100,12 +112,19 @@ class ConvertPdfJsonControllerTest {
         PDFFile request = new PDFFile();
         request.setFileInput(pdfFile);
 
-        when(pdfJsonConversionService.convertPdfToJson(pdfFile, true)).thenReturn(jsonBytes);
+        doAnswer(
+                        inv -> {
+                            inv.<OutputStream>getArgument(2).write(jsonBytes);
+                            return null;
+                        })
+                .when(pdfJsonConversionService)
+                .convertPdfToJson(eq(pdfFile), eq(true), any(OutputStream.class));
 
         ResponseEntity<StreamingResponseBody> response = controller.convertPdfToJson(request, true);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        verify(pdfJsonConversionService).convertPdfToJson(pdfFile, true);
+        verify(pdfJsonConversionService)
+                .convertPdfToJson(eq(pdfFile), eq(true), any(OutputStream.class));
     }
 
     @Test
@@ -175,9 +194,10 @@ class ConvertPdfJsonControllerTest {
         byte[] jsonBytes = "{\"content\":[]}".getBytes();
         String jobId = "test-job-id";
 
-        when(pdfJsonConversionService.extractSinglePage(jobId, 1)).thenReturn(jsonBytes);
+        when(pdfJsonConversionService.extractSinglePage(jobId, 1, false)).thenReturn(jsonBytes);
 
-        ResponseEntity<StreamingResponseBody> response = controller.extractSinglePage(jobId, 1);
+        ResponseEntity<StreamingResponseBody> response =
+                controller.extractSinglePage(jobId, 1, false);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
@@ -188,11 +208,50 @@ class ConvertPdfJsonControllerTest {
         byte[] jsonBytes = "{\"fonts\":[]}".getBytes();
         String jobId = "test-job-id";
 
-        when(pdfJsonConversionService.extractPageFonts(jobId, 1)).thenReturn(jsonBytes);
+        when(pdfJsonConversionService.extractPageFonts(jobId, 1, false)).thenReturn(jsonBytes);
 
-        ResponseEntity<StreamingResponseBody> response = controller.extractPageFonts(jobId, 1);
+        ResponseEntity<StreamingResponseBody> response =
+                controller.extractPageFonts(jobId, 1, false);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
     }
+
+    @Test
+    void getAsset_returnsBytesWithImmutableCaching() {
+        String jobId = "test-job-id";
+        String hash = "a".repeat(64);
+        byte[] data = {1, 2, 3};
+        when(pdfJsonConversionService.getAsset(jobId, hash))
+                .thenReturn(new PdfJsonConversionService.TextEditorAsset(data, "font/ttf"));
+
+        ResponseEntity<byte[]> response = controller.getAsset(jobId, hash, null);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertArrayEquals(data, response.getBody());
+        assertEquals("\"" + hash + "\"", response.getHeaders().getETag());
+        assertEquals(MediaType.parseMediaType("font/ttf"), response.getHeaders().getContentType());
+        assertTrue(response.getHeaders().getCacheControl().contains("immutable"));
+    }
+
+    @Test
+    void getAsset_matchingETagReturnsNotModified() {
+        String jobId = "test-job-id";
+        String hash = "b".repeat(64);
+        when(pdfJsonConversionService.getAsset(jobId, hash))
+                .thenReturn(
+                        new PdfJsonConversionService.TextEditorAsset(new byte[] {1}, "image/png"));
+
+        ResponseEntity<byte[]> response = controller.getAsset(jobId, hash, "\"" + hash + "\"");
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+    }
+
+    @Test
+    void getAsset_unknownHashReturnsNotFound() {
+        ResponseEntity<byte[]> response = controller.getAsset("test-job-id", "not-a-hash", null);
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
 }
@@ -26,6 +26,7 @@ import stirling.software.SPDF.model.api.filter.FileSizeRequest;
 import stirling.software.SPDF.model.api.filter.PageRotationRequest;
 import stirling.software.SPDF.model.api.filter.PageSizeRequest;
 import stirling.software.common.service.CustomPDFDocumentFactory;
+import stirling.software.common.util.PdfInspector;
 import stirling.software.common.util.PdfUtils;
 import stirling.software.common.util.TempFileManager;
 import stirling.software.common.util.WebResponseUtils;
@@ -168,9 +169,9 @@ class FilterControllerTest {
         request.setPageCount(3);
         request.setComparator("Greater");
 
-        PDDocument mockDoc = mock(PDDocument.class);
-        when(pdfDocumentFactory.load(mockFile)).thenReturn(mockDoc);
-        when(mockDoc.getNumberOfPages()).thenReturn(5);
+        PdfInspector inspector = mock(PdfInspector.class);
+        when(pdfDocumentFactory.inspect(mockFile)).thenReturn(inspector);
+        when(inspector.getPageCount()).thenReturn(5);
 
         ResponseEntity<byte[]> expectedResponse = ResponseEntity.ok(mockFile.getBytes());
 
@@ -191,9 +192,9 @@ class FilterControllerTest {
         request.setPageCount(10);
         request.setComparator("Greater");
 
-        PDDocument mockDoc = mock(PDDocument.class);
-        when(pdfDocumentFactory.load(mockFile)).thenReturn(mockDoc);
-        when(mockDoc.getNumberOfPages()).thenReturn(5);
+        PdfInspector inspector = mock(PdfInspector.class);
+        when(pdfDocumentFactory.inspect(mockFile)).thenReturn(inspector);
+        when(inspector.getPageCount()).thenReturn(5);
 
         ResponseEntity<byte[]> result = filterController.pageCount(request);
 
@@ -207,9 +208,9 @@ class FilterControllerTest {
         request.setPageCount(5);
         request.setComparator("Equal");
 
-        PDDocument mockDoc = mock(PDDocument.class);
-        when(pdfDocumentFactory.load(mockFile)).thenReturn(mockDoc);
-        when(mockDoc.getNumberOfPages()).thenReturn(5);
+        PdfInspector inspector = mock(PdfInspector.class);
+        when(pdfDocumentFactory.inspect(mockFile)).thenReturn(inspector);
+        when(inspector.getPageCount()).thenReturn(5);
 
         ResponseEntity<byte[]> expectedResponse = ResponseEntity.ok(mockFile.getBytes());
 
@@ -230,9 +231,9 @@ class FilterControllerTest {
         request.setPageCount(10);
         request.setComparator("Less");
 
-        PDDocument mockDoc = mock(PDDocument.class);
-        when(pdfDocumentFactory.load(mockFile)).thenReturn(mockDoc);
-        when(mockDoc.getNumberOfPages()).thenReturn(5);
+        PdfInspector inspector = mock(PdfInspector.class);
+        when(pdfDocumentFactory.inspect(mockFile)).thenReturn(inspector);
+        when(inspector.getPageCount()).thenReturn(5);
 
         ResponseEntity<byte[]> expectedResponse = ResponseEntity.ok(mockFile.getBytes());
 
@@ -253,9 +254,9 @@ class FilterControllerTest {
         request.setPageCount(5);
         request.setComparator("Invalid");
 
-        PDDocument mockDoc = mock(PDDocument.class);
-        when(pdfDocumentFactory.load(mockFile)).thenReturn(mockDoc);
-        when(mockDoc.getNumberOfPages()).thenReturn(5);
+        PdfInspector inspector = mock(PdfInspector.class);
+        when(pdfDocumentFactory.inspect(mockFile)).thenReturn(inspector);
+        when(inspector.getPageCount()).thenReturn(5);
 
         assertThrows(IllegalArgumentException.class, () -> filterController.pageCount(request));
     }
@@ -269,11 +270,9 @@ class FilterControllerTest {
         request.setStandardPageSize("A4");
         request.setComparator("Equal");
 
-        PDDocument mockDoc = mock(PDDocument.class);
-        PDPage mockPage = mock(PDPage.class);
-        when(pdfDocumentFactory.load(mockFile)).thenReturn(mockDoc);
-        when(mockDoc.getPage(0)).thenReturn(mockPage);
-        when(mockPage.getMediaBox()).thenReturn(PDRectangle.A4);
+        PdfInspector inspector = mock(PdfInspector.class);
+        when(pdfDocumentFactory.inspect(mockFile)).thenReturn(inspector);
+        when(inspector.getMediaBox(0)).thenReturn(PDRectangle.A4);
 
         ResponseEntity<byte[]> expectedResponse = ResponseEntity.ok(mockFile.getBytes());
 
@@ -297,11 +296,9 @@ class FilterControllerTest {
         request.setStandardPageSize("A4");
         request.setComparator("Greater");
 
-        PDDocument mockDoc = mock(PDDocument.class);
-        PDPage mockPage = mock(PDPage.class);
-        when(pdfDocumentFactory.load(mockFile)).thenReturn(mockDoc);
-        when(mockDoc.getPage(0)).thenReturn(mockPage);
-        when(mockPage.getMediaBox()).thenReturn(PDRectangle.A5);
+        PdfInspector inspector = mock(PdfInspector.class);
+        when(pdfDocumentFactory.inspect(mockFile)).thenReturn(inspector);
+        when(inspector.getMediaBox(0)).thenReturn(PDRectangle.A5);
 
         try (MockedStatic<PdfUtils> pdfUtilsMock = mockStatic(PdfUtils.class)) {
             pdfUtilsMock.when(() -> PdfUtils.textToPageSize("A4")).thenReturn(PDRectangle.A4);
@@ -319,11 +316,9 @@ class FilterControllerTest {
         request.setStandardPageSize("A4");
         request.setComparator("Greater");
 
-        PDDocument mockDoc = mock(PDDocument.class);
-        PDPage mockPage = mock(PDPage.class);
-        when(pdfDocumentFactory.load(mockFile)).thenReturn(mockDoc);
-        when(mockDoc.getPage(0)).thenReturn(mockPage);
-        when(mockPage.getMediaBox()).thenReturn(PDRectangle.A3);
+        PdfInspector inspector = mock(PdfInspector.class);
+        when(pdfDocumentFactory.inspect(mockFile)).thenReturn(inspector);
+        when(inspector.getMediaBox(0)).thenReturn(PDRectangle.A3);
 
         ResponseEntity<byte[]> expectedResponse = ResponseEntity.ok(mockFile.getBytes());
 
@@ -97,12 +97,11 @@ class ExtractImagesControllerTest {
 
         PDDocument doc = Loader.loadPDF(file.getBytes());
         when(pdfDocumentFactory.load(file)).thenReturn(doc);
-        when(tempFileManager.createTempFile(anyString()))
-                .thenAnswer(inv -> createTempFile(inv.getArgument(0)));
 
         var response = controller.extractImages(request);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        verify(tempFileManager, never()).createTempFile(anyString());
     }
 
     @Test
@@ -130,8 +129,6 @@ class ExtractImagesControllerTest {
         request.setFormat("png");
 
         when(pdfDocumentFactory.load(file)).thenThrow(new IOException("load error"));
-        when(tempFileManager.createTempFile(anyString()))
-                .thenAnswer(inv -> createTempFile(inv.getArgument(0)));
 
         assertThatThrownBy(() -> controller.extractImages(request)).isInstanceOf(IOException.class);
     }
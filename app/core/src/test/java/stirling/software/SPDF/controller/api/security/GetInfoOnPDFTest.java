@@ -41,6 +41,7 @@ import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.web.multipart.MultipartFile;
 
 import stirling.software.SPDF.model.api.security.PDFVerificationResult;
+import stirling.software.SPDF.service.PdfInfoResultCache;
 import stirling.software.SPDF.service.VeraPDFService;
 import stirling.software.common.model.api.PDFFile;
 import stirling.software.common.service.CustomPDFDocumentFactory;
@@ -55,6 +56,7 @@ class GetInfoOnPDFTest {
 
     @Mock private CustomPDFDocumentFactory pdfDocumentFactory;
     @Mock private VeraPDFService veraPDFService;
+    @Mock private PdfInfoResultCache infoCache;
 
     @InjectMocks private GetInfoOnPDF getInfoOnPDF;
 
@@ -184,6 +186,36 @@ class GetInfoOnPDFTest {
     @DisplayName("Basic Functionality Tests")
     class BasicFunctionalityTests {
 
+        @Test
+        @DisplayName("Should serve cached sections without validating or loading the PDF")
+        void testGetPdfInfo_AllSectionsCached() throws IOException {
+            MockMultipartFile mockFile =
+                    new MockMultipartFile(
+                            "file", "cached.pdf", MediaType.APPLICATION_PDF_VALUE, new byte[16]);
+            PDFFile request = new PDFFile();
+            request.setFileInput(mockFile);
+            Mockito.when(infoCache.get(ArgumentMatchers.anyString(), ArgumentMatchers.anyString()))
+                    .thenAnswer(
+                            inv ->
+                                    ("{\"section\":\"" + inv.getArgument(1) + "\"}")
+                                            .getBytes(StandardCharsets.UTF_8));
+
+            ResponseEntity<byte[]> response = getInfoOnPDF.getPdfInfo(request);
+
+            Assertions.assertEquals(HttpStatus.OK, response.getStatusCode());
+            JsonNode jsonNode = objectMapper.readTree(response.getBody());
+            Assertions.assertEquals(
+                    "Compliancy", jsonNode.get("Compliancy").get("section").asText(""));
+            Assertions.assertEquals(
+                    "SummaryData", jsonNode.get("SummaryData").get("section").asText(""));
+            Mockito.verifyNoInteractions(veraPDFService, pdfDocumentFactory);
+            Mockito.verify(infoCache, Mockito.never())
+                    .put(
+                            ArgumentMatchers.anyString(),
+                            ArgumentMatchers.anyString(),
+                            ArgumentMatchers.any());
+        }
+
         @Test
         @DisplayName("Should successfully extract info from a valid PDF")
         void testGetPdfInfo_ValidPdf() throws IOException {
@@ -1,6 +1,7 @@
 package stirling.software.SPDF.controller.api.security;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -10,12 +11,16 @@ import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.reflect.UndeclaredThrowableException;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.apache.pdfbox.Loader;
 import org.apache.pdfbox.contentstream.operator.Operator;
 import org.apache.pdfbox.cos.COSArray;
 import org.apache.pdfbox.cos.COSFloat;
@@ -47,12 +52,16 @@ import org.slf4j.LoggerFactory;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import stirling.software.SPDF.model.PDFText;
 import stirling.software.SPDF.model.api.security.ManualRedactPdfRequest;
 import stirling.software.SPDF.model.api.security.RedactPdfRequest;
 import stirling.software.common.model.api.security.RedactionArea;
 import stirling.software.common.service.CustomPDFDocumentFactory;
+import stirling.software.common.util.MultiPatternMatcher;
+import stirling.software.common.util.PageTextIndex;
 import stirling.software.common.util.TempFile;
 import stirling.software.common.util.TempFileManager;
 
@@ -876,6 +885,194 @@ class RedactControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("Parallel Text Analysis")
+    class ParallelAnalysisTests {
+
+        @Test
+        @DisplayName("Should redact a large document scanned in page ranges and report timings")
+        void redactLargeDocumentAcrossPageRanges() throws Exception {
+            int pageCount = 64;
+            byte[] pdfBytes;
+            try (PDDocument doc = new PDDocument()) {
+                for (int i = 0; i < pageCount; i++) {
+                    PDPage page = new PDPage(PDRectangle.A4);
+                    doc.addPage(page);
+                    try (PDPageContentStream cs = new PDPageContentStream(doc, page)) {
+                        cs.beginText();
+                        cs.setFont(new PDType1Font(Standard14Fonts.FontName.HELVETICA), 12);
+                        cs.newLineAtOffset(100, 700);
+                        cs.showText("Page " + (i + 1) + " holds a secret value");
+                        cs.endText();
+                    }
+                }
+                ByteArrayOutputStream baos = new ByteArrayOutputStream();
+                doc.save(baos);
+                pdfBytes = baos.toByteArray();
+            }
+            MockMultipartFile largeFile =
+                    new MockMultipartFile(
+                            "fileInput", "large.pdf", MediaType.APPLICATION_PDF_VALUE, pdfBytes);
+
+            File sourceCopy = Files.createTempFile("redact-source", ".pdf").toFile();
+            sourceCopy.deleteOnExit();
+            Files.write(sourceCopy.toPath(), pdfBytes);
+            when(pdfDocumentFactory.load(any(MockMultipartFile.class)))
+                    .thenAnswer(inv -> Loader.loadPDF(pdfBytes));
+            when(pdfDocumentFactory.load(any(File.class), eq(true)))
+                    .thenAnswer(inv -> Loader.loadPDF(inv.<File>getArgument(0)));
+            when(tempFileManager.convertMultipartFileToFile(any())).thenReturn(sourceCopy);
+
+            RedactPdfRequest request = new RedactPdfRequest();
+            request.setFileInput(largeFile);
+            request.setListOfText("secret");
+            request.setUseRegex(false);
+            request.setWholeWordSearch(false);
+            request.setRedactColor("#000000");
+            request.setCustomPadding(0.0f);
+            request.setConvertPDFToImage(false);
+
+            ResponseEntity<StreamingResponseBody> response = redactController.redactPdf(request);
+
+            assertEquals(200, response.getStatusCode().value());
+            String serverTiming = response.getHeaders().getFirst("Server-Timing");
+            assertNotNull(serverTiming);
+            assertTrue(serverTiming.contains("analysis;dur="));
+
+            try (PDDocument redacted = Loader.loadPDF(drainBody(response))) {
+                assertEquals(pageCount, redacted.getNumberOfPages());
+            }
+        }
+
+        @Test
+        @DisplayName("Should find the same redaction boxes in page ranges as in one pass")
+        void parallelScanMatchesSequentialScan() throws Exception {
+            assumeTrue(
+                    Runtime.getRuntime().availableProcessors() >= 2,
+                    "Page ranges are only scanned in parallel with at least two cores");
+            int pageCount = 64;
+            byte[] pdfBytes;
+            try (PDDocument doc = new PDDocument()) {
+                for (int i = 0; i < pageCount; i++) {
+                    PDPage page = new PDPage(PDRectangle.A4);
+                    doc.addPage(page);
+                    try (PDPageContentStream cs = new PDPageContentStream(doc, page)) {
+                        cs.beginText();
+                        cs.setFont(
+                                new PDType1Font(Standard14Fonts.FontName.HELVETICA), 10 + i % 5);
+                        cs.newLineAtOffset(50 + i % 7 * 10, 700 - i % 11 * 20);
+                        if (i % 3 == 0) {
+                            cs.showText("Page " + (i + 1) + " has nothing to hide");
+                        } else {
+                            cs.showText("Page " + (i + 1) + " secret and token " + i);
+                            cs.newLineAtOffset(0, -40);
+                            cs.showText("another secret");
+                        }
+                        cs.endText();
+                    }
+                }
+                ByteArrayOutputStream baos = new ByteArrayOutputStream();
+                doc.save(baos);
+                pdfBytes = baos.toByteArray();
+            }
+            MockMultipartFile largeFile =
+                    new MockMultipartFile(
+                            "fileInput", "large.pdf", MediaType.APPLICATION_PDF_VALUE, pdfBytes);
+            File sourceCopy = Files.createTempFile("redact-source", ".pdf").toFile();
+            sourceCopy.deleteOnExit();
+            Files.write(sourceCopy.toPath(), pdfBytes);
+            when(pdfDocumentFactory.load(any(File.class), eq(true)))
+                    .thenAnswer(inv -> Loader.loadPDF(inv.<File>getArgument(0)));
+            when(tempFileManager.convertMultipartFileToFile(any())).thenReturn(sourceCopy);
+            MultiPatternMatcher matcher =
+                    MultiPatternMatcher.compile(List.of("secret", "token"), false, false, true);
+
+            Map<Integer, List<PDFText>> sequential;
+            try (PDDocument document = Loader.loadPDF(pdfBytes)) {
+                sequential =
+                        ReflectionTestUtils.invokeMethod(
+                                redactController,
+                                "findTextToRedact",
+                                document,
+                                matcher,
+                                1,
+                                Integer.MAX_VALUE);
+            }
+            Map<Integer, List<PDFText>> parallel;
+            try (PDDocument document = Loader.loadPDF(pdfBytes)) {
+                parallel =
+                        ReflectionTestUtils.invokeMethod(
+                                redactController, "findTextToRedact", document, largeFile, matcher);
+            }
+
+            verify(pdfDocumentFactory, atLeast(2)).load(any(File.class), eq(true));
+            assertNotNull(sequential);
+            assertEquals(pageCount - (pageCount + 2) / 3, sequential.size());
+            assertEquals(sequential, parallel);
+        }
+
+        @Test
+        @DisplayName("Should fail the scan when one page range cannot be extracted")
+        void parallelScanFailsWhenOneRangeFails() throws Exception {
+            assumeTrue(
+                    Runtime.getRuntime().availableProcessors() >= 2,
+                    "Page ranges are only scanned in parallel with at least two cores");
+            PageTextIndex.clearSharedIndexes();
+            int pageCount = 64;
+            byte[] pdfBytes;
+            try (PDDocument doc = new PDDocument()) {
+                for (int i = 0; i < pageCount; i++) {
+                    PDPage page = new PDPage(PDRectangle.A4);
+                    doc.addPage(page);
+                    try (PDPageContentStream cs = new PDPageContentStream(doc, page)) {
+                        cs.beginText();
+                        cs.setFont(new PDType1Font(Standard14Fonts.FontName.HELVETICA), 12);
+                        cs.newLineAtOffset(100, 700);
+                        cs.showText("Range failure page " + (i + 1) + " secret");
+                        cs.endText();
+                    }
+                }
+                ByteArrayOutputStream baos = new ByteArrayOutputStream();
+                doc.save(baos);
+                pdfBytes = baos.toByteArray();
+            }
+            MockMultipartFile largeFile =
+                    new MockMultipartFile(
+                            "fileInput", "large.pdf", MediaType.APPLICATION_PDF_VALUE, pdfBytes);
+            File sourceCopy = Files.createTempFile("redact-source", ".pdf").toFile();
+            sourceCopy.deleteOnExit();
+            Files.write(sourceCopy.toPath(), pdfBytes);
+            // Every view after the first one fails while its pages are being extracted
+            PDDocument damaged = mock(PDDocument.class);
+            when(damaged.getNumberOfPages()).thenReturn(pageCount);
+            when(damaged.getPages()).thenThrow(new IllegalStateException("Damaged page tree"));
+            AtomicInteger loads = new AtomicInteger();
+            when(pdfDocumentFactory.load(any(File.class), eq(true)))
+                    .thenAnswer(
+                            inv ->
+                                    loads.getAndIncrement() == 0
+                                            ? Loader.loadPDF(inv.<File>getArgument(0))
+                                            : damaged);
+            when(tempFileManager.convertMultipartFileToFile(any())).thenReturn(sourceCopy);
+            MultiPatternMatcher matcher =
+                    MultiPatternMatcher.compile(List.of("secret"), false, false, true);
+
+            try (PDDocument document = Loader.loadPDF(pdfBytes)) {
+                UndeclaredThrowableException thrown =
+                        assertThrows(
+                                UndeclaredThrowableException.class,
+                                () ->
+                                        ReflectionTestUtils.invokeMethod(
+                                                redactController,
+                                                "findTextToRedact",
+                                                document,
+                                                largeFile,
+                                                matcher));
+                assertInstanceOf(IOException.class, thrown.getCause());
+            }
+        }
+    }
+
     @Nested
     @DisplayName("Error Handling and Edge Cases")
     class ErrorHandlingTests {
@@ -0,0 +1,79 @@
+package stirling.software.SPDF.model.json;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class PdfJsonFontTest {
+
+    private static PdfJsonCosValue name(String value) {
+        return PdfJsonCosValue.builder().type(PdfJsonCosValue.Type.NAME).value(value).build();
+    }
+
+    private static PdfJsonFont sampleFont() {
+        Map<String, PdfJsonCosValue> streamDict = new LinkedHashMap<>();
+        streamDict.put("Filter", name("FlateDecode"));
+        PdfJsonCosValue fontFile =
+                PdfJsonCosValue.builder()
+                        .type(PdfJsonCosValue.Type.STREAM)
+                        .stream(
+                                PdfJsonStream.builder()
+                                        .dictionary(streamDict)
+                                        .rawData("AAEC")
+                                        .build())
+                        .build();
+        Map<String, PdfJsonCosValue> entries = new LinkedHashMap<>();
+        entries.put("BaseFont", name("Helvetica"));
+        entries.put(
+                "Widths",
+                PdfJsonCosValue.builder()
+                        .type(PdfJsonCosValue.Type.ARRAY)
+                        .items(
+                                new ArrayList<>(
+                                        List.of(
+                                                PdfJsonCosValue.builder()
+                                                        .type(PdfJsonCosValue.Type.INTEGER)
+                                                        .value(500L)
+                                                        .build())))
+                        .build());
+        entries.put("FontFile", fontFile);
+        return PdfJsonFont.builder()
+                .id("F1")
+                .pageNumber(1)
+                .program("cHJvZ3JhbQ==")
+                .ascent(718f)
+                .type3Glyphs(new ArrayList<>(List.of(PdfJsonFontType3Glyph.builder().build())))
+                .cosDictionary(
+                        PdfJsonCosValue.builder()
+                                .type(PdfJsonCosValue.Type.DICTIONARY)
+                                .entries(entries)
+                                .build())
+                .build();
+    }
+
+    @Test
+    void copyIsEqualToSource() {
+        PdfJsonFont source = sampleFont();
+
+        assertEquals(source, source.copy());
+    }
+
+    @Test
+    void mutatingCopyLeavesSourceIntact() {
+        PdfJsonFont source = sampleFont();
+        PdfJsonFont copy = source.copy();
+
+        copy.setProgram(null);
+        copy.getType3Glyphs().clear();
+        copy.getCosDictionary().getEntries().remove("BaseFont");
+        copy.getCosDictionary().getEntries().get("Widths").getItems().clear();
+        copy.getCosDictionary().getEntries().get("FontFile").getStream().setRawData(null);
+
+        assertEquals(sampleFont(), source);
+    }
+}
@@ -0,0 +1,98 @@
+package stirling.software.SPDF.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import stirling.software.common.model.ApplicationProperties;
+
+class PdfInfoResultCacheTest {
+
+    private static final String FIRST = "ab01";
+    private static final String SECOND = "cd02";
+    private static final String THIRD = "ef03";
+
+    @TempDir Path cacheDir;
+
+    private PdfInfoResultCache cacheWith(
+            long maxBytes, boolean diskEnabled, SimpleMeterRegistry registry) {
+        ApplicationProperties properties = new ApplicationProperties();
+        ApplicationProperties.System.PdfInfoCache config =
+                properties.getSystem().getPdfInfoCache();
+        config.setMaxBytes(maxBytes);
+        config.setDiskEnabled(diskEnabled);
+        config.setDirectory(cacheDir.toString());
+        return new PdfInfoResultCache(properties, registry);
+    }
+
+    @Test
+    void storedSectionIsServedAndCounted() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        PdfInfoResultCache cache = cacheWith(1024, false, registry);
+
+        assertNull(cache.get(FIRST, "Metadata"));
+        cache.put(FIRST, "Metadata", new byte[] {1, 2, 3});
+
+        assertArrayEquals(new byte[] {1, 2, 3}, cache.get(FIRST, "Metadata"));
+        assertNull(cache.get(FIRST, "Compliancy"));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(1.0 / 3, registry.get("pdfinfo.cache.hit.ratio").gauge().value(), 1e-9);
+    }
+
+    @Test
+    void memoryTierEvictsLeastRecentlyUsedSection() {
+        PdfInfoResultCache cache = cacheWith(10, false, null);
+
+        cache.put(FIRST, "BasicInfo", new byte[4]);
+        cache.put(SECOND, "BasicInfo", new byte[4]);
+        cache.get(FIRST, "BasicInfo");
+        cache.put(THIRD, "BasicInfo", new byte[4]);
+
+        assertNotNull(cache.get(FIRST, "BasicInfo"));
+        assertNull(cache.get(SECOND, "BasicInfo"));
+        assertNotNull(cache.get(THIRD, "BasicInfo"));
+        assertEquals(8, cache.getMemoryBytes());
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    void diskTierServesSectionsAfterRestart() {
+        cacheWith(1024, true, null).put(FIRST, "PerPageInfo", new byte[] {7, 7});
+
+        PdfInfoResultCache reopened = cacheWith(1024, true, null);
+
+        assertEquals(0, reopened.getEntryCount());
+        assertArrayEquals(new byte[] {7, 7}, reopened.get(FIRST, "PerPageInfo"));
+        assertEquals(1, reopened.getDiskHitCount());
+        assertEquals(1, reopened.getEntryCount());
+    }
+
+    @Test
+    void disabledCacheStoresNothing() {
+        ApplicationProperties properties = new ApplicationProperties();
+        properties.getSystem().getPdfInfoCache().setEnabled(false);
+        PdfInfoResultCache cache = new PdfInfoResultCache(properties, null);
+
+        cache.put(FIRST, "Metadata", new byte[] {1});
+
+        assertFalse(cache.isEnabled());
+        assertNull(cache.get(FIRST, "Metadata"));
+        assertEquals(0, cache.getMissCount());
+    }
+
+    @Test
+    void keyDependsOnValidatorVersion() {
+        String key = PdfInfoResultCache.key("1.28.2", FIRST, "Compliancy");
+
+        assertEquals(64, key.length());
+        assertEquals(key, PdfInfoResultCache.key("1.28.2", FIRST, "Compliancy"));
+        assertNotEquals(key, PdfInfoResultCache.key("1.30.1", FIRST, "Compliancy"));
+        assertNotEquals(key, PdfInfoResultCache.key("1.28.2", FIRST, "Metadata"));
+    }
+}
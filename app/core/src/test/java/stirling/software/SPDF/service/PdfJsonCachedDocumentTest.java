@@ -0,0 +1,116 @@
+package stirling.software.SPDF.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import stirling.software.SPDF.service.PdfJsonConversionService.CachedPdfDocument;
+import stirling.software.SPDF.service.PdfJsonConversionService.TextEditorAsset;
+import stirling.software.SPDF.service.pdfjson.PdfJsonDocumentCache;
+import stirling.software.common.model.ApplicationProperties;
+import stirling.software.common.util.TempFileManager;
+
+class PdfJsonCachedDocumentTest {
+
+    @TempDir Path spillDir;
+
+    private PdfJsonDocumentCache newCache(long maxBytes) throws IOException {
+        ApplicationProperties properties = new ApplicationProperties();
+        properties.getPdfEditor().getCache().setMaxBytes(maxBytes);
+        TempFileManager tempFileManager = mock(TempFileManager.class);
+        when(tempFileManager.createTempFile(anyString()))
+                .thenAnswer(
+                        invocation ->
+                                Files.createTempFile(spillDir, "cache", invocation.getArgument(0))
+                                        .toFile());
+        when(tempFileManager.deleteTempFile(any(File.class)))
+                .thenAnswer(invocation -> ((File) invocation.getArgument(0)).delete());
+        return new PdfJsonDocumentCache(properties, tempFileManager, null);
+    }
+
+    private static boolean addAsset(
+            PdfJsonDocumentCache cache, CachedPdfDocument cached, String hash, int size) {
+        TextEditorAsset asset = new TextEditorAsset(new byte[size], "image/png");
+        asset.data()[0] = (byte) size;
+        return cache.grow("doc", cached, () -> cached.addAsset(hash, asset, 100));
+    }
+
+    @Test
+    void spillMovesPdfAndAssetsToDisk() throws IOException {
+        PdfJsonDocumentCache cache = newCache(10);
+        CachedPdfDocument cached = new CachedPdfDocument(new byte[6], null, 6, null, null, null);
+        cache.put("doc", cached);
+        assertTrue(addAsset(cache, cached, "small", 3));
+
+        assertTrue(addAsset(cache, cached, "large", 5));
+
+        CachedPdfDocument spilled = cache.get("doc", CachedPdfDocument.class);
+        assertNotSame(cached, spilled);
+        assertTrue(spilled.isDiskBacked());
+        assertEquals(0, spilled.getInMemorySize());
+        assertEquals(0, cache.getInMemoryBytes());
+        assertEquals(6, spilled.getPdfBytes().length);
+        assertEquals(3, spilled.getAsset("small").data()[0]);
+        assertEquals(5, spilled.getAsset("large").data().length);
+        assertEquals("image/png", spilled.getAsset("large").contentType());
+    }
+
+    @Test
+    void diskBackedEntrySpillsNewAssetsInsteadOfBeingEvicted() throws IOException {
+        PdfJsonDocumentCache cache = newCache(10);
+        CachedPdfDocument cached = new CachedPdfDocument(new byte[12], null, 12, null, null, null);
+        cache.put("doc", cached);
+        CachedPdfDocument diskBacked = cache.get("doc", CachedPdfDocument.class);
+        assertTrue(diskBacked.isDiskBacked());
+
+        assertTrue(addAsset(cache, diskBacked, "image", 11));
+
+        CachedPdfDocument spilled = cache.get("doc", CachedPdfDocument.class);
+        assertNotNull(spilled);
+        assertNotSame(diskBacked, spilled);
+        assertEquals(0, spilled.getInMemorySize());
+        assertEquals(0, cache.getEvictionCount());
+        assertEquals(2, cache.getSpillCount());
+        // The PDF file now belongs to the new entry, so closing the old one must keep it
+        assertEquals(12, spilled.getPdfBytes().length);
+        assertEquals(11, spilled.getAsset("image").data()[0]);
+        assertTrue(spilled.hasAsset("image"));
+    }
+
+    @Test
+    void replacementInheritsResidentAndSpilledAssets() throws IOException {
+        PdfJsonDocumentCache cache = newCache(10);
+        CachedPdfDocument cached = new CachedPdfDocument(new byte[2], null, 2, null, null, null);
+        cache.put("doc", cached);
+        assertTrue(addAsset(cache, cached, "spilled", 9));
+        CachedPdfDocument spilled = cache.get("doc", CachedPdfDocument.class);
+        assertTrue(spilled.isDiskBacked());
+        assertTrue(addAsset(cache, spilled, "resident", 3));
+
+        CachedPdfDocument updated = new CachedPdfDocument(new byte[4], null, 4, null, null, null);
+        cache.put(
+                "doc",
+                updated,
+                (previous, next) -> updated.inheritAssets((CachedPdfDocument) previous));
+
+        assertSame(updated, cache.get("doc", CachedPdfDocument.class));
+        assertEquals(7, cache.getInMemoryBytes());
+        // The previous entry is closed by now, but its spill file is still referenced
+        assertEquals(9, updated.getAsset("spilled").data()[0]);
+        assertEquals(3, updated.getAsset("resident").data()[0]);
+
+        cache.remove("doc");
+        try (var files = Files.list(spillDir)) {
+            assertEquals(0, files.count());
+        }
+    }
+}
@@ -0,0 +1,312 @@
+package stirling.software.SPDF.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.apache.pdfbox.pdmodel.graphics.image.LosslessFactory;
+import org.apache.pdfbox.pdmodel.graphics.image.PDImageXObject;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import stirling.software.SPDF.config.EndpointConfiguration;
+import stirling.software.SPDF.model.json.PdfJsonDocument;
+import stirling.software.SPDF.model.json.PdfJsonImageElement;
+import stirling.software.SPDF.model.json.PdfJsonPage;
+import stirling.software.SPDF.model.json.PdfJsonTextElement;
+import stirling.software.SPDF.service.PdfJsonConversionService.DocumentViewLoader;
+import stirling.software.SPDF.service.PdfJsonConversionService.PageModelExtraction;
+import stirling.software.SPDF.service.PdfJsonConversionService.TextEditorAsset;
+import stirling.software.SPDF.service.pdfjson.PdfJsonDocumentCache;
+import stirling.software.SPDF.service.pdfjson.PdfJsonFontService;
+import stirling.software.SPDF.service.pdfjson.type3.Type3FontConversionService;
+import stirling.software.SPDF.service.pdfjson.type3.Type3GlyphExtractor;
+import stirling.software.common.model.ApplicationProperties;
+import stirling.software.common.service.CustomPDFDocumentFactory;
+import stirling.software.common.service.PdfMetadataService;
+import stirling.software.common.service.TaskManager;
+import stirling.software.common.util.TempFileManager;
+
+import tools.jackson.databind.json.JsonMapper;
+
+class PdfJsonConversionServiceTest {
+
+    private static final String JOB_ID = "job";
+
+    @TempDir Path tempDir;
+
+    private final JsonMapper objectMapper = JsonMapper.builder().build();
+    private CustomPDFDocumentFactory pdfDocumentFactory;
+    private PdfJsonConversionService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        ApplicationProperties properties = new ApplicationProperties();
+        TempFileManager tempFileManager = mock(TempFileManager.class);
+        when(tempFileManager.createTempFile(anyString()))
+                .thenAnswer(
+                        invocation ->
+                                Files.createTempFile(tempDir, "cache", invocation.getArgument(0))
+                                        .toFile());
+        when(tempFileManager.deleteTempFile(any(File.class)))
+                .thenAnswer(invocation -> ((File) invocation.getArgument(0)).delete());
+        PdfJsonFallbackFontService fallbackFontService =
+                new PdfJsonFallbackFontService(new DefaultResourceLoader(), properties);
+        ReflectionTestUtils.setField(
+                fallbackFontService,
+                "fallbackFontLocation",
+                PdfJsonFallbackFontService.DEFAULT_FALLBACK_FONT_LOCATION);
+        pdfDocumentFactory = spy(new CustomPDFDocumentFactory(mock(PdfMetadataService.class)));
+        service =
+                new PdfJsonConversionService(
+                        pdfDocumentFactory,
+                        objectMapper,
+                        mock(EndpointConfiguration.class),
+                        tempFileManager,
+                        mock(TaskManager.class),
+                        new PdfJsonCosMapper(),
+                        fallbackFontService,
+                        mock(PdfJsonFontService.class),
+                        mock(Type3FontConversionService.class),
+                        mock(Type3GlyphExtractor.class),
+                        properties,
+                        new PdfJsonDocumentCache(properties, tempFileManager, null));
+    }
+
+    private static byte[] samplePdf(int pageCount) throws IOException {
+        try (PDDocument document = new PDDocument()) {
+            PDType1Font font = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+            PDImageXObject image =
+                    LosslessFactory.createFromImage(
+                            document, new BufferedImage(4, 4, BufferedImage.TYPE_INT_RGB));
+            for (int i = 1; i <= pageCount; i++) {
+                PDPage page = new PDPage(PDRectangle.A4);
+                document.addPage(page);
+                try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                    content.beginText();
+                    content.setFont(font, 12);
+                    content.newLineAtOffset(72, 720);
+                    content.showText("Page " + i);
+                    content.endText();
+                    content.drawImage(image, 72, 600, 40, 40);
+                }
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            document.save(out);
+            return out.toByteArray();
+        }
+    }
+
+    private void loadJob(byte[] pdf) throws IOException {
+        service.extractDocumentMetadata(
+                new MockMultipartFile("fileInput", "sample.pdf", "application/pdf", pdf), JOB_ID);
+    }
+
+    private PdfJsonDocument updatesOf(byte[] pageJson) {
+        PdfJsonDocument updates = new PdfJsonDocument();
+        updates.setPages(List.of(objectMapper.readValue(pageJson, PdfJsonPage.class)));
+        return updates;
+    }
+
+    private PdfJsonDocument editedFirstPage() throws IOException {
+        PdfJsonDocument updates = updatesOf(service.extractSinglePage(JOB_ID, 1));
+        updates.getPages().get(0).getTextElements().get(0).setText("Edited");
+        return updates;
+    }
+
+    private static String textOf(byte[] pdf, int pageNumber) throws IOException {
+        try (PDDocument document = Loader.loadPDF(pdf)) {
+            PDFTextStripper stripper = new PDFTextStripper();
+            stripper.setStartPage(pageNumber);
+            stripper.setEndPage(pageNumber);
+            return stripper.getText(document);
+        }
+    }
+
+    private static int revisionCount(byte[] pdf) {
+        return new String(pdf, StandardCharsets.ISO_8859_1).split("%%EOF", -1).length - 1;
+    }
+
+    private static List<String> fontUids(PageModelExtraction extraction) {
+        List<String> uids = new ArrayList<>();
+        extraction.fonts().values().forEach(font -> uids.add(String.valueOf(font.getUid())));
+        uids.sort(null);
+        return uids;
+    }
+
+    private static Map<Integer, List<String>> fontIdsByPage(PageModelExtraction extraction) {
+        Map<Integer, List<String>> fontIds = new TreeMap<>();
+        extraction
+                .pageFontResources()
+                .forEach(
+                        (page, fonts) ->
+                                fontIds.put(page, fonts.values().stream().sorted().toList()));
+        return fontIds;
+    }
+
+    private static Map<Integer, String> textByPage(PageModelExtraction extraction) {
+        Map<Integer, String> text = new TreeMap<>();
+        extraction
+                .textByPage()
+                .forEach(
+                        (page, elements) ->
+                                text.put(
+                                        page,
+                                        elements.stream()
+                                                .map(PdfJsonTextElement::getText)
+                                                .collect(Collectors.joining("|"))));
+        return text;
+    }
+
+    @Test
+    void exportKeepsAssetsRegisteredForThePreviousRevision() throws IOException {
+        loadJob(samplePdf(1));
+        byte[] pageJson = service.extractSinglePage(JOB_ID, 1, true);
+        PdfJsonImageElement image =
+                objectMapper.readValue(pageJson, PdfJsonPage.class).getImageElements().get(0);
+        assertNull(image.getImageData());
+        String hash = image.getImageAsset();
+        assertNotNull(hash);
+        TextEditorAsset asset = service.getAsset(JOB_ID, hash);
+        assertNotNull(asset);
+
+        service.exportUpdatedPages(JOB_ID, updatesOf(pageJson));
+
+        TextEditorAsset afterExport = service.getAsset(JOB_ID, hash);
+        assertNotNull(afterExport);
+        assertArrayEquals(asset.data(), afterExport.data());
+
+        // The client still holds the page with the asset reference and sends it again
+        PdfJsonDocument secondUpdate = updatesOf(pageJson);
+        service.exportUpdatedPages(JOB_ID, secondUpdate);
+
+        assertNotNull(secondUpdate.getPages().get(0).getImageElements().get(0).getImageData());
+        assertNotNull(service.getAsset(JOB_ID, hash));
+    }
+
+    @Test
+    void exportAppendsEditAsIncrementalUpdate() throws IOException {
+        byte[] original = samplePdf(2);
+        loadJob(original);
+
+        byte[] exported = service.exportUpdatedPages(JOB_ID, editedFirstPage());
+
+        assertTrue(exported.length > original.length);
+        assertArrayEquals(original, Arrays.copyOf(exported, original.length));
+        assertEquals(2, revisionCount(exported));
+        assertTrue(textOf(exported, 1).contains("Edited"));
+        assertTrue(textOf(exported, 2).contains("Page 2"));
+    }
+
+    @Test
+    void fullRewriteWritesSingleRevision() throws IOException {
+        loadJob(samplePdf(2));
+
+        byte[] exported = service.exportUpdatedPages(JOB_ID, editedFirstPage(), true);
+
+        assertEquals(1, revisionCount(exported));
+        assertTrue(textOf(exported, 1).contains("Edited"));
+    }
+
+    @Test
+    void failedIncrementalSaveFallsBackToFullRewrite() throws IOException {
+        loadJob(samplePdf(2));
+        PdfJsonDocument updates = editedFirstPage();
+        doAnswer(
+                        invocation -> {
+                            PDDocument document = spy((PDDocument) invocation.callRealMethod());
+                            doThrow(new IOException("incremental save unsupported"))
+                                    .when(document)
+                                    .saveIncremental(any(OutputStream.class));
+                            return document;
+                        })
+                .when(pdfDocumentFactory)
+                .load(any(byte[].class), eq(true));
+
+        byte[] exported = service.exportUpdatedPages(JOB_ID, updates);
+
+        assertEquals(1, revisionCount(exported));
+        assertTrue(textOf(exported, 1).contains("Edited"));
+    }
+
+    @Test
+    void parallelPageExtractionMatchesSequentialPass() throws IOException {
+        assumeTrue(
+                Runtime.getRuntime().availableProcessors() >= 2,
+                "Page ranges are only extracted in parallel with at least two cores");
+        int pageCount = 40;
+        byte[] pdf = samplePdf(pageCount);
+        AtomicInteger views = new AtomicInteger();
+        DocumentViewLoader viewLoader =
+                () -> {
+                    views.incrementAndGet();
+                    return Loader.loadPDF(pdf);
+                };
+
+        PageModelExtraction sequential;
+        try (PDDocument document = Loader.loadPDF(pdf)) {
+            sequential =
+                    ReflectionTestUtils.invokeMethod(
+                            service,
+                            "extractPageRange",
+                            document,
+                            1,
+                            pageCount,
+                            new IdentityHashMap<>(),
+                            true,
+                            JOB_ID,
+                            null);
+        }
+        PageModelExtraction parallel;
+        try (PDDocument document = Loader.loadPDF(pdf)) {
+            parallel =
+                    ReflectionTestUtils.invokeMethod(
+                            service,
+                            "extractPageModels",
+                            document,
+                            viewLoader,
+                            new IdentityHashMap<>(),
+                            true,
+                            JOB_ID,
+                            null);
+        }
+
+        assertTrue(views.get() >= 1);
+        assertEquals(pageCount, fontIdsByPage(parallel).size());
+        assertEquals(fontUids(sequential), fontUids(parallel));
+        assertEquals(fontIdsByPage(sequential), fontIdsByPage(parallel));
+        assertEquals(textByPage(sequential), textByPage(parallel));
+        assertFalse(textByPage(parallel).get(pageCount).isBlank());
+    }
+}
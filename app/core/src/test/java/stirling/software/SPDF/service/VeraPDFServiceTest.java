@@ -246,6 +246,17 @@ class VeraPDFServiceTest {
         assertFalse(results.isEmpty());
     }
 
+    @Test
+    void validateClaimedProfile_withoutPdfaClaim_isNotCompliant() throws Exception {
+        byte[] pdfBytes = createSimplePdf();
+
+        PDFVerificationResult result =
+                service.validateClaimedProfile(new ByteArrayInputStream(pdfBytes), true);
+
+        assertNotNull(result);
+        assertFalse(result.isCompliant());
+    }
+
     private byte[] createSimplePdf() throws Exception {
         try (PDDocument document = new PDDocument()) {
             document.addPage(new PDPage());
@@ -0,0 +1,142 @@
+package stirling.software.SPDF.service.pdfjson;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import stirling.software.common.model.ApplicationProperties;
+import stirling.software.common.util.TempFile;
+import stirling.software.common.util.TempFileManager;
+
+class PdfJsonDocumentCacheTest {
+
+    @TempDir Path spillDir;
+
+    private PdfJsonDocumentCache newCache(long maxBytes, SimpleMeterRegistry registry)
+            throws IOException {
+        ApplicationProperties properties = new ApplicationProperties();
+        properties.getPdfEditor().getCache().setMaxBytes(maxBytes);
+        TempFileManager tempFileManager = mock(TempFileManager.class);
+        when(tempFileManager.createTempFile(anyString()))
+                .thenAnswer(
+                        invocation ->
+                                Files.createTempFile(spillDir, "cache", invocation.getArgument(0))
+                                        .toFile());
+        return new PdfJsonDocumentCache(properties, tempFileManager, registry);
+    }
+
+    private static final class TestEntry implements PdfJsonDocumentCache.Entry {
+        private final byte[] data;
+        private final boolean spillable;
+        private final TempFile file;
+        private long extra;
+        private boolean closed;
+
+        private TestEntry(byte[] data, boolean spillable, TempFile file) {
+            this.data = data;
+            this.spillable = spillable;
+            this.file = file;
+        }
+
+        @Override
+        public long getInMemorySize() {
+            return (data != null ? data.length : 0L) + extra;
+        }
+
+        @Override
+        public TestEntry spill(PdfJsonDocumentCache.SpillFiles files) throws IOException {
+            if (!spillable || data == null) {
+                return null;
+            }
+            TempFile target = files.create();
+            Files.write(target.getPath(), data);
+            return new TestEntry(null, true, target);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    @Test
+    void leastRecentlyUsedEntrySpillsToDiskOverBudget() throws IOException {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        PdfJsonDocumentCache cache = newCache(10, registry);
+        TestEntry first = new TestEntry(new byte[6], true, null);
+        cache.put("a", first);
+        cache.put("b", new TestEntry(new byte[6], true, null));
+
+        TestEntry spilled = cache.get("a", TestEntry.class);
+
+        assertNotNull(spilled);
+        assertNull(spilled.data);
+        assertEquals(6, Files.size(spilled.file.getPath()));
+        assertTrue(first.closed);
+        assertNotNull(cache.get("b", TestEntry.class).data);
+        assertEquals(6, cache.getInMemoryBytes());
+        assertEquals(1, cache.getSpillCount());
+        assertEquals(6.0, registry.get("pdfeditor.document.cache.size").gauge().value());
+    }
+
+    @Test
+    void frequentlyUsedResidentIsKeptOverNewcomer() throws IOException {
+        PdfJsonDocumentCache cache = newCache(10, null);
+        cache.put("popular", new TestEntry(new byte[6], true, null));
+        for (int i = 0; i < 3; i++) {
+            cache.get("popular", TestEntry.class);
+        }
+
+        cache.put("newcomer", new TestEntry(new byte[6], true, null));
+
+        assertNotNull(cache.get("popular", TestEntry.class).data);
+        assertNull(cache.get("newcomer", TestEntry.class).data);
+        assertEquals(2, cache.getEntryCount());
+    }
+
+    @Test
+    void entryThatCannotSpillIsEvicted() throws IOException {
+        PdfJsonDocumentCache cache = newCache(10, null);
+        TestEntry pinned = new TestEntry(new byte[6], false, null);
+        cache.put("a", pinned);
+        cache.put("b", new TestEntry(new byte[6], true, null));
+
+        assertNull(cache.get("a", TestEntry.class));
+        assertTrue(pinned.closed);
+        assertEquals(1, cache.getEvictionCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void growOnlyAppliesToCurrentEntry() throws IOException {
+        PdfJsonDocumentCache cache = newCache(100, null);
+        TestEntry stale = new TestEntry(new byte[4], true, null);
+        cache.put("a", stale);
+        TestEntry current = new TestEntry(new byte[4], true, null);
+        cache.put("a", current);
+
+        assertFalse(cache.grow("a", stale, () -> 50L));
+        assertTrue(
+                cache.grow(
+                        "a",
+                        current,
+                        () -> {
+                            current.extra += 8;
+                            return 8L;
+                        }));
+
+        assertTrue(stale.closed);
+        assertEquals(12, cache.getInMemoryBytes());
+        assertTrue(cache.remove("a"));
+        assertEquals(0, cache.getInMemoryBytes());
+    }
+}
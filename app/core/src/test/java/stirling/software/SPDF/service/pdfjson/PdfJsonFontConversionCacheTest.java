@@ -0,0 +1,73 @@
+package stirling.software.SPDF.service.pdfjson;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import stirling.software.common.model.ApplicationProperties;
+
+class PdfJsonFontConversionCacheTest {
+
+    @TempDir Path cacheDir;
+
+    private PdfJsonFontConversionCache cacheIn(long maxBytes, SimpleMeterRegistry registry) {
+        ApplicationProperties properties = new ApplicationProperties();
+        ApplicationProperties.PdfEditor.FontCache config =
+                properties.getPdfEditor().getFontCache();
+        config.setDirectory(cacheDir.toString());
+        config.setMaxBytes(maxBytes);
+        return new PdfJsonFontConversionCache(properties, registry);
+    }
+
+    @Test
+    void storedConversionIsServedAndCounted() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        PdfJsonFontConversionCache cache = cacheIn(1024, registry);
+        String key = PdfJsonFontConversionCache.key("python", "1.0.0", new byte[] {1, 2, 3}, null);
+
+        assertNull(cache.get(key));
+        cache.put(key, new byte[] {9, 8, 7});
+
+        assertArrayEquals(new byte[] {9, 8, 7}, cache.get(key));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(0.5, registry.get("pdfeditor.font.cache.hit.ratio").gauge().value());
+    }
+
+    @Test
+    void unavailableDirectoryDisablesCache() throws IOException {
+        Path blocked = Files.createFile(cacheDir.resolve("blocked"));
+        ApplicationProperties properties = new ApplicationProperties();
+        properties.getPdfEditor().getFontCache().setDirectory(blocked.toString());
+        PdfJsonFontConversionCache cache = new PdfJsonFontConversionCache(properties, null);
+        String key = PdfJsonFontConversionCache.key("python", "1.0.0", new byte[] {1}, null);
+
+        cache.put(key, new byte[] {1});
+
+        assertFalse(cache.isEnabled());
+        assertNull(cache.get(key));
+        assertEquals(0, cache.getMissCount());
+    }
+
+    @Test
+    void keyDependsOnConverterVersionAndExtraInput() {
+        byte[] program = {1, 2, 3};
+
+        assertNotEquals(
+                PdfJsonFontConversionCache.key("python", "1.0.0", program, null),
+                PdfJsonFontConversionCache.key("fontforge", "1.0.0", program, null));
+        assertNotEquals(
+                PdfJsonFontConversionCache.key("python", "1.0.0", program, null),
+                PdfJsonFontConversionCache.key("python", "1.0.1", program, null));
+        assertNotEquals(
+                PdfJsonFontConversionCache.key("python", "1.0.0", program, null),
+                PdfJsonFontConversionCache.key("python", "1.0.0", program, "cmap"));
+    }
+}
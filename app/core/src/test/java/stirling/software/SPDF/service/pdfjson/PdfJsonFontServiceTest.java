@@ -16,12 +16,14 @@ class PdfJsonFontServiceTest {
     private PdfJsonFontService service;
     private TempFileManager tempFileManager;
     private ApplicationProperties applicationProperties;
+    private PdfJsonFontConversionCache conversionCache;
 
     @BeforeEach
     void setUp() throws Exception {
         tempFileManager = mock(TempFileManager.class);
         applicationProperties = mock(ApplicationProperties.class);
-        service = new PdfJsonFontService(tempFileManager, applicationProperties);
+        conversionCache = mock(PdfJsonFontConversionCache.class);
+        service = new PdfJsonFontService(tempFileManager, applicationProperties, conversionCache);
     }
 
     // --- detectFontFlavor tests ---
@@ -192,6 +194,19 @@ class PdfJsonFontServiceTest {
         assertNull(service.convertCffProgramToTrueType(new byte[] {1, 2, 3}, null));
     }
 
+    @Test
+    void convertCffProgramToTrueType_cachedResultSkipsConverter() throws Exception {
+        setField(service, "cffConversionEnabled", true);
+        setField(service, "cffConverterMethod", "python");
+        setField(service, "pythonCffConverterAvailable", false);
+        byte[] converted = {0x4F, 0x54, 0x54, 0x4F};
+        when(conversionCache.get(anyString())).thenReturn(converted);
+
+        assertArrayEquals(
+                converted, service.convertCffProgramToTrueType(new byte[] {1, 2, 3}, null));
+        verify(conversionCache, never()).put(anyString(), any());
+    }
+
     private void setField(Object target, String fieldName, Object value) throws Exception {
         Field field = target.getClass().getDeclaredField(fieldName);
         field.setAccessible(true);
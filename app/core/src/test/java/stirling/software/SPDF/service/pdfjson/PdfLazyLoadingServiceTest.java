@@ -5,7 +5,6 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
-import java.lang.reflect.Field;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -15,8 +14,10 @@ import org.junit.jupiter.api.Test;
 import org.springframework.web.multipart.MultipartFile;
 
 import stirling.software.SPDF.model.json.PdfJsonFont;
+import stirling.software.common.model.ApplicationProperties;
 import stirling.software.common.service.CustomPDFDocumentFactory;
 import stirling.software.common.service.TaskManager;
+import stirling.software.common.util.TempFileManager;
 
 import tools.jackson.databind.ObjectMapper;
 
@@ -28,6 +29,7 @@ class PdfLazyLoadingServiceTest {
     private TaskManager taskManager;
     private PdfJsonMetadataService metadataService;
     private PdfJsonImageService imageService;
+    private PdfJsonDocumentCache documentCache;
 
     @BeforeEach
     void setUp() {
@@ -36,6 +38,9 @@ class PdfLazyLoadingServiceTest {
         taskManager = mock(TaskManager.class);
         metadataService = mock(PdfJsonMetadataService.class);
         imageService = mock(PdfJsonImageService.class);
+        documentCache =
+                new PdfJsonDocumentCache(
+                        new ApplicationProperties(), mock(TempFileManager.class), null);
 
         service =
                 new PdfLazyLoadingService(
@@ -43,7 +48,8 @@ class PdfLazyLoadingServiceTest {
                         objectMapper,
                         taskManager,
                         metadataService,
-                        imageService);
+                        imageService,
+                        documentCache);
     }
 
     @Test
@@ -63,18 +69,12 @@ class PdfLazyLoadingServiceTest {
 
     @Test
     void clearCachedDocument_existingJob_removesEntry() throws Exception {
-        // Access the documentCache via reflection to verify behavior
-        Field cacheField = PdfLazyLoadingService.class.getDeclaredField("documentCache");
-        cacheField.setAccessible(true);
-        @SuppressWarnings("unchecked")
-        Map<String, Object> cache = (Map<String, Object>) cacheField.get(service);
-
         // Verify cache is initially empty
-        assertTrue(cache.isEmpty());
+        assertEquals(0, documentCache.getEntryCount());
 
         // clearCachedDocument on nonexistent should not throw
         service.clearCachedDocument("job1");
-        assertTrue(cache.isEmpty());
+        assertEquals(0, documentCache.getEntryCount());
     }
 
     @Test
@@ -118,5 +118,10 @@ class PdfLazyLoadingServiceTest {
 
         assertNotNull(result);
         verify(metadataService).extractMetadata(any());
+        assertEquals(1, documentCache.getEntryCount());
+        assertEquals(pdfBytes.length, documentCache.getInMemoryBytes());
+
+        service.clearCachedDocument("job1");
+        assertEquals(0, documentCache.getEntryCount());
     }
 }
@@ -5,7 +5,10 @@ import static org.mockito.Mockito.*;
 
 import java.io.IOException;
 
+import org.apache.pdfbox.cos.COSArray;
 import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSFloat;
+import org.apache.pdfbox.cos.COSInteger;
 import org.apache.pdfbox.cos.COSName;
 import org.apache.pdfbox.cos.COSStream;
 import org.apache.pdfbox.pdmodel.common.PDRectangle;
@@ -116,6 +119,54 @@ class Type3FontSignatureCalculatorTest {
         assertNotNull(signature);
     }
 
+    @Test
+    void computeContentKey_equalForSameContent() throws IOException {
+        String first = Type3FontSignatureCalculator.computeContentKey(type3Font(new byte[] {1, 2}));
+        String second =
+                Type3FontSignatureCalculator.computeContentKey(type3Font(new byte[] {1, 2}));
+
+        assertEquals(first, second);
+        assertTrue(first.startsWith("sha256:"));
+    }
+
+    @Test
+    void computeContentKey_changesWithCharProcContent() throws IOException {
+        assertNotEquals(
+                Type3FontSignatureCalculator.computeContentKey(type3Font(new byte[] {1, 2})),
+                Type3FontSignatureCalculator.computeContentKey(type3Font(new byte[] {1, 3})));
+    }
+
+    @Test
+    void computeContentKey_nullFont_returnsNull() throws IOException {
+        assertNull(Type3FontSignatureCalculator.computeContentKey(null));
+    }
+
+    private PDType3Font type3Font(byte[] glyphProgram) throws IOException {
+        COSDictionary dict = new COSDictionary();
+        dict.setItem(COSName.TYPE, COSName.FONT);
+        dict.setItem(COSName.SUBTYPE, COSName.TYPE3);
+        COSArray matrix = new COSArray();
+        for (float value : new float[] {0.001f, 0, 0, 0.001f, 0, 0}) {
+            matrix.add(new COSFloat(value));
+        }
+        dict.setItem(COSName.FONT_MATRIX, matrix);
+        dict.setItem(COSName.FONT_BBOX, new PDRectangle(0, 0, 1000, 1000).getCOSArray());
+        COSArray differences = new COSArray();
+        differences.add(COSInteger.get(65));
+        differences.add(COSName.getPDFName("A"));
+        COSDictionary encoding = new COSDictionary();
+        encoding.setItem(COSName.DIFFERENCES, differences);
+        dict.setItem(COSName.ENCODING, encoding);
+        COSStream glyph = new COSStream();
+        try (java.io.OutputStream os = glyph.createOutputStream()) {
+            os.write(glyphProgram);
+        }
+        COSDictionary charProcs = new COSDictionary();
+        charProcs.setItem(COSName.getPDFName("A"), glyph);
+        dict.setItem(COSName.CHAR_PROCS, charProcs);
+        return new PDType3Font(dict);
+    }
+
     private PDType3Font mockMinimalFont() {
         PDType3Font font = mock(PDType3Font.class);
         COSDictionary cosDict = mock(COSDictionary.class);
@@ -2,6 +2,9 @@ package stirling.software.SPDF.service.pdfjson.type3.library;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.jupiter.api.Test;
 
 class Type3FontLibraryPayloadTest {
@@ -58,4 +61,36 @@ class Type3FontLibraryPayloadTest {
         Type3FontLibraryPayload b = new Type3FontLibraryPayload("BAMC", "ttf");
         assertNotEquals(a, b);
     }
+
+    @Test
+    void lazyPayload_readsSourceOnceOnFirstUse() {
+        AtomicInteger reads = new AtomicInteger();
+        Type3FontLibraryPayload payload =
+                Type3FontLibraryPayload.lazy(
+                        "classpath:/font.ttf",
+                        "ttf",
+                        () -> {
+                            reads.incrementAndGet();
+                            return new byte[] {1, 2, 3};
+                        });
+
+        assertTrue(payload.hasPayload());
+        assertEquals(0, reads.get());
+        assertEquals("AQID", payload.getBase64());
+        assertEquals("AQID", payload.getBase64());
+        assertEquals(1, reads.get());
+    }
+
+    @Test
+    void lazyPayload_unreadableSource_returnsNull() {
+        Type3FontLibraryPayload payload =
+                Type3FontLibraryPayload.lazy(
+                        "classpath:/missing.ttf",
+                        "ttf",
+                        () -> {
+                            throw new IOException("missing");
+                        });
+
+        assertNull(payload.getBase64());
+    }
 }
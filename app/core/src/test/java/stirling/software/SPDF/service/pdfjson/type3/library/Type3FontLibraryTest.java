@@ -0,0 +1,111 @@
+package stirling.software.SPDF.service.pdfjson.type3.library;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.apache.pdfbox.cos.COSArray;
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSFloat;
+import org.apache.pdfbox.cos.COSInteger;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.cos.COSStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.font.PDType3Font;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.MockedStatic;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import stirling.software.SPDF.service.pdfjson.type3.Type3FontSignatureCalculator;
+import stirling.software.common.model.ApplicationProperties;
+
+import tools.jackson.databind.json.JsonMapper;
+
+class Type3FontLibraryTest {
+
+    @TempDir Path tempDir;
+
+    private Type3FontLibrary loadLibrary(String program) throws IOException {
+        Path index = tempDir.resolve("index.json");
+        Files.writeString(
+                index,
+                """
+                [{"id": "sample", "aliases": ["SampleFont"], "program": %s}]
+                """
+                        .formatted(program));
+        ApplicationProperties properties = new ApplicationProperties();
+        properties.getPdfEditor().getType3().getLibrary().setIndex(index.toUri().toString());
+        Type3FontLibrary library =
+                new Type3FontLibrary(
+                        JsonMapper.builder().build(), new DefaultResourceLoader(), properties);
+        library.initialise();
+        return library;
+    }
+
+    private String resourcePayload(byte[] content) throws IOException {
+        Path font = Files.write(Files.createTempFile(tempDir, "font", ".ttf"), content);
+        return "{\"resource\": \"" + font.toUri() + "\", \"format\": \"ttf\"}";
+    }
+
+    @Test
+    void match_repeatedFontHitsSignatureMemo() throws IOException {
+        Type3FontLibrary library = loadLibrary("{\"base64\": \"AAEC\", \"format\": \"ttf\"}");
+        assertTrue(library.isLoaded());
+
+        try (MockedStatic<Type3FontSignatureCalculator> calculator =
+                mockStatic(Type3FontSignatureCalculator.class, CALLS_REAL_METHODS)) {
+            library.match(type3Font(), "1:F1");
+            library.match(type3Font(), "2:F1");
+
+            calculator.verify(
+                    () -> Type3FontSignatureCalculator.computeContentKey(any()), times(2));
+            calculator.verify(() -> Type3FontSignatureCalculator.computeSignature(any()), times(1));
+        }
+    }
+
+    @Test
+    void resourcePayload_isAcceptedWithoutBeingRead() throws IOException {
+        Type3FontLibrary library = loadLibrary(resourcePayload(new byte[] {0, 1, 2}));
+
+        assertTrue(library.isLoaded());
+    }
+
+    @Test
+    void emptyResourcePayload_isRejected() throws IOException {
+        Type3FontLibrary library = loadLibrary(resourcePayload(new byte[0]));
+
+        assertFalse(library.isLoaded());
+    }
+
+    private PDType3Font type3Font() throws IOException {
+        COSDictionary dict = new COSDictionary();
+        dict.setItem(COSName.TYPE, COSName.FONT);
+        dict.setItem(COSName.SUBTYPE, COSName.TYPE3);
+        COSArray matrix = new COSArray();
+        for (float value : new float[] {0.001f, 0, 0, 0.001f, 0, 0}) {
+            matrix.add(new COSFloat(value));
+        }
+        dict.setItem(COSName.FONT_MATRIX, matrix);
+        dict.setItem(COSName.FONT_BBOX, new PDRectangle(0, 0, 1000, 1000).getCOSArray());
+        COSArray differences = new COSArray();
+        differences.add(COSInteger.get(65));
+        differences.add(COSName.getPDFName("A"));
+        COSDictionary encoding = new COSDictionary();
+        encoding.setItem(COSName.DIFFERENCES, differences);
+        dict.setItem(COSName.ENCODING, encoding);
+        COSStream glyph = new COSStream();
+        try (OutputStream os = glyph.createOutputStream()) {
+            os.write(new byte[] {1, 2});
+        }
+        COSDictionary charProcs = new COSDictionary();
+        charProcs.setItem(COSName.getPDFName("A"), glyph);
+        dict.setItem(COSName.CHAR_PROCS, charProcs);
+        return new PDType3Font(dict);
+    }
+}
@@ -4,22 +4,40 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.mock.web.MockHttpSession;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.servlet.http.HttpServletRequest;
 
 import stirling.software.common.model.job.JobResult;
+import stirling.software.common.model.job.ResultFile;
 import stirling.software.common.service.FileStorage;
 import stirling.software.common.service.JobOwnershipService;
 import stirling.software.common.service.JobQueue;
@@ -27,6 +45,8 @@ import stirling.software.common.service.TaskManager;
 
 class JobControllerTest {
 
+    @TempDir Path tempDir;
+
     @Mock private TaskManager taskManager;
 
     @Mock private FileStorage fileStorage;
@@ -140,8 +160,9 @@ class JobControllerTest {
         mockResult.completeWithSingleFile(
                 fileId, originalFileName, contentType, fileContent.length);
 
+        Path storedFile = Files.write(tempDir.resolve(fileId), fileContent);
         when(taskManager.getJobResult(jobId)).thenReturn(mockResult);
-        when(fileStorage.retrieveBytes(fileId)).thenReturn(fileContent);
+        when(fileStorage.retrievePath(fileId)).thenReturn(storedFile);
 
         // Act
         ResponseEntity<?> response = controller.getJobResult(jobId);
@@ -151,7 +172,75 @@ class JobControllerTest {
         assertEquals(contentType, response.getHeaders().getFirst("Content-Type"));
         assertTrue(
                 response.getHeaders().getFirst("Content-Disposition").contains(originalFileName));
-        assertEquals(fileContent, response.getBody());
+        assertEquals("\"" + fileId + "\"", response.getHeaders().getETag());
+        assertEquals("bytes", response.getHeaders().getFirst(HttpHeaders.ACCEPT_RANGES));
+        Resource body = assertInstanceOf(Resource.class, response.getBody());
+        assertEquals(fileContent.length, body.contentLength());
+        assertArrayEquals(fileContent, body.getContentAsByteArray());
+        verify(fileStorage, never()).retrieveBytes(anyString());
+    }
+
+    @Test
+    void testGetJobResult_MultipleFilesAsMetadata() {
+        // Arrange
+        String jobId = "test-job-id";
+        JobResult mockResult = new JobResult();
+        mockResult.setJobId(jobId);
+        mockResult.completeWithFiles(
+                List.of(
+                        ResultFile.builder().fileId("a").fileName("a.pdf").build(),
+                        ResultFile.builder().fileId("b").fileName("b.pdf").build()));
+        when(taskManager.getJobResult(jobId)).thenReturn(mockResult);
+
+        // Act
+        ResponseEntity<?> response = controller.getJobResult(jobId);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        @SuppressWarnings("unchecked")
+        Map<String, Object> responseBody = (Map<String, Object>) response.getBody();
+        assertEquals(true, responseBody.get("hasMultipleFiles"));
+    }
+
+    @Test
+    void testGetJobResult_MultipleFilesAsZip() throws Exception {
+        // Arrange
+        String jobId = "test-job-id";
+        JobResult mockResult = new JobResult();
+        mockResult.setJobId(jobId);
+        mockResult.completeWithFiles(
+                List.of(
+                        ResultFile.builder().fileId("a").fileName("a.pdf").build(),
+                        ResultFile.builder().fileId("b").fileName("b.pdf").build()));
+        when(taskManager.getJobResult(jobId)).thenReturn(mockResult);
+        when(request.getHeader(HttpHeaders.ACCEPT)).thenReturn("application/zip");
+        Path fileA = Files.writeString(tempDir.resolve("a"), "A");
+        Path fileB = Files.writeString(tempDir.resolve("b"), "B");
+        when(fileStorage.retrievePath("a")).thenReturn(fileA);
+        when(fileStorage.retrievePath("b")).thenReturn(fileB);
+
+        // Act
+        ResponseEntity<?> response = controller.getJobResult(jobId);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("application/zip", response.getHeaders().getContentType().toString());
+        StreamingResponseBody body =
+                assertInstanceOf(StreamingResponseBody.class, response.getBody());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        body.writeTo(out);
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            for (String expected : List.of("a", "b")) {
+                ZipEntry entry = zip.getNextEntry();
+                assertEquals(expected + ".pdf", entry.getName());
+                assertEquals(ZipEntry.STORED, entry.getMethod());
+                assertArrayEquals(
+                        Files.readAllBytes(tempDir.resolve(expected)), zip.readAllBytes());
+            }
+            assertNull(zip.getNextEntry());
+        }
+        assertTrue(Files.exists(fileA));
     }
 
     @Test
@@ -219,7 +308,7 @@ class JobControllerTest {
         mockResult.completeWithSingleFile(fileId, originalFileName, contentType, 1024L);
 
         when(taskManager.getJobResult(jobId)).thenReturn(mockResult);
-        when(fileStorage.retrieveBytes(fileId)).thenThrow(new RuntimeException("File not found"));
+        when(fileStorage.retrievePath(fileId)).thenThrow(new RuntimeException("File not found"));
 
         // Act
         ResponseEntity<?> response = controller.getJobResult(jobId);
@@ -420,7 +509,7 @@ class JobControllerTest {
         ResponseEntity<?> response = controller.downloadFile(fileId);
 
         assertEquals(HttpStatus.FORBIDDEN, response.getStatusCode());
-        verify(fileStorage, never()).retrieveBytes(eq(fileId));
+        verify(fileStorage, never()).retrievePath(eq(fileId));
     }
 
     @Test
@@ -436,4 +525,149 @@ class JobControllerTest {
         assertEquals(HttpStatus.FORBIDDEN, response.getStatusCode());
         verify(fileStorage, never()).getFileSize(eq(fileId));
     }
+
+    @Test
+    void testStreamJobEvents_NonExistentJob() {
+        String jobId = "non-existent-job";
+        when(taskManager.getJobResult(jobId)).thenReturn(null);
+
+        ResponseEntity<SseEmitter> response = controller.streamJobEvents(jobId);
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        verify(taskManager, never()).addJobListener(anyString(), any());
+    }
+
+    @Test
+    void testStreamJobEvents_ForbiddenWhenJobOwnedByAnotherUser() {
+        String jobId = "other-user:job-id";
+
+        ReflectionTestUtils.setField(controller, "jobOwnershipService", jobOwnershipService);
+        when(jobOwnershipService.validateJobAccess(jobId)).thenReturn(false);
+
+        ResponseEntity<SseEmitter> response = controller.streamJobEvents(jobId);
+
+        assertEquals(HttpStatus.FORBIDDEN, response.getStatusCode());
+        verify(taskManager, never()).addJobListener(anyString(), any());
+    }
+
+    @Test
+    void testStreamJobEvents_RunningJobListensUntilComplete() {
+        String jobId = "running-job";
+        JobResult jobResult = new JobResult();
+        jobResult.setJobId(jobId);
+        jobResult.setComplete(false);
+        when(taskManager.getJobResult(jobId)).thenReturn(jobResult);
+
+        ResponseEntity<SseEmitter> response = controller.streamJobEvents(jobId);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        ArgumentCaptor<TaskManager.JobListener> listener =
+                ArgumentCaptor.forClass(TaskManager.JobListener.class);
+        verify(taskManager).addJobListener(eq(jobId), listener.capture());
+        verify(taskManager, never()).removeJobListener(anyString(), any());
+
+        jobResult.completeWithResult("done");
+        listener.getValue().onComplete(jobId, jobResult);
+
+        verify(taskManager, atLeastOnce()).removeJobListener(jobId, listener.getValue());
+    }
+
+    @Test
+    void testStreamJobsEvents_CompleteJobsEndStreamImmediately() {
+        for (String jobId : List.of("job-1", "job-2")) {
+            JobResult jobResult = new JobResult();
+            jobResult.setJobId(jobId);
+            jobResult.completeWithResult("done");
+            when(taskManager.getJobResult(jobId)).thenReturn(jobResult);
+        }
+
+        ResponseEntity<SseEmitter> response =
+                controller.streamJobsEvents(List.of("job-1", "job-2", "job-1"));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(taskManager).addJobListener(eq("job-1"), any());
+        verify(taskManager).addJobListener(eq("job-2"), any());
+        verify(taskManager, atLeastOnce()).removeJobListener(eq("job-1"), any());
+        verify(taskManager, atLeastOnce()).removeJobListener(eq("job-2"), any());
+    }
+
+    @Test
+    void testStreamJobEvents_SendsStateNotesAndCompleteOnce() throws Exception {
+        String jobId = "running-job";
+        JobResult jobResult = new JobResult();
+        jobResult.setJobId(jobId);
+        jobResult.setComplete(false);
+        when(taskManager.getJobResult(jobId)).thenReturn(jobResult);
+        RecordingEmitter emitter = new RecordingEmitter();
+        JobController streaming = spy(controller);
+        doReturn(emitter).when(streaming).newEmitter();
+
+        streaming.streamJobEvents(jobId);
+        ArgumentCaptor<TaskManager.JobListener> listener =
+                ArgumentCaptor.forClass(TaskManager.JobListener.class);
+        verify(taskManager).addJobListener(eq(jobId), listener.capture());
+        listener.getValue().onNote(jobId, "Halfway");
+        jobResult.completeWithResult("done");
+        listener.getValue().onComplete(jobId, jobResult);
+        listener.getValue().onComplete(jobId, jobResult);
+        listener.getValue().onNote(jobId, "Too late");
+
+        assertTrue(emitter.completed.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("state", "note", "complete"), emitter.events());
+    }
+
+    @Test
+    void testStreamJobEvents_CompletionRacingStartSendsStateFirst() throws Exception {
+        String jobId = "finishing-job";
+        JobResult jobResult = new JobResult();
+        jobResult.setJobId(jobId);
+        jobResult.completeWithResult("done");
+        when(taskManager.getJobResult(jobId)).thenReturn(jobResult);
+        List<Thread> workers = new ArrayList<>();
+        doAnswer(
+                        invocation -> {
+                            // The job completes on its own thread while the stream starts
+                            TaskManager.JobListener listener = invocation.getArgument(1);
+                            workers.add(
+                                    Thread.startVirtualThread(
+                                            () -> listener.onComplete(jobId, jobResult)));
+                            return null;
+                        })
+                .when(taskManager)
+                .addJobListener(eq(jobId), any());
+        RecordingEmitter emitter = new RecordingEmitter();
+        JobController streaming = spy(controller);
+        doReturn(emitter).when(streaming).newEmitter();
+
+        streaming.streamJobEvents(jobId);
+
+        assertTrue(emitter.completed.await(5, TimeUnit.SECONDS));
+        workers.get(0).join();
+        assertEquals(List.of("state", "complete"), emitter.events());
+    }
+
+    /** Emitter that records the names of the events sent to it. */
+    private static final class RecordingEmitter extends SseEmitter {
+        private final List<String> names = new ArrayList<>();
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        @Override
+        public synchronized void send(SseEventBuilder builder) {
+            for (ResponseBodyEmitter.DataWithMediaType part : builder.build()) {
+                if (part.getData() instanceof String text && text.startsWith("event:")) {
+                    names.add(text.substring("event:".length(), text.indexOf('\n')));
+                }
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+
+        synchronized List<String> events() {
+            return List.copyOf(names);
+        }
+    }
 }